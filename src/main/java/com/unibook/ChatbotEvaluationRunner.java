@@ -15,6 +15,9 @@ import org.springframework.stereotype.Component;
  *
  * 사용법:
  * ./gradlew bootRun --args='--spring.profiles.active=evaluation'
+ *
+ * 검색 단계만 측정 (GPT 생성 생략):
+ * ./gradlew bootRun --args='--spring.profiles.active=evaluation --chatbot.evaluation.mode=RETRIEVAL_ONLY'
  */
 @Slf4j
 @Component
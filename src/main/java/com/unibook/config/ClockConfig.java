@@ -0,0 +1,19 @@
+package com.unibook.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 추천 기준 시각 (이력 조회 기간, 최신성/시간 감쇠 계산)
+ * 리플레이는 스냅샷 시점을 가리키는 Clock으로 교체
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
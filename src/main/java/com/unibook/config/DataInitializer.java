@@ -224,40 +224,45 @@ public class DataInitializer implements CommandLineRunner {
                 String line;
                 int count = 0;
                 
+                // 행마다 학교/학과 존재 여부를 조회하지 않도록 미리 적재 (CSV 내 중복도 여기서 걸러짐)
+                Map<String, School> schoolsByName = new HashMap<>();
+                for (School school : schoolRepository.findAll()) {
+                    schoolsByName.put(school.getSchoolName(), school);
+                }
+                Set<String> departmentKeys = new HashSet<>();
+                for (Department department : departmentRepository.findAll()) {
+                    departmentKeys.add(department.getSchool().getSchoolId() + ":" + department.getDepartmentName());
+                }
+                
+                List<Department> pending = new ArrayList<>(AppConstants.CSV_LOG_INTERVAL);
                 while ((line = reader.readLine()) != null) {
                     String[] parts = line.split(",");
                     if (parts.length >= AppConstants.MIN_CSV_FIELDS) {
                         String schoolName = parts[0].trim();
                         String departmentName = parts[1].trim();
                         
-                        // Find school
-                        Optional<School> schoolOpt = schoolService.getSchoolByName(schoolName);
-                        if (schoolOpt.isPresent()) {
-                            School school = schoolOpt.get();
-                            
-                            // Check if department already exists
-                            boolean exists = departmentRepository.existsByDepartmentNameAndSchool_SchoolId(
-                                    departmentName, school.getSchoolId());
-                            
-                            if (!exists) {
-                                Department department = Department.builder()
-                                        .departmentName(departmentName)
-                                        .school(school)
-                                        .build();
-                                departmentRepository.save(department);
-                                count++;
-                                
-                                // Batch save를 위한 flush (매 100개마다)
-                                if (count % AppConstants.CSV_LOG_INTERVAL == 0) {
-                                    departmentRepository.flush();
-                                    log.debug(Messages.LOG_CSV_FLUSH, count);
-                                }
-                            }
-                        } else {
+                        School school = schoolsByName.get(schoolName);
+                        if (school == null) {
                             log.warn("School not found for department: {} - {}", schoolName, departmentName);
+                            continue;
+                        }
+                        if (!departmentKeys.add(school.getSchoolId() + ":" + departmentName)) {
+                            continue;
+                        }
+                        
+                        pending.add(Department.builder()
+                                .departmentName(departmentName)
+                                .school(school)
+                                .build());
+                        
+                        // 100개씩 모아 저장 후 flush (JDBC 배치 INSERT)
+                        if (pending.size() == AppConstants.CSV_LOG_INTERVAL) {
+                            count += flushDepartments(pending);
+                            log.debug(Messages.LOG_CSV_FLUSH, count);
                         }
                     }
                 }
+                count += flushDepartments(pending);
                 
                 return count;
             }
@@ -267,6 +272,16 @@ public class DataInitializer implements CommandLineRunner {
         }
     }
     
+    private int flushDepartments(List<Department> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int saved = departmentRepository.saveAll(pending).size();
+        departmentRepository.flush();
+        pending.clear();
+        return saved;
+    }
+    
     private void verifyDataIntegrity() {
         long schoolCount = schoolRepository.count();
         long departmentCount = departmentRepository.count();
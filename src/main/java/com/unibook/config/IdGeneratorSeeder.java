@@ -0,0 +1,85 @@
+package com.unibook.config;
+
+import com.unibook.domain.entity.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 기반 ID 생성기(id_generators) 초기화
+ * - 생성기 테이블이 없으면 생성 (ddl-auto none 환경 대비)
+ * - 엔티티 테이블마다 다음 예약 구간이 기존 MAX(id) 이후에서 시작하도록 next_val을 맞춤
+ *   (IDENTITY로 쌓인 기존 데이터나 ID를 직접 지정해 넣은 데이터와 충돌 방지)
+ * - next_val은 올리기만 하므로 다른 노드가 이미 예약한 구간과 겹치지 않음
+ *
+ * 배포 주의: IDENTITY를 쓰는 이전 버전 노드와 동시에 쓰기를 받으면 AUTO_INCREMENT 값과 충돌할 수 있으므로
+ * 모든 노드를 함께 교체해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorSeeder {
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " ("
+                    + IdGenerators.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + IdGenerators.VALUE_COLUMN + " BIGINT)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        int seeded = reseed();
+        log.info("ID 생성기 구간 초기화 완료: segments={}", seeded);
+    }
+
+    /**
+     * 모든 테이블 생성기 구간을 현재 MAX(id) 이후로 맞춤
+     * ID를 직접 지정해 대량 적재한 뒤에도 호출 (벤치마크/리플레이 데이터 생성 등)
+     *
+     * @return 처리한 생성기 수
+     */
+    public int reseed() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        int[] count = {0};
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof TableGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister
+                    && entityPersister.getIdentifierColumnNames().length == 1) {
+                seedSegment(entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0],
+                        generator.getSegmentValue(), generator.getIncrementSize());
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    // pooled 최적화기는 읽은 값 v에 대해 (v - increment, v] 구간을 사용하므로 MAX(id) + increment로 맞춤
+    private void seedSegment(String table, String idColumn, String segment, int incrementSize) {
+        String target = "(SELECT COALESCE(MAX(" + idColumn + "), 0) + " + incrementSize + " FROM " + table + ")";
+
+        jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE
+                        + " (" + IdGenerators.SEGMENT_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") "
+                        + "SELECT ?, " + target + " FROM (SELECT 1 AS one) seed "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM " + IdGenerators.TABLE
+                        + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ?)",
+                segment, segment);
+
+        int raised = jdbcTemplate.update("UPDATE " + IdGenerators.TABLE
+                        + " SET " + IdGenerators.VALUE_COLUMN + " = " + target
+                        + " WHERE " + IdGenerators.SEGMENT_COLUMN + " = ? AND "
+                        + IdGenerators.VALUE_COLUMN + " < " + target,
+                segment);
+        if (raised > 0) {
+            log.debug("ID 생성기 구간 상향: segment={}, table={}", segment, table);
+        }
+    }
+}
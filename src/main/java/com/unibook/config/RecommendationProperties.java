@@ -36,6 +36,8 @@ public class RecommendationProperties {
   private int collaborativeCandidateLimit = 50;
   private int personalizedCandidateLimit = 500;
   private int similarCandidateLimit = 200;
+  // 조회/클릭 이력 조회 기간 (일, 기준 시각은 Clock 빈) - 월별 파티션 중 최근 것만 읽도록 시간 조건으로 사용
+  private int interactionLookbackDays = 180;
 
   // 시간 감쇠 설정
   private double timeDecayLambda = 0.1;
@@ -61,4 +63,62 @@ public class RecommendationProperties {
   private int slotMixFreshCacheSize = 50;
   private int slotMixPopularCacheTtlSeconds = 60;
   private int slotMixFreshCacheTtlSeconds = 60;
+  // TTL 대비 백그라운드 갱신 시작 비율 (0.8 = TTL의 80% 경과 시 갱신)
+  private double slotMixPoolRefreshAheadRatio = 0.8;
+
+  // 사용자별 추천 결과 캐시 설정
+  private boolean resultCacheEnabled = true;
+  private int resultCacheMaxEntries = 10000;
+  private int resultCacheTtlSeconds = 300;
+  private int resultCacheRefreshSeconds = 60;
+  private int resultCacheAnonymousBucketSeconds = 60;
+  private boolean resultCacheWarmerEnabled = true;
+  private long resultCacheWarmerIntervalMs = 60000;
+  private int resultCacheWarmerActiveMinutes = 30;
+  private int resultCacheWarmerMaxUsers = 500;
+
+  // 상호작용 카운터 설정 (적응형 가중치 선택용)
+  private int interactionCounterMaxUsers = 50000;
+  private long interactionCounterReconcileIntervalMs = 600000;
+
+  // 사용자 상호작용 프로필 (메모리 보관 사용자 수 상한, 미사용 만료, 이벤트 반영용 게시글 특성 캐시 크기)
+  private int userProfileMaxUsers = 20000;
+  private int userProfileExpireAfterAccessMinutes = 60;
+  private int userProfilePostFeatureCacheSize = 10000;
+
+  // 비슷한 게시글 사전 계산 인덱스
+  private boolean similarIndexEnabled = true;
+  private int similarIndexMaxNeighbours = 20;
+  private int similarIndexRecentPoolSize = 50;
+  private long similarIndexRebuildIntervalMs = 1800000;
+
+  // 텍스트 유사 후보 (제목+설명 MinHash/LSH, 밴드 × 행 = 서명 길이)
+  private boolean similarTextEnabled = true;
+  private int similarTextBands = 16;
+  private int similarTextRows = 4;
+  private int similarTextShingleSize = 3;
+  private int similarTextMaxCandidates = 200;
+  private double similarTextWeight = 0.30;
+
+  // 추천 노출 기록 (메모리 중복 제거 + 배치 저장)
+  private int impressionDedupWindowMinutes = 5;
+  private int impressionDedupMaxKeys = 200000;
+  private int impressionQueueCapacity = 10000;
+  private int impressionBatchSize = 200;
+  private long impressionFlushIntervalMs = 2000;
+
+  // 추천 클릭 파이프라인 (사용자별 순서 보장 파티션 + 배치 저장)
+  private int clickPipelinePartitions = 2;
+  private int clickPipelineQueueCapacity = 5000;
+  private int clickPipelineBatchSize = 100;
+  private long clickPipelineMaxWaitMs = 500;
+
+  // 추천 메트릭 롤업 (시간/일 버킷 컴팩션 주기, 지연 기록 대기, 1회 처리 상한, 다시 집계할 직전 시간 버킷 수)
+  private long metricsRollupIntervalMs = 300000;
+  private int metricsRollupSettleMinutes = 10;
+  private int metricsRollupMaxHoursPerRun = 168;
+  private int metricsRollupLateBuckets = 2;
+
+  // 유지보수 주기 작업 스케줄러 사용 여부 (RecommendationMaintenanceScheduler, 리플레이에서는 끔)
+  private boolean maintenanceJobsEnabled = true;
 }
@@ -0,0 +1,111 @@
+package com.unibook.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.Filter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 DataSource 설정 (app.datasource.replica.enabled=true일 때만)
+ * - primary: spring.datasource / spring.datasource.hikari 그대로
+ * - replica: app.datasource.replica.* (별도 Hikari 풀, 커넥션 readOnly)
+ * - 애플리케이션 DataSource는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ * - spring.jpa.open-in-view=false 필수 (켜져 있으면 시작 시 실패)
+ *   open-in-view는 요청의 첫 커넥션을 끝까지 잡고 있어 readOnly 조회 뒤의 쓰기 트랜잭션이 복제본 커넥션을 씀
+ * 비활성 시 Spring Boot 기본 단일 DataSource 사용
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${app.datasource.replica.maximum-pool-size:20}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               @Value("${app.datasource.replica.max-lag-seconds:2}") long maxLagSeconds,
+                                               @Value("${app.datasource.replica.allow-unreplicated:false}") boolean allowUnreplicated) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, allowUnreplicated);
+        // 첫 확인 전까지는 primary로만 읽음
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${app.datasource.replica.max-lag-seconds:2}") long maxLagSeconds,
+            @Value("${app.datasource.replica.sticky-window-ms:5000}") long stickyWindowMs,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("읽기 복제본 라우팅은 spring.jpa.open-in-view=false에서만 사용할 수 있습니다 "
+                    + "(요청 범위 EntityManager가 첫 트랜잭션의 커넥션을 이후 쓰기 트랜잭션에도 재사용함)");
+        }
+        // sticky 구간이 허용 지연보다 짧으면 방금 쓴 데이터를 복제본에서 못 볼 수 있음
+        long effectiveWindowMs = Math.max(stickyWindowMs, maxLagSeconds * 1000 + 1000);
+        log.info("읽기 복제본 라우팅 활성화: maxLagSeconds={}, stickyWindowMs={}", maxLagSeconds, effectiveWindowMs);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, effectiveWindowMs);
+    }
+
+    /**
+     * 요청이 끝나면 스레드 단위 sticky 상태 제거 (다음 요청이 같은 풀 스레드를 물려받아도 영향 없음)
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> replicaStickyStateFilter() {
+        Filter filter = (request, response, chain) -> {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                ReplicaRoutingDataSource.clearThreadState();
+            }
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+        registration.setName("replicaStickyStateFilter");
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
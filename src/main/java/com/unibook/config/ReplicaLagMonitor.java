@@ -0,0 +1,92 @@
+package com.unibook.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복제본 지연 감시
+ * - 주기적으로 SHOW REPLICA STATUS의 Seconds_Behind_Source를 읽어 max-lag-seconds 이하일 때만 복제본 사용 허용
+ * - 복제 중단(값 NULL), 조회 실패, 지연 초과 시 읽기 트랜잭션도 primary로 보냄
+ * - 복제 설정이 없는 인스턴스(행 없음)는 allow-unreplicated일 때만 허용 (로컬에서 DB 두 개로 시험할 때)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final boolean allowUnreplicated;
+
+    private volatile boolean usable = false;
+    private volatile Long lagSeconds;
+    private volatile String lastError;
+    private volatile long lastCheckedAt;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, boolean allowUnreplicated) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowUnreplicated = allowUnreplicated;
+    }
+
+    /**
+     * 복제본으로 읽기를 보내도 되는지 여부
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            List<Map<String, Object>> rows = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+            if (rows.isEmpty()) {
+                lagSeconds = null;
+                usable = allowUnreplicated;
+                lastError = allowUnreplicated ? null : "복제 설정 없음";
+            } else {
+                Object lag = rows.get(0).get("Seconds_Behind_Source");
+                if (lag == null) {
+                    lagSeconds = null;
+                    usable = false;
+                    lastError = "복제 중단 (Seconds_Behind_Source = NULL)";
+                } else {
+                    lagSeconds = ((Number) lag).longValue();
+                    usable = lagSeconds <= maxLagSeconds;
+                    lastError = usable ? null : "지연 초과: " + lagSeconds + "s";
+                }
+            }
+        } catch (Exception e) {
+            lagSeconds = null;
+            usable = false;
+            lastError = e.getMessage();
+        }
+        lastCheckedAt = System.currentTimeMillis();
+
+        if (wasUsable != usable) {
+            if (usable) {
+                log.info("복제본 읽기 재개: lagSeconds={}", lagSeconds);
+            } else {
+                log.warn("복제본 읽기 중지, primary로 전환: reason={}", lastError);
+            }
+        }
+    }
+
+    /**
+     * 지연 감시 상태 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("usable", usable);
+        stats.put("lagSeconds", lagSeconds);
+        stats.put("maxLagSeconds", maxLagSeconds);
+        stats.put("lastError", lastError);
+        stats.put("lastCheckedAt", lastCheckedAt);
+        return stats;
+    }
+}
@@ -0,0 +1,156 @@
+package com.unibook.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unibook.security.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - readOnly 트랜잭션 → replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출) → primary
+ * - 커넥션을 실제 쿼리 시점에 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ *   (트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않음)
+ * - 트랜잭션마다 커넥션을 새로 얻어야 하므로 open-in-view와 함께 쓸 수 없음
+ *   (요청 범위 EntityManager가 첫 트랜잭션의 커넥션을 요청 끝까지 잡고 있어 이후 쓰기가 복제본으로 감)
+ * - 쓰기 직후 복제 지연으로 방금 쓴 데이터가 안 보이는 문제를 막기 위해
+ *   쓰기를 한 사용자/스레드는 sticky 구간 동안 읽기도 primary로 보냄
+ * - 복제본이 지연 초과/장애면 읽기도 primary로 보냄 (ReplicaLagMonitor)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // 스레드 단위 마지막 쓰기 시각 (같은 스레드의 커밋 후 리스너, 비로그인 요청용)
+    // 풀 스레드를 다음 요청이 물려받지 않도록 요청이 끝나면 clearThreadState로 지움
+    private static final ThreadLocal<Long> LAST_WRITE_AT = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyWindowMs;
+    private final Cache<Long, Boolean> recentWriters;
+
+    private final LongAdder writeRoutes = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder lagFallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    ReplicaLagMonitor lagMonitor, long stickyWindowMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowMs = stickyWindowMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyWindowMs))
+                .maximumSize(100_000)
+                .build();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        Long userId = currentUserId();
+
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                // 쓰기 트랜잭션 (롤백되더라도 sticky로 두는 쪽이 안전)
+                LAST_WRITE_AT.set(System.currentTimeMillis());
+                if (userId != null) {
+                    recentWriters.put(userId, Boolean.TRUE);
+                }
+            }
+            writeRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        if (isSticky(userId)) {
+            stickyReads.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbackReads.increment();
+            return Route.PRIMARY;
+        }
+        replicaReads.increment();
+        return Route.REPLICA;
+    }
+
+    /**
+     * 현재 스레드의 sticky 상태 제거 (요청 종료 시 호출)
+     */
+    public static void clearThreadState() {
+        LAST_WRITE_AT.remove();
+    }
+
+    private boolean isSticky(Long userId) {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        if (lastWriteAt != null) {
+            if (System.currentTimeMillis() - lastWriteAt < stickyWindowMs) {
+                return true;
+            }
+            LAST_WRITE_AT.remove();
+        }
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+
+    /**
+     * 라우팅/풀 통계 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        routes.put("primaryWrites", writeRoutes.sum());
+        routes.put("replicaReads", replicaReads.sum());
+        routes.put("stickyPrimaryReads", stickyReads.sum());
+        routes.put("lagFallbackPrimaryReads", lagFallbackReads.sum());
+        routes.put("stickyUsers", recentWriters.estimatedSize());
+        routes.put("stickyWindowMs", stickyWindowMs);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("routes", routes);
+        stats.put("primaryPool", poolStats(primary));
+        stats.put("replicaPool", poolStats(replica));
+        stats.put("replicaLag", lagMonitor.getStats());
+        return stats;
+    }
+
+    /**
+     * Hikari 풀 상태
+     */
+    public static Map<String, Object> poolStats(HikariDataSource dataSource) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolName", dataSource.getPoolName());
+        stats.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("awaiting", pool.getThreadsAwaitingConnection());
+        }
+        return stats;
+    }
+}
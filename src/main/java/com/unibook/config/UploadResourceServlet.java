@@ -0,0 +1,348 @@
+package com.unibook.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unibook.util.FileUploadUtil;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/* 전용 파일 서블릿 (DispatcherServlet을 거치지 않음)
+ * - 내용 해시 파일명(blob 원본)은 immutable 장기 캐시, 그 외(파생 이미지, 기존 UUID 파일)는 짧은 max-age
+ * - 강한 ETag + If-None-Match / If-Modified-Since 조건부 GET
+ * - 단일 바이트 범위 요청(If-Range 포함) 지원, 다중 범위는 전체 응답으로 대체
+ * - 본문 전송: Tomcat sendfile 지원 시 커널 sendfile, 아니면 FileChannel.transferTo
+ * - 작은 파일(썸네일 등)은 크기 제한 LRU 메모리 캐시에서 응답
+ */
+@Slf4j
+public class UploadResourceServlet extends HttpServlet {
+
+    private static final Pattern CONTENT_HASHED_NAME = Pattern.compile("([0-9a-f]{64})\\.[a-z0-9]+");
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    record ByteRange(long start, long end) {
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private record CachedFile(byte[] content, long size, long lastModified) {
+    }
+
+    private final transient FileUploadUtil fileUploadUtil;
+    private final long immutableMaxAgeSeconds;
+    private final long defaultMaxAgeSeconds;
+    private final long memoryCacheMaxEntryBytes;
+    private final long sendfileMinBytes;
+    private final transient Cache<Path, CachedFile> memoryCache;
+
+    // 응답 통계
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder memoryMisses = new LongAdder();
+    private final LongAdder notModifiedResponses = new LongAdder();
+    private final LongAdder partialResponses = new LongAdder();
+    private final LongAdder sendfileResponses = new LongAdder();
+    private final LongAdder streamedResponses = new LongAdder();
+
+    public UploadResourceServlet(FileUploadUtil fileUploadUtil,
+                                 long immutableMaxAgeSeconds,
+                                 long defaultMaxAgeSeconds,
+                                 long memoryCacheMaxBytes,
+                                 long memoryCacheMaxEntryBytes,
+                                 long sendfileMinBytes) {
+        this.fileUploadUtil = fileUploadUtil;
+        this.immutableMaxAgeSeconds = immutableMaxAgeSeconds;
+        this.defaultMaxAgeSeconds = defaultMaxAgeSeconds;
+        this.memoryCacheMaxEntryBytes = memoryCacheMaxEntryBytes;
+        this.sendfileMinBytes = sendfileMinBytes;
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(0, memoryCacheMaxBytes))
+                .weigher((Path path, CachedFile file) -> file.content().length)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, true);
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, false);
+    }
+
+    /**
+     * 메모리 캐시 및 응답 통계 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        long hits = memoryHits.sum();
+        long misses = memoryMisses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("memoryCacheEntries", memoryCache.estimatedSize());
+        stats.put("memoryCacheBytes", memoryCache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        stats.put("memoryCacheHits", hits);
+        stats.put("memoryCacheMisses", misses);
+        stats.put("memoryCacheHitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        stats.put("memoryCacheEvictions", memoryCache.stats().evictionCount());
+        stats.put("notModified", notModifiedResponses.sum());
+        stats.put("partial", partialResponses.sum());
+        stats.put("sendfile", sendfileResponses.sum());
+        stats.put("streamed", streamedResponses.sum());
+        return stats;
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, boolean includeBody) throws IOException {
+        Path file = resolve(request.getPathInfo());
+        if (file == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String fileName = file.getFileName().toString();
+        var hashed = CONTENT_HASHED_NAME.matcher(fileName);
+        boolean contentHashed = hashed.matches();
+
+        // 내용 해시 파일명은 해시가 곧 ETag, 그 외는 크기+수정 시각
+        String etag = contentHashed
+                ? "\"" + hashed.group(1) + "\""
+                : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentHashed
+                ? "public, max-age=" + immutableMaxAgeSeconds + ", immutable"
+                : "public, max-age=" + defaultMaxAgeSeconds);
+
+        if (isNotModified(request, etag, lastModified)) {
+            notModifiedResponses.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String contentType = getServletContext().getMimeType(fileName);
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+
+        ByteRange range = parseRange(request, etag, lastModified, size);
+        if (range == UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range != null) {
+            partialResponses.increment();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        } else {
+            range = new ByteRange(0, size - 1);
+        }
+
+        long length = Math.max(0, range.length());
+        response.setContentLengthLong(length);
+        if (!includeBody || length == 0) {
+            return;
+        }
+
+        if (size <= memoryCacheMaxEntryBytes) {
+            CachedFile cached = loadCached(file, size, lastModified);
+            if (cached != null) {
+                response.getOutputStream().write(cached.content(), (int) range.start(), (int) length);
+                return;
+            }
+        }
+
+        if (length >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문은 요청 처리가 끝난 뒤 커넥터가 sendfile로 전송
+            sendfileResponses.increment();
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        streamedResponses.increment();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청 경로를 업로드 파일 경로로 변환 (숨김 경로는 제외: 업로드 임시 파일 등)
+     */
+    private Path resolve(String pathInfo) {
+        if (pathInfo == null || pathInfo.isBlank() || pathInfo.endsWith("/")) {
+            return null;
+        }
+        for (String segment : pathInfo.split("/")) {
+            if (segment.startsWith(".")) {
+                return null;
+            }
+        }
+        return fileUploadUtil.resolveStoredPath("/uploads" + pathInfo);
+    }
+
+    /**
+     * 작은 파일 메모리 캐시 (크기/수정 시각이 바뀌었으면 다시 읽음)
+     */
+    private CachedFile loadCached(Path file, long size, long lastModified) throws IOException {
+        CachedFile cached = memoryCache.getIfPresent(file);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            memoryHits.increment();
+            return cached;
+        }
+        memoryMisses.increment();
+
+        byte[] content = Files.readAllBytes(file);
+        if (content.length != size) {
+            // 읽는 사이 파일이 바뀜: 캐시하지 않고 스트리밍으로 응답
+            memoryCache.invalidate(file);
+            return null;
+        }
+        cached = new CachedFile(content, size, lastModified);
+        memoryCache.put(file, cached);
+        return cached;
+    }
+
+    boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match가 있으면 If-Modified-Since는 무시 (약한 비교)
+            return matchesEtag(ifNoneMatch, etag, true);
+        }
+        long ifModifiedSince = readDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Range 헤더 해석 (없음/무시해야 하면 null, 범위를 벗어나면 UNSATISFIABLE)
+     */
+    ByteRange parseRange(HttpServletRequest request, String etag, long lastModified, long size) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !header.startsWith("bytes=")) {
+            return null;
+        }
+
+        // If-Range가 현재 표현과 다르면 전체 응답
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            boolean matches = ifRange.startsWith("\"") || ifRange.startsWith("W/")
+                    ? matchesEtag(ifRange, etag, false)
+                    : readDateHeader(request, HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+            if (!matches) {
+                return null;
+            }
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.contains(",") || dash < 0) {
+            // 다중 범위/잘못된 형식은 전체 응답
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 접미 범위: 마지막 N바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffixLength), size - 1);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean matchesEtag(String header, String etag, boolean weakComparison) {
+        if ("*".equals(header.trim())) {
+            return true;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                if (!weakComparison) {
+                    continue;
+                }
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long readDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
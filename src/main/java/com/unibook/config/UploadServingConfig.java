@@ -0,0 +1,40 @@
+package com.unibook.config;
+
+import com.unibook.util.FileUploadUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 업로드 파일 서빙 설정
+ * /uploads/*를 MVC 리소스 핸들러 대신 전용 서블릿에 매핑
+ */
+@Slf4j
+@Configuration
+public class UploadServingConfig {
+
+    @Bean
+    public UploadResourceServlet uploadResourceServlet(
+            FileUploadUtil fileUploadUtil,
+            @Value("${app.file.serving.immutable-max-age-seconds:31536000}") long immutableMaxAgeSeconds,
+            @Value("${app.file.serving.default-max-age-seconds:86400}") long defaultMaxAgeSeconds,
+            @Value("${app.file.serving.memory-cache-max-bytes:33554432}") long memoryCacheMaxBytes,
+            @Value("${app.file.serving.memory-cache-max-entry-bytes:65536}") long memoryCacheMaxEntryBytes,
+            @Value("${app.file.serving.sendfile-min-bytes:49152}") long sendfileMinBytes) {
+        return new UploadResourceServlet(fileUploadUtil, immutableMaxAgeSeconds, defaultMaxAgeSeconds,
+                memoryCacheMaxBytes, memoryCacheMaxEntryBytes, sendfileMinBytes);
+    }
+
+    @Bean
+    public ServletRegistrationBean<UploadResourceServlet> uploadResourceServletRegistration(
+            UploadResourceServlet uploadResourceServlet) {
+        ServletRegistrationBean<UploadResourceServlet> registration =
+                new ServletRegistrationBean<>(uploadResourceServlet, "/uploads/*");
+        registration.setName("uploadResourceServlet");
+        registration.setLoadOnStartup(1);
+        log.info("업로드 파일 서블릿 등록: /uploads/*");
+        return registration;
+    }
+}
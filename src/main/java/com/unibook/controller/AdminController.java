@@ -14,6 +14,8 @@ import com.unibook.service.ReportService;
 import com.unibook.service.UserService;
 import com.unibook.service.EmbeddingMetricsLogger;
 import com.unibook.service.ChatbotEvaluationService;
+import com.unibook.service.RecommendationClickPipeline;
+import com.unibook.service.RecommendationImpressionService;
 import com.unibook.service.RecommendationMetricsService;
 import com.unibook.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +49,8 @@ public class AdminController {
     private final EmbeddingMetricsLogger metricsLogger;
     private final ChatbotEvaluationService chatbotEvaluationService;
     private final RecommendationMetricsService recommendationMetricsService;
+    private final RecommendationImpressionService recommendationImpressionService;
+    private final RecommendationClickPipeline recommendationClickPipeline;
     private final RecommendationProperties recommendationProperties;
     
     /**
@@ -273,27 +277,42 @@ public class AdminController {
         }
     }
 
+    /**
+     * 추천 노출 수집 통계 조회 (API)
+     * 중복 제거 건수, 큐 적재량, 배치 플러시 크기 등
+     */
+    @GetMapping("/api/recommendations/impression-stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getImpressionWriterStats() {
+        return ResponseEntity.ok(recommendationImpressionService.getWriterStats());
+    }
+
+    /**
+     * 추천 클릭 파이프라인 통계 조회 (API)
+     * 처리 건수 + 타입/위치/소스 라벨별 온라인 집계 (서버 시작 이후 누적)
+     */
+    @GetMapping("/api/recommendations/click-stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getClickPipelineStats() {
+        return ResponseEntity.ok(recommendationClickPipeline.getStats());
+    }
+
     /**
      * 임베딩 메트릭 CSV 다운로드 (API)
+     * 회전된 파일까지 디스크에서 바로 스트리밍 (메모리에 전체를 올리지 않음)
      */
     @GetMapping("/api/embedding-metrics/export")
     public ResponseEntity<?> exportEmbeddingMetrics() {
         try {
-            java.nio.file.Path csvPath = java.nio.file.Paths.get("data/embedding-metrics.csv");
-
-            if (!java.nio.file.Files.exists(csvPath)) {
-                return ResponseEntity.notFound().build();
-            }
-
-            org.springframework.core.io.Resource resource =
-                new org.springframework.core.io.FileSystemResource(csvPath);
+            org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody body =
+                metricsLogger::exportCsv;
 
             return ResponseEntity.ok()
                 .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION,
                     "attachment; filename=embedding-metrics.csv")
                 .header(org.springframework.http.HttpHeaders.CONTENT_TYPE,
                     "text/csv; charset=UTF-8")
-                .body(resource);
+                .body(body);
 
         } catch (Exception e) {
             log.error("임베딩 메트릭 CSV 다운로드 실패", e);
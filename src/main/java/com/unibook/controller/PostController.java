@@ -13,15 +13,17 @@ import com.unibook.exception.ResourceNotFoundException;
 import com.unibook.exception.ValidationException;
 import com.unibook.security.UserPrincipal;
 import com.unibook.service.AuthorizationService;
+import com.unibook.service.BookPriceStatsService;
 import com.unibook.service.BookService;
 import com.unibook.service.PostControllerHelper;
+import com.unibook.service.PostDetailAssembler;
 import com.unibook.service.PostService;
-import com.unibook.service.PostViewService;
 import com.unibook.service.UserService;
 import com.unibook.service.WishlistService;
 import com.unibook.util.PostFormDataBuilder;
 import com.unibook.controller.dto.PostSearchRequest;
 import com.unibook.repository.ReportRepository;
+import com.unibook.repository.projection.PostCardProjection;
 import com.unibook.domain.entity.Report;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -66,7 +68,8 @@ public class PostController {
     private final AuthorizationService authorizationService;
     private final PostFormDataBuilder postFormDataBuilder;
     private final PostControllerHelper postControllerHelper;
-    private final PostViewService postViewService;
+    private final PostDetailAssembler postDetailAssembler;
+    private final BookPriceStatsService bookPriceStatsService;
     
     private static final int DEFAULT_PAGE_SIZE = 12;
     private static final int MAX_IMAGES = 5;
@@ -148,14 +151,10 @@ public class PostController {
             }
             
             // 이미 본 게시글이 아니면 조회수 증가
-            if (!viewedPosts.contains(id)) {
-                postService.incrementViewCount(id);
+            boolean countView = !viewedPosts.contains(id);
+            if (countView) {
                 viewedPosts.add(id);
                 session.setAttribute("viewedPosts", viewedPosts);
-
-                // 추천 시스템용 조회 기록 (비동기)
-                Long userId = userPrincipal != null ? userPrincipal.getUserId() : null;
-                postViewService.recordView(id, userId);
             }
             
             // 작성자 여부 확인
@@ -163,32 +162,18 @@ public class PostController {
             boolean isOwner = authInfo.isOwner();
             boolean canEdit = authInfo.canEdit();
             
-            // 같은 책의 다른 게시글 (현재 게시글 제외)
-            List<Post> relatedPosts = post.getBook() != null ? 
-                    postService.getRelatedPosts(post.getBook().getBookId(), id, 4) : 
-                    List.of();
-            
-            // 같은 과목의 다른 게시글 (현재 게시글 제외)
-            List<Post> subjectRelatedPosts = post.getSubject() != null ?
-                    postService.getRelatedPostsBySubject(post.getSubject().getSubjectId(), id, 4) :
-                    List.of();
-            
-            // 찜 상태 확인
-            boolean isWishlisted = false;
-            if (userPrincipal != null && !isOwner) {
-                isWishlisted = wishlistService.isWishlisted(userPrincipal.getUserId(), id);
-            }
-            
-            // 상태 변경 가능 여부 확인
-            boolean canChangeStatus = isOwner && postService.canChangePostStatus(id);
+            // 조회수 증가, 같은 책/과목 게시글, 찜 상태, 상태 변경 가능 여부를 병렬 조회
+            Long userId = userPrincipal != null ? userPrincipal.getUserId() : null;
+            PostDetailAssembler.PostDetailExtras extras = postDetailAssembler.assemble(post, userId, isOwner, countView);
             
             model.addAttribute("post", post);
+            model.addAttribute("viewCount", extras.viewCount());
             model.addAttribute("isOwner", isOwner);
             model.addAttribute("canEdit", canEdit);
-            model.addAttribute("canChangeStatus", canChangeStatus);
-            model.addAttribute("isWishlisted", isWishlisted);
-            model.addAttribute("relatedPosts", relatedPosts);
-            model.addAttribute("subjectRelatedPosts", subjectRelatedPosts);
+            model.addAttribute("canChangeStatus", extras.canChangeStatus());
+            model.addAttribute("isWishlisted", extras.wishlisted());
+            model.addAttribute("relatedPosts", extras.relatedPosts());
+            model.addAttribute("subjectRelatedPosts", extras.subjectRelatedPosts());
             
             return "posts/detail";
         
@@ -475,8 +460,8 @@ public class PostController {
         Pageable pageable = createUserPostsPageable(page, size, sortBy);
         
         // 내 게시글 조회
-        Page<Post> posts = postService.getPostsByUserId(userPrincipal.getUserId(), pageable, minPrice, maxPrice);
-        Page<PostResponseDto> postDtos = posts.map(PostResponseDto::listFrom);
+        Page<PostCardProjection> posts = postService.getPostsByUserId(userPrincipal.getUserId(), pageable, minPrice, maxPrice);
+        Page<PostResponseDto> postDtos = posts.map(PostResponseDto::fromCard);
         
         model.addAttribute("posts", postDtos);
         model.addAttribute("productTypes", Post.ProductType.values());
@@ -512,8 +497,8 @@ public class PostController {
         Pageable pageable = createWishlistPageable(page, size, sortBy);
         
         // 찜한 게시글 조회
-        Page<Post> posts = wishlistService.getUserWishlistPosts(userPrincipal.getUserId(), pageable, minPrice, maxPrice);
-        Page<PostResponseDto> postDtos = posts.map(PostResponseDto::listFrom);
+        Page<PostCardProjection> posts = wishlistService.getUserWishlistPosts(userPrincipal.getUserId(), pageable, minPrice, maxPrice);
+        Page<PostResponseDto> postDtos = posts.map(PostResponseDto::fromCard);
         
         model.addAttribute("posts", postDtos);
         model.addAttribute("productTypes", Post.ProductType.values());
@@ -579,7 +564,7 @@ public class PostController {
     public ResponseEntity<PriceTrendDto.ChartData> getBookPriceTrend(@PathVariable Long bookId) {
         try {
             log.info("책 시세 데이터 조회 요청: bookId={}", bookId);
-            PriceTrendDto.ChartData result = postService.getBookPriceTrend(bookId);
+            PriceTrendDto.ChartData result = bookPriceStatsService.getChartData(bookId);
             log.info("시세 데이터 조회 결과: hasData={}, available={}, completed={}", 
                     result.isHasData(), 
                     result.getAvailableAndReserved().size(), 
@@ -600,6 +585,17 @@ public class PostController {
         }
     }
     
+    /**
+     * 책의 가격 제안 조회 (글쓰기 폼 힌트용 API)
+     */
+    @GetMapping(value = "/price-suggestion/{bookId}", produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<PriceTrendDto.PriceSuggestion> getPriceSuggestion(@PathVariable Long bookId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bookPriceStatsService.getSuggestion(bookId));
+    }
+    
     /**
      * 특정 사용자의 게시글 목록 조회 (관리자용)
      */
@@ -608,7 +604,7 @@ public class PostController {
         Pageable pageable = createUserPostsPageable(page, size, sortBy);
         
         // 특정 사용자의 게시글 조회 (가격 필터 포함)
-        Page<Post> posts = postService.getPostsByUserId(userId, pageable, minPrice, maxPrice);
+        Page<PostCardProjection> posts = postService.getPostsByUserId(userId, pageable, minPrice, maxPrice);
         
         // 관리자가 아닌 경우 BLOCKED 게시글 제외
         Page<PostResponseDto> postDtos;
@@ -618,13 +614,13 @@ public class PostController {
                 if (post.getStatus() == Post.PostStatus.BLOCKED) {
                     return null; // BLOCKED 게시글은 null 반환
                 }
-                return PostResponseDto.listFrom(post);
+                return PostResponseDto.fromCard(post);
             }).map(dto -> dto); // null 제거를 위해 한번 더 변환
             
             // 실제로는 Stream을 사용하여 BLOCKED 게시글 완전 제거
             List<PostResponseDto> filteredContent = posts.getContent().stream()
                     .filter(post -> post.getStatus() != Post.PostStatus.BLOCKED)
-                    .map(PostResponseDto::listFrom)
+                    .map(PostResponseDto::fromCard)
                     .toList();
             
             // 새로운 Page 객체 생성 (페이징 정보 유지)
@@ -635,7 +631,7 @@ public class PostController {
             );
         } else {
             // 관리자인 경우 모든 게시글 포함
-            postDtos = posts.map(PostResponseDto::listFrom);
+            postDtos = posts.map(PostResponseDto::fromCard);
         }
         
         // 사용자 정보 조회
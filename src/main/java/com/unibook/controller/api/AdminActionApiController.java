@@ -7,6 +7,7 @@ import com.unibook.domain.dto.AdminActionDto;
 import com.unibook.domain.entity.AdminAction;
 import com.unibook.security.UserPrincipal;
 import com.unibook.service.AdminActionService;
+import com.unibook.service.OutboxRelay;
 import com.unibook.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,6 +30,7 @@ public class AdminActionApiController {
     
     private final AdminActionService adminActionService;
     private final UserService userService;
+    private final OutboxRelay outboxRelay;
     
     /**
      * 사용자 정지
@@ -205,6 +208,21 @@ public class AdminActionApiController {
         }
     }
     
+    /**
+     * 아웃박스 처리 현황 (대기/실패 건수, 재시도 통계)
+     */
+    @GetMapping("/outbox/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOutboxStats() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("조회 완료", outboxRelay.getStats()));
+            
+        } catch (Exception e) {
+            log.error("아웃박스 현황 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("서버 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * 사용자 정지 상태 확인
      */
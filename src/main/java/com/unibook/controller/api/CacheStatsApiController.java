@@ -2,8 +2,13 @@ package com.unibook.controller.api;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.unibook.config.UploadResourceServlet;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.http.ResponseEntity;
@@ -14,11 +19,13 @@ import org.springframework.web.bind.annotation.RestController;
 import java.text.DecimalFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 캐시 통계 API 컨트롤러
  * 
  * Department Caffeine Cache의 실시간 성능 지표를 제공합니다.
+ * Hibernate 2차 캐시(카탈로그 엔티티, 쿼리 캐시)의 리전별 지표도 함께 제공합니다.
  * 
  * 제공 정보:
  * - 히트율, 미스율
@@ -34,6 +41,8 @@ import java.util.Map;
 public class CacheStatsApiController {
     
     private final CacheManager cacheManager;
+    private final UploadResourceServlet uploadResourceServlet;
+    private final EntityManagerFactory entityManagerFactory;
     
     /**
      * Department 캐시 상세 통계 조회
@@ -110,6 +119,72 @@ public class CacheStatsApiController {
         return ResponseEntity.ok(result);
     }
     
+    /**
+     * 업로드 파일 서빙 통계 (작은 파일 메모리 캐시 히트율, 304/206/sendfile 응답 수)
+     */
+    @GetMapping("/uploads/stats")
+    public ResponseEntity<Map<String, Object>> getUploadServingStats() {
+        Map<String, Object> result = new HashMap<>(uploadResourceServlet.getStats());
+        result.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * Hibernate 2차 캐시 통계 (카탈로그 엔티티/컬렉션 리전, 쿼리 캐시)
+     * hibernate.generate_statistics가 꺼져 있으면 모든 값이 0
+     */
+    @GetMapping("/hibernate/stats")
+    public ResponseEntity<Map<String, Object>> getHibernateCacheStats() {
+        Map<String, Object> result = new HashMap<>();
+        
+        try {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            result.put("timestamp", System.currentTimeMillis());
+            result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+            
+            // 2차 캐시 전체 (엔티티 + 컬렉션)
+            long l2Hits = statistics.getSecondLevelCacheHitCount();
+            long l2Misses = statistics.getSecondLevelCacheMissCount();
+            result.put("secondLevelCacheHits", l2Hits);
+            result.put("secondLevelCacheMisses", l2Misses);
+            result.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+            result.put("secondLevelCacheHitRate", formatRate(l2Hits, l2Misses));
+            
+            // 쿼리 캐시
+            long queryHits = statistics.getQueryCacheHitCount();
+            long queryMisses = statistics.getQueryCacheMissCount();
+            result.put("queryCacheHits", queryHits);
+            result.put("queryCacheMisses", queryMisses);
+            result.put("queryCachePuts", statistics.getQueryCachePutCount());
+            result.put("queryCacheHitRate", formatRate(queryHits, queryMisses));
+            result.put("updateTimestampsCacheHits", statistics.getUpdateTimestampsCacheHitCount());
+            
+            // 리전별 통계 (이름순)
+            Map<String, Object> regions = new TreeMap<>();
+            for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(regionName);
+                if (regionStats == null) {
+                    continue;
+                }
+                Map<String, Object> region = new HashMap<>();
+                region.put("hits", regionStats.getHitCount());
+                region.put("misses", regionStats.getMissCount());
+                region.put("puts", regionStats.getPutCount());
+                region.put("hitRate", formatRate(regionStats.getHitCount(), regionStats.getMissCount()));
+                // JCache 구현에 따라 지원하지 않으면 음수
+                region.put("elementCountInMemory", regionStats.getElementCountInMemory());
+                regions.put(regionName, region);
+            }
+            result.put("regions", regions);
+            
+        } catch (Exception e) {
+            log.error("Hibernate 2차 캐시 통계 조회 중 오류 발생", e);
+            return ResponseEntity.ok(createErrorResponse("Hibernate 캐시 통계 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+        
+        return ResponseEntity.ok(result);
+    }
+    
     /**
      * 모든 캐시의 요약 통계
      */
@@ -153,6 +228,11 @@ public class CacheStatsApiController {
         return error;
     }
     
+    private String formatRate(long hits, long misses) {
+        long total = hits + misses;
+        return String.format("%.2f%%", total > 0 ? (double) hits / total * 100 : 0.0);
+    }
+    
     private String formatNanosToMs(double nanos) {
         return String.format("%.2f ms", nanos / 1_000_000.0);
     }
@@ -75,7 +75,7 @@ public class ChatbotApiController {
    * 챗봇 헬스체크 API
    *
    * GET /api/chatbot/health
-   * Response: { "status": "OK", "embeddingModel": "...", "chatModel": "..." }
+   * Response: { "status": "OK", "embeddingService": "...", "queryEmbeddingCache": "...", "chatService": "..." }
    *
    * @return 시스템 상태 정보
    */
@@ -87,6 +87,7 @@ public class ChatbotApiController {
       Map<String, String> healthInfo = Map.of(
           "status", "OK",
           "embeddingService", embeddingService.getEmbeddingModelInfo(),
+          "queryEmbeddingCache", embeddingService.getQueryCacheStatsInfo(),
           "chatService", chatbotService.getServiceInfo()
       );
 
@@ -0,0 +1,48 @@
+package com.unibook.controller.api;
+
+import com.unibook.config.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource 통계 API 컨트롤러
+ *
+ * 읽기 복제본 라우팅이 켜져 있으면 라우팅 횟수(primary/replica/sticky/지연 우회),
+ * 풀별 커넥션 상태, 복제 지연을 제공하고, 꺼져 있으면 단일 풀 상태만 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/datasource")
+@RequiredArgsConstructor
+public class DataSourceStatsApiController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final DataSource dataSource;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getDataSourceStats() throws SQLException {
+        ReplicaRoutingDataSource routing = replicaRoutingDataSource.getIfAvailable();
+        if (routing != null) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("replicaRouting", true);
+            result.putAll(routing.getStats());
+            return ResponseEntity.ok(result);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("replicaRouting", false);
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            result.put("primaryPool", ReplicaRoutingDataSource.poolStats(dataSource.unwrap(HikariDataSource.class)));
+        }
+        return ResponseEntity.ok(result);
+    }
+}
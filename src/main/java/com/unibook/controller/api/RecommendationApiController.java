@@ -5,7 +5,8 @@ import com.unibook.domain.dto.RecommendationMetricsDto;
 import com.unibook.security.UserPrincipal;
 import com.unibook.service.RecommendationClickService;
 import com.unibook.service.RecommendationImpressionService;
-import com.unibook.service.RecommendationService;
+import com.unibook.service.RecommendationResultCache;
+import com.unibook.service.SimilarPostIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -24,7 +25,8 @@ import java.util.Map;
 @Slf4j
 public class RecommendationApiController {
 
-    private final RecommendationService recommendationService;
+    private final RecommendationResultCache recommendationResultCache;
+    private final SimilarPostIndexService similarPostIndexService;
     private final RecommendationClickService clickService;
     private final RecommendationImpressionService impressionService;
 
@@ -41,7 +43,7 @@ public class RecommendationApiController {
             Long userId = userPrincipal != null ? userPrincipal.getUserId() : null;
             log.debug("맞춤 추천 요청: userId={}, limit={}", userId, limit);
 
-            List<PostResponseDto> recommendations = recommendationService.getPersonalizedRecommendations(userId, limit);
+            List<PostResponseDto> recommendations = recommendationResultCache.getPersonalizedRecommendations(userId, limit);
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -71,7 +73,7 @@ public class RecommendationApiController {
         try {
             log.debug("비슷한 게시글 추천 요청: postId={}, limit={}", postId, limit);
 
-            List<PostResponseDto> similarPosts = recommendationService.getSimilarPosts(postId, limit);
+            List<PostResponseDto> similarPosts = similarPostIndexService.getSimilarPosts(postId, limit);
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -104,7 +106,7 @@ public class RecommendationApiController {
             log.debug("추천 클릭 추적: postId={}, type={}, position={}, userId={}",
                     request.getPostId(), request.getType(), request.getPosition(), userId);
 
-            // 비동기로 클릭 기록
+            // 클릭 파이프라인에 투입 (저장/집계는 백그라운드)
             clickService.recordClick(
                     request.getPostId(),
                     userId,
@@ -139,7 +141,7 @@ public class RecommendationApiController {
                     request.getSessionId(), request.getType(), request.getCount(),
                     request.getPageType(), userId);
 
-            // 비동기로 노출 기록
+            // 노출 기록 (메모리 중복 제거 후 배치 저장 큐에 적재)
             impressionService.recordImpression(
                     request.getSessionId(),
                     userId,
@@ -71,7 +71,7 @@ public class ChatDto {
                 
                 // 게시글 썸네일 (첫 번째 이미지)
                 if (post.getPostImages() != null && !post.getPostImages().isEmpty()) {
-                    thumbnail = post.getPostImages().get(0).getImageUrl();
+                    thumbnail = post.getPostImages().get(0).getThumbnailSrc();
                 }
             }
             
@@ -175,7 +175,7 @@ public class ChatDto {
                 
                 // 게시글 썸네일 (첫 번째 이미지)
                 if (post.getPostImages() != null && !post.getPostImages().isEmpty()) {
-                    thumbnail = post.getPostImages().get(0).getImageUrl();
+                    thumbnail = post.getPostImages().get(0).getThumbnailSrc();
                 }
             }
             
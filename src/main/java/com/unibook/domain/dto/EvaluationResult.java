@@ -23,6 +23,16 @@ public class EvaluationResult {
    */
   private LocalDateTime timestamp;
 
+  /**
+   * 평가 모드 (FULL, RETRIEVAL_ONLY)
+   */
+  private String mode;
+
+  /**
+   * 동시 실행 수
+   */
+  private int concurrency;
+
   /**
    * FAQ 개수
    */
@@ -43,6 +53,11 @@ public class EvaluationResult {
    */
   private int correctAnswers;
 
+  /**
+   * 평가 중 오류로 결과를 얻지 못한 질문 수
+   */
+  private int errorCount;
+
   /**
    * 정확도 (0.0 ~ 1.0)
    */
@@ -69,6 +84,28 @@ public class EvaluationResult {
    */
   private double avgResponseTimeMs;
 
+  /**
+   * 응답 시간 백분위수 (ms)
+   */
+  private double p50ResponseTimeMs;
+  private double p95ResponseTimeMs;
+  private double p99ResponseTimeMs;
+
+  /**
+   * 최대 응답 시간 (ms)
+   */
+  private long maxResponseTimeMs;
+
+  /**
+   * 응답 시간 구간별 질문 수 (예: "<=500ms" → 12)
+   */
+  private Map<String, Integer> latencyHistogram;
+
+  /**
+   * 전체 평가 소요 시간 (ms)
+   */
+  private long wallClockMs;
+
   /**
    * 개별 질문 결과
    */
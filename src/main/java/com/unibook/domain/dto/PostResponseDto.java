@@ -2,6 +2,7 @@ package com.unibook.domain.dto;
 
 import com.unibook.domain.entity.Post;
 import com.unibook.domain.entity.PostImage;
+import com.unibook.repository.projection.PostCardProjection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -92,6 +93,8 @@ public class PostResponseDto {
     public static class ImageDto {
         private Long imageId;
         private String imagePath;
+        private String thumbnailPath; // 목록 썸네일용 (파생 이미지 없으면 원본)
+        private String cardPath;      // 카드용 (파생 이미지 없으면 원본)
         private Integer imageOrder;
         private boolean isMain; // imageOrder == 0
     }
@@ -178,6 +181,8 @@ public class PostResponseDto {
                     .map(image -> ImageDto.builder()
                             .imageId(image.getPostImageId())
                             .imagePath(image.getImageUrl())
+                            .thumbnailPath(image.getThumbnailSrc())
+                            .cardPath(image.getCardSrc())
                             .imageOrder(image.getImageOrder())
                             .isMain(image.getImageOrder() == 0)
                             .build())
@@ -251,6 +256,8 @@ public class PostResponseDto {
             builder.images(List.of(ImageDto.builder()
                     .imageId(mainImage.getPostImageId())
                     .imagePath(mainImage.getImageUrl())
+                    .thumbnailPath(mainImage.getThumbnailSrc())
+                    .cardPath(mainImage.getCardSrc())
                     .imageOrder(mainImage.getImageOrder())
                     .isMain(true)
                     .build()));
@@ -258,4 +265,60 @@ public class PostResponseDto {
         
         return builder.build();
     }
+    
+    // 카드 프로젝션에서 목록용 DTO 변환 (listFrom과 같은 필드, 엔티티 로딩 없음)
+    public static PostResponseDto fromCard(PostCardProjection card) {
+        PostResponseDtoBuilder builder = PostResponseDto.builder()
+                .postId(card.getPostId())
+                .title(card.getTitle())
+                .price(card.getPrice())
+                .productType(card.getProductType())
+                .status(card.getStatus())
+                .viewCount(card.getViewCount() != null ? card.getViewCount() : 0)
+                .wishlistCount(card.getWishlistCount() != null ? card.getWishlistCount() : 0)
+                .createdAt(card.getCreatedAt());
+        
+        // 사용자 기본 정보만
+        if (card.getUserId() != null) {
+            builder.user(UserDto.builder()
+                    .userId(card.getUserId())
+                    .name(card.getUserName())
+                    .schoolId(card.getSchoolId())
+                    .schoolName(card.getSchoolName())
+                    .build());
+        }
+        
+        // Subject 정보 설정 (목록용이므로 간략하게)
+        if (card.getSubjectId() != null) {
+            builder.subject(SubjectDto.builder()
+                    .subjectId(card.getSubjectId())
+                    .subjectName(card.getSubjectName())
+                    .professorName(card.getProfessorName())
+                    .build());
+            builder.subjectId(card.getSubjectId());
+            builder.subjectName(card.getSubjectName());
+            builder.professorId(card.getProfessorId());
+            builder.professorName(card.getProfessorName());
+        }
+        
+        // Book 정보 설정 (검색용 Flat 필드만)
+        if (card.getProductType() != null && card.getProductType().isTextbookType()) {
+            builder.bookTitle(card.getBookTitle());
+            builder.bookAuthor(card.getBookAuthor());
+        }
+        
+        // 대표 이미지만
+        if (card.getImageId() != null) {
+            builder.images(List.of(ImageDto.builder()
+                    .imageId(card.getImageId())
+                    .imagePath(card.getImagePath())
+                    .thumbnailPath(card.getThumbnailPath())
+                    .cardPath(card.getCardPath())
+                    .imageOrder(card.getImageOrder())
+                    .isMain(true)
+                    .build()));
+        }
+        
+        return builder.build();
+    }
 }
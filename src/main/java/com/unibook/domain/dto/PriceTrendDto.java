@@ -14,8 +14,10 @@ public class PriceTrendDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class ChartData {
-        private List<DataPoint> availableAndReserved; // 판매중+예약중
-        private List<DataPoint> completed;           // 거래완료
+        private List<DataPoint> availableAndReserved; // 판매중+예약중 (게시글별)
+        private List<DataPoint> completed;           // 거래완료 (주 단위 평균가)
+        private PriceStats activeStats;              // 판매중+예약중 통계
+        private PriceStats completedStats;           // 거래완료 통계
         private BookInfo bookInfo;                   // 책 정보
         private boolean hasData;                     // 데이터 존재 여부
     }
@@ -28,7 +30,37 @@ public class PriceTrendDto {
         private String date;        // ISO 형태의 날짜 (Chart.js용)
         private Integer price;      // 가격
         private String status;      // 상태 (Chart.js tooltip용)
-        private Long postId;        // 게시글 ID (링크용)
+        private Long postId;        // 게시글 ID (링크용, 주 단위 집계점은 null)
+        private Integer count;      // 집계된 게시글 수 (게시글별 점은 1)
+    }
+    
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceStats {
+        private long count;
+        private Integer min;
+        private Integer max;
+        private Integer mean;
+        private Integer p25;
+        private Integer median;
+        private Integer p75;
+    }
+    
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceSuggestion {
+        private Long bookId;
+        private boolean hasData;          // 참고할 가격이 있는지
+        private Integer suggestedMin;     // 제안 범위 하한 (거래완료 25% 분위)
+        private Integer suggestedMax;     // 제안 범위 상한 (거래완료 75% 분위)
+        private Integer completedMedian;  // 거래완료 중앙값
+        private long completedCount;      // 거래완료 건수
+        private Integer lowestActivePrice; // 현재 판매중 최저가
+        private long activeCount;         // 현재 판매중/예약중 건수
     }
     
     @Getter
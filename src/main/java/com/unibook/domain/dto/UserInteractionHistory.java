@@ -55,6 +55,11 @@ public class UserInteractionHistory {
     private LocalDateTime timestamp;
     private InteractionWeight weight;
 
+    // 유사도 계산용 게시글 특성 (게시글 재조회 없이 점수 계산)
+    private Long bookId;
+    private Long subjectId;
+    private Long departmentId;
+
     /**
      * 시간 감쇠가 적용된 가중치 계산
      *
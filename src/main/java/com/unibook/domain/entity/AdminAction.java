@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @ToString
 public class AdminAction extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "admin_actions_id_gen")
+    @TableGenerator(name = "admin_actions_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "admin_actions", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long actionId;
     
     @Column(name = "admin_id", nullable = false)
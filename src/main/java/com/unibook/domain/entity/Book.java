@@ -5,10 +5,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Book")
 @Table(name = "books", indexes = {
     @Index(name = "idx_book_isbn", columnList = "isbn"),
     @Index(name = "idx_book_title", columnList = "title"),
@@ -22,7 +26,10 @@ import java.util.List;
 @ToString
 public class Book extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "books_id_gen")
+    @TableGenerator(name = "books_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "books", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long bookId;
 
     @NotBlank(message = "ISBN은 필수입니다")
@@ -20,7 +20,10 @@ import java.time.LocalDateTime;
 public class ChatRoom extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_rooms_id_gen")
+    @TableGenerator(name = "chat_rooms_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "chat_rooms", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "chat_room_id")
     private Long chatRoomId;
     
@@ -5,10 +5,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Department")
 @Table(name = "departments", indexes = {
     @Index(name = "idx_dept_school", columnList = "school_id"),
     @Index(name = "idx_dept_school_name", columnList = "school_id, department_name")
@@ -20,7 +24,10 @@ import java.util.List;
 @ToString
 public class Department extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "departments_id_gen")
+    @TableGenerator(name = "departments_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "departments", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long departmentId;
 
     @NotNull(message = "학교는 필수입니다")
@@ -34,6 +41,7 @@ public class Department extends BaseEntity {
     private String departmentName;
 
     @OneToMany(mappedBy = "department")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Department.professors")
     @Builder.Default
     @ToString.Exclude
     private List<Professor> professors = new ArrayList<>();
@@ -18,7 +18,10 @@ import java.util.UUID;
 public class EmailVerificationToken extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "email_verification_tokens_id_gen")
+    @TableGenerator(name = "email_verification_tokens_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "email_verification_tokens", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long tokenId;
     
     @Column(nullable = false, unique = true)
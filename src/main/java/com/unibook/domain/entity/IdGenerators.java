@@ -0,0 +1,28 @@
+package com.unibook.domain.entity;
+
+/**
+ * 엔티티 ID 생성 설정 (테이블 기반 pooled 생성기)
+ * - IDENTITY는 INSERT 직후 키를 받아야 해서 Hibernate가 INSERT 배치를 끄므로 테이블 생성기 사용
+ * - 노드마다 allocationSize 구간을 한 번에 예약 (id_generators 행 잠금 갱신 1회) → 여러 노드에서도 중복 없음
+ * - 테이블별 구간 시작값은 IdGeneratorSeeder가 기존 MAX(id) 이후로 맞춤
+ * - JDBC로 직접 INSERT하는 테이블(추천 노출/클릭/집계, 과목-책, 아웃박스)은 AUTO_INCREMENT(IDENTITY) 유지
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String SEGMENT_COLUMN = "gen_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 기본 예약 구간 크기
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * 로그성 대량 INSERT 테이블(조회 기록, 알림) 예약 구간 크기
+     */
+    public static final int LOG_ALLOCATION_SIZE = 500;
+
+    private IdGenerators() {
+    }
+}
@@ -23,7 +23,10 @@ import lombok.*;
 public class KeywordAlert extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "keyword_alerts_id_gen")
+    @TableGenerator(name = "keyword_alerts_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "keyword_alerts", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long keywordAlertId;
     
     @ManyToOne(fetch = FetchType.LAZY)
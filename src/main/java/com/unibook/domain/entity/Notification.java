@@ -11,11 +11,13 @@ import java.util.Map;
 /**
  * 알림 Entity
  * 사용자별 알림 관리 (찜 상태 변경, 게시글 찜됨, 메시지 등)
+ * created_at 기준 월별 파티션 테이블 (FK 제약 없음, 보관 기간은 파티션 삭제로 관리)
  */
 @Entity
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_recipient_read", columnList = "recipient_user_id, is_read"),
-    @Index(name = "idx_recipient_created", columnList = "recipient_user_id, created_at")
+    @Index(name = "idx_recipient_created", columnList = "recipient_user_id, created_at"),
+    @Index(name = "idx_notification_related_post", columnList = "related_post_id")
 })
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
@@ -23,21 +25,24 @@ import java.util.Map;
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id_gen")
+    @TableGenerator(name = "notifications_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "notifications", allocationSize = IdGenerators.LOG_ALLOCATION_SIZE)
     private Long notificationId;
 
     /**
      * 알림 받는 사용자
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "recipient_user_id", nullable = false)
+    @JoinColumn(name = "recipient_user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User recipient;
 
     /**
      * 알림을 발생시킨 사용자 (nullable - 시스템 알림의 경우)
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "actor_user_id")
+    @JoinColumn(name = "actor_user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User actor;
 
     /**
@@ -49,10 +54,10 @@ public class Notification extends BaseEntity {
 
     /**
      * 관련 게시글 (nullable - 전체 공지사항 등의 경우)
-     * 게시글 삭제 시 관련 알림도 자동 삭제되도록 외래키 제약 설정
+     * 파티션 테이블이라 FK 제약이 없으므로 게시글 삭제 시 PostService가 관련 알림을 함께 삭제
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "related_post_id", foreignKey = @ForeignKey(name = "fk_notification_post"))
+    @JoinColumn(name = "related_post_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Post relatedPost;
 
     /**
@@ -0,0 +1,96 @@
+package com.unibook.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * - 게시글 저장과 같은 트랜잭션에서 기록되어 롤백되면 함께 사라짐
+ * - 커밋 후 워커가 처리 (키워드 알림, 찜 알림, 과목-책 참조 카운트)
+ * - 처리 실패 시 지수 백오프로 재시도, 최대 횟수를 넘기면 FAILED로 남김
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_outbox_processed_at", columnList = "processed_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_outbox_idempotency_key", columnNames = "idempotency_key")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class OutboxEvent {
+
+    // OutboxService가 JDBC INSERT IGNORE로 기록하므로 AUTO_INCREMENT 유지
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxEventId;
+
+    /**
+     * 이벤트 종류 (처리 핸들러 결정)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    /**
+     * 대상 게시글 ID
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * 중복 등록 방지 키 (같은 키는 한 번만 기록, 중복은 조용히 무시)
+     */
+    @Column(name = "idempotency_key", nullable = false, length = 150)
+    private String idempotencyKey;
+
+    /**
+     * 이벤트 내용 (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @ToString.Exclude
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 처리 시도 횟수
+     */
+    @Column(nullable = false)
+    private Integer attempts;
+
+    /**
+     * 다음 처리 가능 시각 (재시도 백오프)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum EventType {
+        KEYWORD_MATCH,            // 새 게시글 키워드 알림
+        WISHLIST_PRICE_CHANGED,   // 찜한 게시글 가격 변경 알림
+        WISHLIST_STATUS_CHANGED,  // 찜한 게시글 상태 변경 알림
+        SUBJECT_BOOK_COUNT        // 과목-책 연결 참조 카운트 증감
+    }
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+}
@@ -25,7 +25,10 @@ import java.util.List;
 @ToString
 public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "posts_id_gen")
+    @TableGenerator(name = "posts_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "posts", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long postId;
 
     @NotNull(message = "사용자는 필수입니다")
@@ -7,7 +7,9 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 
 @Entity
-@Table(name = "post_images")
+@Table(name = "post_images", indexes = {
+    @Index(name = "idx_post_image_post_order", columnList = "post_id, image_order")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +17,10 @@ import lombok.*;
 @ToString
 public class PostImage extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_images_id_gen")
+    @TableGenerator(name = "post_images_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "post_images", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long postImageId;
 
     @NotNull(message = "게시글은 필수입니다")
@@ -32,4 +37,35 @@ public class PostImage extends BaseEntity {
     @Column(nullable = false)
     @Builder.Default
     private Integer imageOrder = 0;
+
+    // 리사이즈 파생 이미지 (업로드 후 백그라운드 생성, 생성 전/실패 시 null)
+    @Column(length = 500)
+    private String thumbnailUrl;
+
+    @Column(length = 500)
+    private String cardUrl;
+
+    @Column(length = 500)
+    private String detailUrl;
+
+    /**
+     * 목록 썸네일용 경로 (파생 이미지가 없으면 원본)
+     */
+    public String getThumbnailSrc() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    /**
+     * 카드용 경로 (파생 이미지가 없으면 원본)
+     */
+    public String getCardSrc() {
+        return cardUrl != null ? cardUrl : imageUrl;
+    }
+
+    /**
+     * 상세 보기용 경로 (파생 이미지가 없으면 원본)
+     */
+    public String getDetailSrc() {
+        return detailUrl != null ? detailUrl : imageUrl;
+    }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
  * 게시글 조회 기록 엔티티
  * - 추천 시스템을 위한 사용자 행동 데이터 수집
  * - Content-based 및 Collaborative Filtering에 활용
+ * - viewed_at 기준 월별 파티션 테이블 (sql/partition_event_tables.sql), 보관 기간은 파티션 삭제로 관리
+ *   MySQL 파티션 테이블은 FK를 가질 수 없으므로 FK 제약 없음
  */
 @Entity
 @Table(name = "post_views", indexes = {
@@ -23,14 +25,17 @@ import java.time.LocalDateTime;
 @ToString
 public class PostView {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_views_id_gen")
+    @TableGenerator(name = "post_views_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "post_views", allocationSize = IdGenerators.LOG_ALLOCATION_SIZE)
     private Long viewId;
 
     /**
      * 조회한 사용자 (비로그인 사용자는 NULL)
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private User user;
 
@@ -38,7 +43,7 @@ public class PostView {
      * 조회된 게시글
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id", nullable = false)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private Post post;
 
@@ -5,10 +5,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Professor")
 @Table(name = "professors")
 @Getter @Setter
 @NoArgsConstructor
@@ -17,7 +21,10 @@ import java.util.List;
 @ToString
 public class Professor extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "professors_id_gen")
+    @TableGenerator(name = "professors_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "professors", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long professorId;
 
     @NotBlank(message = "교수명은 필수입니다")
@@ -32,6 +39,7 @@ public class Professor extends BaseEntity {
     private Department department;
 
     @OneToMany(mappedBy = "professor")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Professor.subjects")
     @Builder.Default
     @ToString.Exclude
     private List<Subject> subjects = new ArrayList<>();
@@ -8,10 +8,12 @@ import java.time.LocalDateTime;
  * 추천 클릭 기록 엔티티
  * - 추천 시스템 성능 측정을 위한 클릭 추적
  * - CTR(Click-Through Rate) 계산에 활용
+ * - clicked_at 기준 월별 파티션 테이블 (FK 제약 없음, 보관 기간은 파티션 삭제로 관리)
  */
 @Entity
 @Table(name = "recommendation_clicks", indexes = {
     @Index(name = "idx_rec_click_user_id", columnList = "user_id"),
+    @Index(name = "idx_rec_click_user_clicked", columnList = "user_id, clicked_at"),
     @Index(name = "idx_rec_click_post_id", columnList = "post_id"),
     @Index(name = "idx_rec_click_type", columnList = "type"),
     @Index(name = "idx_rec_click_clicked_at", columnList = "clicked_at"),
@@ -23,6 +25,7 @@ import java.time.LocalDateTime;
 @Builder
 @ToString
 public class RecommendationClick {
+    // JdbcTemplate 배치 INSERT가 ID 없이 적재하므로 AUTO_INCREMENT 유지 (IdGenerators 미사용)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long clickId;
@@ -31,7 +34,7 @@ public class RecommendationClick {
      * 클릭한 사용자 (비로그인 사용자는 NULL)
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private User user;
 
@@ -39,7 +42,7 @@ public class RecommendationClick {
      * 클릭된 게시글
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id", nullable = false)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @ToString.Exclude
     private Post post;
 
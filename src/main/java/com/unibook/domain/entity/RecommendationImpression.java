@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
  * - 추천 시스템 성능 측정을 위한 노출(Impression) 추적
  * - CTR(Click-Through Rate) 계산에 활용
  * - 추천이 사용자에게 표시된 것을 기록
+ * - impressed_at 기준 월별 파티션 테이블 (FK 제약 없음, 보관 기간은 파티션 삭제로 관리)
  */
 @Entity
 @Table(name = "recommendation_impressions", indexes = {
@@ -24,6 +25,7 @@ import java.time.LocalDateTime;
 @Builder
 @ToString
 public class RecommendationImpression {
+  // JdbcTemplate 배치 INSERT가 ID 없이 적재하므로 AUTO_INCREMENT 유지 (IdGenerators 미사용)
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long impressionId;
@@ -32,7 +34,7 @@ public class RecommendationImpression {
    * 노출된 사용자 (비로그인 사용자는 NULL)
    */
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "user_id")
+  @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   @ToString.Exclude
   private User user;
 
@@ -0,0 +1,93 @@
+package com.unibook.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 추천 메트릭 롤업 엔티티
+ * - 시간/일 단위 버킷별 노출·클릭 집계 (타입 × 소스 라벨 × 위치)
+ * - 스케줄 컴팩터가 워터마크 이후와 그 앞 재집계 구간의 원본 행을 다시 집계해 덮어씀
+ * - 관리자 대시보드는 원본 테이블 대신 이 테이블을 조회
+ */
+@Entity
+@Table(name = "recommendation_metric_rollups",
+  uniqueConstraints = @UniqueConstraint(name = "uk_rec_rollup_bucket",
+    columnNames = {"granularity", "bucket_start", "type", "source_label", "position"}),
+  indexes = {
+    @Index(name = "idx_rec_rollup_granularity_bucket", columnList = "granularity, bucket_start")
+  })
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecommendationMetricRollup {
+
+  /**
+   * 소스 라벨 없음 (유니크 키에 NULL을 넣지 않기 위한 값)
+   */
+  public static final String NO_LABEL = "";
+
+  /**
+   * 위치 없음 (노출 행, 위치 미기록 클릭)
+   */
+  public static final int NO_POSITION = -1;
+
+  // JdbcTemplate 배치 INSERT가 ID 없이 적재하므로 AUTO_INCREMENT 유지 (IdGenerators 미사용)
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long rollupId;
+
+  /**
+   * 버킷 단위 (시간 / 일)
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private Granularity granularity;
+
+  /**
+   * 버킷 시작 시각 (시간 단위는 정시, 일 단위는 자정)
+   */
+  @Column(name = "bucket_start", nullable = false)
+  private LocalDateTime bucketStart;
+
+  /**
+   * 추천 타입
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private RecommendationClick.RecommendationType type;
+
+  /**
+   * 추천 슬롯/소스 라벨 (없으면 NO_LABEL)
+   */
+  @Column(name = "source_label", nullable = false, length = 30)
+  private String sourceLabel;
+
+  /**
+   * 추천 목록 내 위치 (없으면 NO_POSITION)
+   */
+  @Column(nullable = false)
+  private Integer position;
+
+  /**
+   * 노출 수 (노출 기록의 count 합)
+   */
+  @Column(nullable = false)
+  private Long impressions;
+
+  /**
+   * 클릭 수
+   */
+  @Column(nullable = false)
+  private Long clicks;
+
+  /**
+   * 버킷 단위
+   */
+  public enum Granularity {
+    HOURLY,
+    DAILY
+  }
+}
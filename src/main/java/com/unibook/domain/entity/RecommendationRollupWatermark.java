@@ -0,0 +1,40 @@
+package com.unibook.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 롤업 컴팩터 워터마크
+ * - compactedUntil 이전(정시 경계)의 원본 행은 모두 롤업에 반영됨
+ *   (이후 늦게 들어온 행은 다음 컴팩션의 재집계 구간에서 반영)
+ * - 컴팩션과 같은 트랜잭션에서 갱신되어 중복/누락 없이 이어서 처리
+ */
+@Entity
+@Table(name = "recommendation_rollup_watermarks")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RecommendationRollupWatermark {
+
+  /**
+   * 워터마크 이름 (롤업 대상 구분)
+   */
+  @Id
+  @Column(length = 50)
+  private String name;
+
+  /**
+   * 이 시각 이전 원본 행까지 롤업 완료 (배타적 경계)
+   */
+  @Column(name = "compacted_until", nullable = false)
+  private LocalDateTime compactedUntil;
+
+  /**
+   * 마지막 컴팩션 시각
+   */
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -21,7 +21,10 @@ import java.time.LocalDateTime;
 public class Report extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reports_id_gen")
+    @TableGenerator(name = "reports_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "reports", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long reportId;
     
     @ManyToOne(fetch = FetchType.LAZY)
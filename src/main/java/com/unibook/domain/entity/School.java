@@ -4,12 +4,16 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.School")
 @Table(name = "schools", indexes = {
     @Index(name = "idx_school_name", columnList = "school_name"),
     @Index(name = "idx_school_primary_domain", columnList = "primary_domain")
@@ -21,7 +25,10 @@ import java.util.Set;
 @ToString
 public class School extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schools_id_gen")
+    @TableGenerator(name = "schools_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "schools", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long schoolId;
 
     @NotBlank(message = "학교명은 필수입니다")
@@ -34,12 +41,14 @@ public class School extends BaseEntity {
     private String primaryDomain;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.School.allDomains")
     @CollectionTable(name = "school_domains", joinColumns = @JoinColumn(name = "school_id"))
     @Column(name = "domain")
     @Builder.Default
     private Set<String> allDomains = new HashSet<>();
 
     @OneToMany(mappedBy = "school")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.School.departments")
     @Builder.Default
     @ToString.Exclude
     private List<Department> departments = new ArrayList<>();
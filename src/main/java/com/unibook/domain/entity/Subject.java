@@ -5,10 +5,14 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.Subject")
 @Table(name = "subjects")
 @Getter @Setter
 @NoArgsConstructor
@@ -17,7 +21,10 @@ import java.util.List;
 @ToString
 public class Subject extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "subjects_id_gen")
+    @TableGenerator(name = "subjects_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "subjects", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long subjectId;
 
     @NotBlank(message = "과목명은 필수입니다")
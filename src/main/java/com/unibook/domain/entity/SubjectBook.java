@@ -6,7 +6,10 @@ import lombok.*;
 import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "subject_books")
+@Table(name = "subject_books", uniqueConstraints = {
+    // 참조 카운트 upsert 기준 키 (sql/subject_books_unique_key.sql로 기존 중복 병합 후 적용)
+    @UniqueConstraint(name = "uk_subject_books_subject_book", columnNames = {"subject_id", "book_id"})
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,6 +17,7 @@ import org.hibernate.annotations.BatchSize;
 @ToString
 @BatchSize(size = 10)
 public class SubjectBook extends BaseEntity {
+    // JdbcTemplate 배치 INSERT가 ID 없이 적재하므로 AUTO_INCREMENT 유지 (IdGenerators 미사용)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long subjectBookId;
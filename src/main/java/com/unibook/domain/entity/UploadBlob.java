@@ -0,0 +1,53 @@
+package com.unibook.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 업로드 blob
+ * - 같은 내용(SHA-256 + 확장자)은 한 파일로 저장하고 참조하는 PostImage 수를 refCount로 관리
+ * - refCount가 0이 되면 커밋 후 파일(파생 이미지 포함)과 함께 정리
+ */
+@Entity
+@Table(name = "upload_blobs", indexes = {
+    @Index(name = "idx_upload_blobs_content_hash", columnList = "content_hash")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UploadBlob {
+
+    /**
+     * 저장 경로 (/uploads/blobs/ab/cd/{hash}.{ext}, PostImage.imageUrl과 동일)
+     */
+    @Id
+    @Column(length = 255)
+    private String path;
+
+    /**
+     * 내용 SHA-256 (hex)
+     */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * 파일 크기 (byte)
+     */
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    /**
+     * 이 blob을 참조하는 이미지 수
+     */
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    /**
+     * 최초 저장 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
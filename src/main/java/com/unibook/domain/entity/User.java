@@ -22,7 +22,10 @@ import java.util.List;
 @ToString
 public class User extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id_gen")
+    @TableGenerator(name = "users_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long userId;
 
     @Email(message = "올바른 이메일 형식이어야 합니다")
@@ -21,7 +21,10 @@ import lombok.*;
 public class Wishlist extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "wishlists_id_gen")
+    @TableGenerator(name = "wishlists_id_gen", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "wishlists", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long wishlistId;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,10 @@
+package com.unibook.domain.event;
+
+/**
+ * 아웃박스 이벤트 기록 알림
+ * 커밋 직후 릴레이가 폴링 주기를 기다리지 않고 바로 처리하도록 깨우는 용도
+ *
+ * @param outboxEventId 기록된 아웃박스 이벤트 ID
+ */
+public record OutboxEnqueuedEvent(Long outboxEventId) {
+}
@@ -0,0 +1,11 @@
+package com.unibook.domain.event;
+
+/**
+ * 게시글 생성/수정 이벤트
+ * 책/과목 연결 등 게시글 내용이 바뀌었을 수 있음을 알림
+ *
+ * @param postId  게시글 ID
+ * @param created 신규 생성 여부
+ */
+public record PostSavedEvent(Long postId, boolean created) {
+}
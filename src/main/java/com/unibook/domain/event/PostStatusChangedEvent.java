@@ -0,0 +1,19 @@
+package com.unibook.domain.event;
+
+import com.unibook.domain.entity.Post;
+
+/**
+ * 게시글 상태 변경 이벤트
+ *
+ * @param postId    게시글 ID
+ * @param oldStatus 이전 상태
+ * @param newStatus 변경된 상태 (삭제 시 null)
+ */
+public record PostStatusChangedEvent(Long postId,
+                                     Post.PostStatus oldStatus,
+                                     Post.PostStatus newStatus) {
+
+    public static PostStatusChangedEvent deleted(Long postId, Post.PostStatus oldStatus) {
+        return new PostStatusChangedEvent(postId, oldStatus, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.unibook.domain.event;
+
+import com.unibook.domain.enums.InteractionWeight;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 상호작용 이벤트 (클릭, 찜, 조회)
+ * 추천 캐시 무효화 등 부가 처리를 쓰기 경로와 분리하기 위해 발행
+ *
+ * @param userId     사용자 ID (비로그인 시 null)
+ * @param postId     대상 게시글 ID
+ * @param type       상호작용 종류
+ * @param added      추가 여부 (찜 해제 시 false, 그 외 true)
+ * @param occurredAt 발생 시각
+ */
+public record UserInteractionEvent(Long userId,
+                                   Long postId,
+                                   InteractionWeight type,
+                                   boolean added,
+                                   LocalDateTime occurredAt) {
+
+    public static UserInteractionEvent of(Long userId, Long postId, InteractionWeight type) {
+        return new UserInteractionEvent(userId, postId, type, true, LocalDateTime.now());
+    }
+
+    public static UserInteractionEvent removed(Long userId, Long postId, InteractionWeight type) {
+        return new UserInteractionEvent(userId, postId, type, false, LocalDateTime.now());
+    }
+}
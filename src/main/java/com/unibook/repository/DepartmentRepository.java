@@ -2,8 +2,11 @@ package com.unibook.repository;
 
 import com.unibook.domain.entity.Department;
 import com.unibook.domain.entity.School;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.cache.annotation.Cacheable;
 
@@ -12,6 +15,7 @@ import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByDepartmentNameAndSchool_SchoolId(String departmentName, Long schoolId);
     
     /**
@@ -49,12 +53,16 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     @Cacheable(value = "departments", key = "'dept_' + #id")
     Optional<Department> findById(Long id);
     
+    // 이하 학과명 조회는 Hibernate 쿼리 캐시 사용 (departments 테이블이 바뀌면 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findBySchoolAndDepartmentName(School school, String departmentName);
     
     // 교양학부 존재 확인용 (ID 기반으로 프록시 로딩 없이 체크)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsBySchool_SchoolIdAndDepartmentName(Long schoolId, String departmentName);
     
     // 학교 ID와 학과명으로 학과 조회 (교양학부 조회 등에 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findBySchool_SchoolIdAndDepartmentName(Long schoolId, String departmentName);
 
     // 학교별 학과 수 조회 (벤치마크용)
@@ -9,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -126,14 +125,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
            "WHERE n.recipient.userId = :userId AND n.isRead = false")
     int markAllAsReadByUserId(@Param("userId") Long userId);
 
-    /**
-     * 1년 이상된 알림 삭제 (스케줄러용)
-     * clearAutomatically = true로 영속성 컨텍스트 동기화
-     */
-    @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :cutoffDate")
-    int deleteOldNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
-
     /**
      * 특정 게시글 관련 알림 삭제 (게시글 삭제 시)
      * clearAutomatically = true로 영속성 컨텍스트 동기화
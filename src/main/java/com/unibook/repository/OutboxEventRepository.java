@@ -0,0 +1,56 @@
+package com.unibook.repository;
+
+import com.unibook.domain.entity.OutboxEvent;
+import com.unibook.repository.projection.OutboxDueProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    long countByStatus(OutboxEvent.Status status);
+
+    // 처리 대상 조회 (등록 순, ID와 종류만)
+    @Query("SELECT e.outboxEventId AS outboxEventId, e.eventType AS eventType FROM OutboxEvent e " +
+           "WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+           "ORDER BY e.outboxEventId")
+    List<OutboxDueProjection> findDue(@Param("status") OutboxEvent.Status status,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    // 처리 전 잠금 - 다른 워커/인스턴스가 잡고 있으면 기다리지 않고 건너뜀
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE outbox_event_id = :id AND status = 'PENDING' " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<OutboxEvent> findPendingForUpdate(@Param("id") Long id);
+
+    // 묶음 처리용 일괄 잠금 (잡을 수 있는 행만 반환)
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE outbox_event_id IN (:ids) AND status = 'PENDING' " +
+                   "ORDER BY outbox_event_id " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> findAllPendingForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 보관 기간이 지난 처리 완료 이벤트 정리 (한 번에 limit건, 2차 캐시는 outbox_events만 무효화)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM outbox_events WHERE status = 'DONE' AND processed_at < :cutoff LIMIT :limit",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_events"))
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
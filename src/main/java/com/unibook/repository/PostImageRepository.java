@@ -0,0 +1,35 @@
+package com.unibook.repository;
+
+import com.unibook.domain.entity.PostImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+
+    // 파생 이미지가 아직 없는 게시글 이미지
+    @Query("SELECT pi FROM PostImage pi WHERE pi.post.postId = :postId AND pi.thumbnailUrl IS NULL")
+    List<PostImage> findWithoutDerivativesByPostId(@Param("postId") Long postId);
+
+    // 파생 이미지가 없는 이미지 (기존 이미지 백필용, ID 순 커서)
+    @Query("SELECT pi FROM PostImage pi WHERE pi.thumbnailUrl IS NULL AND pi.postImageId > :afterId " +
+           "ORDER BY pi.postImageId")
+    List<PostImage> findWithoutDerivativesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 파생 이미지 경로 기록 (이미지가 그사이 삭제됐으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE PostImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.cardUrl = :cardUrl, pi.detailUrl = :detailUrl " +
+           "WHERE pi.postImageId = :postImageId")
+    int updateDerivatives(@Param("postImageId") Long postImageId,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("cardUrl") String cardUrl,
+                          @Param("detailUrl") String detailUrl);
+}
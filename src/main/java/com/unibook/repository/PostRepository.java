@@ -1,19 +1,28 @@
 package com.unibook.repository;
 
 import com.unibook.domain.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import com.unibook.repository.projection.PostCardProjection;
+import com.unibook.repository.projection.PostFeatureProjection;
+import com.unibook.repository.projection.PostPoolProjection;
 import com.unibook.repository.projection.PostSearchProjection;
+import com.unibook.repository.projection.PricePointProjection;
+import com.unibook.repository.projection.SimilarityFeatureProjection;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -48,6 +57,31 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                               "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
                               "AND (:maxPrice IS NULL OR p.price <= :maxPrice)";
     
+    // ===== 카드 프로젝션 상수 (목록 화면용) =====
+    String CARD_COLUMNS = "p.postId AS postId, p.title AS title, p.price AS price, " +
+                         "p.productType AS productType, p.status AS status, " +
+                         "p.viewCount AS viewCount, p.wishlistCount AS wishlistCount, p.createdAt AS createdAt, " +
+                         "u.userId AS userId, u.name AS userName, sch.schoolId AS schoolId, sch.schoolName AS schoolName, " +
+                         "s.subjectId AS subjectId, s.subjectName AS subjectName, " +
+                         "pr.professorId AS professorId, pr.professorName AS professorName, " +
+                         "b.title AS bookTitle, b.author AS bookAuthor, " +
+                         "img.postImageId AS imageId, img.imageUrl AS imagePath, " +
+                         "COALESCE(img.thumbnailUrl, img.imageUrl) AS thumbnailPath, " +
+                         "COALESCE(img.cardUrl, img.imageUrl) AS cardPath, img.imageOrder AS imageOrder ";
+    
+    String CARD_JOINS = "LEFT JOIN p.user u " +
+                       "LEFT JOIN u.department d " +
+                       "LEFT JOIN d.school sch " +
+                       "LEFT JOIN p.book b " +
+                       "LEFT JOIN p.subject s " +
+                       "LEFT JOIN s.professor pr " +
+                       "LEFT JOIN pr.department dept ";
+    
+    // 대표 이미지 1장 (가장 앞 순서, 같은 순서면 먼저 등록된 것) - idx_post_image_post_order 사용
+    String CARD_MAIN_IMAGE_JOIN = "LEFT JOIN PostImage img ON img.post = p AND img.postImageId = (" +
+                                 "SELECT MIN(i2.postImageId) FROM PostImage i2 WHERE i2.post = p AND i2.imageOrder = (" +
+                                 "SELECT MIN(i3.imageOrder) FROM PostImage i3 WHERE i3.post = p)) ";
+    
     // ===== Native Query 전용 상수 (Full-text 검색용) =====
     String NATIVE_FROM_CLAUSE = "FROM posts p " +
                                "LEFT JOIN post_descriptions pd ON p.post_id = pd.post_id " +
@@ -378,20 +412,206 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                            @Param("maxPrice") Integer maxPrice,
                                            Pageable pageable);
     
+    // ===== 카드 프로젝션 조회 (목록 화면용, 엔티티 미생성) =====
+    
+    /**
+     * 통합 필터링 카드 조회 - {@link #findPostsWithOptionalFilters} 와 같은 조건
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS +
+                   "FROM Post p " +
+                   CARD_JOINS +
+                   CARD_MAIN_IMAGE_JOIN +
+                   "WHERE 1=1 " +
+                   "AND (:subjectId IS NULL OR s.subjectId = :subjectId) " +
+                   "AND (:professorId IS NULL OR pr.professorId = :professorId) " +
+                   "AND (:departmentId IS NULL OR dept.departmentId = :departmentId) " +
+                   "AND (:bookTitle IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :bookTitle, '%'))) " +
+                   "AND (:bookId IS NULL OR b.bookId = :bookId) " +
+                   "AND p.status != 'BLOCKED' " +
+                   "AND (:status IS NULL OR p.status = :status) " +
+                   "AND (:productType IS NULL OR p.productType = :productType) " +
+                   "AND (:schoolId IS NULL OR d.school.schoolId = :schoolId) " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice)",
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "LEFT JOIN p.user u " +
+                        "LEFT JOIN u.department d " +
+                        "LEFT JOIN p.subject s " +
+                        "LEFT JOIN s.professor pr " +
+                        "LEFT JOIN pr.department dept " +
+                        "LEFT JOIN p.book b " +
+                        "WHERE 1=1 " +
+                        "AND (:subjectId IS NULL OR p.subject.subjectId = :subjectId) " +
+                        "AND (:professorId IS NULL OR pr.professorId = :professorId) " +
+                        "AND (:departmentId IS NULL OR dept.departmentId = :departmentId) " +
+                        "AND (:bookTitle IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :bookTitle, '%'))) " +
+                        "AND (:bookId IS NULL OR b.bookId = :bookId) " +
+                        "AND p.status != 'BLOCKED' " +
+                        "AND (:status IS NULL OR p.status = :status) " +
+                        "AND (:productType IS NULL OR p.productType = :productType) " +
+                        "AND (:schoolId IS NULL OR d.school.schoolId = :schoolId) " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<PostCardProjection> findPostCardsWithOptionalFilters(@Param("subjectId") Long subjectId,
+                                                             @Param("professorId") Long professorId,
+                                                             @Param("departmentId") Long departmentId,
+                                                             @Param("bookTitle") String bookTitle,
+                                                             @Param("bookId") Long bookId,
+                                                             @Param("status") Post.PostStatus status,
+                                                             @Param("productType") Post.ProductType productType,
+                                                             @Param("schoolId") Long schoolId,
+                                                             @Param("minPrice") Integer minPrice,
+                                                             @Param("maxPrice") Integer maxPrice,
+                                                             Pageable pageable);
+    
+    /**
+     * 게시글 ID 목록으로 카드 조회 (Full-text 검색 결과의 추가 필터 포함)
+     * 순서는 Service 레이어에서 처리
+     */
+    @Query("SELECT " + CARD_COLUMNS +
+           "FROM Post p " +
+           CARD_JOINS +
+           CARD_MAIN_IMAGE_JOIN +
+           "WHERE p.postId IN :ids " +
+           "AND (:subjectId IS NULL OR s.subjectId = :subjectId) " +
+           "AND (:professorId IS NULL OR pr.professorId = :professorId) " +
+           "AND (:departmentId IS NULL OR dept.departmentId = :departmentId) " +
+           "AND (:bookTitle IS NULL OR LOWER(b.title) LIKE LOWER(CONCAT('%', :bookTitle, '%')))")
+    List<PostCardProjection> findPostCardsByIdIn(@Param("ids") List<Long> ids,
+                                                 @Param("subjectId") Long subjectId,
+                                                 @Param("professorId") Long professorId,
+                                                 @Param("departmentId") Long departmentId,
+                                                 @Param("bookTitle") String bookTitle);
+    
+    /**
+     * 게시글 ID 목록으로 카드 조회 (추가 필터 없음)
+     */
+    default List<PostCardProjection> findPostCardsByIdIn(List<Long> ids) {
+        return findPostCardsByIdIn(ids, null, null, null, null);
+    }
+    
+    /**
+     * 사용자가 작성한 게시글 카드 조회 (BLOCKED 포함, 선택적 가격 필터링)
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS +
+                   "FROM Post p " +
+                   CARD_JOINS +
+                   CARD_MAIN_IMAGE_JOIN +
+                   "WHERE p.user.userId = :userId " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice)",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.userId = :userId " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<PostCardProjection> findUserPostCards(@Param("userId") Long userId,
+                                               @Param("minPrice") Integer minPrice,
+                                               @Param("maxPrice") Integer maxPrice,
+                                               Pageable pageable);
+    
+    /**
+     * 사용자가 찜한 게시글 카드 조회 (BLOCKED 제외, 선택적 가격 필터링)
+     * 정렬 기준은 Pageable의 Sort로 지정 (w.createdAt 또는 p.price 등)
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS +
+                   "FROM Wishlist w " +
+                   "JOIN w.post p " +
+                   CARD_JOINS +
+                   CARD_MAIN_IMAGE_JOIN +
+                   "WHERE w.user.userId = :userId AND p.status != 'BLOCKED' " +
+                   "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                   "AND (:maxPrice IS NULL OR p.price <= :maxPrice)",
+           countQuery = "SELECT COUNT(w) FROM Wishlist w JOIN w.post p WHERE w.user.userId = :userId AND p.status != 'BLOCKED' " +
+                        "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+                        "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<PostCardProjection> findWishlistedPostCards(@Param("userId") Long userId,
+                                                     @Param("minPrice") Integer minPrice,
+                                                     @Param("maxPrice") Integer maxPrice,
+                                                     Pageable pageable);
+    
+    /**
+     * 최근 게시글 카드 조회 (메인 페이지, BLOCKED 제외)
+     */
+    @Query("SELECT " + CARD_COLUMNS +
+           "FROM Post p " +
+           CARD_JOINS +
+           CARD_MAIN_IMAGE_JOIN +
+           "WHERE " + EXCLUDE_BLOCKED +
+           "ORDER BY p.createdAt DESC")
+    List<PostCardProjection> findRecentPostCards(Pageable pageable);
+    
     // ==============================================
     
     /**
      * Native Query로 직접 Post 삭제 (외래키 제약 회피)
+     * 동기화 테이블을 posts로 지정 (미지정 시 Hibernate가 2차 캐시 전체를 무효화)
      */
     @Modifying
     @Query(value = "DELETE FROM posts WHERE post_id = :postId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
     void deleteByIdNative(@Param("postId") Long postId);
     
+    /**
+     * 조회수 1 증가 (엔티티 조회 없이 원자적으로 갱신)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
+    int incrementViewCount(@Param("postId") Long postId);
+    
     // 관리자용 검색 메서드들
     Page<Post> findByTitleContainingOrDescriptionContaining(String title, String description, Pageable pageable);
     Page<Post> findByTitleContainingOrDescriptionContainingAndStatus(String title, String description, Post.PostStatus status, Pageable pageable);
     Page<Post> findByStatus(Post.PostStatus status, Pageable pageable);
     Page<Post> findByStatusAndCreatedAtAfter(Post.PostStatus status, LocalDateTime createdAt, Pageable pageable);
+
+    /**
+     * 추천 인기/신선 풀용 경량 조회 (ID + 판매자 ID만, idx_post_status_created 사용)
+     * 정렬 기준은 Pageable의 Sort로 지정 (viewCount 또는 createdAt)
+     */
+    @Query("SELECT p.postId AS postId, p.user.userId AS sellerId FROM Post p " +
+           "WHERE p.status = :status AND p.createdAt > :createdAt")
+    List<PostPoolProjection> findPoolEntries(@Param("status") Post.PostStatus status,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             Pageable pageable);
+
+    /**
+     * 유사도 계산용 게시글 특성 조회 (책/과목/학과 ID)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId FROM Post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "WHERE p.postId = :postId")
+    Optional<PostFeatureProjection> findFeaturesByPostId(@Param("postId") Long postId);
+
+    /**
+     * 비슷한 게시글 인덱스 구축용 특성 조회 (상태별 전체)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId, p.user.userId AS sellerId, p.createdAt AS createdAt, " +
+           "p.status AS status, p.title AS title, pd.description AS description FROM Post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "LEFT JOIN p.postDescription pd " +
+           "WHERE p.status = :status")
+    List<SimilarityFeatureProjection> findSimilarityFeaturesByStatus(@Param("status") Post.PostStatus status);
+
+    /**
+     * 비슷한 게시글 인덱스 갱신용 특성 조회 (단건)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId, p.user.userId AS sellerId, p.createdAt AS createdAt, " +
+           "p.status AS status, p.title AS title, pd.description AS description FROM Post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "LEFT JOIN p.postDescription pd " +
+           "WHERE p.postId = :postId")
+    Optional<SimilarityFeatureProjection> findSimilarityFeaturesByPostId(@Param("postId") Long postId);
     long countByStatus(Post.PostStatus status);
     
     /**
@@ -478,15 +698,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<String> findSchoolNameById(@Param("schoolId") Long schoolId);
     
     /**
-     * 동일한 책의 모든 게시글 조회 (시세 그래프용)
+     * 동일한 책의 가격 정보 조회 (시세 통계 적재용, 엔티티 로딩 없음)
      * BLOCKED 상태 제외, 시간순 정렬
      */
-    @Query("SELECT p FROM Post p " +
-           JOIN_USER_DETAILS +
+    @Query("SELECT p.postId AS postId, p.book.bookId AS bookId, p.price AS price, " +
+           "p.status AS status, p.createdAt AS createdAt FROM Post p " +
            "WHERE p.book.bookId = :bookId " +
            "AND " + EXCLUDE_BLOCKED +
            "ORDER BY p.createdAt ASC")
-    List<Post> findByBookIdForPriceTrend(@Param("bookId") Long bookId);
+    List<PricePointProjection> findPricePointsByBookId(@Param("bookId") Long bookId);
+    
+    /**
+     * 게시글 1건의 가격 정보 조회 (시세 통계 증분 반영용)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, p.price AS price, " +
+           "p.status AS status, p.createdAt AS createdAt FROM Post p " +
+           "LEFT JOIN p.book b " +
+           "WHERE p.postId = :postId")
+    Optional<PricePointProjection> findPricePointByPostId(@Param("postId") Long postId);
     
     /**
      * 게시글 소유자 확인 (WishlistService 최적화용)
@@ -500,6 +729,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END " +
            "FROM Post p WHERE p.postId = :postId AND p.status != 'BLOCKED'")
     boolean existsByPostIdAndNotBlocked(@Param("postId") Long postId);
+
+    /**
+     * 주어진 ID 중 존재하는 게시글 ID (조회 기록 배치 저장 전 FK 확인용)
+     */
+    @Query("SELECT p.postId FROM Post p WHERE p.postId IN :postIds")
+    List<Long> findExistingIds(@Param("postIds") Collection<Long> postIds);
     
     /**
      * 동일한 책의 관련 게시글 조회 (상세 페이지용, Fetch Join으로 N+1 해결)
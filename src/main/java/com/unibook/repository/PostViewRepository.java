@@ -1,6 +1,7 @@
 package com.unibook.repository;
 
 import com.unibook.domain.entity.PostView;
+import com.unibook.repository.projection.InteractionFeatureProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -59,6 +60,7 @@ public interface PostViewRepository extends JpaRepository<PostView, Long> {
     /**
      * Collaborative Filtering을 위한 쿼리:
      * "이 게시글을 본 사용자들이 본 다른 게시글들"
+     * since 이후 조회만 사용 (viewed_at 파티션 프루닝)
      */
     @Query("SELECT pv2.post.postId, COUNT(pv2.post.postId) as viewCount " +
            "FROM PostView pv1 " +
@@ -66,12 +68,17 @@ public interface PostViewRepository extends JpaRepository<PostView, Long> {
            "WHERE pv1.post.postId = :postId " +
            "AND pv2.post.postId != :postId " +
            "AND pv1.user.userId IS NOT NULL " +
+           "AND pv1.viewedAt >= :since " +
+           "AND pv2.viewedAt >= :since " +
            "GROUP BY pv2.post.postId " +
            "ORDER BY viewCount DESC")
-    List<Object[]> findCollaborativePostsByPostId(@Param("postId") Long postId, Pageable pageable);
+    List<Object[]> findCollaborativePostsByPostId(@Param("postId") Long postId,
+                                                  @Param("since") LocalDateTime since,
+                                                  Pageable pageable);
 
     /**
      * "이 사용자와 비슷한 취향을 가진 사용자들이 본 게시글들"
+     * since 이후 조회만 사용 (viewed_at 파티션 프루닝)
      */
     @Query("SELECT pv2.post.postId, COUNT(pv2.post.postId) as viewCount " +
            "FROM PostView pv1 " +
@@ -79,7 +86,31 @@ public interface PostViewRepository extends JpaRepository<PostView, Long> {
            "WHERE pv1.user.userId = :userId " +
            "AND pv2.user.userId != :userId " +
            "AND pv2.user.userId IS NOT NULL " +
+           "AND pv1.viewedAt >= :since " +
+           "AND pv2.viewedAt >= :since " +
            "GROUP BY pv2.post.postId " +
            "ORDER BY viewCount DESC")
-    List<Object[]> findCollaborativePostsByUserId(@Param("userId") Long userId, Pageable pageable);
+    List<Object[]> findCollaborativePostsByUserId(@Param("userId") Long userId,
+                                                  @Param("since") LocalDateTime since,
+                                                  Pageable pageable);
+
+    /**
+     * 사용자 최근 조회 게시글 + 특성 (게시글별 마지막 조회 시각 기준)
+     * 사용자 프로필 초기 로드용 (since 이후 조회만, viewed_at 파티션 프루닝)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId, MAX(pv.viewedAt) AS occurredAt " +
+           "FROM PostView pv " +
+           "JOIN pv.post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "WHERE pv.user.userId = :userId " +
+           "AND pv.viewedAt >= :since " +
+           "GROUP BY p.postId, b.bookId, s.subjectId, d.departmentId " +
+           "ORDER BY MAX(pv.viewedAt) DESC")
+    List<InteractionFeatureProjection> findRecentViewFeaturesByUserId(@Param("userId") Long userId,
+                                                                      @Param("since") LocalDateTime since,
+                                                                      Pageable pageable);
 }
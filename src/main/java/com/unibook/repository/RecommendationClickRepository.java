@@ -2,6 +2,7 @@ package com.unibook.repository;
 
 import com.unibook.domain.entity.RecommendationClick;
 import com.unibook.domain.entity.RecommendationClick.RecommendationType;
+import com.unibook.repository.projection.InteractionFeatureProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -92,6 +93,25 @@ public interface RecommendationClickRepository extends JpaRepository<Recommendat
            "ORDER BY rc.clickedAt DESC")
     List<Object[]> findRecentClicksWithTimestampByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 사용자 최근 클릭 게시글 + 특성
+     * 사용자 프로필 초기 로드용 (since 이후 클릭만, clicked_at 파티션 프루닝)
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId, rc.clickedAt AS occurredAt " +
+           "FROM RecommendationClick rc " +
+           "JOIN rc.post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "WHERE rc.user.userId = :userId " +
+           "AND rc.clickedAt >= :since " +
+           "ORDER BY rc.clickedAt DESC")
+    List<InteractionFeatureProjection> findRecentClickFeaturesByUserId(@Param("userId") Long userId,
+                                                                       @Param("since") LocalDateTime since,
+                                                                       Pageable pageable);
+
     /**
      * 슬롯/소스 라벨별 클릭 수 통계 (기간 필터)
      */
@@ -100,4 +120,20 @@ public interface RecommendationClickRepository extends JpaRepository<Recommendat
            "GROUP BY rc.sourceLabel")
     List<Object[]> countClicksBySourceLabel(@Param("start") LocalDateTime start,
                                              @Param("end") LocalDateTime end);
+
+    /**
+     * 일 × 타입 × 소스 라벨 × 위치별 클릭 수 (start 포함, end 제외)
+     * 롤업에 아직 반영되지 않은 구간 조회용
+     */
+    @Query("SELECT DATE(rc.clickedAt), rc.type, rc.sourceLabel, rc.position, COUNT(rc) FROM RecommendationClick rc " +
+           "WHERE rc.clickedAt >= :start AND rc.clickedAt < :end " +
+           "GROUP BY DATE(rc.clickedAt), rc.type, rc.sourceLabel, rc.position")
+    List<Object[]> countClicksForRollup(@Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    /**
+     * 가장 오래된 클릭 시각 (롤업 워터마크 초기화용, 없으면 null)
+     */
+    @Query("SELECT MIN(rc.clickedAt) FROM RecommendationClick rc")
+    LocalDateTime findEarliestClickedAt();
 }
@@ -96,4 +96,20 @@ public interface RecommendationImpressionRepository extends JpaRepository<Recomm
          "GROUP BY ri.sourceLabel")
   List<Object[]> sumImpressionsBySourceLabel(@Param("start") LocalDateTime start,
                                              @Param("end") LocalDateTime end);
+
+  /**
+   * 타입 × 소스 라벨별 노출 수 (start 포함, end 제외)
+   * 롤업에 아직 반영되지 않은 구간 조회용
+   */
+  @Query("SELECT ri.type, ri.sourceLabel, COALESCE(SUM(ri.count), 0) FROM RecommendationImpression ri " +
+         "WHERE ri.impressedAt >= :start AND ri.impressedAt < :end " +
+         "GROUP BY ri.type, ri.sourceLabel")
+  List<Object[]> sumImpressionsForRollup(@Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
+
+  /**
+   * 가장 오래된 노출 시각 (롤업 워터마크 초기화용, 없으면 null)
+   */
+  @Query("SELECT MIN(ri.impressedAt) FROM RecommendationImpression ri")
+  LocalDateTime findEarliestImpressedAt();
 }
@@ -0,0 +1,25 @@
+package com.unibook.repository;
+
+import com.unibook.domain.entity.RecommendationMetricRollup;
+import com.unibook.domain.entity.RecommendationMetricRollup.Granularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RecommendationMetricRollupRepository extends JpaRepository<RecommendationMetricRollup, Long> {
+
+  /**
+   * 구간 내 롤업 버킷 조회 (from 포함, to 제외)
+   */
+  @Query("SELECT r FROM RecommendationMetricRollup r " +
+         "WHERE r.granularity = :granularity " +
+         "AND r.bucketStart >= :from AND r.bucketStart < :to")
+  List<RecommendationMetricRollup> findBuckets(@Param("granularity") Granularity granularity,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+}
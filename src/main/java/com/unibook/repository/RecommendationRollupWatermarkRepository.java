@@ -0,0 +1,22 @@
+package com.unibook.repository;
+
+import com.unibook.domain.entity.RecommendationRollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecommendationRollupWatermarkRepository extends JpaRepository<RecommendationRollupWatermark, String> {
+
+  /**
+   * 워터마크 조회 + 행 잠금 (여러 인스턴스가 동시에 컴팩션하지 않도록)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT w FROM RecommendationRollupWatermark w WHERE w.name = :name")
+  Optional<RecommendationRollupWatermark> findByNameForUpdate(@Param("name") String name);
+}
@@ -2,17 +2,24 @@ package com.unibook.repository;
 
 import com.unibook.domain.entity.Subject;
 import com.unibook.domain.dto.SubjectDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
     
+    // 교수/학과/ID 기준 조회는 Hibernate 쿼리 캐시 사용 (subjects/professors/departments 변경 시 자동 무효화)
+    // 검색어 기반 조회는 키 종류가 많아 캐시하지 않음
+    
     // 교수의 과목 조회 - 페이징 지원
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT new com.unibook.domain.dto.SubjectDto(" +
            "s.subjectId, s.subjectName, s.type, " +
            "s.professor.professorId, s.professor.professorName, " +
@@ -23,6 +30,7 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
     Page<SubjectDto> findSubjectsByProfessor(@Param("professorId") Long professorId, Pageable pageable);
     
     // 중복 체크 - 과목명+교수ID로 체크 (서비스에서 정규화 처리)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsBySubjectNameAndProfessor_ProfessorId(
         String subjectName, Long professorId);
     
@@ -44,6 +52,7 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
                                        Pageable pageable);
     
     // 학과별 과목 조회 - 교양/전공 구분 포함, 페이징 지원
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT new com.unibook.domain.dto.SubjectDto(" +
            "s.subjectId, s.subjectName, s.type, " +
            "s.professor.professorId, s.professor.professorName, " +
@@ -57,6 +66,7 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
                                                      Pageable pageable);
     
     // SubjectDto 단건 조회 (API에서 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT new com.unibook.domain.dto.SubjectDto(" +
            "s.subjectId, s.subjectName, s.type, " +
            "s.professor.professorId, s.professor.professorName, " +
@@ -66,6 +76,7 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
     java.util.Optional<SubjectDto> findSubjectDtoById(@Param("subjectId") Long subjectId);
     
     // 과목명과 교수ID로 Subject Entity 조회 - Spring Data 네이밍 규칙 준수
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     java.util.Optional<Subject> findBySubjectNameAndProfessor_ProfessorId(
         String subjectName, Long professorId);
     
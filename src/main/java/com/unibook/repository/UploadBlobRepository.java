@@ -0,0 +1,43 @@
+package com.unibook.repository;
+
+import com.unibook.domain.entity.UploadBlob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface UploadBlobRepository extends JpaRepository<UploadBlob, String> {
+
+    // 참조 획득 (없으면 refCount 1로 생성, 있으면 +1) - 행 잠금은 트랜잭션 종료까지 유지되어 정리 작업과 직렬화됨
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO upload_blobs (path, content_hash, size_bytes, ref_count, created_at) " +
+                   "VALUES (:path, :contentHash, :sizeBytes, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "upload_blobs"))
+    int acquire(@Param("path") String path,
+                @Param("contentHash") String contentHash,
+                @Param("sizeBytes") long sizeBytes);
+
+    // 참조 해제 (blob이 아니거나 이미 0이면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE UploadBlob b SET b.refCount = b.refCount - 1 WHERE b.path = :path AND b.refCount > 0")
+    int release(@Param("path") String path);
+
+    // 정리 전 잠금 조회 (동시 업로드의 참조 획득과 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM UploadBlob b WHERE b.path = :path")
+    Optional<UploadBlob> findByPathForUpdate(@Param("path") String path);
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,4 +31,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Page<User> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
             String name, String email, Pageable pageable);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID (배치 저장 전 FK 확인용)
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
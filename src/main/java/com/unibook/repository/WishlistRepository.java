@@ -1,6 +1,7 @@
 package com.unibook.repository;
 
 import com.unibook.domain.entity.Wishlist;
+import com.unibook.repository.projection.InteractionFeatureProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,6 +25,11 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
      */
     boolean existsByUserUserIdAndPostPostId(Long userId, Long postId);
     
+    /**
+     * 특정 사용자의 찜 개수
+     */
+    long countByUserUserId(Long userId);
+    
     /**
      * 특정 사용자의 모든 Wishlist 찾기 (페이징)
      */
@@ -55,4 +61,20 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
      */
     @Query("SELECT w.post.postId FROM Wishlist w WHERE w.user.userId = :userId")
     List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자 최근 찜 게시글 + 특성 (찜한 시각 포함)
+     * 사용자 프로필 초기 로드용
+     */
+    @Query("SELECT p.postId AS postId, b.bookId AS bookId, s.subjectId AS subjectId, " +
+           "d.departmentId AS departmentId, w.createdAt AS occurredAt " +
+           "FROM Wishlist w " +
+           "JOIN w.post p " +
+           "LEFT JOIN p.book b " +
+           "LEFT JOIN p.subject s " +
+           "LEFT JOIN s.professor prof " +
+           "LEFT JOIN prof.department d " +
+           "WHERE w.user.userId = :userId " +
+           "ORDER BY w.createdAt DESC")
+    List<InteractionFeatureProjection> findRecentWishlistFeaturesByUserId(@Param("userId") Long userId, Pageable pageable);
 }
\ No newline at end of file
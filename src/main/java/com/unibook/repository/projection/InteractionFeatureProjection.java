@@ -0,0 +1,14 @@
+package com.unibook.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 상호작용 + 대상 게시글 특성 프로젝션
+ * 사용자 프로필 초기 로드용
+ */
+public interface InteractionFeatureProjection extends PostFeatureProjection {
+    /**
+     * 상호작용 발생 시각 (클릭/찜 시각, 조회는 마지막 조회 시각)
+     */
+    LocalDateTime getOccurredAt();
+}
@@ -0,0 +1,19 @@
+package com.unibook.repository.projection;
+
+import com.unibook.domain.entity.OutboxEvent;
+
+/**
+ * 아웃박스 처리 대상 프로젝션
+ * 릴레이가 이벤트 종류별로 묶어 분배할 수 있도록 ID와 종류만 조회
+ */
+public interface OutboxDueProjection {
+    /**
+     * 아웃박스 이벤트 ID
+     */
+    Long getOutboxEventId();
+
+    /**
+     * 이벤트 종류
+     */
+    OutboxEvent.EventType getEventType();
+}
@@ -0,0 +1,69 @@
+package com.unibook.repository.projection;
+
+import com.unibook.domain.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 카드(목록) 프로젝션
+ * 엔티티 그래프 없이 카드에 표시할 컬럼과 대표 이미지 경로만 조회 (영속성 컨텍스트에 올라가지 않음)
+ */
+public interface PostCardProjection {
+    Long getPostId();
+
+    String getTitle();
+
+    Integer getPrice();
+
+    Post.ProductType getProductType();
+
+    Post.PostStatus getStatus();
+
+    Integer getViewCount();
+
+    Integer getWishlistCount();
+
+    LocalDateTime getCreatedAt();
+
+    /**
+     * 작성자
+     */
+    Long getUserId();
+
+    String getUserName();
+
+    Long getSchoolId();
+
+    String getSchoolName();
+
+    /**
+     * 과목/교수 (없으면 null)
+     */
+    Long getSubjectId();
+
+    String getSubjectName();
+
+    Long getProfessorId();
+
+    String getProfessorName();
+
+    /**
+     * 책 (없으면 null)
+     */
+    String getBookTitle();
+
+    String getBookAuthor();
+
+    /**
+     * 대표 이미지 (가장 앞 순서, 이미지가 없으면 모두 null)
+     */
+    Long getImageId();
+
+    String getImagePath();
+
+    String getThumbnailPath();
+
+    String getCardPath();
+
+    Integer getImageOrder();
+}
@@ -0,0 +1,27 @@
+package com.unibook.repository.projection;
+
+/**
+ * 게시글 유사도 계산용 특성 프로젝션
+ * 책/과목/학과 ID만 조회 (엔티티 그래프 로딩 없음)
+ */
+public interface PostFeatureProjection {
+    /**
+     * 게시글 ID
+     */
+    Long getPostId();
+
+    /**
+     * 책 ID (ISBN 고유)
+     */
+    Long getBookId();
+
+    /**
+     * 과목 ID
+     */
+    Long getSubjectId();
+
+    /**
+     * 과목 담당 교수의 학과 ID
+     */
+    Long getDepartmentId();
+}
@@ -0,0 +1,17 @@
+package com.unibook.repository.projection;
+
+/**
+ * 추천 후보 풀 프로젝션
+ * 엔티티 그래프 없이 풀 구성에 필요한 값만 조회
+ */
+public interface PostPoolProjection {
+    /**
+     * 게시글 ID
+     */
+    Long getPostId();
+
+    /**
+     * 판매자(작성자) ID - 본인 게시글 제외용
+     */
+    Long getSellerId();
+}
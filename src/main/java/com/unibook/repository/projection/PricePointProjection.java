@@ -0,0 +1,36 @@
+package com.unibook.repository.projection;
+
+import com.unibook.domain.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책 시세 통계용 가격 프로젝션
+ * 엔티티 그래프 없이 가격/상태/등록일만 조회
+ */
+public interface PricePointProjection {
+    /**
+     * 게시글 ID
+     */
+    Long getPostId();
+
+    /**
+     * 책 ID (교재가 아니면 null)
+     */
+    Long getBookId();
+
+    /**
+     * 가격
+     */
+    Integer getPrice();
+
+    /**
+     * 게시글 상태
+     */
+    Post.PostStatus getStatus();
+
+    /**
+     * 등록 시각 (시계열 버킷 기준)
+     */
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,36 @@
+package com.unibook.repository.projection;
+
+import com.unibook.domain.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비슷한 게시글 인덱스용 프로젝션
+ * 유사도 특성 + 판매자/등록일/상태 + 텍스트(제목/설명)
+ */
+public interface SimilarityFeatureProjection extends PostFeatureProjection {
+    /**
+     * 판매자(작성자) ID
+     */
+    Long getSellerId();
+
+    /**
+     * 등록일 (최신성 점수용)
+     */
+    LocalDateTime getCreatedAt();
+
+    /**
+     * 게시글 상태
+     */
+    Post.PostStatus getStatus();
+
+    /**
+     * 제목 (텍스트 유사도용)
+     */
+    String getTitle();
+
+    /**
+     * 설명 (텍스트 유사도용, 없으면 null)
+     */
+    String getDescription();
+}
@@ -0,0 +1,399 @@
+package com.unibook.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.unibook.domain.dto.PriceTrendDto;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.event.PostSavedEvent;
+import com.unibook.domain.event.PostStatusChangedEvent;
+import com.unibook.repository.BookRepository;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.projection.PricePointProjection;
+import com.unibook.util.KllSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 책별 가격 통계 저장소
+ * - 판매중/예약중: 게시글별 가격을 그대로 보관 (가격 수정/상태 변경으로 빠질 수 있으므로 정확한 값 유지)
+ * - 거래완료: 건수/최소/최대/합계 + KLL 분위수 스케치 + 주 단위 버킷 (추가만 발생하는 이력)
+ * - 첫 조회 시 가격 프로젝션으로 1회 적재, 이후 게시글 저장/상태 변경 이벤트로 증분 갱신
+ * - 거래완료 이후 다시 바뀐 게시글처럼 스케치에서 뺄 수 없는 변경은 해당 책만 다시 적재
+ * - 게시글 -> 적재된 책 통계 매핑을 유지해 게시글 이벤트마다 적재된 책 전체를 훑지 않음
+ *   (통계 인스턴스 기준이라 캐시에서 빠진 뒤 늦게 정리돼도 새로 적재된 매핑을 지우지 않음)
+ * - 증분 갱신은 캐시 맵의 computeIfPresent로 실행 - 같은 책을 적재 중이면 적재가 끝날 때까지 기다렸다가
+ *   적재 결과에 반영하므로 적재 스냅샷 이후의 커밋이 빠지지 않음
+ * - 이벤트를 놓쳐도 오래 남지 않도록 적재 후 일정 시간(expire-after-write)이 지나면 다시 적재 (증분 갱신으로 연장되지 않음)
+ * 시세 그래프와 가격 제안이 요청마다 게시글 엔티티를 읽지 않도록 하기 위해 사용
+ */
+@Service
+@Slf4j
+public class BookPriceStatsService {
+
+    private final PostRepository postRepository;
+    private final BookRepository bookRepository;
+    private final int sketchK;
+    private final LoadingCache<Long, BookPriceStats> books;
+    // 게시글 ID -> 그 게시글이 반영된 책 통계
+    private final Map<Long, BookPriceStats> loadedPosts = new ConcurrentHashMap<>();
+    // 최근 적재를 시작한 책 (삭제 이벤트가 진행 중이던 적재 스냅샷에 남지 않도록)
+    private final Cache<Long, Boolean> recentLoads = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public BookPriceStatsService(PostRepository postRepository,
+                                 BookRepository bookRepository,
+                                 @Value("${app.price-stats.max-books:2000}") int maxBooks,
+                                 @Value("${app.price-stats.expire-after-write-minutes:60}") int expireAfterWriteMinutes,
+                                 @Value("${app.price-stats.sketch-k:200}") int sketchK) {
+        this.postRepository = postRepository;
+        this.bookRepository = bookRepository;
+        this.sketchK = sketchK;
+        long expireNanos = Duration.ofMinutes(expireAfterWriteMinutes).toNanos();
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maxBooks)
+                // 적재 시점 기준 만료 (증분 갱신은 같은 인스턴스를 다시 넣는 것이므로 만료를 미루지 않음)
+                .expireAfter(new Expiry<Long, BookPriceStats>() {
+                    @Override
+                    public long expireAfterCreate(Long bookId, BookPriceStats stats, long currentTime) {
+                        return expireNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long bookId, BookPriceStats stats, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long bookId, BookPriceStats stats, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // 용량/만료/무효화로 빠진 통계의 매핑 정리 (같은 인스턴스를 가리키는 매핑만 제거)
+                .<Long, BookPriceStats>removalListener((bookId, stats, cause) -> {
+                    if (stats != null && cause != RemovalCause.REPLACED) {
+                        stats.postIds().forEach(postId -> loadedPosts.remove(postId, stats));
+                    }
+                })
+                .build(this::load);
+    }
+
+    /**
+     * 시세 그래프 데이터 (판매중 게시글별 가격 + 거래완료 주 단위 평균가 + 통계)
+     */
+    public PriceTrendDto.ChartData getChartData(Long bookId) {
+        try {
+            return books.get(bookId).toChartData();
+        } catch (Exception e) {
+            log.error("책 시세 통계 조회 실패: bookId={}", bookId, e);
+            return PriceTrendDto.ChartData.builder()
+                    .availableAndReserved(List.of())
+                    .completed(List.of())
+                    .hasData(false)
+                    .build();
+        }
+    }
+
+    /**
+     * 글쓰기 폼용 가격 제안 (거래완료 25~75% 분위 + 현재 판매중 최저가)
+     */
+    public PriceTrendDto.PriceSuggestion getSuggestion(Long bookId) {
+        try {
+            return books.get(bookId).toSuggestion(bookId);
+        } catch (Exception e) {
+            log.warn("가격 제안 조회 실패: bookId={}", bookId, e);
+            return PriceTrendDto.PriceSuggestion.builder().bookId(bookId).hasData(false).build();
+        }
+    }
+
+    /**
+     * 게시글 생성/수정 반영 (가격이나 책이 바뀌었을 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        apply(event.postId());
+    }
+
+    /**
+     * 게시글 상태 변경/삭제 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostStatusChanged(PostStatusChangedEvent event) {
+        if (event.newStatus() == null) {
+            if (!removeFromLoaded(event.postId(), null)) {
+                // 아직 매핑이 없으면 어느 책인지 알 수 없음 - 최근 적재한 책에서 모두 제거 (적재 중이면 끝난 뒤 제거)
+                Long postId = event.postId();
+                recentLoads.asMap().keySet().forEach(bookId -> books.asMap()
+                        .computeIfPresent(bookId, (id, stats) -> stats.remove(postId) ? stats : null));
+            }
+            return;
+        }
+        apply(event.postId());
+    }
+
+    private void apply(Long postId) {
+        try {
+            Optional<PricePointProjection> point = postRepository.findPricePointByPostId(postId);
+            Long bookId = point.map(PricePointProjection::getBookId).orElse(null);
+
+            // 다른 책 통계에 남아 있으면 제거 (책 변경)
+            removeFromLoaded(postId, bookId);
+
+            if (bookId == null) {
+                return;
+            }
+            // 메모리에 없는 책은 다음 조회 때 적재되므로 건너뜀
+            // 적재 중이면 적재가 끝날 때까지 기다렸다가 반영 (증분 반영할 수 없으면 제거 후 다음 조회 때 재적재)
+            PricePointProjection current = point.get();
+            books.asMap().computeIfPresent(bookId, (id, stats) -> {
+                if (!stats.apply(current)) {
+                    return null;
+                }
+                loadedPosts.put(postId, stats);
+                return stats;
+            });
+        } catch (Exception e) {
+            log.warn("책 시세 통계 갱신 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 적재된 책 통계에서 게시글 제거 (exceptBookId 통계는 그대로 둠)
+     *
+     * @return 게시글이 반영된 통계를 찾았으면 true
+     */
+    private boolean removeFromLoaded(Long postId, Long exceptBookId) {
+        BookPriceStats stats = loadedPosts.get(postId);
+        if (stats == null) {
+            return false;
+        }
+        if (stats.bookId.equals(exceptBookId)) {
+            return true;
+        }
+        loadedPosts.remove(postId, stats);
+        // 이미 캐시에서 빠진 통계면 정리할 것 없음
+        books.asMap().computeIfPresent(stats.bookId,
+                (id, current) -> current != stats || current.remove(postId) ? current : null);
+        return true;
+    }
+
+    private BookPriceStats load(Long bookId) {
+        recentLoads.put(bookId, Boolean.TRUE);
+        BookPriceStats stats = new BookPriceStats(bookId, sketchK, bookRepository.findById(bookId)
+                .map(book -> PriceTrendDto.BookInfo.builder()
+                        .bookId(book.getBookId())
+                        .title(book.getTitle())
+                        .author(book.getAuthor())
+                        .isbn(book.getIsbn())
+                        .build())
+                .orElse(null));
+
+        List<PricePointProjection> points = postRepository.findPricePointsByBookId(bookId);
+        for (PricePointProjection point : points) {
+            stats.apply(point);
+            loadedPosts.put(point.getPostId(), stats);
+        }
+        log.debug("책 시세 통계 적재: bookId={}, posts={}", bookId, points.size());
+        return stats;
+    }
+
+    private static String statusText(Post.PostStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "판매중";
+            case RESERVED -> "예약중";
+            case COMPLETED -> "거래완료";
+            default -> status.name();
+        };
+    }
+
+    /**
+     * 정렬된 값에서 순위 기준 분위수 (KllSketch.quantile과 같은 정의)
+     */
+    private static Integer exactQuantile(int[] sorted, double rank) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        int index = (int) Math.ceil(rank * sorted.length) - 1;
+        return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+    }
+
+    private record ActiveEntry(int price, LocalDateTime createdAt, Post.PostStatus status) {
+    }
+
+    /**
+     * 주 단위 거래완료 버킷
+     */
+    private static final class WeekBucket {
+        private int count;
+        private long sum;
+
+        void add(int price) {
+            count++;
+            sum += price;
+        }
+    }
+
+    /**
+     * 책 1권의 가격 통계 (읽기/갱신은 인스턴스 단위로 직렬화)
+     */
+    private static final class BookPriceStats {
+
+        private final Long bookId;
+        private final PriceTrendDto.BookInfo bookInfo;
+        private final Map<Long, ActiveEntry> active = new HashMap<>();
+        private final Set<Long> completedPostIds = new HashSet<>();
+        private final KllSketch completedSketch;
+        private final TreeMap<LocalDate, WeekBucket> completedWeeks = new TreeMap<>();
+        private long completedSum;
+
+        BookPriceStats(Long bookId, int sketchK, PriceTrendDto.BookInfo bookInfo) {
+            this.bookId = bookId;
+            this.completedSketch = new KllSketch(sketchK);
+            this.bookInfo = bookInfo;
+        }
+
+        /**
+         * 게시글 현재 상태 반영 (증분 반영할 수 없으면 false)
+         */
+        synchronized boolean apply(PricePointProjection point) {
+            Long postId = point.getPostId();
+            if (completedPostIds.contains(postId)) {
+                // 거래완료로 집계된 뒤의 변경(수정/되돌림/차단)은 스케치에서 뺄 수 없음
+                return false;
+            }
+
+            int price = Objects.requireNonNullElse(point.getPrice(), 0);
+            switch (point.getStatus()) {
+                case AVAILABLE, RESERVED -> active.put(postId, new ActiveEntry(price, point.getCreatedAt(), point.getStatus()));
+                case COMPLETED -> {
+                    active.remove(postId);
+                    completedPostIds.add(postId);
+                    completedSketch.update(price);
+                    completedSum += price;
+                    LocalDate week = point.getCreatedAt().toLocalDate()
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                    completedWeeks.computeIfAbsent(week, w -> new WeekBucket()).add(price);
+                }
+                default -> active.remove(postId);
+            }
+            return true;
+        }
+
+        /**
+         * 게시글 제거 (거래완료로 집계된 게시글이면 false)
+         */
+        synchronized boolean remove(Long postId) {
+            if (completedPostIds.contains(postId)) {
+                return false;
+            }
+            active.remove(postId);
+            return true;
+        }
+
+        synchronized Set<Long> postIds() {
+            Set<Long> postIds = new HashSet<>(active.keySet());
+            postIds.addAll(completedPostIds);
+            return postIds;
+        }
+
+        synchronized PriceTrendDto.ChartData toChartData() {
+            List<PriceTrendDto.DataPoint> activePoints = active.entrySet().stream()
+                    .sorted(Comparator.comparing((Map.Entry<Long, ActiveEntry> e) -> e.getValue().createdAt())
+                            .thenComparing(Map.Entry::getKey))
+                    .map(e -> PriceTrendDto.DataPoint.builder()
+                            .date(e.getValue().createdAt().toString())
+                            .price(e.getValue().price())
+                            .status(statusText(e.getValue().status()))
+                            .postId(e.getKey())
+                            .count(1)
+                            .build())
+                    .toList();
+
+            List<PriceTrendDto.DataPoint> completedPoints = new ArrayList<>(completedWeeks.size());
+            completedWeeks.forEach((week, bucket) -> completedPoints.add(PriceTrendDto.DataPoint.builder()
+                    .date(week.atStartOfDay().toString())
+                    .price((int) Math.round((double) bucket.sum / bucket.count))
+                    .status(statusText(Post.PostStatus.COMPLETED) + " " + bucket.count + "건")
+                    .count(bucket.count)
+                    .build()));
+
+            return PriceTrendDto.ChartData.builder()
+                    .availableAndReserved(activePoints)
+                    .completed(completedPoints)
+                    .activeStats(activeStats())
+                    .completedStats(completedStats())
+                    .bookInfo(bookInfo)
+                    .hasData(!active.isEmpty() || !completedSketch.isEmpty())
+                    .build();
+        }
+
+        synchronized PriceTrendDto.PriceSuggestion toSuggestion(Long bookId) {
+            PriceTrendDto.PriceStats activeStats = activeStats();
+            return PriceTrendDto.PriceSuggestion.builder()
+                    .bookId(bookId)
+                    .hasData(!active.isEmpty() || !completedSketch.isEmpty())
+                    .suggestedMin(completedSketch.quantile(0.25))
+                    .suggestedMax(completedSketch.quantile(0.75))
+                    .completedMedian(completedSketch.quantile(0.5))
+                    .completedCount(completedSketch.getCount())
+                    .lowestActivePrice(activeStats.getMin())
+                    .activeCount(activeStats.getCount())
+                    .build();
+        }
+
+        private PriceTrendDto.PriceStats activeStats() {
+            int[] prices = active.values().stream().mapToInt(ActiveEntry::price).sorted().toArray();
+            long sum = 0;
+            for (int price : prices) {
+                sum += price;
+            }
+            return PriceTrendDto.PriceStats.builder()
+                    .count(prices.length)
+                    .min(exactQuantile(prices, 0.0))
+                    .max(prices.length > 0 ? prices[prices.length - 1] : null)
+                    .mean(prices.length > 0 ? (int) Math.round((double) sum / prices.length) : null)
+                    .p25(exactQuantile(prices, 0.25))
+                    .median(exactQuantile(prices, 0.5))
+                    .p75(exactQuantile(prices, 0.75))
+                    .build();
+        }
+
+        private PriceTrendDto.PriceStats completedStats() {
+            long count = completedSketch.getCount();
+            return PriceTrendDto.PriceStats.builder()
+                    .count(count)
+                    .min(completedSketch.quantile(0.0))
+                    .max(completedSketch.quantile(1.0))
+                    .mean(count > 0 ? (int) Math.round((double) completedSum / count) : null)
+                    .p25(completedSketch.quantile(0.25))
+                    .median(completedSketch.quantile(0.5))
+                    .p75(completedSketch.quantile(0.75))
+                    .build();
+        }
+    }
+}
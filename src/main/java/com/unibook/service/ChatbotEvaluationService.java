@@ -6,33 +6,84 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.unibook.domain.dto.ChatbotResponseDto;
 import com.unibook.domain.dto.EvaluationQuestion;
 import com.unibook.domain.dto.EvaluationResult;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * 챗봇 자동 평가 서비스
+ *
+ * - 가상 스레드 기반 병렬 평가 (동시 실행 수 + 초당 요청 수 제한)
+ * - p50/p95/p99 응답 시간 및 구간별 히스토그램 집계
+ * - RETRIEVAL_ONLY 모드: GPT 생성 없이 임베딩 + 벡터 검색만 측정
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChatbotEvaluationService {
 
+  /**
+   * 평가 모드
+   */
+  public enum Mode {
+    /** RAG 전체 파이프라인 (검색 + GPT 생성) */
+    FULL,
+    /** 검색 단계만 (임베딩 + 벡터 검색 + 임계값 필터) */
+    RETRIEVAL_ONLY
+  }
+
+  private static final String CSV_HEADER =
+    "timestamp,faq_count,threshold,total_questions,correct_answers,accuracy,keyword_coverage,mrr,avg_response_ms,description," +
+    "mode,concurrency,p50_response_ms,p95_response_ms,p99_response_ms,wall_clock_ms";
+
+  /** 히스토그램 구간 상한 (ms) */
+  private static final long[] HISTOGRAM_BOUNDS_MS = {100, 250, 500, 1_000, 2_000, 5_000, 10_000, 30_000};
+
   private final ChatbotService chatbotService;
   private final EmbeddingService embeddingService;
   private final ObjectMapper objectMapper = new ObjectMapper();
 
+  @Value("${chatbot.evaluation.mode:FULL}")
+  private Mode defaultMode;
+
+  @Value("${chatbot.evaluation.concurrency:4}")
+  private int concurrency;
+
+  @Value("${chatbot.evaluation.max-requests-per-second:5}")
+  private double maxRequestsPerSecond;
+
+  /**
+   * 개별 질문 평가 결과 + 집계용 반환 FAQ ID
+   */
+  private record QuestionOutcome(EvaluationQuestion question,
+                                 EvaluationResult.QuestionResult result,
+                                 List<String> returnedFaqIds) {
+  }
+
   /**
    * 평가 데이터셋 로드
    */
@@ -55,16 +106,51 @@ public class ChatbotEvaluationService {
   }
 
   /**
-   * 챗봇 평가 실행 (description 포함)
+   * 챗봇 평가 실행 (description 포함, 설정된 기본 모드 사용)
    */
   public EvaluationResult evaluate(String description) throws IOException {
-    log.info("챗봇 평가 시작");
+    return evaluate(description, defaultMode);
+  }
+
+  /**
+   * 챗봇 평가 실행 (description, 모드 지정)
+   */
+  public EvaluationResult evaluate(String description, Mode mode) throws IOException {
+    int parallelism = Math.max(1, concurrency);
+    log.info("챗봇 평가 시작: mode={}, concurrency={}, maxRequestsPerSecond={}",
+      mode, parallelism, maxRequestsPerSecond > 0 ? maxRequestsPerSecond : "unlimited");
 
     List<EvaluationQuestion> dataset = loadEvaluationDataset();
     log.info("평가 질문 {}개 로드 완료", dataset.size());
 
+    // 병렬 실행 (가상 스레드 + 동시 실행 수 제한 + 요청 간격 제한)
+    Semaphore permits = new Semaphore(parallelism);
+    AtomicLong nextPermitNanos = new AtomicLong(Long.MIN_VALUE);
+    AtomicInteger completed = new AtomicInteger();
+    List<Future<QuestionOutcome>> futures = new ArrayList<>(dataset.size());
+
+    long wallStart = System.nanoTime();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (EvaluationQuestion question : dataset) {
+        futures.add(executor.submit(() -> {
+          permits.acquire();
+          try {
+            acquireRatePermit(nextPermitNanos);
+            QuestionOutcome outcome = evaluateQuestion(question, mode);
+            logProgress(outcome, completed.incrementAndGet(), dataset.size());
+            return outcome;
+          } finally {
+            permits.release();
+          }
+        }));
+      }
+    }
+    long wallClockMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+
     List<EvaluationResult.QuestionResult> questionResults = new ArrayList<>();
+    List<Long> responseTimes = new ArrayList<>();
     int correctCount = 0;
+    int errorCount = 0;
     int totalKeywords = 0;
     int foundKeywords = 0;
     long totalResponseTime = 0;
@@ -75,99 +161,56 @@ public class ChatbotEvaluationService {
     Map<String, Integer> correctByDifficulty = new HashMap<>();
     Map<String, Integer> totalByDifficulty = new HashMap<>();
 
-    for (EvaluationQuestion question : dataset) {
-      long startTime = System.currentTimeMillis();
-
+    // 데이터셋 순서대로 집계
+    for (int idx = 0; idx < futures.size(); idx++) {
+      QuestionOutcome outcome;
       try {
-        // 챗봇에게 질문
-        ChatbotResponseDto response = chatbotService.chat(question.getQuestion());
-        long responseTime = System.currentTimeMillis() - startTime;
-        totalResponseTime += responseTime;
+        outcome = futures.get(idx).get();
+      } catch (ExecutionException e) {
+        errorCount++;
+        log.error("평가 중 오류: {}", dataset.get(idx).getQuestion(), e.getCause());
+        continue;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("챗봇 평가가 중단되었습니다", e);
+      }
 
-        // 매칭 여부 판단
-        boolean actuallyMatched = response.getSources() != null && !response.getSources().isEmpty();
+      EvaluationQuestion question = outcome.question();
+      EvaluationResult.QuestionResult qResult = outcome.result();
 
-        // 정답 판단
-        boolean correct = (actuallyMatched == question.isShouldMatch());
+      totalResponseTime += qResult.getResponseTimeMs();
+      responseTimes.add(qResult.getResponseTimeMs());
 
-        if (correct) {
-          correctCount++;
-          correctByDifficulty.merge(question.getDifficulty(), 1, Integer::sum);
-        }
+      if (qResult.isCorrect()) {
+        correctCount++;
+        correctByDifficulty.merge(question.getDifficulty(), 1, Integer::sum);
+      }
 
-        // 난이도별 총 개수
-        totalByDifficulty.merge(question.getDifficulty(), 1, Integer::sum);
+      // 난이도별 총 개수
+      totalByDifficulty.merge(question.getDifficulty(), 1, Integer::sum);
 
-        // 키워드 체크
-        int keywordsFoundInQuestion = 0;
-        if (question.getMustIncludeKeywords() != null) {
-          totalKeywords += question.getMustIncludeKeywords().size();
+      // 키워드 체크 (답변을 생성하는 FULL 모드만)
+      if (mode == Mode.FULL) {
+        totalKeywords += qResult.getTotalKeywords();
+        foundKeywords += qResult.getKeywordsFound();
+      }
 
-          String answer = response.getAnswer() != null ? response.getAnswer() : "";
-          for (String keyword : question.getMustIncludeKeywords()) {
-            if (answer.contains(keyword)) {
-              keywordsFoundInQuestion++;
-              foundKeywords++;
-            }
-          }
-        }
+      // MRR 계산 (shouldMatch가 true인 질문에 대해서만)
+      if (question.isShouldMatch() && question.getRelevantFaqIds() != null && !question.getRelevantFaqIds().isEmpty()) {
+        mrrQuestionCount++;
 
-        // MRR 계산 (shouldMatch가 true인 질문에 대해서만)
-        if (question.isShouldMatch() && question.getRelevantFaqIds() != null && !question.getRelevantFaqIds().isEmpty()) {
-          mrrQuestionCount++;
-
-          // 응답에서 반환된 FAQ ID 목록 추출
-          if (response.getSources() != null && !response.getSources().isEmpty()) {
-            List<String> returnedFaqIds = response.getSources().stream()
-              .map(ChatbotResponseDto.SourceInfo::getFaqId)
-              .toList();
-
-            // 정답 FAQ가 몇 번째에 있는지 찾기
-            int rank = -1;
-            for (int i = 0; i < returnedFaqIds.size(); i++) {
-              if (question.getRelevantFaqIds().contains(returnedFaqIds.get(i))) {
-                rank = i + 1; // 1-based index
-                break;
-              }
-            }
-
-            // Reciprocal Rank 계산 (정답을 찾은 경우)
-            if (rank > 0) {
-              totalReciprocalRank += 1.0 / rank;
-            }
-            // 정답을 못 찾은 경우 0 (이미 totalReciprocalRank에 더하지 않음)
+        // 정답 FAQ가 몇 번째에 있는지 찾기
+        List<String> returnedFaqIds = outcome.returnedFaqIds();
+        for (int i = 0; i < returnedFaqIds.size(); i++) {
+          if (question.getRelevantFaqIds().contains(returnedFaqIds.get(i))) {
+            totalReciprocalRank += 1.0 / (i + 1); // 1-based rank
+            break;
           }
-          // 매칭 결과가 없으면 0 (이미 totalReciprocalRank에 더하지 않음)
         }
-
-        // 개별 결과 저장
-        EvaluationResult.QuestionResult qResult = EvaluationResult.QuestionResult.builder()
-          .questionId(question.getId())
-          .question(question.getQuestion())
-          .difficulty(question.getDifficulty())
-          .shouldMatch(question.isShouldMatch())
-          .actuallyMatched(actuallyMatched)
-          .correct(correct)
-          .keywordsFound(keywordsFoundInQuestion)
-          .totalKeywords(question.getMustIncludeKeywords() != null ? question.getMustIncludeKeywords().size() : 0)
-          .answer(response.getAnswer())
-          .responseTimeMs(responseTime)
-          .build();
-
-        questionResults.add(qResult);
-
-        log.info("[{}/{}] {} | 예상:{} 실제:{} 정답:{} ({}ms)",
-          questionResults.size(), dataset.size(),
-          question.getQuestion(),
-          question.isShouldMatch() ? "매칭" : "거부",
-          actuallyMatched ? "매칭" : "거부",
-          correct ? "O" : "X",
-          responseTime
-        );
-
-      } catch (Exception e) {
-        log.error("평가 중 오류: {}", question.getQuestion(), e);
+        // 정답을 못 찾았거나 매칭 결과가 없으면 0 (totalReciprocalRank에 더하지 않음)
       }
+
+      questionResults.add(qResult);
     }
 
     // 난이도별 정확도 계산
@@ -181,18 +224,30 @@ public class ChatbotEvaluationService {
     // MRR 계산
     double mrr = mrrQuestionCount > 0 ? totalReciprocalRank / mrrQuestionCount : 0.0;
 
+    // 응답 시간 분포
+    long[] sortedTimes = responseTimes.stream().mapToLong(Long::longValue).sorted().toArray();
+
     // 전체 결과 생성
     EvaluationResult result = EvaluationResult.builder()
       .timestamp(LocalDateTime.now())
+      .mode(mode.name())
+      .concurrency(parallelism)
       .faqCount(embeddingService.getFaqCount())
-      .threshold(0.625)
+      .threshold(ChatbotService.SIMILARITY_THRESHOLD)
       .totalQuestions(dataset.size())
       .correctAnswers(correctCount)
+      .errorCount(errorCount)
       .accuracy((double) correctCount / dataset.size())
       .keywordCoverage(totalKeywords > 0 ? (double) foundKeywords / totalKeywords : 0.0)
       .mrr(mrr)
       .accuracyByDifficulty(accuracyByDifficulty)
-      .avgResponseTimeMs((double) totalResponseTime / dataset.size())
+      .avgResponseTimeMs(sortedTimes.length > 0 ? (double) totalResponseTime / sortedTimes.length : 0.0)
+      .p50ResponseTimeMs(percentile(sortedTimes, 50))
+      .p95ResponseTimeMs(percentile(sortedTimes, 95))
+      .p99ResponseTimeMs(percentile(sortedTimes, 99))
+      .maxResponseTimeMs(sortedTimes.length > 0 ? sortedTimes[sortedTimes.length - 1] : 0)
+      .latencyHistogram(buildHistogram(sortedTimes))
+      .wallClockMs(wallClockMs)
       .questionResults(questionResults)
       .build();
 
@@ -200,14 +255,26 @@ public class ChatbotEvaluationService {
     saveResult(result, description);
 
     log.info("═══════════════════════════════════════════");
-    log.info("📊 챗봇 평가 결과");
+    log.info("📊 챗봇 평가 결과 ({})", result.getMode());
     log.info("─────────────────────────────────────────");
-    log.info("  총 질문: {}개", result.getTotalQuestions());
+    log.info("  총 질문: {}개 (오류 {}개)", result.getTotalQuestions(), result.getErrorCount());
     log.info("  정답: {}개", result.getCorrectAnswers());
     log.info("  정확도: {}", String.format("%.1f%%", result.getAccuracy() * 100));
-    log.info("  키워드 커버리지: {}", String.format("%.1f%%", result.getKeywordCoverage() * 100));
+    if (mode == Mode.FULL) {
+      log.info("  키워드 커버리지: {}", String.format("%.1f%%", result.getKeywordCoverage() * 100));
+    }
     log.info("  MRR (Mean Reciprocal Rank): {}", String.format("%.4f", result.getMrr()));
     log.info("  평균 응답 시간: {} ms", String.format("%.0f", result.getAvgResponseTimeMs()));
+    log.info("  응답 시간 p50/p95/p99/max: {} / {} / {} / {} ms",
+      String.format("%.0f", result.getP50ResponseTimeMs()),
+      String.format("%.0f", result.getP95ResponseTimeMs()),
+      String.format("%.0f", result.getP99ResponseTimeMs()),
+      result.getMaxResponseTimeMs());
+    log.info("  전체 소요 시간: {} ms (동시 실행 {}개)", result.getWallClockMs(), result.getConcurrency());
+    log.info("  응답 시간 히스토그램:");
+    result.getLatencyHistogram().forEach((bucket, count) ->
+      log.info("    - {}: {}", bucket, count)
+    );
     log.info("  난이도별 정확도:");
     accuracyByDifficulty.forEach((difficulty, accuracy) ->
       log.info("    - {}: {}", difficulty, String.format("%.1f%%", accuracy * 100))
@@ -217,6 +284,136 @@ public class ChatbotEvaluationService {
     return result;
   }
 
+  /**
+   * 질문 1개 평가 (모드에 따라 전체 파이프라인 또는 검색 단계만 실행)
+   */
+  private QuestionOutcome evaluateQuestion(EvaluationQuestion question, Mode mode) {
+    long startTime = System.nanoTime();
+
+    String answer;
+    List<String> returnedFaqIds;
+
+    if (mode == Mode.RETRIEVAL_ONLY) {
+      // 추천 의도 질문은 FAQ 검색을 타지 않으므로 매칭 없음으로 처리 (FULL 모드와 동일)
+      List<EmbeddingMatch<TextSegment>> matches = chatbotService.isRecommendationIntent(question.getQuestion())
+        ? List.of()
+        : chatbotService.retrieveRelevantFaqs(question.getQuestion());
+      returnedFaqIds = matches.stream()
+        .map(match -> match.embedded().metadata().getString("id"))
+        .collect(Collectors.toList());
+      answer = null;
+    } else {
+      // 챗봇에게 질문
+      ChatbotResponseDto response = chatbotService.chat(question.getQuestion());
+      // chat()은 예외를 ERROR 응답으로 바꾸므로 평가에서는 다시 실패로 돌려 errorCount에 집계
+      if ("ERROR".equals(response.getStatus())) {
+        throw new IllegalStateException("챗봇 응답 오류: " + question.getId());
+      }
+      returnedFaqIds = response.getSources() == null
+        ? List.of()
+        : response.getSources().stream()
+            .map(ChatbotResponseDto.SourceInfo::getFaqId)
+            .collect(Collectors.toList());
+      answer = response.getAnswer();
+    }
+
+    long responseTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // 매칭 여부 판단 및 정답 판단
+    boolean actuallyMatched = !returnedFaqIds.isEmpty();
+    boolean correct = (actuallyMatched == question.isShouldMatch());
+
+    // 키워드 체크
+    int keywordsFoundInQuestion = 0;
+    if (answer != null && question.getMustIncludeKeywords() != null) {
+      for (String keyword : question.getMustIncludeKeywords()) {
+        if (answer.contains(keyword)) {
+          keywordsFoundInQuestion++;
+        }
+      }
+    }
+
+    EvaluationResult.QuestionResult qResult = EvaluationResult.QuestionResult.builder()
+      .questionId(question.getId())
+      .question(question.getQuestion())
+      .difficulty(question.getDifficulty())
+      .shouldMatch(question.isShouldMatch())
+      .actuallyMatched(actuallyMatched)
+      .correct(correct)
+      .keywordsFound(keywordsFoundInQuestion)
+      .totalKeywords(question.getMustIncludeKeywords() != null ? question.getMustIncludeKeywords().size() : 0)
+      .answer(answer)
+      .responseTimeMs(responseTime)
+      .build();
+
+    return new QuestionOutcome(question, qResult, returnedFaqIds);
+  }
+
+  private void logProgress(QuestionOutcome outcome, int done, int total) {
+    EvaluationResult.QuestionResult r = outcome.result();
+    log.info("[{}/{}] {} | 예상:{} 실제:{} 정답:{} ({}ms)",
+      done, total,
+      r.getQuestion(),
+      r.isShouldMatch() ? "매칭" : "거부",
+      r.isActuallyMatched() ? "매칭" : "거부",
+      r.isCorrect() ? "O" : "X",
+      r.getResponseTimeMs()
+    );
+  }
+
+  /**
+   * 초당 요청 수 제한 (요청 간 최소 간격을 예약하는 방식)
+   * 각 호출은 다음 허용 시각을 원자적으로 예약하고 그 시각까지 대기한다.
+   */
+  private void acquireRatePermit(AtomicLong nextPermitNanos) throws InterruptedException {
+    if (maxRequestsPerSecond <= 0) {
+      return;
+    }
+    long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond);
+    long now = System.nanoTime();
+    long reserved = nextPermitNanos.accumulateAndGet(now,
+      (prev, current) -> Math.max(prev, current) + intervalNanos) - intervalNanos;
+    long waitNanos = reserved - now;
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * 정렬된 응답 시간에서 nearest-rank 백분위수 계산
+   */
+  private double percentile(long[] sortedTimes, int percentile) {
+    if (sortedTimes.length == 0) {
+      return 0.0;
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * sortedTimes.length);
+    return sortedTimes[Math.max(0, Math.min(sortedTimes.length, rank) - 1)];
+  }
+
+  /**
+   * 응답 시간 구간별 히스토그램 (구간 순서 유지)
+   */
+  private Map<String, Integer> buildHistogram(long[] sortedTimes) {
+    Map<String, Integer> histogram = new LinkedHashMap<>();
+    for (long bound : HISTOGRAM_BOUNDS_MS) {
+      histogram.put("<=" + bound + "ms", 0);
+    }
+    String overflowBucket = ">" + HISTOGRAM_BOUNDS_MS[HISTOGRAM_BOUNDS_MS.length - 1] + "ms";
+    histogram.put(overflowBucket, 0);
+
+    for (long time : sortedTimes) {
+      String bucket = overflowBucket;
+      for (long bound : HISTOGRAM_BOUNDS_MS) {
+        if (time <= bound) {
+          bucket = "<=" + bound + "ms";
+          break;
+        }
+      }
+      histogram.merge(bucket, 1, Integer::sum);
+    }
+    return histogram;
+  }
+
   /**
    * 평가 결과 저장
    */
@@ -253,14 +450,11 @@ public class ChatbotEvaluationService {
   private void saveSummaryToCsv(EvaluationResult result, String description) throws IOException {
     Path csvPath = Paths.get("data/evaluation-summary.csv");
 
-    // 헤더 생성 (파일이 없을 경우)
-    if (!Files.exists(csvPath)) {
-      String header = "timestamp,faq_count,threshold,total_questions,correct_answers,accuracy,keyword_coverage,mrr,avg_response_ms,description\n";
-      Files.writeString(csvPath, header);
-    }
+    // 헤더 생성 (파일이 없거나 이전 컬럼 구성일 경우)
+    ensureCsvHeader(csvPath);
 
     // 데이터 추가
-    String line = String.format("%s,%d,%.2f,%d,%d,%.4f,%.4f,%.4f,%.2f,%s\n",
+    String line = String.format("%s,%d,%.2f,%d,%d,%.4f,%.4f,%.4f,%.2f,%s,%s,%d,%.2f,%.2f,%.2f,%d\n",
       result.getTimestamp().toString(),
       result.getFaqCount(),
       result.getThreshold(),
@@ -270,10 +464,59 @@ public class ChatbotEvaluationService {
       result.getKeywordCoverage(),
       result.getMrr(),
       result.getAvgResponseTimeMs(),
-      description != null ? description : ""
+      toCsvField(description),
+      result.getMode(),
+      result.getConcurrency(),
+      result.getP50ResponseTimeMs(),
+      result.getP95ResponseTimeMs(),
+      result.getP99ResponseTimeMs(),
+      result.getWallClockMs()
     );
 
     Files.writeString(csvPath, line, StandardOpenOption.APPEND);
     log.info("CSV 요약 저장 완료: {}", csvPath.toAbsolutePath());
   }
+
+  /**
+   * CSV 헤더 보장
+   * 기존 파일은 헤더 줄만 교체하고 나머지 바이트는 그대로 유지한다 (이전 행은 새 컬럼이 비어 있음).
+   */
+  private void ensureCsvHeader(Path csvPath) throws IOException {
+    if (!Files.exists(csvPath)) {
+      Files.writeString(csvPath, CSV_HEADER + "\n");
+      return;
+    }
+
+    byte[] content = Files.readAllBytes(csvPath);
+    int firstNewline = -1;
+    for (int i = 0; i < content.length; i++) {
+      if (content[i] == '\n') {
+        firstNewline = i;
+        break;
+      }
+    }
+    int headerEnd = firstNewline >= 0 ? firstNewline : content.length;
+    String currentHeader = new String(content, 0, headerEnd, StandardCharsets.UTF_8).trim();
+    if (CSV_HEADER.equals(currentHeader)) {
+      return;
+    }
+
+    ByteArrayOutputStream rewritten = new ByteArrayOutputStream(content.length + 128);
+    rewritten.writeBytes((CSV_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+    if (firstNewline >= 0) {
+      rewritten.write(content, firstNewline + 1, content.length - firstNewline - 1);
+    }
+    Files.write(csvPath, rewritten.toByteArray());
+    log.info("CSV 헤더 갱신: {}", csvPath.toAbsolutePath());
+  }
+
+  private String toCsvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
 }
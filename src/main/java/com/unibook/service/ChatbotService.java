@@ -3,7 +3,6 @@ package com.unibook.service;
 import com.unibook.domain.dto.ChatbotResponseDto;
 import com.unibook.domain.dto.PostResponseDto;
 import com.unibook.config.RecommendationProperties;
-import com.unibook.service.RecommendationService;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.data.segment.TextSegment;
@@ -39,8 +38,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatbotService {
 
+  /** 유사도 임계값 (GPT 거부 패턴 감지와 최적 균형점) */
+  public static final double SIMILARITY_THRESHOLD = 0.625;
+
+  /** 벡터 검색 후보 수 */
+  private static final int CANDIDATE_COUNT = 10;
+
+  /** 프롬프트에 포함할 최대 FAQ 수 */
+  private static final int MAX_CONTEXT_DOCS = 3;
+
   private final EmbeddingService embeddingService;
-  private final RecommendationService recommendationService;
+  private final RecommendationResultCache recommendationResultCache;
   private final RecommendationProperties recommendationProperties;
 
   @Value("${openai.api.key}")
@@ -93,13 +101,7 @@ public class ChatbotService {
       }
 
       // Step 1: 유사한 FAQ 검색 (상위 10개 후보 가져오기)
-      double similarityThreshold = 0.625; // 유사도 임계값 (GPT 거부 패턴 감지와 최적 균형점)
-      List<EmbeddingMatch<TextSegment>> relevantDocs =
-          embeddingService.findRelevant(userQuestion, 10, 0.0)
-              .stream()
-              .filter(match -> match.score() >= similarityThreshold)
-              .limit(3)
-              .collect(Collectors.toList());
+      List<EmbeddingMatch<TextSegment>> relevantDocs = retrieveRelevantFaqs(userQuestion);
 
       log.info("검색된 FAQ 개수: {}", relevantDocs.size());
 
@@ -170,6 +172,21 @@ public class ChatbotService {
     }
   }
 
+  /**
+   * RAG 검색 단계만 수행 (임베딩 + 벡터 검색 + 임계값 필터)
+   * 평가 시 retrieval-only 모드에서도 동일한 기준을 사용하기 위해 분리
+   *
+   * @param userQuestion 사용자 질문
+   * @return 임계값 이상의 FAQ 매칭 (최대 3개, 유사도 높은 순)
+   */
+  public List<EmbeddingMatch<TextSegment>> retrieveRelevantFaqs(String userQuestion) {
+    return embeddingService.findRelevant(userQuestion, CANDIDATE_COUNT, 0.0)
+        .stream()
+        .filter(match -> match.score() >= SIMILARITY_THRESHOLD)
+        .limit(MAX_CONTEXT_DOCS)
+        .collect(Collectors.toList());
+  }
+
   /**
    * 검색된 FAQ들로 Context 문자열 구성
    */
@@ -336,7 +353,7 @@ public class ChatbotService {
   /**
    * 추천 의도 감지 (간단한 키워드 기반)
    */
-  private boolean isRecommendationIntent(String userQuestion) {
+  boolean isRecommendationIntent(String userQuestion) {
     if (userQuestion == null) {
       return false;
     }
@@ -370,7 +387,7 @@ public class ChatbotService {
    */
   private ChatbotResponseDto buildRecommendationResponse() {
     int limit = Math.max(1, recommendationProperties.getSlotMixSize());
-    List<PostResponseDto> recommendations = recommendationService.getPersonalizedRecommendations(null, limit);
+    List<PostResponseDto> recommendations = recommendationResultCache.getPersonalizedRecommendations(null, limit);
 
     if (recommendations.isEmpty()) {
       return ChatbotResponseDto.builder()
@@ -5,36 +5,76 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.unibook.domain.dto.EmbeddingMetrics;
 import com.unibook.domain.dto.EmbeddingMetricsSummary;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
  * 임베딩 메트릭 로거
  * CSV 및 JSON Lines 형식으로 메트릭 기록
+ *
+ * 쓰기 방식:
+ * - logMetrics는 큐에 적재만 하고 즉시 반환
+ * - 백그라운드 writer가 열린 FileChannel에 배치 단위로 기록 (group commit)
+ * - 파일 크기가 한도를 넘으면 타임스탬프 파일명으로 회전
+ * - 파일 열기/기록이 실패하면 그 배치는 생략(건수 누적)하고 다음 배치에서 파일을 다시 엶
+ *
+ * 요약 통계는 메모리에서 증분 유지 (시작 시 기존 파일을 한 번 스트리밍하여 초기화)
  */
 @Component
 @Slf4j
 public class EmbeddingMetricsLogger {
 
   private static final String METRICS_DIR = "data";
-  private static final String CSV_FILE = METRICS_DIR + "/embedding-metrics.csv";
-  private static final String JSONL_FILE = METRICS_DIR + "/embedding-metrics.jsonl";
+  private static final String FILE_PREFIX = "embedding-metrics";
+  private static final String CSV_FILE = METRICS_DIR + "/" + FILE_PREFIX + ".csv";
+  private static final String JSONL_FILE = METRICS_DIR + "/" + FILE_PREFIX + ".jsonl";
   private static final String CSV_HEADER = "timestamp,cache_hit,loading_time_ms,api_calls,total_tokens,estimated_cost_usd,embedding_count,embedding_model\n";
 
   // text-embedding-3-small 가격: $0.00002 per 1K tokens
   private static final double COST_PER_1K_TOKENS = 0.00002;
 
+  // 백그라운드 writer 설정
+  private static final int QUEUE_CAPACITY = 10_000;
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final long ROTATE_MAX_BYTES = 10L * 1024 * 1024; // 10MB
+  private static final DateTimeFormatter ROTATE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
   private final ObjectMapper objectMapper;
+  private final BlockingQueue<EmbeddingMetrics> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final ReentrantLock ioLock = new ReentrantLock();
+  private final SummaryStats stats = new SummaryStats();
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private FileChannel csvChannel;
+  private FileChannel jsonlChannel;
+  private Thread writerThread;
+  private volatile boolean running;
+  // 직전 배치 기록 실패 여부 (연속 실패 시 스택 트레이스 반복 출력 방지, ioLock 하에서 접근)
+  private boolean writeFailing;
 
   public EmbeddingMetricsLogger() {
     this.objectMapper = new ObjectMapper();
@@ -51,35 +91,58 @@ public class EmbeddingMetricsLogger {
         log.info("메트릭 디렉터리 생성: {}", metricsDir.toAbsolutePath());
       }
 
-      // CSV 헤더 생성 (파일이 없을 경우)
-      Path csvPath = Paths.get(CSV_FILE);
-      if (!Files.exists(csvPath)) {
-        Files.writeString(csvPath, CSV_HEADER);
-        log.info("CSV 메트릭 파일 생성: {}", csvPath.toAbsolutePath());
-      }
+      // 기존 메트릭으로 요약 통계 초기화 (회전된 파일 포함, 한 줄씩 스트리밍)
+      streamMetrics(stats::add);
+      log.info("임베딩 메트릭 요약 통계 초기화: {}건", stats.totalLoads);
 
-      // JSON Lines 파일 생성 (빈 파일)
-      Path jsonlPath = Paths.get(JSONL_FILE);
-      if (!Files.exists(jsonlPath)) {
-        Files.createFile(jsonlPath);
-        log.info("JSON Lines 메트릭 파일 생성: {}", jsonlPath.toAbsolutePath());
-      }
+      openChannels();
 
     } catch (IOException e) {
+      // 채널은 첫 배치 기록 때 다시 열기 시도
       log.error("메트릭 파일 초기화 실패", e);
     }
+
+    running = true;
+    writerThread = Thread.ofPlatform()
+      .name("embedding-metrics-writer")
+      .daemon(true)
+      .start(this::runWriter);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // interrupt하면 FileChannel.write 도중 채널이 닫히므로(ClosedByInterruptException)
+    // 플래그만 내리고 poll 타임아웃(1초) 안에 스스로 끝나길 기다림
+    running = false;
+    if (writerThread != null) {
+      try {
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    // 남은 메트릭 기록 후 채널 닫기
+    flush();
+    ioLock.lock();
+    try {
+      closeChannels();
+    } finally {
+      ioLock.unlock();
+    }
   }
 
   /**
-   * 메트릭 기록
+   * 메트릭 기록 (비동기)
    */
   public void logMetrics(EmbeddingMetrics metrics) {
     try {
-      // CSV 추가
-      appendToCsv(metrics);
+      stats.add(metrics);
 
-      // JSON Lines 추가
-      appendToJsonLines(metrics);
+      if (!queue.offer(metrics)) {
+        long dropped = droppedCount.incrementAndGet();
+        log.warn("메트릭 큐 포화로 파일 기록 생략 (누적 {}건)", dropped);
+      }
 
       // 콘솔 출력 (강조)
       printMetricsToConsole(metrics);
@@ -90,10 +153,165 @@ public class EmbeddingMetricsLogger {
   }
 
   /**
-   * CSV 파일에 추가
+   * 대기 중인 메트릭을 즉시 파일에 기록
+   */
+  public void flush() {
+    ioLock.lock();
+    try {
+      List<EmbeddingMetrics> batch = new ArrayList<>();
+      while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+        writeBatch(batch);
+        batch.clear();
+      }
+    } finally {
+      ioLock.unlock();
+    }
+  }
+
+  /**
+   * 백그라운드 writer 루프
+   * 첫 메트릭을 기다린 뒤 쌓여 있는 메트릭을 한 번에 모아 기록한다.
+   */
+  private void runWriter() {
+    List<EmbeddingMetrics> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    while (running) {
+      try {
+        EmbeddingMetrics first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+        ioLock.lock();
+        try {
+          writeBatch(batch);
+        } finally {
+          ioLock.unlock();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        log.error("메트릭 배치 기록 실패: {}건", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * 배치 기록 (ioLock 보유 상태에서 호출)
+   * 실패하면 채널을 닫아 다음 배치에서 다시 열고, 기록하지 못한 건수를 누적
+   */
+  private void writeBatch(List<EmbeddingMetrics> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      if (csvChannel == null || jsonlChannel == null) {
+        closeChannels();
+        openChannels();
+      }
+      appendBatch(batch);
+      if (writeFailing) {
+        writeFailing = false;
+        log.info("메트릭 파일 기록 재개 (누적 생략 {}건)", droppedCount.get());
+      }
+    } catch (IOException e) {
+      closeChannels();
+      long dropped = droppedCount.addAndGet(batch.size());
+      if (writeFailing) {
+        log.warn("메트릭 파일 기록 실패로 {}건 생략 (누적 {}건): {}", batch.size(), dropped, e.toString());
+      } else {
+        writeFailing = true;
+        log.error("메트릭 파일 기록 실패로 {}건 생략 (누적 {}건), 다음 배치에서 파일 다시 열기",
+          batch.size(), dropped, e);
+      }
+    }
+  }
+
+  private void appendBatch(List<EmbeddingMetrics> batch) throws IOException {
+    StringBuilder csv = new StringBuilder(batch.size() * 128);
+    StringBuilder jsonl = new StringBuilder(batch.size() * 256);
+    for (EmbeddingMetrics m : batch) {
+      csv.append(toCsvLine(m));
+      jsonl.append(objectMapper.writeValueAsString(m)).append('\n');
+    }
+
+    writeFully(csvChannel, csv.toString());
+    writeFully(jsonlChannel, jsonl.toString());
+
+    // group commit: 배치당 한 번만 디스크 동기화
+    csvChannel.force(false);
+    jsonlChannel.force(false);
+
+    if (jsonlChannel.size() >= ROTATE_MAX_BYTES || csvChannel.size() >= ROTATE_MAX_BYTES) {
+      rotate();
+    }
+  }
+
+  private void writeFully(FileChannel channel, String content) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * 파일 회전 (현재 파일을 타임스탬프 파일명으로 이동 후 새 파일 생성)
+   */
+  private void rotate() throws IOException {
+    closeChannels();
+
+    String suffix = LocalDateTime.now().format(ROTATE_SUFFIX);
+    Path rotatedCsv = Paths.get(METRICS_DIR, FILE_PREFIX + "-" + suffix + ".csv");
+    Path rotatedJsonl = Paths.get(METRICS_DIR, FILE_PREFIX + "-" + suffix + ".jsonl");
+    Files.move(Paths.get(CSV_FILE), rotatedCsv, StandardCopyOption.REPLACE_EXISTING);
+    Files.move(Paths.get(JSONL_FILE), rotatedJsonl, StandardCopyOption.REPLACE_EXISTING);
+    log.info("임베딩 메트릭 파일 회전: {}, {}", rotatedCsv.getFileName(), rotatedJsonl.getFileName());
+
+    openChannels();
+  }
+
+  private void openChannels() throws IOException {
+    // CSV 헤더 생성 (파일이 없을 경우)
+    Path csvPath = Paths.get(CSV_FILE);
+    if (!Files.exists(csvPath)) {
+      Files.writeString(csvPath, CSV_HEADER);
+      log.info("CSV 메트릭 파일 생성: {}", csvPath.toAbsolutePath());
+    }
+
+    // JSON Lines 파일 생성 (빈 파일)
+    Path jsonlPath = Paths.get(JSONL_FILE);
+    if (!Files.exists(jsonlPath)) {
+      Files.createFile(jsonlPath);
+      log.info("JSON Lines 메트릭 파일 생성: {}", jsonlPath.toAbsolutePath());
+    }
+
+    csvChannel = FileChannel.open(csvPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    jsonlChannel = FileChannel.open(jsonlPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  private void closeChannels() {
+    for (FileChannel channel : new FileChannel[]{csvChannel, jsonlChannel}) {
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException e) {
+          log.warn("메트릭 파일 채널 닫기 실패", e);
+        }
+      }
+    }
+    csvChannel = null;
+    jsonlChannel = null;
+  }
+
+  /**
+   * CSV 한 줄 생성
    */
-  private void appendToCsv(EmbeddingMetrics m) throws IOException {
-    String line = String.format("%s,%s,%d,%d,%d,%.8f,%d,%s\n",
+  private String toCsvLine(EmbeddingMetrics m) {
+    return String.format("%s,%s,%d,%d,%d,%.8f,%d,%s\n",
       m.getTimestamp().toString(),
       m.isCacheHit(),
       m.getLoadingTimeMs(),
@@ -103,18 +321,6 @@ public class EmbeddingMetricsLogger {
       m.getEmbeddingCount(),
       m.getEmbeddingModel()
     );
-
-    Files.writeString(Paths.get(CSV_FILE), line,
-      StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-  }
-
-  /**
-   * JSON Lines 파일에 추가
-   */
-  private void appendToJsonLines(EmbeddingMetrics m) throws IOException {
-    String json = objectMapper.writeValueAsString(m) + "\n";
-    Files.writeString(Paths.get(JSONL_FILE), json,
-      StandardOpenOption.CREATE, StandardOpenOption.APPEND);
   }
 
   /**
@@ -134,96 +340,77 @@ public class EmbeddingMetricsLogger {
     log.info("═══════════════════════════════════════════");
   }
 
+  /**
+   * 회전된 파일(오래된 순) → 현재 파일 순서로 JSONL 메트릭을 한 건씩 전달
+   */
+  public void streamMetrics(Consumer<EmbeddingMetrics> consumer) throws IOException {
+    for (Path jsonlPath : listMetricFiles(".jsonl")) {
+      try (Stream<String> lines = Files.lines(jsonlPath)) {
+        lines.filter(line -> !line.isBlank()).forEach(line -> {
+          try {
+            consumer.accept(objectMapper.readValue(line, EmbeddingMetrics.class));
+          } catch (Exception e) {
+            log.warn("메트릭 파싱 실패: {}", line, e);
+          }
+        });
+      }
+    }
+  }
+
   /**
    * 모든 메트릭 로드
    */
   public List<EmbeddingMetrics> loadAllMetrics() throws IOException {
+    flush();
     List<EmbeddingMetrics> metrics = new ArrayList<>();
-    Path jsonlPath = Paths.get(JSONL_FILE);
-
-    if (!Files.exists(jsonlPath)) {
-      return metrics;
-    }
+    streamMetrics(metrics::add);
+    return metrics;
+  }
 
-    try (Stream<String> lines = Files.lines(jsonlPath)) {
-      lines.forEach(line -> {
-        try {
-          EmbeddingMetrics metric = objectMapper.readValue(line, EmbeddingMetrics.class);
-          metrics.add(metric);
-        } catch (Exception e) {
-          log.warn("메트릭 파싱 실패: {}", line, e);
+  /**
+   * 전체 CSV 메트릭을 출력 스트림으로 전송 (회전된 파일 포함, 헤더는 한 번만)
+   */
+  public void exportCsv(OutputStream out) throws IOException {
+    flush();
+    out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+    for (Path csvPath : listMetricFiles(".csv")) {
+      try (BufferedReader reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+        reader.readLine(); // 각 파일의 헤더 건너뛰기
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank()) {
+            out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+          }
         }
-      });
+      }
     }
-
-    return metrics;
+    out.flush();
   }
 
   /**
-   * 메트릭 요약 통계 조회
+   * 메트릭 파일 목록 (회전된 파일이 현재 파일보다 앞에 정렬됨)
    */
-  public EmbeddingMetricsSummary getSummary() throws IOException {
-    List<EmbeddingMetrics> allMetrics = loadAllMetrics();
-
-    if (allMetrics.isEmpty()) {
-      return EmbeddingMetricsSummary.builder()
-        .totalLoads(0)
-        .cacheHits(0)
-        .cacheMisses(0)
-        .cacheHitRate(0.0)
-        .totalCostUsd(0.0)
-        .avgLoadingTimeMs(0.0)
-        .avgLoadingTimeMsWithCache(0.0)
-        .avgLoadingTimeMsWithoutCache(0.0)
-        .savedCostUsd(0.0)
-        .build();
+  private List<Path> listMetricFiles(String extension) throws IOException {
+    Path metricsDir = Paths.get(METRICS_DIR);
+    if (!Files.exists(metricsDir)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(metricsDir)) {
+      return files
+        .filter(path -> {
+          String name = path.getFileName().toString();
+          return name.startsWith(FILE_PREFIX) && name.endsWith(extension);
+        })
+        .sorted()
+        .toList();
     }
+  }
 
-    long totalLoads = allMetrics.size();
-    long cacheHits = allMetrics.stream().filter(EmbeddingMetrics::isCacheHit).count();
-    long cacheMisses = totalLoads - cacheHits;
-    double cacheHitRate = (double) cacheHits / totalLoads * 100.0;
-
-    double totalCost = allMetrics.stream()
-      .mapToDouble(EmbeddingMetrics::getEstimatedCostUsd)
-      .sum();
-
-    double avgLoadingTime = allMetrics.stream()
-      .mapToLong(EmbeddingMetrics::getLoadingTimeMs)
-      .average()
-      .orElse(0.0);
-
-    double avgLoadingTimeWithCache = allMetrics.stream()
-      .filter(EmbeddingMetrics::isCacheHit)
-      .mapToLong(EmbeddingMetrics::getLoadingTimeMs)
-      .average()
-      .orElse(0.0);
-
-    double avgLoadingTimeWithoutCache = allMetrics.stream()
-      .filter(m -> !m.isCacheHit())
-      .mapToLong(EmbeddingMetrics::getLoadingTimeMs)
-      .average()
-      .orElse(0.0);
-
-    // 절약한 비용 계산 (캐시 히트 시 API 호출 안 했다면 들었을 비용)
-    double savedCost = cacheHits * (avgLoadingTimeWithoutCache > 0 ?
-      allMetrics.stream()
-        .filter(m -> !m.isCacheHit())
-        .mapToDouble(EmbeddingMetrics::getEstimatedCostUsd)
-        .average()
-        .orElse(0.0) : 0.0);
-
-    return EmbeddingMetricsSummary.builder()
-      .totalLoads(totalLoads)
-      .cacheHits(cacheHits)
-      .cacheMisses(cacheMisses)
-      .cacheHitRate(cacheHitRate)
-      .totalCostUsd(totalCost)
-      .avgLoadingTimeMs(avgLoadingTime)
-      .avgLoadingTimeMsWithCache(avgLoadingTimeWithCache)
-      .avgLoadingTimeMsWithoutCache(avgLoadingTimeWithoutCache)
-      .savedCostUsd(savedCost)
-      .build();
+  /**
+   * 메트릭 요약 통계 조회 (메모리 증분 통계, O(1))
+   */
+  public EmbeddingMetricsSummary getSummary() {
+    return stats.toSummary();
   }
 
   /**
@@ -232,4 +419,65 @@ public class EmbeddingMetricsLogger {
   public static double calculateCost(int totalTokens) {
     return totalTokens * COST_PER_1K_TOKENS / 1000.0;
   }
+
+  /**
+   * 증분 요약 통계
+   */
+  private static final class SummaryStats {
+    private long totalLoads;
+    private long cacheHits;
+    private double totalCost;
+    private double missCost;
+    private long totalLoadingTime;
+    private long hitLoadingTime;
+
+    synchronized void add(EmbeddingMetrics m) {
+      totalLoads++;
+      totalCost += m.getEstimatedCostUsd();
+      totalLoadingTime += m.getLoadingTimeMs();
+      if (m.isCacheHit()) {
+        cacheHits++;
+        hitLoadingTime += m.getLoadingTimeMs();
+      } else {
+        missCost += m.getEstimatedCostUsd();
+      }
+    }
+
+    synchronized EmbeddingMetricsSummary toSummary() {
+      if (totalLoads == 0) {
+        return EmbeddingMetricsSummary.builder()
+          .totalLoads(0)
+          .cacheHits(0)
+          .cacheMisses(0)
+          .cacheHitRate(0.0)
+          .totalCostUsd(0.0)
+          .avgLoadingTimeMs(0.0)
+          .avgLoadingTimeMsWithCache(0.0)
+          .avgLoadingTimeMsWithoutCache(0.0)
+          .savedCostUsd(0.0)
+          .build();
+      }
+
+      long cacheMisses = totalLoads - cacheHits;
+      double avgLoadingTimeWithCache = cacheHits > 0 ? (double) hitLoadingTime / cacheHits : 0.0;
+      double avgLoadingTimeWithoutCache = cacheMisses > 0
+        ? (double) (totalLoadingTime - hitLoadingTime) / cacheMisses : 0.0;
+
+      // 절약한 비용 계산 (캐시 히트 시 API 호출 안 했다면 들었을 비용)
+      double avgMissCost = cacheMisses > 0 ? missCost / cacheMisses : 0.0;
+      double savedCost = cacheHits * (avgLoadingTimeWithoutCache > 0 ? avgMissCost : 0.0);
+
+      return EmbeddingMetricsSummary.builder()
+        .totalLoads(totalLoads)
+        .cacheHits(cacheHits)
+        .cacheMisses(cacheMisses)
+        .cacheHitRate((double) cacheHits / totalLoads * 100.0)
+        .totalCostUsd(totalCost)
+        .avgLoadingTimeMs((double) totalLoadingTime / totalLoads)
+        .avgLoadingTimeMsWithCache(avgLoadingTimeWithCache)
+        .avgLoadingTimeMsWithoutCache(avgLoadingTimeWithoutCache)
+        .savedCostUsd(savedCost)
+        .build();
+    }
+  }
 }
@@ -3,6 +3,9 @@ package com.unibook.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.unibook.domain.dto.ChatbotKnowledgeDto;
 import com.unibook.domain.dto.EmbeddingCacheDto;
 import com.unibook.domain.dto.EmbeddingMetrics;
@@ -28,9 +31,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
+import java.text.Normalizer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * FAQ 데이터를 임베딩(벡터)으로 변환하고 유사도 검색을 제공하는 서비스
@@ -40,6 +46,10 @@ import java.util.List;
  * 2. 각 FAQ를 OpenAI Embedding API로 벡터 변환
  * 3. In-Memory Vector Store에 저장
  * 4. 사용자 질문 시 유사도 검색 수행
+ *
+ * 질문 임베딩 캐시:
+ * - 정규화된 질문 텍스트 → float[] 벡터 (Caffeine, 바이트 가중치 기반 크기 제한)
+ * - 동일 질문이 동시에 들어오면 모델 호출은 한 번만 수행 (single-flight)
  */
 @Service
 @Slf4j
@@ -57,6 +67,17 @@ public class EmbeddingService {
   @Value("${chatbot.embedding.cache.file-path:data/embeddings-cache.json}")
   private String cacheFilePath;
 
+  @Value("${chatbot.embedding.query-cache.enabled:true}")
+  private boolean queryCacheEnabled;
+
+  @Value("${chatbot.embedding.query-cache.max-weight-bytes:16777216}")
+  private long queryCacheMaxWeightBytes;
+
+  @Value("${chatbot.embedding.query-cache.expire-after-access-minutes:1440}")
+  private long queryCacheExpireMinutes;
+
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
   @Autowired
   private EmbeddingMetricsLogger metricsLogger;
 
@@ -64,6 +85,7 @@ public class EmbeddingService {
   private EmbeddingStore<TextSegment> embeddingStore;
   private int embeddingCount = 0;
   private String currentFaqHash;
+  private Cache<String, float[]> queryEmbeddingCache;
 
   /**
    * 서버 시작 시 자동 실행
@@ -81,6 +103,16 @@ public class EmbeddingService {
           .build();
       log.info("OpenAI Embedding Model 초기화 완료: {}", embeddingModelName);
 
+      // 질문 임베딩 캐시 생성 (키: 정규화된 질문, 값: 벡터)
+      queryEmbeddingCache = Caffeine.newBuilder()
+          .maximumWeight(queryCacheMaxWeightBytes)
+          .weigher((String key, float[] vector) -> key.length() * 2 + vector.length * Float.BYTES)
+          .expireAfterAccess(Duration.ofMinutes(queryCacheExpireMinutes))
+          .recordStats()
+          .build();
+      log.info("질문 임베딩 캐시 생성 완료: enabled={}, maxWeight={}bytes, expireAfterAccess={}m",
+          queryCacheEnabled, queryCacheMaxWeightBytes, queryCacheExpireMinutes);
+
       // 2. In-Memory Vector Store 생성
       embeddingStore = new InMemoryEmbeddingStore<>();
       log.info("In-Memory Vector Store 생성 완료");
@@ -410,8 +442,8 @@ public class EmbeddingService {
     log.debug("유사 FAQ 검색: query='{}', maxResults={}, minScore={}", query, maxResults, minScore);
 
     try {
-      // 1. 사용자 질문을 벡터로 변환
-      Embedding queryEmbedding = embeddingModel.embed(query).content();
+      // 1. 사용자 질문을 벡터로 변환 (캐시 우선)
+      Embedding queryEmbedding = embedQuery(query);
 
       // 2. Vector Store에서 유사도 검색
       List<EmbeddingMatch<TextSegment>> matches = embeddingStore.findRelevant(
@@ -438,6 +470,53 @@ public class EmbeddingService {
     }
   }
 
+  /**
+   * 질문 임베딩 조회 (캐시 → OpenAI API)
+   *
+   * Caffeine의 get(key, loader)는 키 단위로 원자적으로 로드하므로
+   * 같은 질문이 동시에 들어와도 모델 호출은 한 번만 발생한다.
+   */
+  private Embedding embedQuery(String query) {
+    String normalized = normalizeQuery(query);
+    if (!queryCacheEnabled || normalized.isEmpty()) {
+      return embeddingModel.embed(normalized.isEmpty() ? query : normalized).content();
+    }
+
+    float[] vector = queryEmbeddingCache.get(normalized,
+        key -> embeddingModel.embed(key).content().vector());
+    return new Embedding(vector);
+  }
+
+  /**
+   * 캐시 키용 질문 정규화 (Unicode NFC, 앞뒤 공백 제거, 연속 공백 통합)
+   * 대소문자/문장부호는 임베딩 결과에 영향을 주므로 그대로 둔다.
+   */
+  private String normalizeQuery(String query) {
+    if (query == null) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(query.trim(), Normalizer.Form.NFC);
+    return WHITESPACE_PATTERN.matcher(normalized).replaceAll(" ");
+  }
+
+  /**
+   * 질문 임베딩 캐시 통계 (헬스체크용)
+   */
+  public String getQueryCacheStatsInfo() {
+    if (queryEmbeddingCache == null) {
+      return "Query cache: not initialized";
+    }
+    CacheStats stats = queryEmbeddingCache.stats();
+    return String.format("Query cache: enabled=%s, size=%d, hits=%d, misses=%d, hitRate=%.2f%%, evictions=%d",
+        queryCacheEnabled,
+        queryEmbeddingCache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate() * 100,
+        stats.evictionCount()
+    );
+  }
+
   /**
    * 임베딩 모델 정보 조회 (헬스체크용)
    */
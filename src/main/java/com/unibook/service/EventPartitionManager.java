@@ -0,0 +1,230 @@
+package com.unibook.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 테이블 월별 파티션 유지 및 보관 기간 관리
+ * - 대상: post_views, recommendation_impressions, recommendation_clicks, notifications
+ *   (sql/partition_event_tables.sql로 시간 컬럼 기준 RANGE COLUMNS 파티션 전환)
+ * - months-ahead개월 앞까지 빈 p_future를 나눠 월 파티션을 미리 만들고,
+ *   상한이 보관 기준일 이하인 파티션은 DROP PARTITION으로 삭제 (행 DELETE 없음 → 복제 지연 없음)
+ * - 파티션 전환 전인 테이블은 기본적으로 건너뜀 (행 DELETE 부하를 피하려는 것이므로)
+ *   unpartitioned-delete-enabled=true일 때만 작은 DELETE 반복으로 정리 (ROW 기반 binlog에서만 사용)
+ * - 기본 비활성 - 테이블 전환 후 enabled=true로 켬
+ * - 여러 인스턴스가 동시에 ALTER하지 않도록 MySQL 이름 잠금(GET_LOCK)을 잡은 커넥션에서만 실행
+ */
+@Service
+@Slf4j
+public class EventPartitionManager {
+
+    private static final String LOCK_NAME = "unibook_event_partition_maintenance";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                    + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    /**
+     * 관리 대상 테이블 (시간 컬럼, 보관 개월 수)
+     */
+    private record ManagedTable(String table, String timeColumn, int retentionMonths) {
+    }
+
+    /**
+     * 파티션 (상한 null = MAXVALUE)
+     */
+    private record Partition(String name, LocalDate upperBound) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean unpartitionedDeleteEnabled;
+    private final int monthsAhead;
+    private final int fallbackDeleteBatchSize;
+    private final List<ManagedTable> tables;
+
+    public EventPartitionManager(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.event-retention.enabled:false}") boolean enabled,
+                                 @Value("${app.event-retention.unpartitioned-delete-enabled:false}") boolean unpartitionedDeleteEnabled,
+                                 @Value("${app.event-retention.months-ahead:3}") int monthsAhead,
+                                 @Value("${app.event-retention.fallback-delete-batch-size:5000}") int fallbackDeleteBatchSize,
+                                 @Value("${app.event-retention.post-views-months:12}") int postViewsMonths,
+                                 @Value("${app.event-retention.impressions-months:6}") int impressionsMonths,
+                                 @Value("${app.event-retention.clicks-months:12}") int clicksMonths,
+                                 @Value("${app.event-retention.notifications-months:12}") int notificationsMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.unpartitionedDeleteEnabled = unpartitionedDeleteEnabled;
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.fallbackDeleteBatchSize = Math.max(1, fallbackDeleteBatchSize);
+        this.tables = List.of(
+                new ManagedTable("post_views", "viewed_at", postViewsMonths),
+                new ManagedTable("recommendation_impressions", "impressed_at", impressionsMonths),
+                new ManagedTable("recommendation_clicks", "clicked_at", clicksMonths),
+                new ManagedTable("notifications", "created_at", notificationsMonths));
+    }
+
+    /**
+     * 월 파티션 추가 및 보관 기간 지난 파티션 삭제
+     */
+    @Scheduled(initialDelayString = "${app.event-retention.initial-delay-ms:60000}",
+               fixedDelayString = "${app.event-retention.interval-ms:21600000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!acquireLock(connection)) {
+                    log.debug("다른 인스턴스가 이벤트 파티션 관리 중, 건너뜀");
+                    return null;
+                }
+                try {
+                    // 잠금을 잡은 커넥션에서 모든 DDL/DELETE 실행
+                    JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                    for (ManagedTable table : tables) {
+                        try {
+                            maintainTable(locked, table);
+                        } catch (Exception e) {
+                            log.error("이벤트 테이블 파티션 관리 실패: table={}", table.table(), e);
+                        }
+                    }
+                } finally {
+                    releaseLock(connection);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("이벤트 파티션 관리 건너뜀 (MySQL 이름 잠금 사용 불가): {}", e.getMessage());
+        }
+    }
+
+    private void maintainTable(JdbcTemplate jdbc, ManagedTable table) {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate cutoff = thisMonth.minusMonths(table.retentionMonths());
+
+        List<Partition> partitions = jdbc.query(PARTITIONS_SQL,
+                (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))),
+                table.table());
+        if (partitions.isEmpty()) {
+            if (unpartitionedDeleteEnabled) {
+                deleteExpiredRows(jdbc, table, cutoff);
+            } else {
+                log.info("파티션 전환 전 테이블, 보관 기간 정리 건너뜀: table={}", table.table());
+            }
+            return;
+        }
+
+        // 새 파티션을 먼저 만든 뒤 삭제 (상한이 있는 파티션이 항상 남도록)
+        addFuturePartitions(jdbc, table, partitions, thisMonth.plusMonths(monthsAhead + 1L));
+        dropExpiredPartitions(jdbc, table, partitions, cutoff);
+    }
+
+    private void addFuturePartitions(JdbcTemplate jdbc, ManagedTable table, List<Partition> partitions,
+                                     LocalDate target) {
+        boolean hasFuture = partitions.stream()
+                .anyMatch(p -> FUTURE_PARTITION.equals(p.name()) && p.upperBound() == null);
+        LocalDate lastBound = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(null);
+        if (!hasFuture || lastBound == null) {
+            log.warn("월 파티션 구조가 아님 (p_future 또는 기간 파티션 없음), 추가 건너뜀: table={}", table.table());
+            return;
+        }
+
+        // p_future가 비어 있으므로 분할은 메타데이터 변경 수준
+        while (lastBound.isBefore(target)) {
+            LocalDate next = lastBound.plusMonths(1);
+            String name = "p" + lastBound.format(PARTITION_SUFFIX);
+            jdbc.execute("ALTER TABLE " + table.table() + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN ('" + next + "'), "
+                    + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("이벤트 테이블 월 파티션 추가: table={}, partition={}, lessThan={}", table.table(), name, next);
+            lastBound = next;
+        }
+    }
+
+    private void dropExpiredPartitions(JdbcTemplate jdbc, ManagedTable table, List<Partition> partitions,
+                                       LocalDate cutoff) {
+        List<String> expired = new ArrayList<>();
+        for (Partition partition : partitions) {
+            // 상한이 기준일 이하이면 파티션 안의 모든 행이 보관 기간을 넘김
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                expired.add(partition.name());
+            }
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        jdbc.execute("ALTER TABLE " + table.table() + " DROP PARTITION " + String.join(", ", expired));
+        log.info("이벤트 테이블 보관 기간 지난 파티션 삭제: table={}, partitions={}, before={}",
+                table.table(), expired, cutoff);
+    }
+
+    /**
+     * 파티션 전환 전 테이블 정리 - 한 번에 지우는 행 수를 제한해 잠금/복제 지연을 작게 유지
+     * DELETE ... LIMIT은 STATEMENT 기반 복제에서 안전하지 않으므로 명시적으로 켠 경우에만 실행
+     */
+    private void deleteExpiredRows(JdbcTemplate jdbc, ManagedTable table, LocalDate cutoff) {
+        String sql = "DELETE FROM " + table.table() + " WHERE " + table.timeColumn() + " < ? LIMIT "
+                + fallbackDeleteBatchSize;
+        Timestamp cutoffTs = Timestamp.valueOf(cutoff.atStartOfDay());
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbc.update(sql, cutoffTs);
+            total += deleted;
+        } while (deleted == fallbackDeleteBatchSize);
+
+        if (total > 0) {
+            log.info("파티션 전환 전 이벤트 테이블 정리: table={}, deleted={}, before={}", table.table(), total, cutoff);
+        }
+    }
+
+    // RANGE COLUMNS(datetime) 상한 표기: '2026-11-01 00:00:00' 또는 MAXVALUE
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, 10));
+    }
+
+    private static boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("이벤트 파티션 관리 잠금 해제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package com.unibook.service;
+
+import com.unibook.domain.entity.PostImage;
+import com.unibook.domain.event.PostSavedEvent;
+import com.unibook.repository.PostImageRepository;
+import com.unibook.util.FileUploadUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 이미지 파생본 생성
+ * - 업로드 커밋 후 제한된 백그라운드 풀에서 썸네일/카드/상세 크기로 리사이즈
+ * - EXIF 방향을 픽셀에 반영한 뒤 메타데이터 없이 다시 인코딩 (촬영 위치 등 제거)
+ * - 파생본 파일은 원본 blob(내용 해시) 기준 - 같은 blob을 쓰는 이미지는 이미 만든 파생본을 재사용
+ * - 생성 결과는 PostImage에 기록, 생성 전/실패/미지원 형식(GIF, WebP 등)은 원본을 그대로 사용
+ * - 파생본 기능 이전에 올라온 이미지는 백필 작업이 ID 순으로 조금씩 처리
+ * 목록 페이지가 수 MB짜리 원본을 썸네일로 내려받지 않도록 하기 위해 사용
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final int DEFAULT_ORIENTATION = 1;
+    private static final int EXIF_HEADER_SCAN_BYTES = 64 * 1024;
+    private static final String[] SIZE_SUFFIXES = {"detail", "card", "thumb"};
+    private static final String[] FORMATS = {"jpg", "png"};
+    private static final int LOCK_STRIPES = 64;
+
+    private final FileUploadUtil fileUploadUtil;
+    private final PostImageRepository postImageRepository;
+    private final boolean enabled;
+    private final int thumbnailSize;
+    private final int cardSize;
+    private final int detailSize;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+    private final boolean backfillEnabled;
+    private final int backfillBatchSize;
+    private final ThreadPoolExecutor executor;
+    // 같은 원본 파일의 파생본 생성 직렬화 (두 작업이 같은 blob을 동시에 리사이즈하지 않도록)
+    private final Object[] sourceLocks = new Object[LOCK_STRIPES];
+    // 백필 커서 (작업 스레드에서만 갱신) / 한 바퀴 끝나면 재시작 전까지 중단
+    private volatile long backfillCursor;
+    private volatile boolean backfillDone;
+
+    public ImageDerivativeService(FileUploadUtil fileUploadUtil,
+                                  PostImageRepository postImageRepository,
+                                  @Value("${app.post-images.derivatives.enabled:true}") boolean enabled,
+                                  @Value("${app.post-images.derivatives.thumbnail-size:240}") int thumbnailSize,
+                                  @Value("${app.post-images.derivatives.card-size:480}") int cardSize,
+                                  @Value("${app.post-images.derivatives.detail-size:1280}") int detailSize,
+                                  @Value("${app.post-images.derivatives.jpeg-quality:0.82}") float jpegQuality,
+                                  @Value("${app.post-images.derivatives.max-source-pixels:40000000}") long maxSourcePixels,
+                                  @Value("${app.post-images.derivatives.threads:2}") int threads,
+                                  @Value("${app.post-images.derivatives.queue-capacity:200}") int queueCapacity,
+                                  @Value("${app.post-images.derivatives.backfill-enabled:true}") boolean backfillEnabled,
+                                  @Value("${app.post-images.derivatives.backfill-batch-size:100}") int backfillBatchSize) {
+        this.fileUploadUtil = fileUploadUtil;
+        this.postImageRepository = postImageRepository;
+        this.enabled = enabled;
+        this.thumbnailSize = thumbnailSize;
+        this.cardSize = cardSize;
+        this.detailSize = detailSize;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+        this.backfillEnabled = backfillEnabled;
+        this.backfillBatchSize = Math.max(1, backfillBatchSize);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            sourceLocks[i] = new Object();
+        }
+
+        // 리사이즈는 CPU 작업이므로 가상 스레드가 아닌 고정 크기 풀 + 제한된 큐로 처리
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("image-derivative-", 0).daemon(true).factory());
+    }
+
+    /**
+     * 게시글 저장 커밋 후 파생본이 없는 이미지를 처리 (큐가 가득 차면 원본 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            executor.execute(() -> generateForPost(event.postId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 파생본 큐가 가득 차 건너뜀 (원본 사용): postId={}", event.postId());
+        }
+    }
+
+    /**
+     * 기존 이미지 백필 - 큐가 비어 있을 때만 한 배치씩 넣어 업로드 직후 작업을 밀어내지 않음
+     */
+    @Scheduled(initialDelayString = "${app.post-images.derivatives.backfill-interval-ms:60000}",
+               fixedDelayString = "${app.post-images.derivatives.backfill-interval-ms:60000}")
+    public void backfill() {
+        if (!enabled || !backfillEnabled || backfillDone || !executor.getQueue().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(this::backfillBatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("이미지 파생본 큐가 가득 차 백필 다음 주기로 미룸");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generateForPost(Long postId) {
+        List<PostImage> images;
+        try {
+            images = postImageRepository.findWithoutDerivativesByPostId(postId);
+        } catch (Exception e) {
+            log.warn("이미지 파생본 대상 조회 실패: postId={}", postId, e);
+            return;
+        }
+        for (PostImage image : images) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            generate(image);
+        }
+    }
+
+    private void backfillBatch() {
+        List<PostImage> images;
+        try {
+            images = postImageRepository.findWithoutDerivativesAfter(backfillCursor,
+                    PageRequest.of(0, backfillBatchSize));
+        } catch (Exception e) {
+            log.warn("이미지 파생본 백필 대상 조회 실패", e);
+            return;
+        }
+        if (images.isEmpty()) {
+            // 남은 건 미지원 형식/실패 이미지뿐 - 매 주기 다시 시도하지 않음
+            backfillDone = true;
+            log.info("이미지 파생본 백필 완료");
+            return;
+        }
+        for (PostImage image : images) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            generate(image);
+            backfillCursor = image.getPostImageId();
+        }
+        log.info("이미지 파생본 백필: {}건 처리 (postImageId <= {})", images.size(), backfillCursor);
+    }
+
+    /**
+     * 이미지 1건의 파생본 생성 (큰 것부터 만들고 직전 결과를 다시 줄여 비용 절감)
+     * 같은 원본의 파생본이 이미 있으면 디코딩 없이 경로만 기록
+     */
+    private void generate(PostImage image) {
+        String originalUrl = image.getImageUrl();
+        Path source = fileUploadUtil.resolveStoredPath(originalUrl);
+        if (source == null || !Files.isRegularFile(source)) {
+            log.warn("이미지 파생본 생성 건너뜀, 원본 파일 없음: postImageId={}, url={}",
+                    image.getPostImageId(), originalUrl);
+            return;
+        }
+
+        synchronized (sourceLocks[Math.floorMod(source.hashCode(), LOCK_STRIPES)]) {
+            String[] existing = existingDerivatives(source, originalUrl);
+            if (existing != null) {
+                try {
+                    postImageRepository.updateDerivatives(image.getPostImageId(), existing[2], existing[1], existing[0]);
+                    log.debug("이미지 파생본 재사용: postImageId={}, url={}", image.getPostImageId(), originalUrl);
+                } catch (Exception e) {
+                    log.warn("이미지 파생본 경로 기록 실패: postImageId={}", image.getPostImageId(), e);
+                }
+                return;
+            }
+            generateFiles(image, source, originalUrl);
+        }
+    }
+
+    /**
+     * 같은 원본으로 이미 만든 파생본 URL (detail, card, thumb 순, 하나라도 없으면 null)
+     */
+    private String[] existingDerivatives(Path source, String originalUrl) {
+        for (String format : FORMATS) {
+            String[] urls = new String[SIZE_SUFFIXES.length];
+            for (int i = 0; i < SIZE_SUFFIXES.length; i++) {
+                String derivedName = derivedName(source, SIZE_SUFFIXES[i], format);
+                if (!Files.isRegularFile(source.resolveSibling(derivedName))) {
+                    urls = null;
+                    break;
+                }
+                urls[i] = derivedUrl(originalUrl, derivedName);
+            }
+            if (urls != null) {
+                return urls;
+            }
+        }
+        return null;
+    }
+
+    private void generateFiles(PostImage image, Path source, String originalUrl) {
+        List<Path> written = new ArrayList<>();
+        try {
+            BufferedImage decoded = decode(source);
+            if (decoded == null) {
+                return;
+            }
+            boolean alpha = decoded.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpg";
+            BufferedImage oriented = orient(decoded, readExifOrientation(source), alpha);
+
+            BufferedImage detail = resize(oriented, detailSize);
+            String detailUrl = store(detail, source, originalUrl, "detail", format, written);
+            BufferedImage card = resize(detail, cardSize);
+            String cardUrl = store(card, source, originalUrl, "card", format, written);
+            String thumbnailUrl = store(resize(card, thumbnailSize), source, originalUrl, "thumb", format, written);
+
+            if (postImageRepository.updateDerivatives(image.getPostImageId(), thumbnailUrl, cardUrl, detailUrl) == 0) {
+                // 처리 중 이미지가 삭제됨
+                deleteQuietly(written);
+                return;
+            }
+            log.debug("이미지 파생본 생성: postImageId={}, {}x{}, format={}",
+                    image.getPostImageId(), oriented.getWidth(), oriented.getHeight(), format);
+        } catch (Exception e) {
+            deleteQuietly(written);
+            log.warn("이미지 파생본 생성 실패, 원본 사용: postImageId={}, url={}",
+                    image.getPostImageId(), originalUrl, e);
+        }
+    }
+
+    /**
+     * 원본 디코딩 (메타데이터는 읽지 않음)
+     * 미지원 형식, GIF(애니메이션 보존), 픽셀 수 상한 초과면 null
+     */
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("이미지 파생본 미지원 형식, 원본 사용: {}", source.getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                if ("gif".equalsIgnoreCase(reader.getFormatName())) {
+                    return null;
+                }
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    log.warn("이미지 픽셀 수 상한 초과, 원본 사용: {}, pixels={}", source.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * EXIF 방향(1~8)을 픽셀에 반영하면서 RGB/ARGB로 정규화
+     */
+    private BufferedImage orient(BufferedImage image, int orientation, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(width, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, height); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1, 1); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(height, width); transform.rotate(Math.PI / 2); transform.scale(-1, 1); }
+            case 8 -> { transform.translate(0, width); transform.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+
+        BufferedImage result = new BufferedImage(swap ? height : width, swap ? width : height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = result.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * 긴 변이 maxSize 이하가 되도록 축소 (확대는 하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+     */
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) Math.max(1, maxSize) / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage result = new BufferedImage(width, height, source.getType());
+        Graphics2D g = result.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * 원본 옆에 "{이름}_{확장자}_{suffix}.{format}"으로 저장하고 URL 경로 반환 (임시 파일에 쓴 뒤 교체)
+     */
+    private String store(BufferedImage image, Path source, String originalUrl, String suffix,
+                         String format, List<Path> written) throws IOException {
+        String derivedName = derivedName(source, suffix, format);
+        Path target = source.resolveSibling(derivedName);
+        // 같은 blob을 공유하는 이미지의 작업이 동시에 돌 수 있으므로 임시 파일 이름은 작업마다 고유하게
+        Path temp = Files.createTempFile(source.getParent(), derivedName + ".", ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(temp)) {
+                encode(image, format, os);
+            }
+            // 같은 blob을 참조하는 다른 이미지가 이미 만든 파일은 실패 정리 대상에서 제외
+            boolean existed = Files.exists(target);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!existed) {
+                written.add(target);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return derivedUrl(originalUrl, derivedName);
+    }
+
+    /**
+     * 파생본 파일명 - 원본 확장자를 포함해 같은 해시의 다른 blob(hash.png / hash.jpg)과 겹치지 않게 함
+     */
+    private static String derivedName(Path source, String suffix, String format) {
+        return FileUploadUtil.derivativePrefix(source.getFileName().toString()) + "_" + suffix + "." + format;
+    }
+
+    private static String derivedUrl(String originalUrl, String derivedName) {
+        return originalUrl.substring(0, originalUrl.lastIndexOf('/') + 1) + derivedName;
+    }
+
+    /**
+     * 메타데이터 없이 인코딩 (JPEG는 품질 지정)
+     */
+    private void encode(BufferedImage image, String format, OutputStream os) throws IOException {
+        if (!"jpg".equals(format)) {
+            if (!ImageIO.write(image, format, os)) {
+                throw new IOException("인코더 없음: " + format);
+            }
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(os)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.min(1.0f, Math.max(0.1f, jpegQuality)));
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 IFD0의 Orientation(0x0112) 값 추출 (없거나 JPEG가 아니면 1)
+     */
+    private int readExifOrientation(Path source) {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(source)) {
+            head = in.readNBytes(EXIF_HEADER_SCAN_BYTES);
+        } catch (IOException e) {
+            return DEFAULT_ORIENTATION;
+        }
+        if (head.length < 4 || (head[0] & 0xFF) != 0xFF || (head[1] & 0xFF) != 0xD8) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= head.length && (head[offset] & 0xFF) == 0xFF) {
+            int marker = head[offset + 1] & 0xFF;
+            int length = ((head[offset + 2] & 0xFF) << 8) | (head[offset + 3] & 0xFF);
+            if (marker == 0xDA || length < 2) {
+                // 영상 데이터 시작 또는 손상된 세그먼트
+                return DEFAULT_ORIENTATION;
+            }
+            if (marker == 0xE1 && offset + 10 <= head.length
+                    && "Exif".equals(new String(head, offset + 4, 4, StandardCharsets.US_ASCII))) {
+                return parseOrientation(head, offset + 10, Math.min(head.length, offset + 2 + length));
+            }
+            offset += 2 + length;
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private int parseOrientation(byte[] data, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return DEFAULT_ORIENTATION;
+        }
+        boolean littleEndian = data[tiffStart] == 'I';
+        long ifdOffset = readUnsignedInt(data, tiffStart + 4, littleEndian);
+        if (ifdOffset < 8 || tiffStart + ifdOffset + 2 > end) {
+            return DEFAULT_ORIENTATION;
+        }
+        int ifd = (int) (tiffStart + ifdOffset);
+        int entries = readUnsignedShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsignedShort(data, entry, littleEndian) == 0x0112) {
+                int orientation = readUnsignedShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : DEFAULT_ORIENTATION;
+            }
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean littleEndian) {
+        int b0 = data[offset] & 0xFF;
+        int b1 = data[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readUnsignedInt(byte[] data, int offset, boolean littleEndian) {
+        long high = readUnsignedShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        long low = readUnsignedShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+
+    private void deleteQuietly(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("이미지 파생본 정리 실패: {}", path, e);
+            }
+        }
+    }
+}
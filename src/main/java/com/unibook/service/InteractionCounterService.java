@@ -0,0 +1,120 @@
+package com.unibook.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.enums.InteractionWeight;
+import com.unibook.domain.event.UserInteractionEvent;
+import com.unibook.repository.PostViewRepository;
+import com.unibook.repository.RecommendationClickRepository;
+import com.unibook.repository.WishlistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상호작용(조회/클릭/찜) 근사 카운터
+ * - 전체 카운트: 시작 시 DB에서 시드, 이후 쓰기 이벤트로 증감
+ * - 사용자별 카운트: 조회 시 DB에서 지연 로드, 사용자 수 상한(LRU 근사)으로 메모리 제한
+ * - 주기적으로 DB와 재동기화하여 오차 누적 방지
+ * 적응형 가중치 선택처럼 정확한 값이 필요 없는 곳에서 COUNT 쿼리 대신 사용
+ */
+@Service
+@Slf4j
+public class InteractionCounterService {
+
+    private final PostViewRepository postViewRepository;
+    private final RecommendationClickRepository clickRepository;
+    private final WishlistRepository wishlistRepository;
+    private final Map<InteractionWeight, AtomicLong> totalCounts = new EnumMap<>(InteractionWeight.class);
+    private final Map<InteractionWeight, LoadingCache<Long, AtomicLong>> userCounts = new EnumMap<>(InteractionWeight.class);
+
+    public InteractionCounterService(PostViewRepository postViewRepository,
+                                     RecommendationClickRepository clickRepository,
+                                     WishlistRepository wishlistRepository,
+                                     RecommendationProperties recommendationProperties) {
+        this.postViewRepository = postViewRepository;
+        this.clickRepository = clickRepository;
+        this.wishlistRepository = wishlistRepository;
+        for (InteractionWeight type : InteractionWeight.values()) {
+            totalCounts.put(type, new AtomicLong());
+            userCounts.put(type, Caffeine.newBuilder()
+                    .maximumSize(recommendationProperties.getInteractionCounterMaxUsers())
+                    .build(userId -> new AtomicLong(countUserFromDb(type, userId))));
+        }
+    }
+
+    /**
+     * 사용자의 상호작용 수 (캐시에 없으면 DB에서 1회 로드)
+     */
+    public long getUserCount(Long userId, InteractionWeight type) {
+        if (userId == null) {
+            return 0;
+        }
+        return userCounts.get(type).get(userId).get();
+    }
+
+    /**
+     * 전체 상호작용 수
+     */
+    public long getTotalCount(InteractionWeight type) {
+        return totalCounts.get(type).get();
+    }
+
+    /**
+     * 쓰기 경로 이벤트 반영 (커밋 후)
+     * 캐시에 없는 사용자는 다음 조회 때 DB에서 로드되므로 갱신하지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserInteraction(UserInteractionEvent event) {
+        long delta = event.added() ? 1 : -1;
+        totalCounts.get(event.type()).addAndGet(delta);
+        if (event.userId() != null) {
+            AtomicLong userCount = userCounts.get(event.type()).getIfPresent(event.userId());
+            if (userCount != null) {
+                userCount.addAndGet(delta);
+            }
+        }
+    }
+
+    /**
+     * 시작 시 전체 카운트 시드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * DB와 재동기화 (전체 카운트 갱신 + 사용자별 카운트 재로드 유도, RecommendationMaintenanceScheduler가 주기 실행)
+     */
+    public void reconcile() {
+        try {
+            totalCounts.get(InteractionWeight.VIEW).set(postViewRepository.count());
+            totalCounts.get(InteractionWeight.CLICK).set(clickRepository.count());
+            totalCounts.get(InteractionWeight.WISHLIST).set(wishlistRepository.count());
+            userCounts.values().forEach(LoadingCache::invalidateAll);
+            log.debug("상호작용 카운터 동기화: views={}, clicks={}, wishlists={}",
+                    getTotalCount(InteractionWeight.VIEW),
+                    getTotalCount(InteractionWeight.CLICK),
+                    getTotalCount(InteractionWeight.WISHLIST));
+        } catch (Exception e) {
+            log.warn("상호작용 카운터 동기화 실패, 기존 값 유지", e);
+        }
+    }
+
+    private long countUserFromDb(InteractionWeight type, Long userId) {
+        return switch (type) {
+            case VIEW -> postViewRepository.countByUser_UserId(userId);
+            case CLICK -> clickRepository.countByUserUserId(userId);
+            case WISHLIST -> wishlistRepository.countByUserUserId(userId);
+        };
+    }
+}
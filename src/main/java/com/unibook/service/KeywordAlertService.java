@@ -95,44 +95,38 @@ public class KeywordAlertService {
     
     /**
      * 새 게시글과 키워드 매칭 체크 및 알림 발송
+     * 게시글 커밋 후 아웃박스 워커 트랜잭션에서 호출되며, 조회 실패 시 예외를 던져 재시도되도록 함
      */
     @Transactional
     public void checkKeywordMatching(Post post) {
-        try {
-            // 게시글 제목을 소문자로 변환하여 매칭
-            String postTitle = post.getTitle().toLowerCase();
-            
-            // 모든 키워드 알림 조회
-            List<KeywordAlert> allKeywordAlerts = keywordAlertRepository.findAllWithUser();
+        // 게시글 제목을 소문자로 변환하여 매칭
+        String postTitle = post.getTitle().toLowerCase();
+        
+        // 모든 키워드 알림 조회
+        List<KeywordAlert> allKeywordAlerts = keywordAlertRepository.findAllWithUser();
+        
+        // 매칭되는 키워드 찾기
+        for (KeywordAlert alert : allKeywordAlerts) {
+            String keyword = alert.getKeyword();
             
-            // 매칭되는 키워드 찾기
-            for (KeywordAlert alert : allKeywordAlerts) {
-                String keyword = alert.getKeyword();
+            // 키워드가 게시글 제목에 포함되어 있는지 확인
+            if (postTitle.contains(keyword)) {
+                Long userId = alert.getUser().getUserId();
                 
-                // 키워드가 게시글 제목에 포함되어 있는지 확인
-                if (postTitle.contains(keyword)) {
-                    Long userId = alert.getUser().getUserId();
+                // 자신의 게시글은 알림 발송하지 않음
+                if (!post.getUser().getUserId().equals(userId)) {
+                    // 키워드 매칭 알림 생성 (같은 트랜잭션 - 재시도 시 중복 생성 없음)
+                    notificationService.createKeywordMatchNotification(
+                            userId, 
+                            post.getPostId(), 
+                            post.getTitle(),
+                            keyword
+                    );
                     
-                    // 자신의 게시글은 알림 발송하지 않음
-                    if (!post.getUser().getUserId().equals(userId)) {
-                        // 키워드 매칭 알림 발송 (비동기)
-                        notificationService.createKeywordMatchNotificationAsync(
-                                userId, 
-                                post.getPostId(), 
-                                post.getTitle(),
-                                keyword
-                        );
-                        
-                        log.info("키워드 매칭 알림 발송: userId={}, postId={}, keyword={}", 
-                                userId, post.getPostId(), keyword);
-                    }
+                    log.info("키워드 매칭 알림 발송: userId={}, postId={}, keyword={}", 
+                            userId, post.getPostId(), keyword);
                 }
             }
-            
-        } catch (Exception e) {
-            // 키워드 매칭 실패가 게시글 생성을 방해하면 안 됨
-            log.warn("키워드 매칭 처리 중 오류 발생: postId={}, error={}", 
-                    post.getPostId(), e.getMessage());
         }
     }
     
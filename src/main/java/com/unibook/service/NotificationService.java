@@ -17,6 +17,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 알림 서비스
@@ -50,9 +52,9 @@ public class NotificationService {
             log.info("비동기 알림 생성됨: userId={}, type={}, title={}", 
                     request.getRecipientUserId(), request.getType(), request.getTitle());
             
-            // 실시간 알림 전송
+            // 실시간 알림 전송 (커밋 후)
             NotificationDto.Response response = NotificationDto.Response.from(saved);
-            emitterService.sendNotificationToUser(request.getRecipientUserId(), response);
+            sendAfterCommit(request.getRecipientUserId(), response);
             
         } catch (Exception e) {
             log.error("비동기 알림 생성 실패: userId={}, type={}", 
@@ -78,8 +80,8 @@ public class NotificationService {
         
         NotificationDto.Response response = NotificationDto.Response.from(saved);
         
-        // 실시간 알림 전송
-        emitterService.sendNotificationToUser(request.getRecipientUserId(), response);
+        // 실시간 알림 전송 (커밋 후 - 롤백/재시도된 알림은 보내지 않음)
+        sendAfterCommit(request.getRecipientUserId(), response);
         
         return response;
     }
@@ -90,6 +92,19 @@ public class NotificationService {
     @Async
     @Transactional
     public void createWishlistStatusNotificationAsync(Long recipientUserId, Long postId, Post.PostStatus newStatus) {
+        try {
+            createWishlistStatusNotification(recipientUserId, postId, newStatus);
+        } catch (Exception e) {
+            log.error("찜 상태 변경 알림 생성 실패: userId={}, postId={}", recipientUserId, postId, e);
+        }
+    }
+
+    /**
+     * 찜한 게시글 상태 변경 알림 생성 (동기 - 아웃박스 처리용)
+     * 실패 시 예외를 그대로 던져 아웃박스가 재시도하도록 함
+     */
+    @Transactional
+    public void createWishlistStatusNotification(Long recipientUserId, Long postId, Post.PostStatus newStatus) {
         String title = "찜한 게시글 상태 변경";
         String content = generateStatusChangeMessage(newStatus);
         String url = "/posts/" + postId;
@@ -103,8 +118,8 @@ public class NotificationService {
                 .url(url)
                 .build();
 
-        createNotificationSafely("찜 상태 변경", request, 
-                "userId", recipientUserId, "postId", postId, "status", newStatus);
+        createNotification(request);
+        log.info("찜 상태 변경 알림 생성: userId={}, postId={}, status={}", recipientUserId, postId, newStatus);
     }
 
     /**
@@ -284,27 +299,36 @@ public class NotificationService {
     @Transactional
     public void createWishlistPriceChangeNotificationAsync(Long recipientUserId, Long postId, Integer oldPrice, Integer newPrice) {
         try {
-            String title = "찜한 게시글 가격 변경 💰";
-            String content = generatePriceChangeMessage(oldPrice, newPrice);
-            String url = "/posts/" + postId;
-
-            NotificationDto.CreateRequest request = NotificationDto.CreateRequest.builder()
-                    .recipientUserId(recipientUserId)
-                    .type(Notification.NotificationType.WISHLIST_PRICE_CHANGED)
-                    .relatedPostId(postId)
-                    .title(title)
-                    .content(content)
-                    .url(url)
-                    .build();
-
-            // createNotification을 직접 호출하는 대신 커스텀 로직으로 payload 포함 알림 생성
-            createPriceChangeNotification(request, oldPrice, newPrice);
-            log.info("찜한 게시글 가격 변동 알림 생성: userId={}, postId={}, {}원 -> {}원", 
-                    recipientUserId, postId, oldPrice, newPrice);
+            createWishlistPriceChangeNotification(recipientUserId, postId, oldPrice, newPrice);
         } catch (Exception e) {
             log.error("찜한 게시글 가격 변동 알림 생성 실패: userId={}, postId={}", recipientUserId, postId, e);
         }
     }
+
+    /**
+     * 찜한 게시글 가격 변동 알림 생성 (동기 - 아웃박스 처리용)
+     * 실패 시 예외를 그대로 던져 아웃박스가 재시도하도록 함
+     */
+    @Transactional
+    public void createWishlistPriceChangeNotification(Long recipientUserId, Long postId, Integer oldPrice, Integer newPrice) {
+        String title = "찜한 게시글 가격 변경 💰";
+        String content = generatePriceChangeMessage(oldPrice, newPrice);
+        String url = "/posts/" + postId;
+
+        NotificationDto.CreateRequest request = NotificationDto.CreateRequest.builder()
+                .recipientUserId(recipientUserId)
+                .type(Notification.NotificationType.WISHLIST_PRICE_CHANGED)
+                .relatedPostId(postId)
+                .title(title)
+                .content(content)
+                .url(url)
+                .build();
+
+        // createNotification을 직접 호출하는 대신 커스텀 로직으로 payload 포함 알림 생성
+        createPriceChangeNotification(request, oldPrice, newPrice);
+        log.info("찜한 게시글 가격 변동 알림 생성: userId={}, postId={}, {}원 -> {}원", 
+                recipientUserId, postId, oldPrice, newPrice);
+    }
     
     /**
      * 가격 변동 알림 생성 (payload 포함)
@@ -328,8 +352,8 @@ public class NotificationService {
         
         NotificationDto.Response response = NotificationDto.Response.from(saved);
         
-        // 실시간 알림 전송
-        emitterService.sendNotificationToUser(request.getRecipientUserId(), response);
+        // 실시간 알림 전송 (커밋 후 - 롤백/재시도된 알림은 보내지 않음)
+        sendAfterCommit(request.getRecipientUserId(), response);
         
         return response;
     }
@@ -346,6 +370,22 @@ public class NotificationService {
         }
     }
     
+    /**
+     * 실시간 알림 전송 - 트랜잭션 안이면 커밋 후에만 전송
+     */
+    private void sendAfterCommit(Long recipientUserId, NotificationDto.Response response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emitterService.sendNotificationToUser(recipientUserId, response);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emitterService.sendNotificationToUser(recipientUserId, response);
+            }
+        });
+    }
+    
     /**
      * 로그 메시지 포맷팅
      */
@@ -417,6 +457,19 @@ public class NotificationService {
     @Async
     @Transactional
     public void createKeywordMatchNotificationAsync(Long userId, Long postId, String postTitle, String keyword) {
+        try {
+            createKeywordMatchNotification(userId, postId, postTitle, keyword);
+        } catch (Exception e) {
+            log.error("키워드 매칭 알림 생성 실패: userId={}, postId={}, keyword={}", userId, postId, keyword, e);
+        }
+    }
+
+    /**
+     * 키워드 매칭 알림 (동기 - 아웃박스 처리용)
+     * 실패 시 예외를 그대로 던져 아웃박스가 재시도하도록 함
+     */
+    @Transactional
+    public void createKeywordMatchNotification(Long userId, Long postId, String postTitle, String keyword) {
         String title = "등록한 키워드와 일치하는 게시글이 올라왔어요! 🔔";
         String content = String.format("'%s' 키워드와 일치하는 '%s' 게시글이 등록되었습니다.", keyword, postTitle);
         String url = "/posts/" + postId;
@@ -431,7 +484,7 @@ public class NotificationService {
                 .url(url)
                 .build();
         
-        createNotificationSafely("키워드 매칭", request, 
-                "userId", userId, "postId", postId, "keyword", keyword);
+        createNotification(request);
+        log.info("키워드 매칭 알림 생성: userId={}, postId={}, keyword={}", userId, postId, keyword);
     }
 }
\ No newline at end of file
@@ -0,0 +1,325 @@
+package com.unibook.service;
+
+import com.unibook.domain.entity.OutboxEvent;
+import com.unibook.domain.event.OutboxEnqueuedEvent;
+import com.unibook.exception.BusinessException;
+import com.unibook.repository.OutboxEventRepository;
+import com.unibook.repository.projection.OutboxDueProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 릴레이
+ * - 커밋 직후(OutboxEnqueuedEvent)와 주기적 폴링으로 처리 대상을 batch-size건씩 조회해 워커 풀에 분배
+ * - 워커는 이벤트 1건당 트랜잭션 1개: SKIP LOCKED로 행을 잡고 핸들러 실행 후 DONE 표시
+ *   (다른 워커/인스턴스가 잡은 행은 기다리지 않고 건너뜀)
+ * - 참조 카운트 증감처럼 합산 가능한 이벤트는 조회된 batch를 한 트랜잭션에서 합산 반영
+ * - 실패 시 지수 백오프(+지터)로 재시도, max-attempts를 넘기거나 비즈니스 예외면 FAILED
+ * - 보관 기간이 지난 DONE 이벤트는 주기적으로 정리
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final PostSideEffectService postSideEffectService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final int retentionHours;
+
+    // 조회/분배 전용 단일 스레드 + 처리 워커 풀
+    private final ExecutorService dispatcher;
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       PostSideEffectService postSideEffectService,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.workers:2}") int workers,
+                       @Value("${app.outbox.batch-size:50}") int batchSize,
+                       @Value("${app.outbox.max-attempts:8}") int maxAttempts,
+                       @Value("${app.outbox.backoff-base-ms:2000}") long backoffBaseMs,
+                       @Value("${app.outbox.backoff-max-ms:600000}") long backoffMaxMs,
+                       @Value("${app.outbox.retention-hours:72}") int retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.postSideEffectService = postSideEffectService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMs = Math.max(1, backoffBaseMs);
+        this.backoffMaxMs = Math.max(this.backoffBaseMs, backoffMaxMs);
+        this.retentionHours = retentionHours;
+
+        int poolSize = Math.max(1, workers);
+        this.dispatcher = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("outbox-dispatcher").daemon(true).factory());
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.batchSize * 2),
+                Thread.ofPlatform().name("outbox-worker-", 0).daemon(true).factory());
+    }
+
+    /**
+     * 기록 트랜잭션 커밋 직후 처리 요청
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(OutboxEnqueuedEvent event) {
+        requestDrain();
+    }
+
+    /**
+     * 재시도 대상 및 커밋 직후 알림을 놓친 이벤트(서버 재시작 등) 처리
+     */
+    @Scheduled(initialDelayString = "${app.outbox.poll-interval-ms:5000}",
+               fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        requestDrain();
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 정리
+     */
+    @Scheduled(initialDelayString = "${app.outbox.cleanup-interval-ms:3600000}",
+               fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        if (!enabled || retentionHours <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = outboxEventRepository.deleteProcessedBefore(cutoff, CLEANUP_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == CLEANUP_BATCH_SIZE);
+            if (total > 0) {
+                log.info("아웃박스 처리 완료 이벤트 정리: deleted={}, before={}", total, cutoff);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 정리 실패", e);
+        }
+    }
+
+    /**
+     * 처리 현황 (관리/모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("pending", outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING));
+        stats.put("failed", outboxEventRepository.countByStatus(OutboxEvent.Status.FAILED));
+        stats.put("inFlight", inFlight.size());
+        stats.put("processedSinceStart", processed.sum());
+        stats.put("retriedSinceStart", retried.sum());
+        stats.put("failedSinceStart", failed.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // 여러 번 요청되어도 대기 중인 조회는 1개만 유지
+    private void requestDrain() {
+        if (!enabled || !drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> {
+                drainScheduled.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);
+        }
+    }
+
+    private void drain() {
+        List<OutboxDueProjection> due;
+        try {
+            due = outboxEventRepository.findDue(OutboxEvent.Status.PENDING, LocalDateTime.now(),
+                    PageRequest.of(0, batchSize));
+        } catch (Exception e) {
+            log.warn("아웃박스 처리 대상 조회 실패", e);
+            return;
+        }
+
+        // 묶음 처리 가능한 종류(참조 카운트 증감)는 한 트랜잭션으로 합산 반영, 나머지는 건별 처리
+        List<Long> batchable = new ArrayList<>();
+        List<Long> single = new ArrayList<>();
+        for (OutboxDueProjection event : due) {
+            if (inFlight.add(event.getOutboxEventId())) {
+                (postSideEffectService.supportsBatch(event.getEventType()) ? batchable : single)
+                        .add(event.getOutboxEventId());
+            }
+        }
+
+        boolean dispatched = !batchable.isEmpty() && dispatch(batchable, () -> processBatch(batchable));
+        for (int i = 0; i < single.size(); i++) {
+            Long id = single.get(i);
+            if (!dispatch(List.of(id), () -> process(id))) {
+                // 워커 큐가 가득 참 - 남은 건은 다음 폴링에서 처리
+                single.subList(i + 1, single.size()).forEach(inFlight::remove);
+                break;
+            }
+            dispatched = true;
+        }
+
+        // 한 batch를 가득 채웠으면 밀린 이벤트가 더 있을 수 있으므로 이어서 조회
+        if (due.size() == batchSize && dispatched) {
+            requestDrain();
+        }
+    }
+
+    private boolean dispatch(List<Long> ids, Runnable task) {
+        try {
+            workers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    ids.forEach(inFlight::remove);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            ids.forEach(inFlight::remove);
+            return false;
+        }
+    }
+
+    private void process(Long id) {
+        try {
+            Boolean handled = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findPendingForUpdate(id).orElse(null);
+                if (event == null) {
+                    // 이미 처리되었거나 다른 워커가 처리 중
+                    return false;
+                }
+                postSideEffectService.handle(event);
+                markDone(event);
+                return true;
+            });
+            if (Boolean.TRUE.equals(handled)) {
+                processed.increment();
+            }
+        } catch (Exception e) {
+            recordFailure(id, e);
+        }
+    }
+
+    /**
+     * 묶음 처리 - 실패하면 어느 건 때문인지 알 수 없으므로 건별 처리로 다시 시도
+     */
+    private void processBatch(List<Long> ids) {
+        try {
+            Integer handled = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.findAllPendingForUpdate(ids);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                postSideEffectService.handleBatch(events);
+                events.forEach(this::markDone);
+                return events.size();
+            });
+            if (handled != null) {
+                processed.add(handled);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 묶음 처리 실패, 건별 재처리: size={}, error={}", ids.size(), e.getMessage());
+            ids.forEach(this::process);
+        }
+    }
+
+    private void markDone(OutboxEvent event) {
+        event.setStatus(OutboxEvent.Status.DONE);
+        event.setAttempts(event.getAttempts() + 1);
+        event.setProcessedAt(LocalDateTime.now());
+        event.setLastError(null);
+    }
+
+    /**
+     * 실패 기록 (처리 트랜잭션은 롤백되었으므로 별도 트랜잭션)
+     */
+    private void recordFailure(Long id, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id)
+                    .filter(event -> event.getStatus() == OutboxEvent.Status.PENDING)
+                    .ifPresent(event -> {
+                        int attempts = event.getAttempts() + 1;
+                        event.setAttempts(attempts);
+                        event.setLastError(truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+
+                        if (cause instanceof BusinessException || attempts >= maxAttempts) {
+                            event.setStatus(OutboxEvent.Status.FAILED);
+                            failed.increment();
+                            log.error("아웃박스 이벤트 처리 실패 (재시도 중단): id={}, type={}, attempts={}",
+                                    id, event.getEventType(), attempts, cause);
+                            return;
+                        }
+
+                        event.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(attempts))));
+                        retried.increment();
+                        log.warn("아웃박스 이벤트 처리 실패 (재시도 예정): id={}, type={}, attempts={}, error={}",
+                                id, event.getEventType(), attempts, cause.getMessage());
+                    }));
+        } catch (Exception e) {
+            // 실패 기록도 못 하면 PENDING 그대로 두고 다음 폴링에서 다시 시도
+            log.warn("아웃박스 실패 기록 실패: id={}", id, e);
+        }
+    }
+
+    // base * 2^(attempts-1), 최대 backoffMaxMs, 0~20% 지터 (동시 재시도 분산)
+    private long backoffMillis(int attempts) {
+        long delay = backoffBaseMs << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= LAST_ERROR_MAX_LENGTH ? message : message.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+}
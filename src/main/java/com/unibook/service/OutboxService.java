@@ -0,0 +1,93 @@
+package com.unibook.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibook.domain.entity.OutboxEvent;
+import com.unibook.domain.event.OutboxEnqueuedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출 측 트랜잭션에 함께 기록되므로 롤백된 변경의 후속 작업은 실행되지 않고,
+ * 커밋된 변경의 후속 작업은 서버가 중간에 내려가도 다음 폴링에서 처리됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    // 같은 키가 이미 있으면 아무것도 하지 않음 (유니크 제약 위반으로 호출 측 트랜잭션을 실패시키지 않음)
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO outbox_events "
+                    + "(event_type, aggregate_id, idempotency_key, payload, status, attempts, next_attempt_at, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 이벤트 기록 (트랜잭션 안에서만 호출 가능)
+     * 같은 idempotencyKey는 유니크 제약(uk_outbox_idempotency_key) 기준으로 한 번만 기록되고,
+     * 중복은 INSERT IGNORE로 무시되어 호출 측 트랜잭션(게시글 저장 등)은 그대로 커밋됨
+     *
+     * @return 새로 기록했으면 true, 같은 키가 이미 있으면 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean enqueue(OutboxEvent.EventType eventType, Long aggregateId, String idempotencyKey, Object payload) {
+        String json = writePayload(eventType, payload);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"outbox_event_id"});
+            statement.setString(1, eventType.name());
+            statement.setLong(2, aggregateId);
+            statement.setString(3, idempotencyKey);
+            statement.setString(4, json);
+            statement.setString(5, OutboxEvent.Status.PENDING.name());
+            statement.setTimestamp(6, now);
+            statement.setTimestamp(7, now);
+            return statement;
+        }, keyHolder);
+        if (inserted == 0) {
+            log.debug("아웃박스 중복 이벤트 무시: type={}, key={}", eventType, idempotencyKey);
+            return false;
+        }
+
+        // 커밋 후 릴레이를 바로 깨움 (롤백되면 전달되지 않음)
+        Number id = keyHolder.getKey();
+        eventPublisher.publishEvent(new OutboxEnqueuedEvent(id != null ? id.longValue() : null));
+        return true;
+    }
+
+    /**
+     * 기록된 payload 역직렬화
+     */
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 역직렬화 실패: id=" + event.getOutboxEventId(), e);
+        }
+    }
+
+    private String writePayload(OutboxEvent.EventType eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 직렬화 실패: type=" + eventType, e);
+        }
+    }
+}
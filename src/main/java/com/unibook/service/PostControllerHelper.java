@@ -3,6 +3,7 @@ package com.unibook.service;
 import com.unibook.controller.dto.PostSearchRequest;
 import com.unibook.domain.dto.PostResponseDto;
 import com.unibook.domain.entity.Post;
+import com.unibook.repository.projection.PostCardProjection;
 import com.unibook.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,7 +54,7 @@ public class PostControllerHelper {
      */
     public Page<PostResponseDto> getPostsWithDto(PostSearchRequest request, Pageable pageable) {
         log.info("PostControllerHelper - 학과 검색 전달: departmentId={}", request.getDepartmentId());
-        Page<Post> posts = postService.getPostsPage(
+        Page<PostCardProjection> posts = postService.getPostsPage(
                 pageable, 
                 request.getSearch(), 
                 request.getProductType(), 
@@ -69,8 +70,8 @@ public class PostControllerHelper {
                 request.getDepartmentId()
         );
         
-        // Post 엔티티를 PostResponseDto로 변환하여 Hibernate proxy 문제 방지
-        return posts.map(PostResponseDto::listFrom);
+        // 카드 프로젝션을 바로 DTO로 변환 (엔티티 로딩 없음)
+        return posts.map(PostResponseDto::fromCard);
     }
     
     /**
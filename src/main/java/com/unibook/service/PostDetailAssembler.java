@@ -0,0 +1,163 @@
+package com.unibook.service;
+
+import com.unibook.domain.entity.Post;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 페이지 부가 데이터 병렬 조립
+ * - 이미 로드한 게시글을 기준으로 서로 독립적인 작업(조회수 증가, 같은 책/과목 게시글, 찜 여부, 상태 변경 가능 여부)을
+ *   작업마다 가상 스레드 하나씩 동시에 실행
+ * - 요청별 마감 시간 안에 끝나지 않은 조회는 취소하고 기본값으로 대체 (부분 응답)
+ * - 조회 작업은 assemble 안에서 완료 또는 취소되어 요청 범위를 벗어나지 않음
+ * - 조회수 증가(쓰기)는 마감 시간이 지나도 취소하지 않으므로 응답 후에도 계속 실행될 수 있음
+ *   (게시글 엔티티가 아닌 postId만 사용해 요청 스레드의 영속성 컨텍스트와 무관)
+ */
+@Service
+@Slf4j
+public class PostDetailAssembler {
+
+    private static final int RELATED_LIMIT = 4;
+
+    /**
+     * 상세 페이지 부가 데이터
+     *
+     * @param viewCount 화면 표시용 조회수 (이번 조회 포함)
+     * @param degraded 마감 시간 초과/오류로 기본값이 들어간 항목이 있는지 여부
+     */
+    public record PostDetailExtras(List<Post> relatedPosts,
+                                   List<Post> subjectRelatedPosts,
+                                   boolean wishlisted,
+                                   boolean canChangeStatus,
+                                   int viewCount,
+                                   boolean degraded) {
+    }
+
+    private final PostService postService;
+    private final WishlistService wishlistService;
+    private final PostViewService postViewService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long deadlineMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PostDetailAssembler(PostService postService,
+                               WishlistService wishlistService,
+                               PostViewService postViewService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.post-detail.fanout-deadline-ms:1500}") long deadlineMs) {
+        this.postService = postService;
+        this.wishlistService = wishlistService;
+        this.postViewService = postViewService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.deadlineMs = deadlineMs;
+    }
+
+    /**
+     * 부가 데이터 조립
+     *
+     * @param post 이미 로드한 게시글 (다시 조회하지 않음)
+     * @param viewerId 조회자 ID (비로그인 시 null)
+     * @param isOwner 작성자 여부
+     * @param countView 이번 요청에서 조회수를 올릴지 여부 (세션 기준 첫 조회)
+     */
+    public PostDetailExtras assemble(Post post, Long viewerId, boolean isOwner, boolean countView) {
+        Long postId = post.getPostId();
+        Long bookId = post.getBook() != null ? post.getBook().getBookId() : null;
+        Long subjectId = post.getSubject() != null ? post.getSubject().getSubjectId() : null;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        AtomicBoolean degraded = new AtomicBoolean(false);
+
+        Future<Void> viewTask = countView ? submit(() -> {
+            postService.incrementViewCount(postId);
+            // 추천 시스템용 조회 기록 (큐에 적재 후 배치 저장)
+            postViewService.recordView(postId, viewerId);
+            return null;
+        }) : null;
+        Future<List<Post>> relatedTask = bookId != null
+                ? submit(() -> withImages(() -> postService.getRelatedPosts(bookId, postId, RELATED_LIMIT)))
+                : null;
+        Future<List<Post>> subjectRelatedTask = subjectId != null
+                ? submit(() -> withImages(() -> postService.getRelatedPostsBySubject(subjectId, postId, RELATED_LIMIT)))
+                : null;
+        Future<Boolean> wishlistTask = viewerId != null && !isOwner
+                ? submit(() -> wishlistService.isWishlisted(viewerId, postId))
+                : null;
+        Future<Boolean> statusTask = isOwner
+                ? submit(() -> postService.canChangePostStatus(post))
+                : null;
+
+        List<Post> relatedPosts = await(relatedTask, deadline, List.of(), "relatedPosts", postId, degraded, true);
+        List<Post> subjectRelatedPosts = await(subjectRelatedTask, deadline, List.of(), "subjectRelatedPosts", postId, degraded, true);
+        boolean wishlisted = await(wishlistTask, deadline, false, "wishlisted", postId, degraded, true);
+        boolean canChangeStatus = await(statusTask, deadline, false, "canChangeStatus", postId, degraded, true);
+        // 쓰기 작업은 마감 시간이 지나도 취소하지 않고 끝까지 진행
+        await(viewTask, deadline, null, "viewCount", postId, degraded, false);
+
+        int viewCount = post.getViewCount() + (countView ? 1 : 0);
+        return new PostDetailExtras(relatedPosts, subjectRelatedPosts, wishlisted, canChangeStatus,
+                viewCount, degraded.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * 작업 스레드의 트랜잭션 안에서 조회하고 화면에서 쓰는 이미지 컬렉션까지 초기화
+     * (요청 스레드의 영속성 컨텍스트 밖에서 로드되므로 뷰 렌더링 시 지연 로딩 불가)
+     */
+    private List<Post> withImages(Supplier<List<Post>> loader) {
+        return readOnlyTransaction.execute(status -> {
+            List<Post> posts = loader.get();
+            posts.forEach(related -> Hibernate.initialize(related.getPostImages()));
+            return posts;
+        });
+    }
+
+    private <T> T await(Future<T> future, long deadlineNanos, T fallback, String name, Long postId,
+                        AtomicBoolean degraded, boolean cancelOnTimeout) {
+        if (future == null) {
+            return fallback;
+        }
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (cancelOnTimeout) {
+                future.cancel(true);
+            }
+            degraded.set(true);
+            log.warn("상세 페이지 {} 마감 시간 초과, 기본값 사용: postId={}, deadlineMs={}", name, postId, deadlineMs);
+        } catch (ExecutionException e) {
+            degraded.set(true);
+            log.warn("상세 페이지 {} 조회 실패, 기본값 사용: postId={}", name, postId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            degraded.set(true);
+        }
+        return fallback;
+    }
+}
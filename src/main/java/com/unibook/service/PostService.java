@@ -3,10 +3,10 @@ package com.unibook.service;
 import com.unibook.common.AppConstants;
 import com.unibook.domain.dto.PostRequestDto;
 import com.unibook.domain.dto.PostResponseDto;
-import com.unibook.domain.dto.PriceTrendDto;
 import com.unibook.domain.entity.*;
+import com.unibook.domain.event.PostSavedEvent;
+import com.unibook.domain.event.PostStatusChangedEvent;
 import com.unibook.exception.BusinessException;
-import com.unibook.exception.DuplicateResourceException;
 import com.unibook.exception.ResourceNotFoundException;
 import com.unibook.exception.ValidationException;
 import com.unibook.repository.BookRepository;
@@ -14,13 +14,14 @@ import com.unibook.repository.ChatRoomRepository;
 import com.unibook.repository.PostRepository;
 import com.unibook.repository.ReportRepository;
 import com.unibook.repository.SubjectRepository;
-import com.unibook.repository.WishlistRepository;
 import com.unibook.domain.entity.Report;
+import com.unibook.repository.projection.PostCardProjection;
 import com.unibook.repository.projection.PostSearchProjection;
 import com.unibook.util.FileUploadUtil;
 import com.unibook.util.QueryNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -48,14 +49,13 @@ public class PostService {
     private final PostRepository postRepository;
     private final BookRepository bookRepository;
     private final SubjectRepository subjectRepository;
-    private final WishlistRepository wishlistRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ReportRepository reportRepository;
     private final FileUploadUtil fileUploadUtil;
-    private final SubjectBookService subjectBookService;
+    private final PostSideEffectService postSideEffectService;
     private final NotificationService notificationService;
-    private final KeywordAlertService keywordAlertService;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 조회수 중복 방지를 위한 캐시 (userId/sessionId -> postId -> lastViewTime)
     private final Map<String, Map<Long, LocalDateTime>> viewCache = new ConcurrentHashMap<>();
@@ -64,8 +64,9 @@ public class PostService {
     /**
      * 게시글 페이지 조회 (필터링 포함)
      * Full-text 검색 및 필터링 지원 - 모든 조건이 함께 적용됨
+     * 목록 화면용 카드 프로젝션으로 조회 (엔티티 그래프 로딩 없음)
      */
-    public Page<Post> getPostsPage(Pageable pageable, String search, 
+    public Page<PostCardProjection> getPostsPage(Pageable pageable, String search, 
                                   Post.ProductType productType, Post.PostStatus status, Long schoolId, String sortBy,
                                   Integer minPrice, Integer maxPrice, Long subjectId, Long professorId, String bookTitle, Long bookId, Long departmentId) {
         
@@ -116,20 +117,18 @@ public class PostService {
                         pageable
                 );
                 
-                // 검색 결과가 있으면 Post 엔티티로 변환 및 추가 필터링
+                // 검색 결과가 있으면 카드 조회 및 추가 필터링
                 if (!searchResults.isEmpty()) {
                     List<Long> postIds = searchResults.getContent().stream()
                             .map(PostSearchProjection::getPostId)
                             .collect(Collectors.toList());
                     
-                    // ID로 Post 엔티티들을 조회 (Fetch Join)
-                    List<Post> posts = postRepository.findAllByIdInWithDetails(postIds);
-                    
-                    // 추가 필터링 적용 (subjectId, professorId, bookTitle, departmentId)
-                    List<Post> filteredPosts = applyAdditionalFilters(posts, subjectId, professorId, trimmedBookTitle, departmentId);
+                    // ID로 카드 조회 + 추가 필터링 (subjectId, professorId, departmentId, bookTitle)
+                    List<PostCardProjection> filteredPosts = postRepository.findPostCardsByIdIn(
+                            postIds, subjectId, professorId, departmentId, trimmedBookTitle);
                     
                     // 정렬 적용
-                    List<Post> orderedPosts = applySorting(filteredPosts, postIds, sortBy);
+                    List<PostCardProjection> orderedPosts = applySorting(filteredPosts, postIds, sortBy);
                     
                     // 페이징 처리 (추가 필터링으로 인한 결과 수 변화 반영)
                     int start = (int) pageable.getOffset();
@@ -139,7 +138,7 @@ public class PostService {
                         return Page.empty(pageable);
                     }
                     
-                    List<Post> pagedPosts = orderedPosts.subList(start, end);
+                    List<PostCardProjection> pagedPosts = orderedPosts.subList(start, end);
                     
                     // 전체 결과 수는 추가 필터링 후의 결과 수로 설정
                     return new PageImpl<>(pagedPosts, pageable, orderedPosts.size());
@@ -154,57 +153,19 @@ public class PostService {
         // 검색어가 없거나 너무 짧은 경우 - 모든 필터링 적용
         log.info("통합 필터링 조회: subjectId={}, professorId={}, departmentId={}, bookTitle='{}', bookId={}, status={}, productType={}", 
                 subjectId, professorId, departmentId, trimmedBookTitle, bookId, status, productType);
-        return postRepository.findPostsWithOptionalFilters(
+        return postRepository.findPostCardsWithOptionalFilters(
             subjectId, professorId, departmentId, trimmedBookTitle, bookId,
             status, productType, schoolId, minPrice, maxPrice, pageable);
     }
     
-    /**
-     * Full-text 검색 결과에 추가 필터 적용
-     */
-    private List<Post> applyAdditionalFilters(List<Post> posts, Long subjectId, Long professorId, String bookTitle, Long departmentId) {
-        return posts.stream()
-                .filter(post -> {
-                    // 과목 필터
-                    if (subjectId != null) {
-                        return post.getSubject() != null && subjectId.equals(post.getSubject().getSubjectId());
-                    }
-                    
-                    // 교수 필터
-                    if (professorId != null) {
-                        return post.getSubject() != null && 
-                               post.getSubject().getProfessor() != null && 
-                               professorId.equals(post.getSubject().getProfessor().getProfessorId());
-                    }
-                    
-                    // 학과 필터
-                    if (departmentId != null) {
-                        return post.getSubject() != null && 
-                               post.getSubject().getProfessor() != null &&
-                               post.getSubject().getProfessor().getDepartment() != null && 
-                               departmentId.equals(post.getSubject().getProfessor().getDepartment().getDepartmentId());
-                    }
-                    
-                    // 책 제목 필터
-                    if (bookTitle != null) {
-                        return post.getBook() != null && 
-                               post.getBook().getTitle() != null &&
-                               post.getBook().getTitle().toLowerCase().contains(bookTitle.toLowerCase());
-                    }
-                    
-                    return true;
-                })
-                .collect(Collectors.toList());
-    }
-    
     /**
      * 정렬 적용
      */
-    private List<Post> applySorting(List<Post> posts, List<Long> originalOrder, String sortBy) {
+    private List<PostCardProjection> applySorting(List<PostCardProjection> posts, List<Long> originalOrder, String sortBy) {
         if ("RELEVANCE".equals(sortBy)) {
             // 관련도순 - 원래 검색 결과 순서 유지
-            Map<Long, Post> postMap = posts.stream()
-                    .collect(Collectors.toMap(Post::getPostId, post -> post));
+            Map<Long, PostCardProjection> postMap = posts.stream()
+                    .collect(Collectors.toMap(PostCardProjection::getPostId, post -> post));
             
             return originalOrder.stream()
                     .map(postMap::get)
@@ -212,22 +173,22 @@ public class PostService {
                     .collect(Collectors.toList());
         } else {
             // 다른 정렬 옵션 적용
-            Stream<Post> postStream = posts.stream();
+            Stream<PostCardProjection> postStream = posts.stream();
             
             switch (sortBy) {
                 case "PRICE_ASC":
-                    postStream = postStream.sorted(Comparator.comparing(Post::getPrice));
+                    postStream = postStream.sorted(Comparator.comparing(PostCardProjection::getPrice));
                     break;
                 case "PRICE_DESC":
-                    postStream = postStream.sorted(Comparator.comparing(Post::getPrice).reversed());
+                    postStream = postStream.sorted(Comparator.comparing(PostCardProjection::getPrice).reversed());
                     break;
                 case "VIEW_COUNT":
-                    postStream = postStream.sorted(Comparator.comparing(Post::getViewCount, 
+                    postStream = postStream.sorted(Comparator.comparing(PostCardProjection::getViewCount, 
                             Comparator.nullsLast(Comparator.naturalOrder())).reversed());
                     break;
                 case "NEWEST":
                 default:
-                    postStream = postStream.sorted(Comparator.comparing(Post::getCreatedAt).reversed());
+                    postStream = postStream.sorted(Comparator.comparing(PostCardProjection::getCreatedAt).reversed());
                     break;
             }
             
@@ -282,17 +243,17 @@ public class PostService {
     }
     
     /**
-     * 사용자별 게시글 조회 (Fetch Join으로 N+1 방지)
+     * 사용자별 게시글 카드 조회 (목록 화면용 프로젝션)
      */
-    public Page<Post> getPostsByUserId(Long userId, Pageable pageable) {
-        return postRepository.findUserPostsByUserUnified(userId, null, null, pageable);
+    public Page<PostCardProjection> getPostsByUserId(Long userId, Pageable pageable) {
+        return postRepository.findUserPostCards(userId, null, null, pageable);
     }
     
     /**
-     * 사용자별 게시글 조회 (가격 필터링 포함)
+     * 사용자별 게시글 카드 조회 (가격 필터링 포함)
      */
-    public Page<Post> getPostsByUserId(Long userId, Pageable pageable, Integer minPrice, Integer maxPrice) {
-        return postRepository.findUserPostsByUserUnified(userId, minPrice, maxPrice, pageable);
+    public Page<PostCardProjection> getPostsByUserId(Long userId, Pageable pageable, Integer minPrice, Integer maxPrice) {
+        return postRepository.findUserPostCards(userId, minPrice, maxPrice, pageable);
     }
     
     /**
@@ -371,9 +332,10 @@ public class PostService {
             // 4. Post 저장
             Post savedPost = postRepository.save(post);
             
-            // 5. SubjectBook 연결 처리 (과목과 책이 모두 연결된 경우)
+            // 5. SubjectBook 연결 처리 (과목과 책이 모두 연결된 경우, 커밋 후 아웃박스에서 반영)
             if (savedPost.getSubject() != null && savedPost.getBook() != null) {
-                handleSubjectBookConnection(savedPost);
+                postSideEffectService.subjectBookCount(savedPost,
+                        savedPost.getSubject().getSubjectId(), savedPost.getBook().getBookId(), 1);
             }
             
             // 6. 이미지 처리
@@ -381,8 +343,10 @@ public class PostService {
                 processImages(savedPost, images);
             }
             
-            // 7. 키워드 매칭 및 알림 발송 (비동기)
-            keywordAlertService.checkKeywordMatching(savedPost);
+            // 7. 키워드 매칭 및 알림 발송 (커밋 후 아웃박스에서 처리)
+            postSideEffectService.keywordMatch(savedPost.getPostId());
+            
+            eventPublisher.publishEvent(new PostSavedEvent(savedPost.getPostId(), true));
             
             log.info("게시글 생성 완료: postId={}", savedPost.getPostId());
             return savedPost;
@@ -426,7 +390,7 @@ public class PostService {
             // 3. Subject 연결 업데이트
             updateSubjectConnection(post, postDto);
             
-            // 4. SubjectBook reference count 관리
+            // 4. SubjectBook reference count 관리 (커밋 후 아웃박스에서 반영)
             updateSubjectBookReferenceCount(post, oldSubjectId, oldBookId, hadSubjectBookConnection);
             
             // 5. 이미지 처리 (삭제, 추가, 순서 업데이트)
@@ -439,6 +403,8 @@ public class PostService {
             // 6. 변경사항 감지 및 알림 발송  
             handleChangeNotifications(updatedPost, oldPrice, oldStatus, postId);
             
+            eventPublisher.publishEvent(new PostSavedEvent(postId, false));
+            
             log.info("게시글 수정 완료: postId={}", postId);
             
             return updatedPost;
@@ -456,32 +422,29 @@ public class PostService {
     public void deletePost(Long postId) {
         log.info("게시글 삭제 시작: postId={}", postId);
         
+        // 알림 테이블은 파티션 테이블이라 FK CASCADE가 없으므로 직접 삭제
+        // (영속성 컨텍스트를 비우는 벌크 삭제라 게시글 조회 전에 실행)
+        notificationService.deleteNotificationsByPostId(postId);
+        
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
         
-        // SubjectBook reference count 감소 (게시글 삭제 전에 처리)
+        // SubjectBook reference count 감소 (삭제와 같은 트랜잭션에 기록, 커밋 후 반영)
         if (post.getSubject() != null && post.getBook() != null) {
-            try {
-                subjectBookService.decrementPostCount(
-                    post.getSubject().getSubjectId(), 
-                    post.getBook().getBookId()
-                );
-                log.info("게시글 삭제로 인한 SubjectBook 참조 카운트 감소 완료: postId={}, subjectId={}, bookId={}", 
-                        postId, post.getSubject().getSubjectId(), post.getBook().getBookId());
-            } catch (Exception e) {
-                log.warn("SubjectBook 참조 카운트 감소 실패 (게시글 삭제는 계속 진행): postId={}, error={}", 
-                        postId, e.getMessage());
-            }
+            postSideEffectService.subjectBookCount(post,
+                    post.getSubject().getSubjectId(), post.getBook().getBookId(), -1);
         }
         
         // 이미지 파일 삭제
         for (PostImage image : post.getPostImages()) {
-            fileUploadUtil.deleteFile(image.getImageUrl());
+            deleteImageFiles(image);
         }
         
         // 게시글 삭제 - JPA의 기본 delete 사용
         // ON DELETE SET NULL이 설정되어 있으면 자동으로 ChatRoom의 post_id가 NULL로 변경됨
+        Post.PostStatus oldStatus = post.getStatus();
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostStatusChangedEvent.deleted(postId, oldStatus));
         
         log.info("게시글 삭제 완료: postId={}", postId);
     }
@@ -515,124 +478,22 @@ public class PostService {
             postRepository.save(post);
             
             log.info("게시글 상태 변경: postId={}, oldStatus={}, newStatus={}", postId, oldStatus, status);
+            eventPublisher.publishEvent(new PostStatusChangedEvent(postId, oldStatus, status));
             
-            // 찜한 사용자들에게 알림 발송 (비동기)
-            publishWishlistStatusChangeNotifications(postId, status);
+            // 찜한 사용자들에게 알림 발송 (커밋 후 아웃박스에서 처리)
+            postSideEffectService.wishlistStatusChanged(post, status);
         } else {
             log.info("상태 변경 없음 - updatePostStatus: postId={}, status={}", postId, status);
         }
     }
     
-    /**
-     * 게시글을 찜한 사용자들에게 상태 변경 알림 발송 (postId 버전)
-     */
-    private void publishWishlistStatusChangeNotifications(Long postId, Post.PostStatus newStatus) {
-        try {
-            // 해당 게시글을 찜한 모든 사용자 조회
-            List<Wishlist> wishlists = wishlistRepository.findByPostIdWithUser(postId);
-            
-            if (wishlists.isEmpty()) {
-                log.debug("게시글을 찜한 사용자가 없음: postId={}", postId);
-                return;
-            }
-            
-            log.info("찜 상태 변경 알림 발송 시작: postId={}, userCount={}", postId, wishlists.size());
-            
-            // 각 사용자에게 비동기로 알림 발송
-            for (Wishlist wishlist : wishlists) {
-                try {
-                    Long recipientUserId = wishlist.getUser().getUserId();
-                    notificationService.createWishlistStatusNotificationAsync(recipientUserId, postId, newStatus);
-                } catch (Exception e) {
-                    // 개별 사용자 알림 실패는 로그만 남기고 계속 진행
-                    log.warn("개별 알림 발송 실패: userId={}, postId={}, error={}", 
-                            wishlist.getUser().getUserId(), postId, e.getMessage());
-                }
-            }
-            
-            log.info("찜 상태 변경 알림 발송 완료: postId={}", postId);
-            
-        } catch (Exception e) {
-            // 알림 발송 실패가 게시글 상태 변경을 방해하면 안 됨
-            log.warn("알림 발송 중 오류 발생: postId={}, error={}", postId, e.getMessage());
-        }
-    }
-
     /**
      * 게시글을 찜한 사용자들에게 상태 변경 알림 발송 (Post 객체 버전)
-     * 테스트 및 직접 호출용
+     * 호출 측 트랜잭션에 아웃박스로 기록되어 커밋 후 처리됨
      */
+    @Transactional
     public void publishWishlistStatusChangeNotifications(Post post, Post.PostStatus newStatus) {
-        // 이 메서드는 이미 상태가 변경된 후 호출되므로 post.getStatus() == newStatus가 항상 true
-        // 따라서 이 체크는 불필요함 - 호출하는 쪽에서 이미 상태 변경을 확인했음
-
-        try {
-            // 해당 게시글을 찜한 모든 사용자 조회
-            List<Wishlist> wishlists = wishlistRepository.findByPostIdWithUser(post.getPostId());
-            
-            if (wishlists.isEmpty()) {
-                log.debug("게시글을 찜한 사용자가 없음: postId={}", post.getPostId());
-                return;
-            }
-            
-            log.info("찜 상태 변경 알림 발송 시작: postId={}, userCount={}", post.getPostId(), wishlists.size());
-            
-            // 각 사용자에게 비동기로 알림 발송
-            for (Wishlist wishlist : wishlists) {
-                try {
-                    Long recipientUserId = wishlist.getUser().getUserId();
-                    notificationService.createWishlistStatusNotificationAsync(recipientUserId, post.getPostId(), newStatus);
-                } catch (Exception e) {
-                    // 개별 사용자 알림 실패는 로그만 남기고 계속 진행
-                    log.warn("개별 알림 발송 실패: userId={}, postId={}, error={}", 
-                            wishlist.getUser().getUserId(), post.getPostId(), e.getMessage());
-                }
-            }
-            
-            log.info("찜 상태 변경 알림 발송 완료: postId={}", post.getPostId());
-            
-        } catch (Exception e) {
-            // 알림 발송 실패가 게시글 상태 변경을 방해하면 안 됨
-            log.warn("알림 발송 중 오류 발생: postId={}, error={}", post.getPostId(), e.getMessage());
-        }
-    }
-    
-    /**
-     * 게시글을 찜한 사용자들에게 가격 변동 알림 발송
-     */
-    private void notifyWishlistUsersOfPriceChange(Post post, Integer oldPrice, Integer newPrice) {
-        try {
-            // 해당 게시글을 찜한 모든 사용자 조회
-            List<Wishlist> wishlists = wishlistRepository.findByPostIdWithUser(post.getPostId());
-            
-            if (wishlists.isEmpty()) {
-                log.debug("게시글을 찜한 사용자가 없음: postId={}", post.getPostId());
-                return;
-            }
-            
-            log.info("찜한 게시글 가격 변동 알림 발송 시작: postId={}, userCount={}, {}원 -> {}원", 
-                    post.getPostId(), wishlists.size(), oldPrice, newPrice);
-            
-            // 각 사용자에게 비동기로 알림 발송
-            for (Wishlist wishlist : wishlists) {
-                try {
-                    Long recipientUserId = wishlist.getUser().getUserId();
-                    notificationService.createWishlistPriceChangeNotificationAsync(
-                            recipientUserId, post.getPostId(), oldPrice, newPrice);
-                } catch (Exception e) {
-                    // 개별 사용자 알림 실패는 로그만 남기고 계속 진행
-                    log.warn("개별 가격 변동 알림 발송 실패: userId={}, postId={}, error={}", 
-                            wishlist.getUser().getUserId(), post.getPostId(), e.getMessage());
-                }
-            }
-            
-            log.info("찜한 게시글 가격 변동 알림 발송 완료: postId={}", post.getPostId());
-            
-        } catch (Exception e) {
-            // 알림 발송 실패가 게시글 수정을 방해하면 안 됨
-            log.warn("가격 변동 알림 발송 중 오류 발생: postId={}, oldPrice={}, newPrice={}, error={}", 
-                    post.getPostId(), oldPrice, newPrice, e.getMessage());
-        }
+        postSideEffectService.wishlistStatusChanged(post, newStatus);
     }
     
     /**
@@ -640,11 +501,10 @@ public class PostService {
      */
     @Transactional
     public void incrementViewCount(Long postId) {
-        Post post = postRepository.findById(postId).orElse(null);
-        if (post != null) {
-            post.setViewCount(post.getViewCount() + 1);
-            postRepository.save(post);
-            log.debug("조회수 증가: postId={}, viewCount={}", postId, post.getViewCount());
+        // 엔티티를 다시 읽지 않고 원자적으로 증가 (동시 조회 시 증가분 유실 방지)
+        int updated = postRepository.incrementViewCount(postId);
+        if (updated > 0) {
+            log.debug("조회수 증가: postId={}", postId);
         }
     }
     
@@ -653,23 +513,34 @@ public class PostService {
      */
     public boolean canChangePostStatus(Long postId) {
         try {
-            Post post = postRepository.findById(postId).orElse(null);
-            if (post == null) {
-                return false;
-            }
-            
-            // BLOCKED 상태인 경우 변경 불가
-            if (post.getStatus() == Post.PostStatus.BLOCKED) {
-                return false;
-            }
-            
+            return canChangePostStatus(postRepository.findById(postId).orElse(null));
+        } catch (Exception e) {
+            log.warn("게시글 상태 변경 가능 여부 확인 실패: postId={}", postId, e);
+            return false;
+        }
+    }
+    
+    /**
+     * 게시글의 상태 변경 가능 여부 확인 (이미 조회한 게시글 사용, 신고 수만 조회)
+     */
+    public boolean canChangePostStatus(Post post) {
+        if (post == null) {
+            return false;
+        }
+        
+        // BLOCKED 상태인 경우 변경 불가
+        if (post.getStatus() == Post.PostStatus.BLOCKED) {
+            return false;
+        }
+        
+        try {
             // 3개 이상 신고된 경우 변경 불가
             long uniqueReporters = reportRepository.countUniqueReportersForTarget(
-                    Report.ReportType.POST, postId);
+                    Report.ReportType.POST, post.getPostId());
             return uniqueReporters < 3;
             
         } catch (Exception e) {
-            log.warn("게시글 상태 변경 가능 여부 확인 실패: postId={}", postId, e);
+            log.warn("게시글 상태 변경 가능 여부 확인 실패: postId={}", post.getPostId(), e);
             return false;
         }
     }
@@ -731,7 +602,7 @@ public class PostService {
                 fileUploadUtil.validateFile(image);
                 
                 // 이미지 저장
-                String imagePath = fileUploadUtil.saveFile(image, "/images/posts/");
+                String imagePath = fileUploadUtil.saveFile(image);
                 
                 // PostImage 엔티티 생성
                 PostImage postImage = PostImage.builder()
@@ -785,7 +656,7 @@ public class PostService {
                 fileUploadUtil.validateFile(image);
                 
                 // 이미지 저장
-                String imagePath = fileUploadUtil.saveFile(image, "/images/posts/");
+                String imagePath = fileUploadUtil.saveFile(image);
                 
                 // 지정된 순서가 있으면 사용, 없으면 기본값 (현재 최대값 + 1)
                 Integer desiredOrder = fileIndexToOrder.get(i);
@@ -819,12 +690,22 @@ public class PostService {
         
         for (PostImage image : imagesToDelete) {
             // 파일 삭제
-            fileUploadUtil.deleteFile(image.getImageUrl());
+            deleteImageFiles(image);
             // 엔티티에서 제거
             post.getPostImages().remove(image);
         }
     }
     
+    /**
+     * 원본과 파생 이미지(썸네일/카드/상세) 파일 삭제
+     */
+    private void deleteImageFiles(PostImage image) {
+        fileUploadUtil.deleteFile(image.getImageUrl());
+        Stream.of(image.getThumbnailUrl(), image.getCardUrl(), image.getDetailUrl())
+                .filter(Objects::nonNull)
+                .forEach(fileUploadUtil::deleteFile);
+    }
+    
     /**
      * 이미지 순서 업데이트
      */
@@ -875,8 +756,8 @@ public class PostService {
     
     // DTO 반환 메서드
     public List<PostResponseDto> getRecentPostDtos(int limit) {
-        return getRecentPosts(limit).stream()
-                .map(PostResponseDto::listFrom)
+        return postRepository.findRecentPostCards(PageRequest.of(0, limit)).stream()
+                .map(PostResponseDto::fromCard)
                 .collect(Collectors.toList());
     }
     
@@ -935,8 +816,10 @@ public class PostService {
             throw new ValidationException("이미 차단된 게시글입니다.");
         }
         
+        Post.PostStatus oldStatus = post.getStatus();
         post.setStatus(Post.PostStatus.BLOCKED);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostStatusChangedEvent(postId, oldStatus, Post.PostStatus.BLOCKED));
         
         log.info("게시글 차단 완료: postId={}", postId);
     }
@@ -956,99 +839,11 @@ public class PostService {
         // 차단 해제 시 판매중 상태로 변경
         post.setStatus(Post.PostStatus.AVAILABLE);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostStatusChangedEvent(postId, Post.PostStatus.BLOCKED, Post.PostStatus.AVAILABLE));
         
         log.info("게시글 차단 해제 완료: postId={}", postId);
     }
     
-    /**
-     * SubjectBook 연결 처리 및 reference count 증가
-     * 책임 분리: productType 체크는 호출부에서, 여기서는 순수 매핑 처리만
-     */
-    private void handleSubjectBookConnection(Post post) {
-        // 사전 조건: 과목과 책이 모두 연결되어 있음
-        // (호출부에서 체크 완료)
-        
-        try {
-            // SubjectBook 연결 찾기/생성 및 reference count 증가
-            subjectBookService.incrementPostCount(
-                post.getSubject().getSubjectId(), 
-                post.getBook().getBookId()
-            );
-            
-            log.info("SubjectBook 연결 및 참조 카운트 증가 완료: postId={}, subjectId={}, bookId={}", 
-                    post.getPostId(), post.getSubject().getSubjectId(), post.getBook().getBookId());
-                    
-        } catch (ResourceNotFoundException | ValidationException | DuplicateResourceException e) {
-            // 예상 가능한 비즈니스 예외만 처리 - 경고 로그 후 계속 진행
-            log.warn("SubjectBook 연결 실패 (게시글 처리는 계속 진행): postId={}, subjectId={}, bookId={}, error={}", 
-                    post.getPostId(), post.getSubject().getSubjectId(), post.getBook().getBookId(), e.getMessage());
-        }
-        // NPE, 프로그래밍 오류 등은 상위로 전파하여 개발자가 인지할 수 있도록 함
-    }
-    
-    /**
-     * 책의 가격 시세 데이터 조회 (차트용)
-     */
-    public PriceTrendDto.ChartData getBookPriceTrend(Long bookId) {
-        log.info("시세 데이터 조회 시작: bookId={}", bookId);
-        
-        try {
-            // 동일한 책의 모든 게시글 조회 (시간순)
-            List<Post> posts = postRepository.findByBookIdForPriceTrend(bookId);
-            log.info("조회된 게시글 수: {}", posts.size());
-            
-            if (posts.isEmpty()) {
-                log.info("해당 책의 게시글이 없음: bookId={}", bookId);
-                return PriceTrendDto.ChartData.builder()
-                        .availableAndReserved(List.of())
-                        .completed(List.of())
-                        .hasData(false)
-                        .build();
-            }
-            
-            // 책 정보 추출 (첫 번째 게시글에서)
-            Post firstPost = posts.get(0);
-            log.info("첫 번째 게시글 정보: postId={}, title={}", firstPost.getPostId(), firstPost.getTitle());
-            
-            PriceTrendDto.BookInfo bookInfo = PriceTrendDto.BookInfo.builder()
-                    .bookId(firstPost.getBook().getBookId())
-                    .title(firstPost.getBook().getTitle())
-                    .author(firstPost.getBook().getAuthor())
-                    .isbn(firstPost.getBook().getIsbn())
-                    .build();
-            
-            // 상태별로 데이터 분리
-            List<PriceTrendDto.DataPoint> availableAndReserved = posts.stream()
-                    .filter(post -> post.getStatus() == Post.PostStatus.AVAILABLE || 
-                                   post.getStatus() == Post.PostStatus.RESERVED)
-                    .map(this::convertToDataPoint)
-                    .collect(Collectors.toList());
-            
-            List<PriceTrendDto.DataPoint> completed = posts.stream()
-                    .filter(post -> post.getStatus() == Post.PostStatus.COMPLETED)
-                    .map(this::convertToDataPoint)
-                    .collect(Collectors.toList());
-            
-            log.info("데이터 분류 완료: available={}, completed={}", 
-                    availableAndReserved.size(), completed.size());
-            
-            return PriceTrendDto.ChartData.builder()
-                    .availableAndReserved(availableAndReserved)
-                    .completed(completed)
-                    .bookInfo(bookInfo)
-                    .hasData(!availableAndReserved.isEmpty() || !completed.isEmpty())
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("책 시세 데이터 조회 실패: bookId={}", bookId, e);
-            return PriceTrendDto.ChartData.builder()
-                    .availableAndReserved(List.of())
-                    .completed(List.of())
-                    .hasData(false)
-                    .build();
-        }
-    }
-    
     /**
      * 게시글 생성시 Book 연결 설정
      */
@@ -1089,17 +884,18 @@ public class PostService {
         if (oldPrice != null && newPrice != null && !oldPrice.equals(newPrice)) {
             log.info("가격 변동 감지: postId={}, {}원 -> {}원", postId, oldPrice, newPrice);
             
-            // 가격이 변경된 경우에만 위시리스트 사용자들에게 알림 발송
-            notifyWishlistUsersOfPriceChange(updatedPost, oldPrice, newPrice);
+            // 가격이 변경된 경우에만 위시리스트 사용자들에게 알림 발송 (커밋 후 아웃박스에서 처리)
+            postSideEffectService.wishlistPriceChanged(updatedPost, oldPrice, newPrice);
         }
         
         // 상태 변경 감지 및 알림 발송
         Post.PostStatus newStatus = updatedPost.getStatus();
         if (oldStatus != null && newStatus != null && !oldStatus.equals(newStatus)) {
             log.info("상태 변경 감지: postId={}, {} -> {}", postId, oldStatus, newStatus);
+            eventPublisher.publishEvent(new PostStatusChangedEvent(postId, oldStatus, newStatus));
             
-            // 상태가 변경된 경우에만 위시리스트 사용자들에게 알림 발송
-            publishWishlistStatusChangeNotifications(updatedPost, newStatus);
+            // 상태가 변경된 경우에만 위시리스트 사용자들에게 알림 발송 (커밋 후 아웃박스에서 처리)
+            postSideEffectService.wishlistStatusChanged(updatedPost, newStatus);
         }
     }
     
@@ -1137,13 +933,13 @@ public class PostService {
         if (hadSubjectBookConnection && 
             (!hasNewSubjectBookConnection || !oldSubjectId.equals(newSubjectId) || !oldBookId.equals(newBookId))) {
             // 기존 연결 해제 (reference count 감소)
-            subjectBookService.decrementPostCount(oldSubjectId, oldBookId);
+            postSideEffectService.subjectBookCount(post, oldSubjectId, oldBookId, -1);
         }
         
         if (hasNewSubjectBookConnection && 
             (!hadSubjectBookConnection || !oldSubjectId.equals(newSubjectId) || !oldBookId.equals(newBookId))) {
             // 새 연결 생성 (reference count 증가)
-            subjectBookService.incrementPostCount(newSubjectId, newBookId);
+            postSideEffectService.subjectBookCount(post, newSubjectId, newBookId, 1);
         }
     }
     
@@ -1200,22 +996,4 @@ public class PostService {
         }
     }
     
-    /**
-     * Post를 Chart.js용 DataPoint로 변환
-     */
-    private PriceTrendDto.DataPoint convertToDataPoint(Post post) {
-        String statusText = switch (post.getStatus()) {
-            case AVAILABLE -> "판매중";
-            case RESERVED -> "예약중";
-            case COMPLETED -> "거래완료";
-            default -> post.getStatus().name();
-        };
-        
-        return PriceTrendDto.DataPoint.builder()
-                .date(post.getCreatedAt().toString()) // ISO 형태로 전달
-                .price(post.getPrice())
-                .status(statusText)
-                .postId(post.getPostId())
-                .build();
-    }
 }
\ No newline at end of file
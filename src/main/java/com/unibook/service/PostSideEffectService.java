@@ -0,0 +1,175 @@
+package com.unibook.service;
+
+import com.unibook.domain.entity.OutboxEvent;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.entity.Wishlist;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 후속 작업 (키워드 알림, 찜 알림, 과목-책 참조 카운트)
+ * - 기록: 게시글 트랜잭션 안에서 아웃박스에 남김 (요청 경로에서는 INSERT 1건)
+ * - 처리: 커밋 후 아웃박스 릴레이 워커가 이벤트 1건당 트랜잭션 1개로 실행
+ *   알림/카운트 변경과 처리 완료 표시가 같은 트랜잭션이므로 재시도해도 중복 반영되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSideEffectService {
+
+    private final OutboxService outboxService;
+    private final PostRepository postRepository;
+    private final WishlistRepository wishlistRepository;
+    private final KeywordAlertService keywordAlertService;
+    private final NotificationService notificationService;
+    private final SubjectBookService subjectBookService;
+
+    public record KeywordMatchPayload(Long postId) {
+    }
+
+    public record WishlistPriceChangedPayload(Long postId, Integer oldPrice, Integer newPrice) {
+    }
+
+    public record WishlistStatusChangedPayload(Long postId, Post.PostStatus newStatus) {
+    }
+
+    public record SubjectBookCountPayload(Long postId, Long subjectId, Long bookId, int delta) {
+    }
+
+    // ===== 기록 (게시글 트랜잭션 안에서 호출) =====
+
+    /**
+     * 새 게시글 키워드 알림 (게시글당 1회)
+     */
+    public void keywordMatch(Long postId) {
+        outboxService.enqueue(OutboxEvent.EventType.KEYWORD_MATCH, postId,
+                "keyword-match:" + postId, new KeywordMatchPayload(postId));
+    }
+
+    /**
+     * 찜한 사용자 가격 변경 알림
+     */
+    public void wishlistPriceChanged(Post post, Integer oldPrice, Integer newPrice) {
+        Long postId = post.getPostId();
+        outboxService.enqueue(OutboxEvent.EventType.WISHLIST_PRICE_CHANGED, postId,
+                changeKey("wishlist-price", post, newPrice), new WishlistPriceChangedPayload(postId, oldPrice, newPrice));
+    }
+
+    /**
+     * 찜한 사용자 상태 변경 알림
+     */
+    public void wishlistStatusChanged(Post post, Post.PostStatus newStatus) {
+        Long postId = post.getPostId();
+        outboxService.enqueue(OutboxEvent.EventType.WISHLIST_STATUS_CHANGED, postId,
+                changeKey("wishlist-status", post, newStatus), new WishlistStatusChangedPayload(postId, newStatus));
+    }
+
+    /**
+     * 과목-책 연결 참조 카운트 증감 (delta: +1 연결, -1 해제)
+     */
+    public void subjectBookCount(Post post, Long subjectId, Long bookId, int delta) {
+        Long postId = post.getPostId();
+        outboxService.enqueue(OutboxEvent.EventType.SUBJECT_BOOK_COUNT, postId,
+                changeKey("subject-book", post, subjectId + ":" + bookId + ":" + delta),
+                new SubjectBookCountPayload(postId, subjectId, bookId, delta));
+    }
+
+    /**
+     * 변경 내용으로 만든 키 - 게시글 + 변경 시점의 게시글 버전(updatedAt) + 새 값
+     * 같은 변경이 중복 제출되면 같은 키가 되어 유니크 제약으로 한 번만 기록됨
+     */
+    private static String changeKey(String prefix, Post post, Object newValue) {
+        LocalDateTime version = post.getUpdatedAt();
+        return prefix + ":" + post.getPostId() + ":" + version + ":" + newValue;
+    }
+
+    // ===== 처리 (아웃박스 릴레이 워커 트랜잭션 안에서 호출) =====
+
+    /**
+     * 이벤트 처리 - 예외를 던지면 트랜잭션이 롤백되고 백오프 후 재시도됨 (비즈니스 예외는 재시도 없음)
+     */
+    public void handle(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case KEYWORD_MATCH -> handleKeywordMatch(outboxService.readPayload(event, KeywordMatchPayload.class));
+            case WISHLIST_PRICE_CHANGED -> handleWishlistPriceChanged(
+                    outboxService.readPayload(event, WishlistPriceChangedPayload.class));
+            case WISHLIST_STATUS_CHANGED -> handleWishlistStatusChanged(
+                    outboxService.readPayload(event, WishlistStatusChangedPayload.class));
+            case SUBJECT_BOOK_COUNT -> handleSubjectBookCount(
+                    outboxService.readPayload(event, SubjectBookCountPayload.class));
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 묶어 처리할 수 있는 이벤트 종류 (결과가 순서와 무관하게 합산되는 경우)
+     */
+    public boolean supportsBatch(OutboxEvent.EventType eventType) {
+        return eventType == OutboxEvent.EventType.SUBJECT_BOOK_COUNT;
+    }
+
+    /**
+     * 묶음 처리 - 같은 과목-책 조합의 증감을 합산해 한 번에 반영
+     */
+    public void handleBatch(List<OutboxEvent> events) {
+        List<SubjectBookService.PostCountDelta> deltas = events.stream()
+                .map(event -> outboxService.readPayload(event, SubjectBookCountPayload.class))
+                .map(payload -> new SubjectBookService.PostCountDelta(
+                        payload.subjectId(), payload.bookId(), payload.delta()))
+                .toList();
+        subjectBookService.applyPostCountDeltas(deltas);
+    }
+
+    private void handleKeywordMatch(KeywordMatchPayload payload) {
+        Optional<Post> post = postRepository.findById(payload.postId());
+        if (post.isEmpty()) {
+            log.debug("키워드 알림 건너뜀, 게시글 삭제됨: postId={}", payload.postId());
+            return;
+        }
+        keywordAlertService.checkKeywordMatching(post.get());
+    }
+
+    private void handleWishlistPriceChanged(WishlistPriceChangedPayload payload) {
+        List<Wishlist> wishlists = findWishlists(payload.postId());
+        for (Wishlist wishlist : wishlists) {
+            notificationService.createWishlistPriceChangeNotification(
+                    wishlist.getUser().getUserId(), payload.postId(), payload.oldPrice(), payload.newPrice());
+        }
+        if (!wishlists.isEmpty()) {
+            log.info("찜한 게시글 가격 변동 알림 발송 완료: postId={}, userCount={}, {}원 -> {}원",
+                    payload.postId(), wishlists.size(), payload.oldPrice(), payload.newPrice());
+        }
+    }
+
+    private void handleWishlistStatusChanged(WishlistStatusChangedPayload payload) {
+        List<Wishlist> wishlists = findWishlists(payload.postId());
+        for (Wishlist wishlist : wishlists) {
+            notificationService.createWishlistStatusNotification(
+                    wishlist.getUser().getUserId(), payload.postId(), payload.newStatus());
+        }
+        if (!wishlists.isEmpty()) {
+            log.info("찜 상태 변경 알림 발송 완료: postId={}, userCount={}, status={}",
+                    payload.postId(), wishlists.size(), payload.newStatus());
+        }
+    }
+
+    private List<Wishlist> findWishlists(Long postId) {
+        // 처리 전에 게시글이 삭제되었으면 찜도 함께 사라졌으므로 빈 목록
+        return wishlistRepository.findByPostIdWithUser(postId);
+    }
+
+    private void handleSubjectBookCount(SubjectBookCountPayload payload) {
+        // 과목/책이 사라진 경우의 비즈니스 예외는 릴레이가 재시도 없이 FAILED로 남김
+        if (payload.delta() > 0) {
+            subjectBookService.incrementPostCount(payload.subjectId(), payload.bookId());
+        } else {
+            subjectBookService.decrementPostCount(payload.subjectId(), payload.bookId());
+        }
+    }
+}
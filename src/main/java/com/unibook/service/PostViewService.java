@@ -1,68 +1,208 @@
 package com.unibook.service;
 
-import com.unibook.domain.entity.Post;
 import com.unibook.domain.entity.PostView;
-import com.unibook.domain.entity.User;
+import com.unibook.domain.enums.InteractionWeight;
+import com.unibook.domain.event.UserInteractionEvent;
 import com.unibook.repository.PostRepository;
 import com.unibook.repository.PostViewRepository;
 import com.unibook.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 게시글 조회 기록 서비스
+ * - 조회는 큐에 쌓아 두고 주기적으로 batch-size건씩 한 트랜잭션에서 저장 (JDBC 배치 INSERT)
+ * - ID는 pooled 생성기로 미리 예약되어 있어 INSERT가 건별 왕복 없이 묶여 나감
+ * - 게시글/사용자는 존재 여부만 한 번에 확인하고 프록시 참조로 연결 (엔티티 조회 없음)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PostViewService {
 
+    /**
+     * 배치 대기 중인 조회 기록
+     */
+    private record PendingView(Long postId, Long userId, LocalDateTime viewedAt) {
+    }
+
     private final PostViewRepository postViewRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final BlockingQueue<PendingView> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong overflowDroppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+
+    public PostViewService(PostViewRepository postViewRepository,
+                           PostRepository postRepository,
+                           UserRepository userRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.post-view.queue-capacity:20000}") int queueCapacity,
+                           @Value("${app.post-view.batch-size:500}") int batchSize) {
+        this.postViewRepository = postViewRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
 
     /**
-     * 게시글 조회 기록 (비동기 처리)
+     * 게시글 조회 기록
      * - 비로그인 사용자는 userId가 null
-     * - 성능 영향을 최소화하기 위해 비동기로 처리
+     * - 메모리 작업만 수행하므로 요청 스레드에서 바로 호출해도 됨 (DB 쓰기는 배치 플러시)
      *
      * @param postId 조회된 게시글 ID
      * @param userId 조회한 사용자 ID (비로그인 시 null)
      */
-    @Async
-    @Transactional
     public void recordView(Long postId, Long userId) {
+        if (postId == null) {
+            return;
+        }
+        if (!queue.offer(new PendingView(postId, userId, LocalDateTime.now()))) {
+            // 조회 기록 누락이 사용자 경험에 영향을 주면 안 되므로 버리고 로그만 남김
+            overflowDroppedCount.incrementAndGet();
+            log.warn("조회 기록 큐가 가득 차 기록을 버림: postId={}, userId={}", postId, userId);
+            return;
+        }
+        acceptedCount.incrementAndGet();
+    }
+
+    /**
+     * 대기 중인 조회 기록 배치 저장
+     */
+    @Scheduled(fixedDelayString = "${app.post-view.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
         try {
-            Post post = postRepository.findById(postId).orElse(null);
-            if (post == null) {
-                log.warn("존재하지 않는 게시글 조회 기록 시도: postId={}", postId);
-                return;
-            }
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 조회 기록 수집/저장 통계 (모니터링용)
+     */
+    public Map<String, Object> getWriterStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("accepted", acceptedCount.get());
+        stats.put("overflowDropped", overflowDroppedCount.get());
+        stats.put("written", writtenCount.get());
+        stats.put("skipped", skippedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("queued", queue.size());
+        stats.put("flushes", flushCount.get());
+        return stats;
+    }
 
-            User user = null;
-            if (userId != null) {
-                user = userRepository.findById(userId).orElse(null);
-                if (user == null) {
-                    log.warn("존재하지 않는 사용자 조회 기록 시도: userId={}", userId);
-                    // 비로그인 사용자로 처리
-                }
+    private void drain() {
+        List<PendingView> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+            } catch (Exception e) {
+                failedCount.addAndGet(batch.size());
+                log.error("게시글 조회 기록 배치 저장 실패: size={}", batch.size(), e);
             }
+            flushCount.incrementAndGet();
+            batch.clear();
+        }
+    }
 
-            PostView postView = PostView.builder()
-                    .post(post)
-                    .user(user)
-                    .viewedAt(LocalDateTime.now())
-                    .build();
+    private void writeBatch(List<PendingView> batch) {
+        // 로그성 INSERT라 배치 크기를 id 예약 구간까지 키움 (전역 기본값은 50)
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        Set<Long> postIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (PendingView view : batch) {
+            postIds.add(view.postId());
+            if (view.userId() != null) {
+                userIds.add(view.userId());
+            }
+        }
+        // 큐에 있는 동안 삭제된 게시글은 건너뛰고, 없는 사용자는 비로그인으로 저장
+        Set<Long> existingPosts = new HashSet<>(postRepository.findExistingIds(postIds));
+        Set<Long> existingUsers = userIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(userIds));
 
-            postViewRepository.save(postView);
-            log.debug("게시글 조회 기록 저장 완료: postId={}, userId={}", postId, userId);
+        List<PostView> views = new ArrayList<>(batch.size());
+        List<PendingView> saved = new ArrayList<>(batch.size());
+        for (PendingView view : batch) {
+            if (!existingPosts.contains(view.postId())) {
+                skippedCount.incrementAndGet();
+                log.debug("존재하지 않는 게시글 조회 기록 건너뜀: postId={}", view.postId());
+                continue;
+            }
+            // 이벤트도 실제로 저장한 사용자 기준으로 발행 (탈퇴한 사용자는 비로그인 조회로)
+            Long storedUserId = view.userId() != null && existingUsers.contains(view.userId()) ? view.userId() : null;
+            views.add(PostView.builder()
+                    .post(postRepository.getReferenceById(view.postId()))
+                    .user(storedUserId != null ? userRepository.getReferenceById(storedUserId) : null)
+                    .viewedAt(view.viewedAt())
+                    .build());
+            saved.add(new PendingView(view.postId(), storedUserId, view.viewedAt()));
+        }
+        if (views.isEmpty()) {
+            return;
+        }
 
-        } catch (Exception e) {
-            // 조회 기록 실패가 사용자 경험에 영향을 주면 안 되므로 로그만 남김
-            log.error("게시글 조회 기록 저장 실패: postId={}, userId={}", postId, userId, e);
+        postViewRepository.saveAll(views);
+        // 리스너는 커밋 후 실행되므로 저장에 실패한 배치는 상호작용으로 반영되지 않음
+        for (PendingView view : saved) {
+            eventPublisher.publishEvent(UserInteractionEvent.of(view.userId(), view.postId(), InteractionWeight.VIEW));
         }
+        writtenCount.addAndGet(views.size());
+        log.debug("게시글 조회 기록 배치 저장: size={}", views.size());
     }
 
     /**
@@ -0,0 +1,212 @@
+package com.unibook.service;
+
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.event.PostStatusChangedEvent;
+import com.unibook.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * 슬롯 믹싱용 인기/신선 후보 풀
+ * - 풀마다 불변 스냅샷(게시글 ID + 판매자 ID)을 AtomicReference로 교체 (읽기 경로 무잠금)
+ * - TTL의 일정 비율이 지나면 백그라운드에서 미리 갱신, 갱신 중에는 기존 스냅샷 제공
+ * - 최초 로드나 설정 변경 시에만 해당 풀에 한해 동기 로드
+ * - 판매중에서 빠진 게시글은 상태 변경 이벤트로 스냅샷에서 즉시 제외
+ *   (조회 도중 제외된 게시글도 새 스냅샷에 다시 들어가지 않도록 최근 제외 목록을 함께 적용)
+ * - 풀마다 정렬 기준별 상위 N건만 읽음 - 두 풀의 기간이 길어(기본 365일) 기간 내 전체 후보를
+ *   한 번 읽어 메모리에서 나누는 쪽이 오히려 많은 행을 읽으므로 조회는 풀별로 유지
+ */
+@Service
+@Slf4j
+public class RecommendationCandidatePools {
+
+    // 제외 기록 보관 시간 (진행 중인 조회보다 충분히 길게)
+    private static final long REMOVAL_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private record PoolEntry(Long postId, Long sellerId) {
+    }
+
+    private record PoolSnapshot(List<PoolEntry> entries, Instant loadedAt, int windowDays, int size) {
+        boolean matches(int currentWindowDays, int currentSize) {
+            return this.windowDays == currentWindowDays && this.size == currentSize;
+        }
+
+        PoolSnapshot without(Long postId) {
+            List<PoolEntry> filtered = entries.stream()
+                    .filter(entry -> !entry.postId().equals(postId))
+                    .toList();
+            return filtered.size() == entries.size() ? this : new PoolSnapshot(filtered, loadedAt, windowDays, size);
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final RecommendationProperties recommendationProperties;
+    private final CandidatePool popularPool;
+    private final CandidatePool freshPool;
+
+    public RecommendationCandidatePools(PostRepository postRepository,
+                                        RecommendationProperties recommendationProperties) {
+        this.postRepository = postRepository;
+        this.recommendationProperties = recommendationProperties;
+        this.popularPool = new CandidatePool("popular", "viewCount",
+                recommendationProperties::getSlotMixPopularLookbackDays,
+                recommendationProperties::getSlotMixPopularCacheSize,
+                recommendationProperties::getSlotMixPopularCacheTtlSeconds);
+        this.freshPool = new CandidatePool("fresh", "createdAt",
+                recommendationProperties::getSlotMixFreshWindowDays,
+                recommendationProperties::getSlotMixFreshCacheSize,
+                recommendationProperties::getSlotMixFreshCacheTtlSeconds);
+    }
+
+    /**
+     * 인기 후보 게시글 ID (조회수 내림차순, 본인 게시글 제외)
+     */
+    public List<Long> getPopularPostIds(Long userId) {
+        return popularPool.getPostIds(userId);
+    }
+
+    /**
+     * 신선 후보 게시글 ID (최신순, 본인 게시글 제외)
+     */
+    public List<Long> getFreshPostIds(Long userId) {
+        return freshPool.getPostIds(userId);
+    }
+
+    /**
+     * 판매중에서 빠진 게시글을 두 풀에서 제외 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostStatusChanged(PostStatusChangedEvent event) {
+        if (event.newStatus() == Post.PostStatus.AVAILABLE) {
+            return;
+        }
+        popularPool.remove(event.postId());
+        freshPool.remove(event.postId());
+    }
+
+    /**
+     * 개별 후보 풀 (풀끼리 잠금/갱신 상태를 공유하지 않음)
+     */
+    private final class CandidatePool {
+
+        private final String name;
+        private final String sortProperty;
+        private final IntSupplier windowDaysSupplier;
+        private final IntSupplier sizeSupplier;
+        private final IntSupplier ttlSecondsSupplier;
+        private final AtomicReference<PoolSnapshot> snapshot = new AtomicReference<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private final Object loadLock = new Object();
+        // 게시글 ID -> 제외 시각(nanoTime)
+        private final Map<Long, Long> recentRemovals = new ConcurrentHashMap<>();
+
+        private CandidatePool(String name, String sortProperty, IntSupplier windowDaysSupplier,
+                              IntSupplier sizeSupplier, IntSupplier ttlSecondsSupplier) {
+            this.name = name;
+            this.sortProperty = sortProperty;
+            this.windowDaysSupplier = windowDaysSupplier;
+            this.sizeSupplier = sizeSupplier;
+            this.ttlSecondsSupplier = ttlSecondsSupplier;
+        }
+
+        List<Long> getPostIds(Long userId) {
+            int windowDays = Math.max(0, windowDaysSupplier.getAsInt());
+            int size = sizeSupplier.getAsInt();
+
+            PoolSnapshot current = snapshot.get();
+            if (current == null || !current.matches(windowDays, size)) {
+                // 최초 로드/설정 변경: 이 풀만 동기 로드 (동시 요청은 한 번만 조회)
+                synchronized (loadLock) {
+                    current = snapshot.get();
+                    if (current == null || !current.matches(windowDays, size)) {
+                        current = load(windowDays, size, current);
+                        snapshot.set(current);
+                    }
+                }
+            } else if (isRefreshDue(current)) {
+                refreshAsync(windowDays, size);
+            }
+
+            return current.entries().stream()
+                    .filter(entry -> userId == null || !Objects.equals(entry.sellerId(), userId))
+                    .map(PoolEntry::postId)
+                    .toList();
+        }
+
+        void remove(Long postId) {
+            recentRemovals.put(postId, System.nanoTime());
+            snapshot.updateAndGet(current -> current == null ? null : current.without(postId));
+        }
+
+        private boolean isRefreshDue(PoolSnapshot current) {
+            long ttlMillis = Math.max(1, ttlSecondsSupplier.getAsInt()) * 1000L;
+            double ratio = recommendationProperties.getSlotMixPoolRefreshAheadRatio();
+            long refreshAfterMillis = (long) (ttlMillis * Math.min(1.0, Math.max(0.0, ratio)));
+            return Instant.now().isAfter(current.loadedAt().plus(Duration.ofMillis(refreshAfterMillis)));
+        }
+
+        private void refreshAsync(int windowDays, int size) {
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+            Thread.ofVirtual().name("recommendation-" + name + "-pool-refresh").start(() -> {
+                try {
+                    PoolSnapshot before = snapshot.get();
+                    PoolSnapshot loaded = load(windowDays, size, before);
+                    // 갱신 도중 설정 변경으로 동기 로드된 더 새 스냅샷은 덮어쓰지 않음
+                    // (제외 반영만 된 스냅샷은 loadedAt이 같으므로 교체 - 제외분은 load에서 이미 적용)
+                    snapshot.updateAndGet(current -> current == null || before == null
+                            || current.loadedAt().equals(before.loadedAt()) ? loaded : current);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+
+        private PoolSnapshot load(int windowDays, int size, PoolSnapshot previous) {
+            long startedAt = System.nanoTime();
+            try {
+                List<PoolEntry> entries = postRepository.findPoolEntries(
+                                Post.PostStatus.AVAILABLE,
+                                LocalDateTime.now().minusDays(windowDays),
+                                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, sortProperty)))
+                        .stream()
+                        .map(row -> new PoolEntry(row.getPostId(), row.getSellerId()))
+                        .filter(entry -> !removedSince(entry.postId(), startedAt))
+                        .toList();
+                recentRemovals.values().removeIf(removedAt -> startedAt - removedAt > REMOVAL_RETENTION_NANOS);
+                log.debug("{} 풀 갱신: {}건 (windowDays={}, size={})", name, entries.size(), windowDays, size);
+                return new PoolSnapshot(entries, Instant.now(), windowDays, size);
+            } catch (Exception e) {
+                log.warn("{} 풀 조회 실패, 기존 스냅샷 유지", name, e);
+                // 실패 시 기존 스냅샷(없으면 빈 풀)을 다음 갱신 주기까지 사용
+                List<PoolEntry> entries = previous != null ? previous.entries() : Collections.emptyList();
+                return new PoolSnapshot(entries, Instant.now(), windowDays, size);
+            }
+        }
+
+        // 조회 시작 이후 제외된 게시글 (조회가 상태 변경 커밋 전 데이터를 읽었을 수 있음)
+        private boolean removedSince(Long postId, long startedAt) {
+            Long removedAt = recentRemovals.get(postId);
+            return removedAt != null && removedAt - startedAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.unibook.service;
+
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.entity.RecommendationClick.RecommendationType;
+import com.unibook.domain.enums.InteractionWeight;
+import com.unibook.domain.event.UserInteractionEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 추천 클릭 이벤트 파이프라인
+ * - 사용자 ID 기준으로 파티션을 나눠 파티션마다 전용 스레드가 순서대로 처리 (같은 사용자의 클릭 순서 보장)
+ * - 소비자 1: JDBC 배치 INSERT로 영속화 (배치 단위 트랜잭션, 실패 시 롤백 후 건별 재시도)
+ * - 소비자 2: 타입/위치/소스 라벨별 온라인 집계
+ * - 소비자 3: UserInteractionEvent 발행 (사용자 프로필, 상호작용 카운터, 추천 결과 캐시 갱신)
+ * - 파티션 스레드는 빈 초기화가 끝난 뒤(@PostConstruct) 시작, 종료 시 큐에 남은 클릭을 모두 처리한 뒤 종료
+ */
+@Service
+@Slf4j
+public class RecommendationClickPipeline {
+
+  private static final String INSERT_SQL =
+          "INSERT INTO recommendation_clicks "
+                  + "(user_id, post_id, type, position, clicked_at, source_post_id, source_label) "
+                  + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final int[] INSERT_TYPES = {
+          Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.INTEGER,
+          Types.TIMESTAMP, Types.BIGINT, Types.VARCHAR
+  };
+
+  /**
+   * 파이프라인으로 흐르는 클릭 이벤트
+   */
+  public record ClickEvent(Long postId, Long userId, RecommendationType type, Integer position,
+                           Long sourcePostId, String sourceLabel, LocalDateTime clickedAt) {
+
+    Object[] toArgs() {
+      return new Object[]{userId, postId, type.name(), position, Timestamp.valueOf(clickedAt),
+              sourcePostId, sourceLabel};
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate batchTransaction;
+  private final ApplicationEventPublisher eventPublisher;
+  private final RecommendationProperties recommendationProperties;
+  private final List<Partition> partitions = new ArrayList<>();
+
+  // 온라인 집계
+  private final Map<RecommendationType, LongAdder> clicksByType = new ConcurrentHashMap<>();
+  private final Map<Integer, LongAdder> clicksByPosition = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> clicksBySourceLabel = new ConcurrentHashMap<>();
+
+  // 파이프라인 상태
+  private final AtomicLong acceptedCount = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong writtenCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private final AtomicLong batchCount = new AtomicLong();
+
+  public RecommendationClickPipeline(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationEventPublisher eventPublisher,
+                                     RecommendationProperties recommendationProperties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.eventPublisher = eventPublisher;
+    this.recommendationProperties = recommendationProperties;
+
+    int partitionCount = Math.max(1, recommendationProperties.getClickPipelinePartitions());
+    for (int i = 0; i < partitionCount; i++) {
+      partitions.add(new Partition(i, recommendationProperties.getClickPipelineQueueCapacity()));
+    }
+  }
+
+  /**
+   * 파티션 스레드 시작 (생성자에서 시작하면 초기화가 끝나기 전의 this가 스레드에 노출됨)
+   */
+  @PostConstruct
+  public void start() {
+    partitions.forEach(Partition::start);
+    log.info("추천 클릭 파이프라인 시작: partitions={}", partitions.size());
+  }
+
+  /**
+   * 클릭 이벤트 투입 (큐가 가득 차면 버리고 false 반환)
+   */
+  public boolean submit(ClickEvent event) {
+    long key = event.userId() != null ? event.userId() : event.postId();
+    Partition partition = partitions.get(Math.floorMod(Long.hashCode(key), partitions.size()));
+    if (!partition.queue.offer(event)) {
+      droppedCount.incrementAndGet();
+      log.warn("클릭 파이프라인 큐가 가득 차 클릭을 버림: postId={}, userId={}", event.postId(), event.userId());
+      return false;
+    }
+    acceptedCount.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * 파이프라인 상태 + 온라인 집계 (모니터링용)
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("accepted", acceptedCount.get());
+    stats.put("dropped", droppedCount.get());
+    stats.put("written", writtenCount.get());
+    stats.put("failed", failedCount.get());
+    stats.put("batches", batchCount.get());
+    stats.put("queued", partitions.stream().mapToInt(p -> p.queue.size()).sum());
+    stats.put("byType", snapshot(clicksByType));
+    stats.put("byPosition", snapshot(clicksByPosition));
+    stats.put("bySourceLabel", snapshot(clicksBySourceLabel));
+    return stats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    partitions.forEach(partition -> partition.running = false);
+    for (Partition partition : partitions) {
+      try {
+        partition.thread.join(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    log.info("추천 클릭 파이프라인 종료: written={}, failed={}, 미처리={}",
+            writtenCount.get(), failedCount.get(), partitions.stream().mapToInt(p -> p.queue.size()).sum());
+  }
+
+  /**
+   * 배치 처리: 영속화 → 집계 → 이벤트 발행 (파티션 스레드에서 순서대로)
+   */
+  private void process(List<ClickEvent> batch) {
+    List<ClickEvent> persisted = persist(batch);
+    batchCount.incrementAndGet();
+
+    for (ClickEvent event : persisted) {
+      aggregate(event);
+      try {
+        eventPublisher.publishEvent(new UserInteractionEvent(
+                event.userId(), event.postId(), InteractionWeight.CLICK, true, event.clickedAt()));
+      } catch (Exception e) {
+        log.warn("클릭 이벤트 발행 실패: postId={}, userId={}", event.postId(), event.userId(), e);
+      }
+    }
+  }
+
+  private List<ClickEvent> persist(List<ClickEvent> batch) {
+    List<Object[]> args = new ArrayList<>(batch.size());
+    for (ClickEvent event : batch) {
+      args.add(event.toArgs());
+    }
+
+    try {
+      // 한 트랜잭션으로 실행 - 실패하면 이미 실행된 문장까지 롤백되므로 건별 재시도가 중복을 만들지 않음
+      batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args, INSERT_TYPES));
+      writtenCount.addAndGet(batch.size());
+      return batch;
+    } catch (Exception e) {
+      log.warn("클릭 배치 저장 실패(롤백됨), 건별 저장으로 재시도: size={}", batch.size(), e);
+    }
+
+    List<ClickEvent> persisted = new ArrayList<>(batch.size());
+    for (ClickEvent event : batch) {
+      if (persistSingle(event)) {
+        persisted.add(event);
+      }
+    }
+    return persisted;
+  }
+
+  /**
+   * 건별 저장 (배치 실패 시 - 문제 있는 행만 버리고 나머지는 저장)
+   */
+  private boolean persistSingle(ClickEvent event) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, event.toArgs(), INSERT_TYPES);
+      writtenCount.incrementAndGet();
+      return true;
+    } catch (Exception e) {
+      failedCount.incrementAndGet();
+      log.error("추천 클릭 기록 저장 실패: postId={}, userId={}, type={}",
+              event.postId(), event.userId(), event.type(), e);
+      return false;
+    }
+  }
+
+  private void aggregate(ClickEvent event) {
+    clicksByType.computeIfAbsent(event.type(), k -> new LongAdder()).increment();
+    if (event.position() != null) {
+      clicksByPosition.computeIfAbsent(event.position(), k -> new LongAdder()).increment();
+    }
+    String label = event.sourceLabel() != null ? event.sourceLabel() : "unknown";
+    clicksBySourceLabel.computeIfAbsent(label, k -> new LongAdder()).increment();
+  }
+
+  private static <K> Map<K, Long> snapshot(Map<K, LongAdder> counters) {
+    Map<K, Long> result = new TreeMap<>();
+    counters.forEach((key, adder) -> result.put(key, adder.sum()));
+    return result;
+  }
+
+  /**
+   * 파티션: 전용 큐 + 전용 스레드 (파티션 간 순서는 보장하지 않음)
+   */
+  private final class Partition implements Runnable {
+
+    private final BlockingQueue<ClickEvent> queue;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private Partition(int index, int capacity) {
+      this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+      this.thread = new Thread(this, "click-pipeline-" + index);
+      this.thread.setDaemon(true);
+    }
+
+    void start() {
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      int batchSize = Math.max(1, recommendationProperties.getClickPipelineBatchSize());
+      long maxWaitMs = Math.max(1, recommendationProperties.getClickPipelineMaxWaitMs());
+      List<ClickEvent> batch = new ArrayList<>(batchSize);
+
+      while (true) {
+        try {
+          ClickEvent first = queue.poll(maxWaitMs, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            if (!running) {
+              break;
+            }
+            continue;
+          }
+          batch.add(first);
+          queue.drainTo(batch, batchSize - 1);
+          process(batch);
+        } catch (InterruptedException e) {
+          if (!running && queue.isEmpty()) {
+            break;
+          }
+        } catch (Exception e) {
+          log.error("클릭 파이프라인 처리 오류: size={}", batch.size(), e);
+        } finally {
+          batch.clear();
+        }
+      }
+    }
+  }
+}
@@ -1,15 +1,9 @@
 package com.unibook.service;
 
-import com.unibook.domain.entity.Post;
-import com.unibook.domain.entity.RecommendationClick;
 import com.unibook.domain.entity.RecommendationClick.RecommendationType;
-import com.unibook.domain.entity.User;
-import com.unibook.repository.PostRepository;
 import com.unibook.repository.RecommendationClickRepository;
-import com.unibook.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,13 +15,12 @@ import java.time.LocalDateTime;
 public class RecommendationClickService {
 
   private final RecommendationClickRepository clickRepository;
-  private final PostRepository postRepository;
-  private final UserRepository userRepository;
+  private final RecommendationClickPipeline clickPipeline;
 
   /**
-   * 추천 클릭 기록 (비동기 처리)
+   * 추천 클릭 기록
    * - 비로그인 사용자는 userId가 null
-   * - 성능 영향을 최소화하기 위해 비동기로 처리
+   * - 클릭 파이프라인 큐에 넣고 즉시 반환 (저장/집계/프로필 갱신은 파이프라인에서 처리)
    *
    * @param postId 클릭된 게시글 ID
    * @param userId 클릭한 사용자 ID (비로그인 시 null)
@@ -35,45 +28,15 @@ public class RecommendationClickService {
    * @param position 추천 목록 내 위치 (0부터 시작)
    * @param sourcePostId 추천 기준 게시글 ID (SIMILAR 타입일 경우만)
    */
-  @Async
-  @Transactional
-  public void recordClick(Long postId, Long userId, RecommendationType type,
-                          Integer position, Long sourcePostId, String sourceLabel) {
-    try {
-      Post post = postRepository.findById(postId).orElse(null);
-      if (post == null) {
-        log.warn("존재하지 않는 게시글 클릭 기록 시도: postId={}", postId);
-        return;
-      }
-
-      User user = null;
-      if (userId != null) {
-        user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-          log.warn("존재하지 않는 사용자 클릭 기록 시도: userId={}", userId);
-          // 비로그인 사용자로 처리
-        }
-      }
-
-      RecommendationClick click = RecommendationClick.builder()
-              .post(post)
-              .user(user)
-              .type(type)
-              .position(position)
-              .sourcePostId(sourcePostId)
-              .sourceLabel(sourceLabel)
-              .clickedAt(LocalDateTime.now())
-              .build();
-
-      clickRepository.save(click);
-      log.debug("추천 클릭 기록 저장 완료: postId={}, userId={}, type={}, position={}",
-              postId, userId, type, position);
-
-    } catch (Exception e) {
-      // 클릭 기록 실패가 사용자 경험에 영향을 주면 안 되므로 로그만 남김
-      log.error("추천 클릭 기록 저장 실패: postId={}, userId={}, type={}",
-              postId, userId, type, e);
+  public void recordClick(Long postId, Long userId, RecommendationType type,
+                          Integer position, Long sourcePostId, String sourceLabel) {
+    if (postId == null || type == null) {
+      log.warn("유효하지 않은 클릭 기록 시도: postId={}, type={}", postId, type);
+      return;
     }
+
+    clickPipeline.submit(new RecommendationClickPipeline.ClickEvent(
+            postId, userId, type, position, sourcePostId, sourceLabel, LocalDateTime.now()));
   }
 
   /**
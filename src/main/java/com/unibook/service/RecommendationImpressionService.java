@@ -1,34 +1,106 @@
 package com.unibook.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unibook.config.RecommendationProperties;
 import com.unibook.domain.entity.RecommendationClick.RecommendationType;
-import com.unibook.domain.entity.RecommendationImpression;
-import com.unibook.domain.entity.User;
 import com.unibook.repository.RecommendationImpressionRepository;
-import com.unibook.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 추천 노출 기록 서비스
+ * - 같은 세션+타입의 중복 노출은 메모리 슬라이딩 윈도우로 걸러냄 (DB 조회 없음)
+ * - 통과한 노출은 큐에 쌓아 두고 주기적으로 JDBC 배치 INSERT (user_id는 값만 기록, 사용자 조회/FK 없음)
+ * - 배치는 한 트랜잭션으로 실행해 중간에 실패하면 전부 롤백 후 건별 재시도 (일부만 커밋된 행이 중복 저장되지 않음)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RecommendationImpressionService {
 
+  private static final String INSERT_SQL =
+          "INSERT INTO recommendation_impressions "
+                  + "(session_id, user_id, type, count, impressed_at, page_type, source_post_id, source_label) "
+                  + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final int[] INSERT_TYPES = {
+          Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.INTEGER,
+          Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT, Types.VARCHAR
+  };
+
+  /**
+   * 배치 대기 중인 노출 기록
+   */
+  private record PendingImpression(String sessionId, Long userId, RecommendationType type, Integer count,
+                                   LocalDateTime impressedAt, String pageType, Long sourcePostId,
+                                   String sourceLabel) {
+
+    Object[] toArgs() {
+      return new Object[]{sessionId, userId, type.name(), count, Timestamp.valueOf(impressedAt),
+              pageType, sourcePostId, sourceLabel};
+    }
+  }
+
   private final RecommendationImpressionRepository impressionRepository;
-  private final UserRepository userRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate batchTransaction;
+  private final RecommendationProperties recommendationProperties;
+
+  // 세션+타입 키의 마지막 기록 시각 (윈도우 경과 시 자동 만료)
+  private final Cache<String, Boolean> recentImpressions;
+  private final BlockingQueue<PendingImpression> queue;
+  private final ReentrantLock flushLock = new ReentrantLock();
 
-  // 중복 방지를 위한 시간 윈도우 (5분)
-  private static final int DUPLICATE_WINDOW_MINUTES = 5;
+  private final AtomicLong acceptedCount = new AtomicLong();
+  private final AtomicLong duplicateDroppedCount = new AtomicLong();
+  private final AtomicLong overflowDroppedCount = new AtomicLong();
+  private final AtomicLong writtenCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private final AtomicLong flushCount = new AtomicLong();
+  private final AtomicLong lastFlushSize = new AtomicLong();
+  private final AtomicLong maxFlushSize = new AtomicLong();
+
+  public RecommendationImpressionService(RecommendationImpressionRepository impressionRepository,
+                                         JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         RecommendationProperties recommendationProperties) {
+    this.impressionRepository = impressionRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.recommendationProperties = recommendationProperties;
+    this.recentImpressions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(recommendationProperties.getImpressionDedupWindowMinutes()))
+            .maximumSize(recommendationProperties.getImpressionDedupMaxKeys())
+            .build();
+    this.queue = new ArrayBlockingQueue<>(recommendationProperties.getImpressionQueueCapacity());
+  }
 
   /**
-   * 추천 노출 기록 (비동기 처리)
+   * 추천 노출 기록
    * - 비로그인 사용자는 userId가 null
-   * - 성능 영향을 최소화하기 위해 비동기로 처리
-   * - 5분 이내 같은 세션+타입은 중복으로 간주하여 기록하지 않음
+   * - 메모리 작업만 수행하므로 요청 스레드에서 바로 호출해도 됨 (DB 쓰기는 배치 플러시)
+   * - 윈도우(기본 5분) 이내 같은 세션+타입은 중복으로 간주하여 기록하지 않음
    *
    * @param sessionId 세션 ID (필수)
    * @param userId 사용자 ID (비로그인 시 null)
@@ -37,10 +109,8 @@ public class RecommendationImpressionService {
    * @param pageType 페이지 타입 (main, detail 등)
    * @param sourcePostId 추천 기준 게시글 ID (SIMILAR 타입일 경우만)
    */
-  @Async
-  @Transactional
-  public void recordImpression(String sessionId, Long userId, RecommendationType type,
-                                Integer count, String pageType, Long sourcePostId, String sourceLabel) {
+  public void recordImpression(String sessionId, Long userId, RecommendationType type,
+                                Integer count, String pageType, Long sourcePostId, String sourceLabel) {
     try {
       // 입력 검증
       if (sessionId == null || sessionId.trim().isEmpty()) {
@@ -53,49 +123,120 @@ public class RecommendationImpressionService {
         return;
       }
 
-      // 중복 체크: 5분 이내 같은 세션+타입은 중복으로 간주
-      LocalDateTime since = LocalDateTime.now().minusMinutes(DUPLICATE_WINDOW_MINUTES);
-      boolean isDuplicate = impressionRepository.existsBySessionIdAndTypeAndSince(
-              sessionId, type, since);
-
-      if (isDuplicate) {
+      // 중복 체크: 윈도우 이내 같은 세션+타입은 중복으로 간주 (원자적 putIfAbsent)
+      String dedupKey = sessionId + ":" + type.name();
+      if (recentImpressions.asMap().putIfAbsent(dedupKey, Boolean.TRUE) != null) {
+        duplicateDroppedCount.incrementAndGet();
         log.debug("중복 노출 기록 방지: sessionId={}, type={}", sessionId, type);
         return;
       }
 
-      // 사용자 조회 (로그인 사용자일 경우)
-      User user = null;
-      if (userId != null) {
-        user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-          log.warn("존재하지 않는 사용자 노출 기록 시도: userId={}", userId);
-          // 비로그인 사용자로 처리
-        }
+      PendingImpression impression = new PendingImpression(sessionId, userId, type, count,
+              LocalDateTime.now(), pageType, sourcePostId, sourceLabel);
+      if (!queue.offer(impression)) {
+        // 기록되지 않았으므로 중복 키도 해제 (윈도우 동안 재시도가 막히지 않도록)
+        recentImpressions.invalidate(dedupKey);
+        overflowDroppedCount.incrementAndGet();
+        log.warn("노출 기록 큐가 가득 차 기록을 버림: sessionId={}, type={}", sessionId, type);
+        return;
       }
-
-      // 노출 기록 생성
-      RecommendationImpression impression = RecommendationImpression.builder()
-              .sessionId(sessionId)
-              .user(user)
-              .type(type)
-              .count(count)
-              .pageType(pageType)
-              .sourcePostId(sourcePostId)
-              .sourceLabel(sourceLabel)
-              .impressedAt(LocalDateTime.now())
-              .build();
-
-      impressionRepository.save(impression);
-      log.debug("추천 노출 기록 저장 완료: sessionId={}, userId={}, type={}, count={}",
-              sessionId, userId, type, count);
+      acceptedCount.incrementAndGet();
 
     } catch (Exception e) {
       // 노출 기록 실패가 사용자 경험에 영향을 주면 안 되므로 로그만 남김
-      log.error("추천 노출 기록 저장 실패: sessionId={}, userId={}, type={}",
+      log.error("추천 노출 기록 실패: sessionId={}, userId={}, type={}",
               sessionId, userId, type, e);
     }
   }
 
+  /**
+   * 대기 중인 노출 기록을 배치 INSERT
+   */
+  @Scheduled(fixedDelayString = "${recommendation.impression-flush-interval-ms:2000}")
+  public void flush() {
+    if (!flushLock.tryLock()) {
+      return;
+    }
+    try {
+      int batchSize = Math.max(1, recommendationProperties.getImpressionBatchSize());
+      List<PendingImpression> batch = new ArrayList<>(batchSize);
+      while (queue.drainTo(batch, batchSize) > 0) {
+        writeBatch(batch);
+        batch.clear();
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flushLock.lock();
+    try {
+      int batchSize = Math.max(1, recommendationProperties.getImpressionBatchSize());
+      List<PendingImpression> batch = new ArrayList<>(batchSize);
+      while (queue.drainTo(batch, batchSize) > 0) {
+        writeBatch(batch);
+        batch.clear();
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * 노출 기록 수집/저장 통계 (모니터링용)
+   */
+  public Map<String, Object> getWriterStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("accepted", acceptedCount.get());
+    stats.put("duplicatesDropped", duplicateDroppedCount.get());
+    stats.put("overflowDropped", overflowDroppedCount.get());
+    stats.put("written", writtenCount.get());
+    stats.put("failed", failedCount.get());
+    stats.put("queued", queue.size());
+    stats.put("flushes", flushCount.get());
+    stats.put("lastFlushSize", lastFlushSize.get());
+    stats.put("maxFlushSize", maxFlushSize.get());
+    stats.put("dedupKeys", recentImpressions.estimatedSize());
+    return stats;
+  }
+
+  private void writeBatch(List<PendingImpression> batch) {
+    List<Object[]> args = new ArrayList<>(batch.size());
+    for (PendingImpression impression : batch) {
+      args.add(impression.toArgs());
+    }
+
+    try {
+      // 한 트랜잭션으로 실행 - 실패하면 이미 실행된 문장까지 롤백되므로 건별 재시도가 중복을 만들지 않음
+      batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args, INSERT_TYPES));
+      writtenCount.addAndGet(batch.size());
+    } catch (Exception e) {
+      log.warn("노출 기록 배치 저장 실패(롤백됨), 건별 저장으로 재시도: size={}", batch.size(), e);
+      batch.forEach(this::writeSingle);
+    }
+
+    flushCount.incrementAndGet();
+    lastFlushSize.set(batch.size());
+    maxFlushSize.accumulateAndGet(batch.size(), Math::max);
+    log.debug("추천 노출 기록 배치 저장: size={}", batch.size());
+  }
+
+  /**
+   * 건별 저장 (배치 실패 시 - 문제 있는 행만 버리고 나머지는 저장)
+   */
+  private void writeSingle(PendingImpression impression) {
+    try {
+      jdbcTemplate.update(INSERT_SQL, impression.toArgs(), INSERT_TYPES);
+      writtenCount.incrementAndGet();
+    } catch (Exception e) {
+      failedCount.incrementAndGet();
+      log.error("추천 노출 기록 저장 실패: sessionId={}, userId={}, type={}",
+              impression.sessionId(), impression.userId(), impression.type(), e);
+    }
+  }
+
   /**
    * 기간별 총 노출 수 조회
    */
@@ -0,0 +1,39 @@
+package com.unibook.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 유지보수 주기 작업 (메트릭 롤업, 상호작용 카운터 재동기화, 비슷한 게시글 인덱스 재구축)
+ * 리플레이처럼 MySQL 전용 SQL이나 백그라운드 갱신이 맞지 않는 환경에서는
+ * recommendation.maintenance-jobs-enabled=false로 빈 자체를 만들지 않음 (각 작업은 필요 시 직접 호출)
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.maintenance-jobs-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RecommendationMaintenanceScheduler {
+
+    private final RecommendationMetricsRollupService metricsRollupService;
+    private final InteractionCounterService interactionCounterService;
+    private final SimilarPostIndexService similarPostIndexService;
+
+    @Scheduled(initialDelayString = "${recommendation.metrics-rollup-interval-ms:300000}",
+               fixedDelayString = "${recommendation.metrics-rollup-interval-ms:300000}")
+    public void compactMetrics() {
+        metricsRollupService.compact();
+    }
+
+    @Scheduled(initialDelayString = "${recommendation.interaction-counter-reconcile-interval-ms:600000}",
+               fixedDelayString = "${recommendation.interaction-counter-reconcile-interval-ms:600000}")
+    public void reconcileInteractionCounters() {
+        interactionCounterService.reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${recommendation.similar-index-rebuild-interval-ms:1800000}",
+               fixedDelayString = "${recommendation.similar-index-rebuild-interval-ms:1800000}")
+    public void rebuildSimilarPostIndex() {
+        similarPostIndexService.rebuild();
+    }
+}
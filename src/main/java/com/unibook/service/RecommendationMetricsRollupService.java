@@ -0,0 +1,201 @@
+package com.unibook.service;
+
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.entity.RecommendationClick.RecommendationType;
+import com.unibook.domain.entity.RecommendationMetricRollup;
+import com.unibook.domain.entity.RecommendationMetricRollup.Granularity;
+import com.unibook.domain.entity.RecommendationRollupWatermark;
+import com.unibook.repository.RecommendationClickRepository;
+import com.unibook.repository.RecommendationImpressionRepository;
+import com.unibook.repository.RecommendationRollupWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 메트릭 롤업 컴팩터
+ * - 원본 클릭/노출 행을 시간 단위로 집계해 시간 롤업을 덮어씀 (UPSERT)
+ * - 일 롤업은 원본을 다시 읽지 않고 해당 일의 시간 롤업 합계로 덮어씀 (원본 스캔은 새 구간 + 직전 몇 개 버킷뿐)
+ * - 지연 기록(파이프라인 큐, 노출 배치)을 기다리기 위해 정시 경계가 일정 시간 지난 버킷만 처리
+ * - 정착 시간 뒤에 들어온 행도 반영되도록 워터마크 앞 late-buckets개 시간 버킷을 매번 다시 집계
+ * - 롤업 반영과 워터마크 갱신을 한 트랜잭션으로 묶어 중복/누락 방지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationMetricsRollupService {
+
+  public static final String WATERMARK_NAME = "recommendation-metrics";
+
+  private static final String CLICK_SQL =
+          "SELECT DATE_FORMAT(clicked_at, '%Y-%m-%d %H:00:00') AS bucket, type, "
+                  + "COALESCE(source_label, '') AS label_key, COALESCE(position, -1) AS position_key, COUNT(*) AS cnt "
+                  + "FROM recommendation_clicks "
+                  + "WHERE clicked_at >= ? AND clicked_at < ? "
+                  + "GROUP BY bucket, type, label_key, position_key";
+
+  private static final String IMPRESSION_SQL =
+          "SELECT DATE_FORMAT(impressed_at, '%Y-%m-%d %H:00:00') AS bucket, type, "
+                  + "COALESCE(source_label, '') AS label_key, COALESCE(SUM(count), 0) AS cnt "
+                  + "FROM recommendation_impressions "
+                  + "WHERE impressed_at >= ? AND impressed_at < ? "
+                  + "GROUP BY bucket, type, label_key";
+
+  private static final String DAILY_FROM_HOURLY_SQL =
+          "SELECT DATE_FORMAT(bucket_start, '%Y-%m-%d 00:00:00') AS bucket, type, source_label, position, "
+                  + "SUM(impressions) AS impressions, SUM(clicks) AS clicks "
+                  + "FROM recommendation_metric_rollups "
+                  + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ? "
+                  + "GROUP BY bucket, type, source_label, position";
+
+  private static final String UPSERT_SQL =
+          "INSERT INTO recommendation_metric_rollups "
+                  + "(granularity, bucket_start, type, source_label, position, impressions, clicks) "
+                  + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+                  + "ON DUPLICATE KEY UPDATE impressions = VALUES(impressions), clicks = VALUES(clicks)";
+
+  private static final String INSERT_WATERMARK_SQL =
+          "INSERT IGNORE INTO recommendation_rollup_watermarks (name, compacted_until, updated_at) "
+                  + "VALUES (?, ?, ?)";
+
+  private record RollupKey(Granularity granularity, LocalDateTime bucketStart, RecommendationType type,
+                           String sourceLabel, int position) {
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final RecommendationRollupWatermarkRepository watermarkRepository;
+  private final RecommendationClickRepository clickRepository;
+  private final RecommendationImpressionRepository impressionRepository;
+  private final RecommendationProperties recommendationProperties;
+
+  /**
+   * 롤업 완료 경계 (이 시각 이전 버킷은 롤업 테이블에 반영됨, 컴팩션 전이면 null)
+   */
+  @Transactional(readOnly = true)
+  public LocalDateTime getCompactedUntil() {
+    return watermarkRepository.findById(WATERMARK_NAME)
+            .map(RecommendationRollupWatermark::getCompactedUntil)
+            .orElse(null);
+  }
+
+  /**
+   * 워터마크 이후 닫힌 버킷 컴팩션 (1회 최대 metricsRollupMaxHoursPerRun 시간분, RecommendationMaintenanceScheduler가 주기 실행)
+   * 처음 실행 시 가장 오래된 원본 행부터 여러 주기에 나눠 따라잡음
+   * 워터마크 앞 metricsRollupLateBuckets개 시간 버킷도 함께 다시 집계해 늦게 기록된 행 반영
+   * 일 롤업은 다시 집계한 구간이 걸친 날짜만 시간 롤업에서 다시 합산
+   */
+  @Transactional
+  public void compact() {
+    LocalDateTime limit = LocalDateTime.now()
+            .minusMinutes(Math.max(0, recommendationProperties.getMetricsRollupSettleMinutes()))
+            .truncatedTo(ChronoUnit.HOURS);
+
+    if (!watermarkRepository.existsById(WATERMARK_NAME)) {
+      createWatermark(limit);
+    }
+    RecommendationRollupWatermark watermark = watermarkRepository.findByNameForUpdate(WATERMARK_NAME)
+            .orElseThrow(() -> new IllegalStateException("추천 메트릭 롤업 워터마크 없음: " + WATERMARK_NAME));
+
+    LocalDateTime from = watermark.getCompactedUntil();
+    LocalDateTime to = from.plusHours(Math.max(1, recommendationProperties.getMetricsRollupMaxHoursPerRun()));
+    if (to.isAfter(limit)) {
+      to = limit;
+    }
+    if (!to.isAfter(from)) {
+      return;
+    }
+    LocalDateTime recomputeFrom = from.minusHours(Math.max(0, recommendationProperties.getMetricsRollupLateBuckets()));
+
+    // 1. 원본 -> 시간 롤업
+    Map<RollupKey, long[]> buckets = new LinkedHashMap<>();
+    jdbcTemplate.query(CLICK_SQL, rs -> {
+      accumulate(buckets, rs.getString("bucket"), rs.getString("type"), rs.getString("label_key"),
+              rs.getInt("position_key"), 0, rs.getLong("cnt"));
+    }, Timestamp.valueOf(recomputeFrom), Timestamp.valueOf(to));
+    jdbcTemplate.query(IMPRESSION_SQL, rs -> {
+      accumulate(buckets, rs.getString("bucket"), rs.getString("type"), rs.getString("label_key"),
+              RecommendationMetricRollup.NO_POSITION, rs.getLong("cnt"), 0);
+    }, Timestamp.valueOf(recomputeFrom), Timestamp.valueOf(to));
+
+    int hourly = upsert(buckets);
+
+    // 2. 시간 롤업 -> 일 롤업 (다시 집계한 구간이 걸친 날짜 전체)
+    LocalDateTime dayFrom = recomputeFrom.truncatedTo(ChronoUnit.DAYS);
+    LocalDateTime dayTo = to.minusNanos(1).truncatedTo(ChronoUnit.DAYS).plusDays(1);
+    Map<RollupKey, long[]> days = new LinkedHashMap<>();
+    jdbcTemplate.query(DAILY_FROM_HOURLY_SQL, rs -> {
+      long[] counts = days.computeIfAbsent(new RollupKey(Granularity.DAILY,
+              Timestamp.valueOf(rs.getString("bucket")).toLocalDateTime(),
+              RecommendationType.valueOf(rs.getString("type")), rs.getString("source_label"),
+              rs.getInt("position")), k -> new long[2]);
+      counts[0] += rs.getLong("impressions");
+      counts[1] += rs.getLong("clicks");
+    }, Granularity.HOURLY.name(), Timestamp.valueOf(dayFrom), Timestamp.valueOf(dayTo));
+    int daily = upsert(days);
+
+    watermark.setCompactedUntil(to);
+    watermark.setUpdatedAt(LocalDateTime.now());
+    watermarkRepository.save(watermark);
+
+    log.debug("추천 메트릭 롤업: {} ~ {} (재집계 시작 {}), 시간 버킷 {}건, 일 버킷 {}건",
+            from, to, recomputeFrom, hourly, daily);
+  }
+
+  private int upsert(Map<RollupKey, long[]> buckets) {
+    List<Object[]> args = new ArrayList<>(buckets.size());
+    buckets.forEach((key, counts) -> args.add(new Object[]{
+            key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.type().name(),
+            key.sourceLabel(), key.position(), counts[0], counts[1]}));
+    if (!args.isEmpty()) {
+      jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+    return args.size();
+  }
+
+  /**
+   * 워터마크 최초 생성 (가장 오래된 원본 행의 정시부터, 원본이 없으면 현재 경계부터)
+   * 여러 인스턴스가 동시에 만들어도 INSERT IGNORE로 한 행만 남음
+   */
+  private void createWatermark(LocalDateTime limit) {
+    LocalDateTime earliest = earliestOf(clickRepository.findEarliestClickedAt(),
+            impressionRepository.findEarliestImpressedAt());
+    LocalDateTime start = earliest != null ? earliest.truncatedTo(ChronoUnit.HOURS) : limit;
+    int inserted = jdbcTemplate.update(INSERT_WATERMARK_SQL, WATERMARK_NAME, Timestamp.valueOf(start),
+            Timestamp.valueOf(LocalDateTime.now()));
+    if (inserted > 0) {
+      log.info("추천 메트릭 롤업 워터마크 생성: compactedUntil={}", start);
+    }
+  }
+
+  /**
+   * 시간 버킷 1건을 시간 롤업에 합산 (클릭/노출 쿼리 결과를 같은 키로 합침)
+   */
+  private void accumulate(Map<RollupKey, long[]> buckets, String bucket, String type, String label,
+                          int position, long impressions, long clicks) {
+    RollupKey key = new RollupKey(Granularity.HOURLY, Timestamp.valueOf(bucket).toLocalDateTime(),
+            RecommendationType.valueOf(type), label, position);
+    long[] counts = buckets.computeIfAbsent(key, k -> new long[2]);
+    counts[0] += impressions;
+    counts[1] += clicks;
+  }
+
+  private static LocalDateTime earliestOf(LocalDateTime a, LocalDateTime b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return a.isBefore(b) ? a : b;
+  }
+}
@@ -2,9 +2,12 @@ package com.unibook.service;
 
 import com.unibook.domain.dto.RecommendationMetricsDto;
 import com.unibook.domain.entity.RecommendationClick.RecommendationType;
+import com.unibook.domain.entity.RecommendationMetricRollup;
+import com.unibook.domain.entity.RecommendationMetricRollup.Granularity;
 import com.unibook.repository.PostViewRepository;
 import com.unibook.repository.RecommendationClickRepository;
 import com.unibook.repository.RecommendationImpressionRepository;
+import com.unibook.repository.RecommendationMetricRollupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,9 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 추천 메트릭 조회
+ * - 롤업 경계 이전의 완전한 버킷은 롤업 테이블에서 읽음 (일 단위 우선, 남는 구간은 시간 단위)
+ * - 정시에 걸친 앞부분과 롤업 경계 이후의 부분 구간만 원본 테이블에서 집계
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -24,9 +33,16 @@ public class RecommendationMetricsService {
   private final RecommendationClickRepository clickRepository;
   private final RecommendationImpressionRepository impressionRepository;
   private final PostViewRepository postViewRepository;
+  private final RecommendationMetricRollupRepository rollupRepository;
+  private final RecommendationMetricsRollupService rollupService;
 
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+  /**
+   * 전체 기간 조회 시작점 (정시 경계)
+   */
+  private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
   /**
    * 전체 메트릭 조회
    *
@@ -35,109 +51,74 @@ public class RecommendationMetricsService {
    * @return 메트릭 DTO
    */
   @Transactional(readOnly = true)
-  public RecommendationMetricsDto.Response getMetrics(LocalDateTime startDate, LocalDateTime endDate) {
-    // 1. 기본 통계
-    long totalClicks = clickRepository.countByClickedAtBetween(startDate, endDate);
-
-    // 2. 타입별 클릭 수 계산
-    Map<String, Long> clicksByType = calculateClicksByType(startDate, endDate);
-
-    // 3. 일별 메트릭
-    List<RecommendationMetricsDto.DailyMetric> dailyMetrics = getDailyMetrics(startDate);
-
-    // 4. 슬롯/소스별 클릭/노출 (옵션 사용: null 키는 제외)
-    Map<String, Long> clicksBySource = calculateClicksBySourceLabel(startDate, endDate);
-    Map<String, Long> impressionsBySource = calculateImpressionsBySourceLabel(startDate, endDate);
-
-    return RecommendationMetricsDto.Response.builder()
-            .clicksByType(clicksByType)
-            .totalClicks(totalClicks)
-            .periodStart(startDate)
-            .periodEnd(endDate)
-            .dailyMetrics(dailyMetrics)
-            .clicksBySource(clicksBySource)
-            .impressionsBySource(impressionsBySource)
-            .build();
-  }
+  public RecommendationMetricsDto.Response getMetrics(LocalDateTime startDate, LocalDateTime endDate) {
+    MetricsSnapshot snapshot = loadSnapshot(startDate, endDate);
+
+    return RecommendationMetricsDto.Response.builder()
+            .clicksByType(snapshot.clicksByTypeName(true))
+            .totalClicks(snapshot.totalClicks())
+            .periodStart(startDate)
+            .periodEnd(endDate)
+            .dailyMetrics(snapshot.dailyMetrics())
+            .clicksBySource(new HashMap<>(snapshot.clicksBySource))
+            .impressionsBySource(new HashMap<>(snapshot.impressionsBySource))
+            .build();
+  }
 
   /**
    * 타입별 클릭 수 계산
    */
   @Transactional(readOnly = true)
-  public Map<String, Long> calculateClicksByType(LocalDateTime startDate, LocalDateTime endDate) {
-    Map<String, Long> clicksByType = new HashMap<>();
-
-    for (RecommendationType type : RecommendationType.values()) {
-      long clicks = clickRepository.countByTypeAndClickedAtBetween(type, startDate, endDate);
-      clicksByType.put(type.name(), clicks);
-    }
-
-    return clicksByType;
-  }
-
-  /**
-   * 슬롯/소스 라벨별 클릭 수
-   */
-  @Transactional(readOnly = true)
-  public Map<String, Long> calculateClicksBySourceLabel(LocalDateTime startDate, LocalDateTime endDate) {
-    Map<String, Long> clicksBySource = new HashMap<>();
-    List<Object[]> rows = clickRepository.countClicksBySourceLabel(startDate, endDate);
-    for (Object[] row : rows) {
-      String label = (String) row[0];
-      Long count = (Long) row[1];
-      if (label != null) {
-        clicksBySource.put(label, count);
-      }
-    }
-    return clicksBySource;
-  }
-
-  /**
-   * 슬롯/소스 라벨별 노출 수
-   */
-  @Transactional(readOnly = true)
-  public Map<String, Long> calculateImpressionsBySourceLabel(LocalDateTime startDate, LocalDateTime endDate) {
-    Map<String, Long> impressionsBySource = new HashMap<>();
-    List<Object[]> rows = impressionRepository.sumImpressionsBySourceLabel(startDate, endDate);
-    for (Object[] row : rows) {
-      String label = (String) row[0];
-      Long count = (Long) row[1];
-      if (label != null) {
-        impressionsBySource.put(label, count);
-      }
-    }
-    return impressionsBySource;
-  }
-
-  /**
-   * 슬롯/소스 라벨별 CTR 테이블 데이터
-   */
-  @Transactional(readOnly = true)
-  public List<Map<String, Object>> getSourceStats(LocalDateTime startDate, LocalDateTime endDate) {
-    Map<String, Long> clicks = calculateClicksBySourceLabel(startDate, endDate);
-    Map<String, Long> impressions = calculateImpressionsBySourceLabel(startDate, endDate);
-
-    Set<String> labels = new HashSet<>();
-    labels.addAll(clicks.keySet());
-    labels.addAll(impressions.keySet());
-    labels.remove(null);
-
-    List<Map<String, Object>> stats = new ArrayList<>();
-    for (String label : labels) {
-      long c = clicks.getOrDefault(label, 0L);
-      long i = impressions.getOrDefault(label, 0L);
-      double ctr = i == 0 ? 0.0 : Math.round((c * 10000.0 / i)) / 100.0;
-      Map<String, Object> row = new HashMap<>();
-      row.put("label", label);
-      row.put("clicks", c);
-      row.put("impressions", i);
-      row.put("ctr", ctr);
-      stats.add(row);
-    }
-
-    stats.sort(Comparator.comparing((Map<String, Object> m) -> (String) m.get("label")));
-    return stats;
-  }
+  public Map<String, Long> calculateClicksByType(LocalDateTime startDate, LocalDateTime endDate) {
+    return loadSnapshot(startDate, endDate).clicksByTypeName(true);
+  }
+
+  /**
+   * 슬롯/소스 라벨별 클릭 수
+   */
+  @Transactional(readOnly = true)
+  public Map<String, Long> calculateClicksBySourceLabel(LocalDateTime startDate, LocalDateTime endDate) {
+    return new HashMap<>(loadSnapshot(startDate, endDate).clicksBySource);
+  }
+
+  /**
+   * 슬롯/소스 라벨별 노출 수
+   */
+  @Transactional(readOnly = true)
+  public Map<String, Long> calculateImpressionsBySourceLabel(LocalDateTime startDate, LocalDateTime endDate) {
+    return new HashMap<>(loadSnapshot(startDate, endDate).impressionsBySource);
+  }
+
+  /**
+   * 슬롯/소스 라벨별 CTR 테이블 데이터
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getSourceStats(LocalDateTime startDate, LocalDateTime endDate) {
+    MetricsSnapshot snapshot = loadSnapshot(startDate, endDate);
+    Map<String, Long> clicks = snapshot.clicksBySource;
+    Map<String, Long> impressions = snapshot.impressionsBySource;
+
+    Set<String> labels = new HashSet<>();
+    labels.addAll(clicks.keySet());
+    labels.addAll(impressions.keySet());
+    labels.remove(null);
+
+    List<Map<String, Object>> stats = new ArrayList<>();
+    for (String label : labels) {
+      long c = clicks.getOrDefault(label, 0L);
+      long i = impressions.getOrDefault(label, 0L);
+      double ctr = i == 0 ? 0.0 : Math.round((c * 10000.0 / i)) / 100.0;
+      Map<String, Object> row = new HashMap<>();
+      row.put("label", label);
+      row.put("clicks", c);
+      row.put("impressions", i);
+      row.put("ctr", ctr);
+      stats.add(row);
+    }
+
+    stats.sort(Comparator.comparing((Map<String, Object> m) -> (String) m.get("label")));
+    return stats;
+  }
 
   /**
    * 위치별 클릭률 분석
@@ -145,22 +126,21 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public List<RecommendationMetricsDto.PositionMetric> getPositionMetrics(RecommendationType type) {
-    List<Object[]> results = clickRepository.countClicksByPosition(type);
-
-    return results.stream()
-            .map(row -> {
-              Integer position = (Integer) row[0];
-              Long clicks = (Long) row[1];
+    MetricsSnapshot snapshot = loadSnapshot(BEGINNING, LocalDateTime.now());
+    Map<Integer, Long> clicksByPosition = snapshot.clicksByPosition.getOrDefault(type, Collections.emptyMap());
 
-              // 전체 기간의 노출 수를 사용 (위치별 노출은 현재 추적하지 않으므로 전체 노출 수 사용)
-              long totalImpressions = impressionRepository.countByType(type);
-              // 위치별 추정: 전체 노출을 위치 수로 나눔 (대략적 추정)
-              long impressions = totalImpressions > 0 ? totalImpressions / Math.max(results.size(), 1) : 0;
+    // 전체 기간의 노출 수를 사용 (위치별 노출은 현재 추적하지 않으므로 전체 노출 수 사용)
+    long totalImpressions = snapshot.impressionsByType.getOrDefault(type, 0L);
+    // 위치별 추정: 전체 노출을 위치 수로 나눔 (대략적 추정)
+    long impressions = totalImpressions > 0 ? totalImpressions / Math.max(clicksByPosition.size(), 1) : 0;
 
+    return clicksByPosition.entrySet().stream()
+            .map(entry -> {
+              Long clicks = entry.getValue();
               double ctr = impressions > 0 ? (clicks * 100.0 / impressions) : 0.0;
 
               return RecommendationMetricsDto.PositionMetric.builder()
-                      .position(position)
+                      .position(entry.getKey())
                       .clicks(clicks)
                       .impressions(impressions)
                       .ctr(Math.round(ctr * 100.0) / 100.0)
@@ -174,42 +154,7 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public List<RecommendationMetricsDto.DailyMetric> getDailyMetrics(LocalDateTime startDate) {
-    List<Object[]> results = clickRepository.countDailyClicksByType(startDate);
-
-    // 날짜별로 그룹화
-    Map<String, RecommendationMetricsDto.DailyMetric> metricsMap = new HashMap<>();
-
-    for (Object[] row : results) {
-      // JPQL DATE() 함수는 java.sql.Date를 반환하므로 변환 필요
-      java.sql.Date sqlDate = (java.sql.Date) row[0];
-      LocalDate date = sqlDate.toLocalDate();
-      RecommendationType type = (RecommendationType) row[1];
-      Long count = (Long) row[2];
-
-      String dateStr = date.format(DATE_FORMATTER);
-
-      RecommendationMetricsDto.DailyMetric metric = metricsMap.getOrDefault(dateStr,
-              RecommendationMetricsDto.DailyMetric.builder()
-                      .date(dateStr)
-                      .forYouClicks(0L)
-                      .similarClicks(0L)
-                      .totalClicks(0L)
-                      .build());
-
-      if (type == RecommendationType.FOR_YOU) {
-        metric.setForYouClicks(count);
-      } else if (type == RecommendationType.SIMILAR) {
-        metric.setSimilarClicks(count);
-      }
-
-      metric.setTotalClicks(metric.getForYouClicks() + metric.getSimilarClicks());
-      metricsMap.put(dateStr, metric);
-    }
-
-    // 날짜순 정렬
-    return metricsMap.values().stream()
-            .sorted(Comparator.comparing(RecommendationMetricsDto.DailyMetric::getDate))
-            .collect(Collectors.toList());
+    return loadSnapshot(startDate, LocalDateTime.now()).dailyMetrics();
   }
 
   /**
@@ -237,16 +182,7 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public Map<String, Long> getClickStatsByType() {
-    List<Object[]> results = clickRepository.countClicksByType();
-
-    Map<String, Long> stats = new HashMap<>();
-    for (Object[] row : results) {
-      RecommendationType type = (RecommendationType) row[0];
-      Long count = (Long) row[1];
-      stats.put(type.name(), count);
-    }
-
-    return stats;
+    return loadSnapshot(BEGINNING, LocalDateTime.now()).clicksByTypeName(false);
   }
 
   /**
@@ -258,8 +194,9 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public double calculateCTR(LocalDateTime startDate, LocalDateTime endDate) {
-    long totalClicks = clickRepository.countByClickedAtBetween(startDate, endDate);
-    long totalImpressions = impressionRepository.sumCountByPeriod(startDate, endDate);
+    MetricsSnapshot snapshot = loadSnapshot(startDate, endDate);
+    long totalClicks = snapshot.totalClicks();
+    long totalImpressions = snapshot.totalImpressions();
 
     if (totalImpressions == 0) {
       return 0.0;
@@ -279,8 +216,9 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public double calculateCTRByType(RecommendationType type, LocalDateTime startDate, LocalDateTime endDate) {
-    long clicks = clickRepository.countByTypeAndClickedAtBetween(type, startDate, endDate);
-    long impressions = impressionRepository.sumCountByTypeAndPeriod(type, startDate, endDate);
+    MetricsSnapshot snapshot = loadSnapshot(startDate, endDate);
+    long clicks = snapshot.clicksByType.getOrDefault(type, 0L);
+    long impressions = snapshot.impressionsByType.getOrDefault(type, 0L);
 
     if (impressions == 0) {
       return 0.0;
@@ -298,25 +236,26 @@ public class RecommendationMetricsService {
    * @return 타입별 통계 리스트
    */
   @Transactional(readOnly = true)
-  public List<RecommendationMetricsDto.TypeStats> getTypeStats(LocalDateTime startDate, LocalDateTime endDate) {
-    List<RecommendationMetricsDto.TypeStats> statsList = new ArrayList<>();
-
-    for (RecommendationType type : RecommendationType.values()) {
-      long clicks = clickRepository.countByTypeAndClickedAtBetween(type, startDate, endDate);
-      long impressions = impressionRepository.sumCountByTypeAndPeriod(type, startDate, endDate);
-      double ctr = impressions == 0 ? 0.0 :
-              Math.round((clicks * 100.0 / impressions) * 100.0) / 100.0;
-
-      statsList.add(RecommendationMetricsDto.TypeStats.builder()
-              .type(type)
-              .clicks(clicks)
-              .impressions(impressions)
-              .ctr(ctr)
-              .build());
-    }
-
-    return statsList;
-  }
+  public List<RecommendationMetricsDto.TypeStats> getTypeStats(LocalDateTime startDate, LocalDateTime endDate) {
+    MetricsSnapshot snapshot = loadSnapshot(startDate, endDate);
+    List<RecommendationMetricsDto.TypeStats> statsList = new ArrayList<>();
+
+    for (RecommendationType type : RecommendationType.values()) {
+      long clicks = snapshot.clicksByType.getOrDefault(type, 0L);
+      long impressions = snapshot.impressionsByType.getOrDefault(type, 0L);
+      double ctr = impressions == 0 ? 0.0 :
+              Math.round((clicks * 100.0 / impressions) * 100.0) / 100.0;
+
+      statsList.add(RecommendationMetricsDto.TypeStats.builder()
+              .type(type)
+              .clicks(clicks)
+              .impressions(impressions)
+              .ctr(ctr)
+              .build());
+    }
+
+    return statsList;
+  }
 
   /**
    * 전체 노출 수 조회
@@ -327,7 +266,7 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public long getTotalImpressions(LocalDateTime startDate, LocalDateTime endDate) {
-    return impressionRepository.sumCountByPeriod(startDate, endDate);
+    return loadSnapshot(startDate, endDate).totalImpressions();
   }
 
   /**
@@ -340,6 +279,149 @@ public class RecommendationMetricsService {
    */
   @Transactional(readOnly = true)
   public long getImpressionsByType(RecommendationType type, LocalDateTime startDate, LocalDateTime endDate) {
-    return impressionRepository.sumCountByTypeAndPeriod(type, startDate, endDate);
+    return loadSnapshot(startDate, endDate).impressionsByType.getOrDefault(type, 0L);
+  }
+
+  /**
+   * 구간 집계 (startDate, endDate 모두 포함)
+   * 롤업 경계 이전의 완전한 시간 버킷은 롤업, 나머지 부분 구간은 원본 테이블
+   */
+  private MetricsSnapshot loadSnapshot(LocalDateTime startDate, LocalDateTime endDate) {
+    MetricsSnapshot snapshot = new MetricsSnapshot();
+    LocalDateTime endExclusive = endDate.plusNanos(1);
+    LocalDateTime compactedUntil = rollupService.getCompactedUntil();
+
+    LocalDateTime rolledStart = ceil(startDate, ChronoUnit.HOURS);
+    LocalDateTime rolledEnd = endExclusive.truncatedTo(ChronoUnit.HOURS);
+    if (compactedUntil == null || !compactedUntil.isAfter(rolledStart)) {
+      rolledEnd = rolledStart;
+    } else if (compactedUntil.isBefore(rolledEnd)) {
+      rolledEnd = compactedUntil;
+    }
+
+    if (!rolledEnd.isAfter(rolledStart)) {
+      addRaw(snapshot, startDate, endExclusive);
+      return snapshot;
+    }
+
+    addRaw(snapshot, startDate, rolledStart);
+    LocalDateTime dayStart = ceil(rolledStart, ChronoUnit.DAYS);
+    LocalDateTime dayEnd = rolledEnd.truncatedTo(ChronoUnit.DAYS);
+    if (dayEnd.isAfter(dayStart)) {
+      addRollups(snapshot, Granularity.HOURLY, rolledStart, dayStart);
+      addRollups(snapshot, Granularity.DAILY, dayStart, dayEnd);
+      addRollups(snapshot, Granularity.HOURLY, dayEnd, rolledEnd);
+    } else {
+      addRollups(snapshot, Granularity.HOURLY, rolledStart, rolledEnd);
+    }
+    addRaw(snapshot, rolledEnd, endExclusive);
+    return snapshot;
+  }
+
+  private void addRollups(MetricsSnapshot snapshot, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+    if (!to.isAfter(from)) {
+      return;
+    }
+    for (RecommendationMetricRollup rollup : rollupRepository.findBuckets(granularity, from, to)) {
+      String label = RecommendationMetricRollup.NO_LABEL.equals(rollup.getSourceLabel())
+              ? null : rollup.getSourceLabel();
+      Integer position = rollup.getPosition() == RecommendationMetricRollup.NO_POSITION
+              ? null : rollup.getPosition();
+      snapshot.addClicks(rollup.getBucketStart().toLocalDate(), rollup.getType(), label, position, rollup.getClicks());
+      snapshot.addImpressions(rollup.getType(), label, rollup.getImpressions());
+    }
+  }
+
+  private void addRaw(MetricsSnapshot snapshot, LocalDateTime from, LocalDateTime to) {
+    if (!to.isAfter(from)) {
+      return;
+    }
+    for (Object[] row : clickRepository.countClicksForRollup(from, to)) {
+      // JPQL DATE() 함수는 java.sql.Date를 반환하므로 변환 필요
+      LocalDate date = ((java.sql.Date) row[0]).toLocalDate();
+      snapshot.addClicks(date, (RecommendationType) row[1], (String) row[2], (Integer) row[3], (Long) row[4]);
+    }
+    for (Object[] row : impressionRepository.sumImpressionsForRollup(from, to)) {
+      snapshot.addImpressions((RecommendationType) row[0], (String) row[1], ((Number) row[2]).longValue());
+    }
+  }
+
+  private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+    LocalDateTime floor = time.truncatedTo(unit);
+    return floor.equals(time) ? floor : floor.plus(1, unit);
+  }
+
+  /**
+   * 구간 집계 결과 (소스 라벨 null은 라벨별 집계에서 제외)
+   */
+  private static final class MetricsSnapshot {
+
+    private final Map<RecommendationType, Long> clicksByType = new EnumMap<>(RecommendationType.class);
+    private final Map<RecommendationType, Long> impressionsByType = new EnumMap<>(RecommendationType.class);
+    private final Map<String, Long> clicksBySource = new HashMap<>();
+    private final Map<String, Long> impressionsBySource = new HashMap<>();
+    private final Map<RecommendationType, Map<Integer, Long>> clicksByPosition = new EnumMap<>(RecommendationType.class);
+    private final Map<LocalDate, Map<RecommendationType, Long>> dailyClicks = new TreeMap<>();
+
+    void addClicks(LocalDate date, RecommendationType type, String label, Integer position, long count) {
+      if (count == 0) {
+        return;
+      }
+      clicksByType.merge(type, count, Long::sum);
+      if (label != null) {
+        clicksBySource.merge(label, count, Long::sum);
+      }
+      clicksByPosition.computeIfAbsent(type, k -> new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder())))
+              .merge(position, count, Long::sum);
+      dailyClicks.computeIfAbsent(date, k -> new EnumMap<>(RecommendationType.class))
+              .merge(type, count, Long::sum);
+    }
+
+    void addImpressions(RecommendationType type, String label, long count) {
+      if (count == 0) {
+        return;
+      }
+      impressionsByType.merge(type, count, Long::sum);
+      if (label != null) {
+        impressionsBySource.merge(label, count, Long::sum);
+      }
+    }
+
+    long totalClicks() {
+      return clicksByType.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long totalImpressions() {
+      return impressionsByType.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 타입 이름별 클릭 수 (includeZero면 클릭이 없는 타입도 0으로 포함)
+     */
+    Map<String, Long> clicksByTypeName(boolean includeZero) {
+      Map<String, Long> result = new HashMap<>();
+      for (RecommendationType type : RecommendationType.values()) {
+        Long clicks = clicksByType.get(type);
+        if (clicks != null || includeZero) {
+          result.put(type.name(), clicks != null ? clicks : 0L);
+        }
+      }
+      return result;
+    }
+
+    List<RecommendationMetricsDto.DailyMetric> dailyMetrics() {
+      List<RecommendationMetricsDto.DailyMetric> metrics = new ArrayList<>();
+      dailyClicks.forEach((date, byType) -> {
+        long forYou = byType.getOrDefault(RecommendationType.FOR_YOU, 0L);
+        long similar = byType.getOrDefault(RecommendationType.SIMILAR, 0L);
+        metrics.add(RecommendationMetricsDto.DailyMetric.builder()
+                .date(date.format(DATE_FORMATTER))
+                .forYouClicks(forYou)
+                .similarClicks(similar)
+                .totalClicks(forYou + similar)
+                .build());
+      });
+      return metrics;
+    }
   }
 }
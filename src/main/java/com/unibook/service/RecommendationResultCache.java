@@ -0,0 +1,234 @@
+package com.unibook.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.dto.PostResponseDto;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.event.PostStatusChangedEvent;
+import com.unibook.domain.event.UserInteractionEvent;
+import com.unibook.service.RecommendationService.RankedPost;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 추천 결과 캐시
+ * - 순위 계산 결과(게시글 ID + 소스 라벨)만 캐싱하고, 응답 시 IN 쿼리 1회로 DTO 변환
+ * - 만료 전 refreshAfterWrite로 백그라운드 재계산 (요청 스레드는 기존 값을 즉시 반환)
+ * - 상호작용/게시글 상태 변경 이벤트는 무효화 시퀀스만 기록하고, 조회 시 그 이전에 계산된 결과면 다시 계산
+ *   (이벤트마다 캐시 전체를 훑지 않음 - 조회 시 검사는 결과 게시글 수만큼)
+ * - 최근 활동 사용자는 스케줄러가 미리 계산해 둠
+ */
+@Service
+@Slf4j
+public class RecommendationResultCache {
+
+    /**
+     * 캐시 키 (비로그인은 userId = null, bucket = 시간 구간)
+     */
+    private record CacheKey(Long userId, int limit, long bucket) {
+    }
+
+    /**
+     * 순위 계산 결과 (sequence = 계산 시작 시점의 무효화 시퀀스)
+     */
+    private record Ranking(List<RankedPost> posts, long sequence) {
+    }
+
+    private record ActiveUser(Instant lastSeen, int limit) {
+    }
+
+    private final RecommendationService recommendationService;
+    private final RecommendationProperties recommendationProperties;
+    private final ExecutorService refreshExecutor;
+    private final LoadingCache<CacheKey, Ranking> cache;
+    private final Map<Long, ActiveUser> activeUsers = new ConcurrentHashMap<>();
+
+    // 무효화 시퀀스 - 사용자/게시글별 마지막 무효화 시점 (TTL이 지나면 그 이전 결과는 모두 만료되므로 함께 만료)
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Cache<Long, Long> userInvalidations;
+    private final Cache<Long, Long> postInvalidations;
+
+    public RecommendationResultCache(RecommendationService recommendationService,
+                                     RecommendationProperties recommendationProperties) {
+        this.recommendationService = recommendationService;
+        this.recommendationProperties = recommendationProperties;
+        this.refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(recommendationProperties.getResultCacheMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(recommendationProperties.getResultCacheTtlSeconds()))
+                .refreshAfterWrite(Duration.ofSeconds(recommendationProperties.getResultCacheRefreshSeconds()))
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::loadRanking);
+        Duration ttl = Duration.ofSeconds(recommendationProperties.getResultCacheTtlSeconds());
+        this.userInvalidations = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+        this.postInvalidations = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * 사용자 맞춤 추천 조회 (캐시 경유)
+     *
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @param limit  추천 개수
+     * @return 추천 게시글 목록
+     */
+    public List<PostResponseDto> getPersonalizedRecommendations(Long userId, int limit) {
+        if (!recommendationProperties.isResultCacheEnabled()) {
+            return recommendationService.getPersonalizedRecommendations(userId, limit);
+        }
+
+        if (userId != null) {
+            activeUsers.put(userId, new ActiveUser(Instant.now(), limit));
+        }
+
+        CacheKey key = keyFor(userId, limit);
+        Ranking ranking = cache.get(key);
+        if (ranking != null && isInvalidated(key, ranking)) {
+            cache.invalidate(key);
+            ranking = cache.get(key);
+        }
+        if (ranking == null) {
+            return Collections.emptyList();
+        }
+        return recommendationService.hydrateRanking(ranking.posts());
+    }
+
+    /**
+     * 사용자 상호작용 발생 시 해당 사용자의 캐시 무효화 (커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserInteraction(UserInteractionEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        userInvalidations.put(event.userId(), invalidationSequence.incrementAndGet());
+    }
+
+    /**
+     * 게시글이 판매중에서 빠지면 그 게시글을 포함한 캐시 항목 무효화 (커밋 후)
+     * 판매중으로 돌아온 게시글은 TTL/갱신 주기 내에 자연스럽게 반영된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostStatusChanged(PostStatusChangedEvent event) {
+        if (event.newStatus() == Post.PostStatus.AVAILABLE) {
+            return;
+        }
+        postInvalidations.put(event.postId(), invalidationSequence.incrementAndGet());
+    }
+
+    /**
+     * 최근 활동 사용자의 추천을 미리 계산하고, 오래된 활동 기록은 정리
+     */
+    @Scheduled(fixedDelayString = "${recommendation.result-cache-warmer-interval-ms:60000}")
+    public void warmActiveUsers() {
+        if (!recommendationProperties.isResultCacheEnabled()
+                || !recommendationProperties.isResultCacheWarmerEnabled()) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(recommendationProperties.getResultCacheWarmerActiveMinutes()));
+        activeUsers.entrySet().removeIf(entry -> entry.getValue().lastSeen().isBefore(cutoff));
+
+        int maxUsers = recommendationProperties.getResultCacheWarmerMaxUsers();
+        int warmed = 0;
+        for (Map.Entry<Long, ActiveUser> entry : activeUsers.entrySet()) {
+            if (warmed >= maxUsers) {
+                break;
+            }
+            CacheKey key = keyFor(entry.getKey(), entry.getValue().limit());
+            if (cache.getIfPresent(key) == null) {
+                cache.refresh(key);
+                warmed++;
+            }
+        }
+
+        if (warmed > 0) {
+            log.debug("추천 캐시 워밍: {}명 (활동 사용자 {}명)", warmed, activeUsers.size());
+        }
+    }
+
+    /**
+     * 캐시 통계 정보 (모니터링용)
+     */
+    public String getStatsInfo() {
+        CacheStats stats = cache.stats();
+        return String.format("size=%d, hitRate=%.2f%%, loads=%d, evictions=%d, activeUsers=%d",
+                cache.estimatedSize(),
+                stats.hitRate() * 100,
+                stats.loadCount(),
+                stats.evictionCount(),
+                activeUsers.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+        try {
+            if (!refreshExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                refreshExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private CacheKey keyFor(Long userId, int limit) {
+        if (userId != null) {
+            return new CacheKey(userId, limit, 0L);
+        }
+        long bucketSeconds = Math.max(1, recommendationProperties.getResultCacheAnonymousBucketSeconds());
+        return new CacheKey(null, limit, Instant.now().getEpochSecond() / bucketSeconds);
+    }
+
+    /**
+     * 결과 계산 이후 그 사용자나 포함된 게시글이 무효화되었는지 확인
+     */
+    private boolean isInvalidated(CacheKey key, Ranking ranking) {
+        if (key.userId() != null) {
+            Long invalidated = userInvalidations.getIfPresent(key.userId());
+            if (invalidated != null && invalidated > ranking.sequence()) {
+                return true;
+            }
+        }
+        for (RankedPost ranked : ranking.posts()) {
+            Long invalidated = postInvalidations.getIfPresent(ranked.postId());
+            if (invalidated != null && invalidated > ranking.sequence()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시 로더: 빈 결과(오류 포함)는 캐싱하지 않도록 null 반환
+     * 시퀀스는 계산 전에 읽어 계산 중에 들어온 무효화도 다음 조회에서 반영되게 함
+     */
+    private Ranking loadRanking(CacheKey key) {
+        long sequence = invalidationSequence.get();
+        List<RankedPost> ranking = recommendationService.rankPersonalized(key.userId(), key.limit());
+        return ranking.isEmpty() ? null : new Ranking(List.copyOf(ranking), sequence);
+    }
+}
@@ -10,8 +10,7 @@ import com.unibook.config.RecommendationProperties;
 import com.unibook.domain.enums.InteractionWeight;
 import com.unibook.repository.PostRepository;
 import com.unibook.repository.PostViewRepository;
-import com.unibook.repository.RecommendationClickRepository;
-import com.unibook.repository.WishlistRepository;
+import com.unibook.repository.projection.PostCardProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,7 +19,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -40,21 +39,16 @@ public class RecommendationService {
     private final RecommendationProperties recommendationProperties;
     private final PostRepository postRepository;
     private final PostViewRepository postViewRepository;
-    private final PostViewService postViewService;
-    private final RecommendationClickRepository recommendationClickRepository;
-    private final WishlistRepository wishlistRepository;
-    private final Object cacheLock = new Object();
-
-    private CachedPool popularCache;
-    private CachedPool freshCache;
-
-    private record CachedPool(List<Post> posts, Instant expiresAt, int windowDays, int size) {
-        boolean isValid(int currentWindowDays, int currentSize) {
-            return expiresAt != null
-                    && expiresAt.isAfter(Instant.now())
-                    && this.windowDays == currentWindowDays
-                    && this.size == currentSize;
-        }
+    private final InteractionCounterService interactionCounterService;
+    private final UserInteractionProfileService userInteractionProfileService;
+    private final RecommendationCandidatePools candidatePools;
+    private final Clock clock;
+
+    /**
+     * 추천 순위 항목 (게시글 ID + 추천 소스 라벨)
+     * 결과 캐시에는 엔티티 대신 이 값만 저장한다.
+     */
+    public record RankedPost(Long postId, String source) {
     }
 
     private record CollaborativeContext(Map<Long, Long> viewCounts, long maxViewCount) {
@@ -72,16 +66,29 @@ public class RecommendationService {
         }
     }
 
-    /**
-     * 사용자 맞춤 추천 (메인 페이지용)
-     * 성능 최적화: 사용자 상호작용 이력 1회 조회 + Post 일괄 조회
+    /**
+     * 사용자 맞춤 추천 (메인 페이지용)
+     * 캐시를 거치지 않고 순위 계산 + DTO 변환까지 수행
      *
      * @param userId 사용자 ID (비로그인 시 null)
      * @param limit  추천 개수
      * @return 추천 게시글 목록
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto> getPersonalizedRecommendations(Long userId, int limit) {
+    public List<PostResponseDto> getPersonalizedRecommendations(Long userId, int limit) {
+        return hydrateRanking(rankPersonalized(userId, limit));
+    }
+
+    /**
+     * 사용자 맞춤 추천 순위 계산 (게시글 ID + 소스 라벨)
+     * 성능 최적화: 사용자 상호작용 이력 1회 조회 + Post 일괄 조회
+     *
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @param limit  추천 개수
+     * @return 추천 순위 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RankedPost> rankPersonalized(Long userId, int limit) {
         try {
             int targetSize = recommendationProperties.isSlotMixEnabled()
                     ? Math.min(limit, recommendationProperties.getSlotMixSize())
@@ -119,22 +126,8 @@ public class RecommendationService {
                 return Collections.emptyList();
             }
 
-            // 3. [최적화] 사용자 상호작용 이력 1회 조회
-            UserInteractionHistory history = getUserInteractionHistory(userId);
-
-            // 4. [최적화] 상호작용한 모든 게시글 ID 수집
-            Set<Long> interactionPostIds = new HashSet<>();
-            history.getClicks().forEach(r -> interactionPostIds.add(r.getPostId()));
-            history.getWishlists().forEach(r -> interactionPostIds.add(r.getPostId()));
-            history.getViews().forEach(r -> interactionPostIds.add(r.getPostId()));
-
-            // 5. [최적화] 게시글 일괄 조회 (IN 쿼리 1회)
-            Map<Long, Post> interactionPostMap = new HashMap<>();
-            if (!interactionPostIds.isEmpty()) {
-                List<Post> interactionPosts = postRepository.findAllById(interactionPostIds);
-                interactionPostMap = interactionPosts.stream()
-                        .collect(Collectors.toMap(Post::getPostId, p -> p));
-            }
+            // 3. [최적화] 사용자 상호작용 이력 (메모리 프로필, 게시글 특성 포함)
+            UserInteractionHistory history = userInteractionProfileService.getHistory(userId);
 
             // 5-1. 협업 필터링용 데이터 1회 조회 후 재사용
             CollaborativeContext collaborativeContext = buildCollaborativeContext(userId);
@@ -142,7 +135,7 @@ public class RecommendationService {
             // 6. 각 게시글에 대한 점수 계산
             Map<Long, Double> scores = new HashMap<>();
             for (Post post : candidates) {
-                double contentScore = calculateContentBasedScore(post, history, interactionPostMap);
+                double contentScore = calculateContentBasedScore(post, history);
                 double collaborativeScore = calculateCollaborativeScore(post, collaborativeContext);
 
                 double finalScore = contentScore * weights.getContent()
@@ -155,13 +148,40 @@ public class RecommendationService {
             if (recommendationProperties.isSlotMixEnabled()) {
                 return buildSlotMixedRecommendations(candidates, scores, targetSize, userId);
             }
-            return buildPersonalizedOnlyRecommendations(candidates, scores, targetSize);
+            return buildPersonalizedOnlyRecommendations(scores, targetSize);
 
         } catch (Exception e) {
             log.error("추천 시스템 오류", e);
             return Collections.emptyList();
         }
-    }
+    }
+
+    /**
+     * 추천 순위를 응답 DTO로 변환 (카드 프로젝션 IN 쿼리 1회, 순위 유지)
+     * 캐시된 순위가 오래됐을 수 있으므로 판매중(AVAILABLE)이 아닌 게시글은 제외
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> hydrateRanking(List<RankedPost> ranking) {
+        if (ranking == null || ranking.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> postIds = ranking.stream().map(RankedPost::postId).toList();
+        Map<Long, PostCardProjection> cardMap = postRepository.findPostCardsByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostCardProjection::getPostId, c -> c));
+
+        List<PostResponseDto> result = new ArrayList<>(ranking.size());
+        for (RankedPost ranked : ranking) {
+            PostCardProjection card = cardMap.get(ranked.postId());
+            if (card == null || card.getStatus() != Post.PostStatus.AVAILABLE) {
+                continue;
+            }
+            PostResponseDto dto = PostResponseDto.fromCard(card);
+            dto.setSource(ranked.source());
+            result.add(dto);
+        }
+        return result;
+    }
 
     /**
      * 비슷한 게시글 추천 (상세 페이지용)
@@ -210,11 +230,10 @@ public class RecommendationService {
                     .map(Map.Entry::getKey)
                     .collect(Collectors.toList());
 
-            return candidates.stream()
-                    .filter(p -> topPostIds.contains(p.getPostId()))
-                    .sorted(Comparator.comparingInt(p -> topPostIds.indexOf(p.getPostId())))
-                    .map(PostResponseDto::from)
-                    .collect(Collectors.toList());
+            // 응답은 카드 프로젝션으로 (후보 엔티티의 이미지/학교 지연 로딩 방지)
+            return hydrateRanking(topPostIds.stream()
+                    .map(id -> new RankedPost(id, null))
+                    .toList());
 
         } catch (Exception e) {
             log.error("비슷한 게시글 추천 오류", e);
@@ -242,14 +261,12 @@ public class RecommendationService {
      * 적응형 가중치 계산
      * - 데이터 부족: Content-based 90%
      * - 데이터 중간: Content-based 70%
-     * - 데이터 충분: Balanced 50-50%
-     */
+     * - 데이터 충분: Balanced 50-50%
+     * 조회 수는 근사 카운터에서 읽음 (요청마다 COUNT 쿼리 없음)
+     */
     private RecommendationWeights calculateAdaptiveWeights(Long userId) {
-        long userViewCount = 0;
-        if (userId != null) {
-            userViewCount = postViewService.getUserViewCount(userId);
-        }
-        long totalViewCount = postViewService.getTotalViewCount();
+        long userViewCount = interactionCounterService.getUserCount(userId, InteractionWeight.VIEW);
+        long totalViewCount = interactionCounterService.getTotalCount(InteractionWeight.VIEW);
 
         // 데이터 충분
         if (userViewCount >= recommendationProperties.getIntermediateUserViews()
@@ -298,60 +315,33 @@ public class RecommendationService {
      * - 같은 학과: 15%
      * - 최신성: 10%
      */
-    private double calculateContentBasedScore(Post post, UserInteractionHistory history, Map<Long, Post> interactionPostMap) {
+    private double calculateContentBasedScore(Post post, UserInteractionHistory history) {
         if (history.getTotalCount() == 0) {
             return 0.5; // 이력 없으면 중립 점수
         }
 
         // 1. 모든 상호작용에 대한 가중 유사도 계산
+        // 클릭(1.0) / 찜(0.7) / 조회(0.3) 모두 실제 발생 시각 기준 시간 감쇠 적용
         double totalScore = 0.0;
         double totalWeight = 0.0;
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1-1. 클릭 이력 처리 (가중치 1.0, 시간 감쇠 적용)
-        for (UserInteractionHistory.InteractionRecord click : history.getClicks()) {
-            Post clickedPost = interactionPostMap.get(click.getPostId());
-            if (clickedPost != null) {
-                double similarity = calculateSimilarityScore(clickedPost, post);
-                double decayedWeight = click.getDecayedWeight(
-                        recommendationProperties.getTimeDecayLambda(),
-                        recommendationProperties.getTimeDecayThresholdDays(),
-                        now);
-
-                totalScore += similarity * decayedWeight;
-                totalWeight += decayedWeight;
-            }
-        }
-
-        // 1-2. 찜 이력 처리 (가중치 0.7, 감쇠 없음)
-        for (UserInteractionHistory.InteractionRecord wishlist : history.getWishlists()) {
-            Post wishlistPost = interactionPostMap.get(wishlist.getPostId());
-            if (wishlistPost != null) {
-                double similarity = calculateSimilarityScore(wishlistPost, post);
-                double weight = wishlist.getBaseWeight();
-
-                totalScore += similarity * weight;
-                totalWeight += weight;
-            }
-        }
-
-        // 1-3. 조회 이력 처리 (가중치 0.3, 감쇠 없음)
-        for (UserInteractionHistory.InteractionRecord view : history.getViews()) {
-            Post viewedPost = interactionPostMap.get(view.getPostId());
-            if (viewedPost != null) {
-                double similarity = calculateSimilarityScore(viewedPost, post);
-                double weight = view.getBaseWeight();
-
-                totalScore += similarity * weight;
-                totalWeight += weight;
-            }
+        LocalDateTime now = LocalDateTime.now(clock);
+        double recencyScore = calculateRecencyScore(post);
+
+        for (UserInteractionHistory.InteractionRecord interaction : history.getAllInteractions()) {
+            double similarity = calculateSimilarityScore(interaction, post, recencyScore);
+            double decayedWeight = interaction.getDecayedWeight(
+                    recommendationProperties.getTimeDecayLambda(),
+                    recommendationProperties.getTimeDecayThresholdDays(),
+                    now);
+
+            totalScore += similarity * decayedWeight;
+            totalWeight += decayedWeight;
         }
 
         // 2. 가중 평균 계산
         double score = totalWeight > 0 ? totalScore / totalWeight : 0.5;
 
         // 3. 최신성 보정 (0.0 ~ 0.1 추가)
-        double recencyScore = calculateRecencyScore(post);
         score += recencyScore * recommendationProperties.getContentRecencyBoostWeight();
 
         return Math.min(score, 1.0); // 1.0 초과 방지
@@ -382,7 +372,9 @@ public class RecommendationService {
 
         try {
             List<Object[]> collaborativePosts = postViewRepository.findCollaborativePostsByUserId(
-                    userId, PageRequest.of(0, recommendationProperties.getCollaborativeCandidateLimit())
+                    userId,
+                    LocalDateTime.now(clock).minusDays(recommendationProperties.getInteractionLookbackDays()),
+                    PageRequest.of(0, recommendationProperties.getCollaborativeCandidateLimit())
             );
 
             if (collaborativePosts.isEmpty()) {
@@ -419,51 +411,32 @@ public class RecommendationService {
     /**
      * 슬롯 믹싱 미사용 시 기존 순위만 반환
      */
-    private List<PostResponseDto> buildPersonalizedOnlyRecommendations(List<Post> candidates,
-                                                                       Map<Long, Double> scores,
-                                                                       int limit) {
-        List<Long> topPostIds = scores.entrySet().stream()
+    private List<RankedPost> buildPersonalizedOnlyRecommendations(Map<Long, Double> scores, int limit) {
+        return scores.entrySet().stream()
                 .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
                 .limit(limit)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        return candidates.stream()
-                .filter(p -> topPostIds.contains(p.getPostId()))
-                .sorted(Comparator.comparingInt(p -> topPostIds.indexOf(p.getPostId())))
-                .map(PostResponseDto::from)
+                .map(entry -> new RankedPost(entry.getKey(), null))
                 .collect(Collectors.toList());
     }
 
     /**
      * 슬롯 믹싱 경로: 개인화/인기/신선/탐험 비율로 섞기
      */
-    private List<PostResponseDto> buildSlotMixedRecommendations(List<Post> candidates,
-                                                                Map<Long, Double> scores,
-                                                                int limit,
-                                                                Long userId) {
+    private List<RankedPost> buildSlotMixedRecommendations(List<Post> candidates,
+                                                           Map<Long, Double> scores,
+                                                           int limit,
+                                                           Long userId) {
         if (limit <= 0) {
             return Collections.emptyList();
         }
 
-        Map<Long, Post> candidateMap = candidates.stream()
-                .collect(Collectors.toMap(Post::getPostId, p -> p));
-
-        List<Post> personalizedSorted = scores.entrySet().stream()
+        List<Long> personalizedSorted = scores.entrySet().stream()
                 .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
-                .map(entry -> candidateMap.get(entry.getKey()))
-                .filter(Objects::nonNull)
+                .map(Map.Entry::getKey)
                 .toList();
 
-        LocalDateTime now = LocalDateTime.now();
-        List<Post> popularCandidates = getPopularCandidates(now, userId);
-        List<Post> freshCandidates = getFreshCandidates(now, userId);
-        for (Post post : popularCandidates) {
-            candidateMap.putIfAbsent(post.getPostId(), post);
-        }
-        for (Post post : freshCandidates) {
-            candidateMap.putIfAbsent(post.getPostId(), post);
-        }
+        List<Long> popularCandidates = candidatePools.getPopularPostIds(userId);
+        List<Long> freshCandidates = candidatePools.getFreshPostIds(userId);
 
         double pRatio = recommendationProperties.getSlotMixPersonalizedRatio();
         double popRatio = recommendationProperties.getSlotMixPopularRatio();
@@ -472,7 +445,7 @@ public class RecommendationService {
 
         double ratioSum = pRatio + popRatio + freshRatio;
         if (ratioSum <= 0) {
-            return buildPersonalizedOnlyRecommendations(candidates, scores, limit);
+            return buildPersonalizedOnlyRecommendations(scores, limit);
         }
 
         // 비율 정규화
@@ -504,7 +477,9 @@ public class RecommendationService {
 
         if (exploreTarget > 0 && selected.size() < limit) {
             exploreTarget = Math.min(exploreTarget, limit - selected.size());
-            List<Post> explorePool = !freshCandidates.isEmpty() ? freshCandidates : candidates;
+            List<Long> explorePool = !freshCandidates.isEmpty()
+                    ? freshCandidates
+                    : candidates.stream().map(Post::getPostId).toList();
             addRandomExplore(selected, explorePool, exploreTarget, "explore", limit);
         }
 
@@ -512,23 +487,16 @@ public class RecommendationService {
             fillWithLabel(selected, personalizedSorted, limit - selected.size(), "personalized", limit);
         }
 
-        List<PostResponseDto> result = new ArrayList<>();
+        List<RankedPost> result = new ArrayList<>();
         for (Map.Entry<Long, String> entry : selected.entrySet()) {
-            Long postId = entry.getKey();
-            String source = entry.getValue();
-            Post post = candidateMap.get(postId);
-            if (post != null) {
-                PostResponseDto dto = PostResponseDto.from(post);
-                dto.setSource(source);
-                result.add(dto);
-            }
+            result.add(new RankedPost(entry.getKey(), entry.getValue()));
         }
 
         return result.size() > limit ? result.subList(0, limit) : result;
     }
 
     private void fillWithLabel(LinkedHashMap<Long, String> selected,
-                               List<Post> pool,
+                               List<Long> pool,
                                int targetCount,
                                String label,
                                int limit) {
@@ -536,12 +504,12 @@ public class RecommendationService {
             return;
         }
         int added = 0;
-        for (Post post : pool) {
+        for (Long postId : pool) {
             if (selected.size() >= limit) {
                 break;
             }
-            if (!selected.containsKey(post.getPostId())) {
-                selected.put(post.getPostId(), label);
+            if (!selected.containsKey(postId)) {
+                selected.put(postId, label);
                 added++;
                 if (added >= targetCount) {
                     break;
@@ -551,24 +519,24 @@ public class RecommendationService {
     }
 
     private void addRandomExplore(LinkedHashMap<Long, String> selected,
-                                  List<Post> pool,
+                                  List<Long> pool,
                                   int targetCount,
                                   String label,
                                   int limit) {
         if (targetCount <= 0 || pool == null || pool.isEmpty()) {
             return;
         }
-        List<Post> shuffled = new ArrayList<>(pool);
+        List<Long> shuffled = new ArrayList<>(pool);
         Collections.shuffle(shuffled);
         int added = 0;
-        for (Post post : shuffled) {
+        for (Long postId : shuffled) {
             if (selected.size() >= limit) {
                 break;
             }
-            if (selected.containsKey(post.getPostId())) {
+            if (selected.containsKey(postId)) {
                 continue;
             }
-            selected.put(post.getPostId(), label);
+            selected.put(postId, label);
             added++;
             if (added >= targetCount) {
                 break;
@@ -576,78 +544,6 @@ public class RecommendationService {
         }
     }
 
-    private List<Post> getPopularCandidates(LocalDateTime now, Long userId) {
-        int lookbackDays = Math.max(0, recommendationProperties.getSlotMixPopularLookbackDays());
-        int cacheSize = recommendationProperties.getSlotMixPopularCacheSize();
-        int ttlSeconds = recommendationProperties.getSlotMixPopularCacheTtlSeconds();
-        List<Post> cached;
-
-        synchronized (cacheLock) {
-            if (popularCache != null && popularCache.isValid(lookbackDays, cacheSize)) {
-                cached = popularCache.posts();
-            } else {
-                LocalDateTime threshold = now.minusDays(lookbackDays);
-                try {
-                    Page<Post> page = postRepository.findByStatusAndCreatedAtAfter(
-                            Post.PostStatus.AVAILABLE,
-                            threshold,
-                            PageRequest.of(0, cacheSize, Sort.by(Sort.Direction.DESC, "viewCount"))
-                    );
-                    cached = page.getContent();
-                } catch (Exception e) {
-                    log.warn("인기 풀 조회 실패, 전체 조회로 대체", e);
-                    cached = postRepository.findByStatus(Post.PostStatus.AVAILABLE, PageRequest.of(0, cacheSize,
-                            Sort.by(Sort.Direction.DESC, "viewCount"))).getContent();
-                }
-                popularCache = new CachedPool(cached, Instant.now().plusSeconds(ttlSeconds), lookbackDays, cacheSize);
-            }
-        }
-
-        return filterExcludedPosts(cached, userId);
-    }
-
-    private List<Post> getFreshCandidates(LocalDateTime now, Long userId) {
-        int windowDays = Math.max(0, recommendationProperties.getSlotMixFreshWindowDays());
-        int cacheSize = recommendationProperties.getSlotMixFreshCacheSize();
-        int ttlSeconds = recommendationProperties.getSlotMixFreshCacheTtlSeconds();
-        List<Post> cached;
-
-        synchronized (cacheLock) {
-            if (freshCache != null && freshCache.isValid(windowDays, cacheSize)) {
-                cached = freshCache.posts();
-            } else {
-                LocalDateTime threshold = now.minusDays(windowDays);
-                try {
-                    Page<Post> page = postRepository.findByStatusAndCreatedAtAfter(
-                            Post.PostStatus.AVAILABLE,
-                            threshold,
-                            PageRequest.of(0, cacheSize, Sort.by(Sort.Direction.DESC, "createdAt"))
-                    );
-                    cached = page.getContent();
-                } catch (Exception e) {
-                    log.warn("신선 풀 조회 실패, 전체 조회로 대체", e);
-                    cached = postRepository.findByStatus(Post.PostStatus.AVAILABLE, PageRequest.of(0, cacheSize,
-                            Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
-                }
-                freshCache = new CachedPool(cached, Instant.now().plusSeconds(ttlSeconds), windowDays, cacheSize);
-            }
-        }
-
-        return filterExcludedPosts(cached, userId);
-    }
-
-    private List<Post> filterExcludedPosts(List<Post> posts, Long userId) {
-        if (posts == null || posts.isEmpty()) {
-            return Collections.emptyList();
-        }
-        if (userId == null) {
-            return posts;
-        }
-        return posts.stream()
-                .filter(p -> p.getUser() != null && !Objects.equals(p.getUser().getUserId(), userId))
-                .toList();
-    }
-
     /**
      * 두 게시글 간 유사도 점수 계산 (0.0 ~ 1.0)
      *
@@ -681,6 +577,36 @@ public class RecommendationService {
         return Math.min(score, 1.0); // 1.0 초과 방지
     }
 
+    /**
+     * 상호작용 이력(게시글 특성)과 후보 게시글 간 유사도 (0.0 ~ 1.0)
+     * 가중치는 게시글 간 유사도와 동일 (책 ID는 ISBN과 1:1)
+     */
+    private double calculateSimilarityScore(UserInteractionHistory.InteractionRecord interaction, Post post,
+                                            double recencyScore) {
+        double score = 0.0;
+
+        if (interaction.getBookId() != null && post.getBook() != null
+                && interaction.getBookId().equals(post.getBook().getBookId())) {
+            score += recommendationProperties.getIsbnWeight();
+        }
+
+        Subject subject = post.getSubject();
+        if (interaction.getSubjectId() != null && subject != null
+                && interaction.getSubjectId().equals(subject.getSubjectId())) {
+            score += recommendationProperties.getSubjectWeight();
+        }
+
+        if (interaction.getDepartmentId() != null && subject != null && subject.getProfessor() != null
+                && subject.getProfessor().getDepartment() != null
+                && interaction.getDepartmentId().equals(subject.getProfessor().getDepartment().getDepartmentId())) {
+            score += recommendationProperties.getDepartmentWeight();
+        }
+
+        score += recencyScore * recommendationProperties.getSimilarityRecencyWeight();
+
+        return Math.min(score, 1.0); // 1.0 초과 방지
+    }
+
     /**
      * 같은 책 여부 (ISBN 비교)
      */
@@ -740,7 +666,7 @@ public class RecommendationService {
      * - 선형 감소
      */
     private double calculateRecencyScore(Post post) {
-        long daysOld = ChronoUnit.DAYS.between(post.getCreatedAt(), LocalDateTime.now());
+        long daysOld = ChronoUnit.DAYS.between(post.getCreatedAt(), LocalDateTime.now(clock));
         long recencyDays = recommendationProperties.getRecencyDays();
 
         if (daysOld < 0) {
@@ -753,79 +679,5 @@ public class RecommendationService {
 
         // 선형 감소
         return 1.0 - ((double) daysOld / recencyDays);
-    }
-
-    /**
-     * 사용자의 모든 상호작용 이력 조회
-     * 다중 행동 추천 시스템용
-     *
-     * @param userId 사용자 ID
-     * @return 사용자 상호작용 이력 (클릭, 찜, 조회)
-     */
-    private UserInteractionHistory getUserInteractionHistory(Long userId) {
-        if (userId == null) {
-            return UserInteractionHistory.builder().build();
-        }
-
-        List<UserInteractionHistory.InteractionRecord> clicks = new ArrayList<>();
-        List<UserInteractionHistory.InteractionRecord> wishlists = new ArrayList<>();
-        List<UserInteractionHistory.InteractionRecord> views = new ArrayList<>();
-
-        try {
-            // 1. 클릭 이력 조회 (가중치 1.0)
-            List<Object[]> clickResults = recommendationClickRepository
-                    .findRecentClicksWithTimestampByUserId(userId, PageRequest.of(0, recommendationProperties.getMaxClicksToFetch()));
-
-            for (Object[] row : clickResults) {
-                Long postId = (Long) row[0];
-                LocalDateTime timestamp = (LocalDateTime) row[1];
-
-                clicks.add(UserInteractionHistory.InteractionRecord.builder()
-                        .postId(postId)
-                        .timestamp(timestamp)
-                        .weight(InteractionWeight.CLICK)
-                        .build());
-            }
-
-            // 2. 찜 이력 조회 (가중치 0.7)
-            List<Long> wishlistPostIds = wishlistRepository.findPostIdsByUserId(userId);
-            int wishlistCount = 0;
-            for (Long postId : wishlistPostIds) {
-                if (wishlistCount >= recommendationProperties.getMaxWishlistsToFetch()) {
-                    break;
-                }
-
-                // 찜은 timestamp가 없으므로 현재 시각 사용 (감쇠 없음)
-                wishlists.add(UserInteractionHistory.InteractionRecord.builder()
-                        .postId(postId)
-                        .timestamp(LocalDateTime.now())
-                        .weight(InteractionWeight.WISHLIST)
-                        .build());
-
-                wishlistCount++;
-            }
-
-            // 3. 조회 이력 조회 (가중치 0.3)
-            List<Long> viewedPostIds = postViewRepository
-                    .findRecentViewedPostIdsByUser_UserId(userId, PageRequest.of(0, recommendationProperties.getMaxViewsToFetch()));
-
-            for (Long postId : viewedPostIds) {
-                // 조회는 timestamp가 없으므로 현재 시각 사용 (감쇠 없음)
-                views.add(UserInteractionHistory.InteractionRecord.builder()
-                        .postId(postId)
-                        .timestamp(LocalDateTime.now())
-                        .weight(InteractionWeight.VIEW)
-                        .build());
-            }
-
-        } catch (Exception e) {
-            log.warn("사용자 상호작용 이력 조회 실패: userId={}", userId, e);
-        }
-
-        return UserInteractionHistory.builder()
-                .clicks(clicks)
-                .wishlists(wishlists)
-                .views(views)
-                .build();
     }
 }
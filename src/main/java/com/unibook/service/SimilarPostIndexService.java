@@ -0,0 +1,428 @@
+package com.unibook.service;
+
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.dto.PostResponseDto;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.event.PostSavedEvent;
+import com.unibook.domain.event.PostStatusChangedEvent;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.projection.SimilarityFeatureProjection;
+import com.unibook.service.RecommendationService.RankedPost;
+import com.unibook.util.MinHashLshIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 비슷한 게시글 사전 계산 인덱스
+ * - 판매중 게시글의 특성(책/과목/학과)을 메모리에 보관하고 책/과목 역색인 유지
+ * - 게시글별 이웃 목록(long[])을 백그라운드에서 미리 계산, 상세 페이지는 목록 + IN 쿼리 1회로 응답
+ * - 제목+설명 텍스트는 MinHash/LSH로 색인하여 책/과목이 없는 게시글도 텍스트가 비슷한 후보를 버킷 조회로 확보
+ * - 후보는 같은 책/과목 + 텍스트 LSH 밴드 충돌 + 최신 게시글 풀 (학과는 후보 범위가 너무 넓어 점수에만 반영)
+ * - 게시글 생성/수정/상태 변경 시 해당 게시글의 후보가 되는 게시글의 목록만 무효화 (다음 조회 때 재계산)
+ * - 최신성 점수는 시간에 따라 변하므로 주기적으로 전체 재구축
+ * 점수 가중치는 RecommendationService.getSimilarPosts와 동일 (텍스트 유사도 가중치만 추가)
+ */
+@Service
+@Slf4j
+public class SimilarPostIndexService {
+
+    private record PostFeatures(long postId, Long sellerId, Long bookId, Long subjectId,
+                                Long departmentId, LocalDateTime createdAt, int[] textSignature) {
+    }
+
+    /**
+     * 인덱스 본체 (재구축 시 통째로 교체, 증분 갱신은 indexLock 하에서 수행)
+     */
+    private static final class SimilarityIndex {
+        private final Map<Long, PostFeatures> features = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> byBook = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> bySubject = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> neighbours = new ConcurrentHashMap<>();
+        // 등록일 최신순 정렬 (최신 게시글 풀을 전체 정렬 없이 앞에서부터 읽음)
+        private final ConcurrentSkipListSet<PostFeatures> byCreatedAt = new ConcurrentSkipListSet<>(
+                Comparator.comparing(PostFeatures::createdAt).reversed()
+                        .thenComparing(Comparator.comparingLong(PostFeatures::postId).reversed()));
+        private final MinHashLshIndex text;
+        private final int maxTextCandidates;
+        private volatile long[] recent = new long[0];
+        // 이웃 목록 무효화 횟수 (무효화 전에 계산된 목록이 다시 저장되지 않도록)
+        private volatile long invalidations;
+
+        SimilarityIndex(MinHashLshIndex text, int maxTextCandidates) {
+            this.text = text;
+            this.maxTextCandidates = maxTextCandidates;
+        }
+
+        void add(PostFeatures post) {
+            features.put(post.postId(), post);
+            addKey(byBook, post.bookId(), post.postId());
+            addKey(bySubject, post.subjectId(), post.postId());
+            if (post.createdAt() != null) {
+                byCreatedAt.add(post);
+            }
+            if (text != null) {
+                text.put(post.postId(), post.textSignature());
+            }
+        }
+
+        PostFeatures remove(long postId) {
+            PostFeatures removed = features.remove(postId);
+            if (removed != null) {
+                removeKey(byBook, removed.bookId(), postId);
+                removeKey(bySubject, removed.subjectId(), postId);
+                if (removed.createdAt() != null) {
+                    byCreatedAt.remove(removed);
+                }
+            }
+            if (text != null) {
+                text.remove(postId);
+            }
+            neighbours.remove(postId);
+            return removed;
+        }
+
+        /**
+         * 후보 게시글 - 같은 책/과목 + 텍스트 LSH 밴드 충돌 (충돌 수 많은 순으로 상한까지)
+         * 학과 버킷은 학과 전체 게시글이라 후보/무효화 범위에서 제외
+         */
+        Set<Long> postsSharingKeys(PostFeatures post) {
+            Set<Long> related = new HashSet<>();
+            addAll(related, byBook, post.bookId());
+            addAll(related, bySubject, post.subjectId());
+            if (text != null) {
+                related.addAll(text.candidates(post.textSignature(), post.postId(), maxTextCandidates));
+            }
+            return related;
+        }
+
+        int[] textSignature(String title, String description) {
+            if (text == null) {
+                return null;
+            }
+            return text.signature(description != null ? title + " " + description : title);
+        }
+
+        void refreshRecent(int size) {
+            recent = byCreatedAt.stream()
+                    .limit(Math.max(0, size))
+                    .mapToLong(PostFeatures::postId)
+                    .toArray();
+        }
+
+        private static void addKey(Map<Long, Set<Long>> index, Long key, long postId) {
+            if (key != null) {
+                index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(postId);
+            }
+        }
+
+        private static void removeKey(Map<Long, Set<Long>> index, Long key, long postId) {
+            if (key != null) {
+                index.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(postId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        private static void addAll(Set<Long> target, Map<Long, Set<Long>> index, Long key) {
+            if (key != null) {
+                Set<Long> ids = index.get(key);
+                if (ids != null) {
+                    target.addAll(ids);
+                }
+            }
+        }
+    }
+
+    private final RecommendationProperties recommendationProperties;
+    private final PostRepository postRepository;
+    private final RecommendationService recommendationService;
+    private final Object indexLock = new Object();
+    // 재구축 직렬화 (시작 시 비동기 재구축 도중 호출된 재구축은 끝날 때까지 기다렸다가 다시 구축)
+    private final Object rebuildLock = new Object();
+
+    private volatile SimilarityIndex index;
+    // 재구축 중 발생한 변경 (재구축 완료 후 다시 반영)
+    private Set<Long> pendingChanges;
+
+    public SimilarPostIndexService(RecommendationProperties recommendationProperties,
+                                   PostRepository postRepository,
+                                   RecommendationService recommendationService) {
+        this.recommendationProperties = recommendationProperties;
+        this.postRepository = postRepository;
+        this.recommendationService = recommendationService;
+    }
+
+    /**
+     * 비슷한 게시글 추천 (상세 페이지용)
+     * 인덱스가 준비되지 않았거나 사전 계산 범위를 넘는 요청은 기존 계산 경로 사용
+     */
+    public List<PostResponseDto> getSimilarPosts(Long postId, int limit) {
+        SimilarityIndex current = index;
+        if (!recommendationProperties.isSimilarIndexEnabled() || current == null
+                || limit > recommendationProperties.getSimilarIndexMaxNeighbours()) {
+            return recommendationService.getSimilarPosts(postId, limit);
+        }
+
+        try {
+            long[] neighbourIds = neighboursOf(current, postId);
+            List<RankedPost> ranking = new ArrayList<>(Math.min(limit, neighbourIds.length));
+            for (int i = 0; i < neighbourIds.length && ranking.size() < limit; i++) {
+                ranking.add(new RankedPost(neighbourIds[i], null));
+            }
+            return recommendationService.hydrateRanking(ranking);
+        } catch (Exception e) {
+            log.error("비슷한 게시글 인덱스 조회 오류: postId={}", postId, e);
+            return recommendationService.getSimilarPosts(postId, limit);
+        }
+    }
+
+    /**
+     * 게시글 상태 변경 반영 (판매중 진입/이탈만 인덱스에 영향)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostStatusChanged(PostStatusChangedEvent event) {
+        if (event.oldStatus() != Post.PostStatus.AVAILABLE && event.newStatus() != Post.PostStatus.AVAILABLE) {
+            return;
+        }
+        reindexPost(event.postId());
+    }
+
+    /**
+     * 게시글 생성/수정 반영 (책/과목 연결이 바뀌었을 수 있음)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        reindexPost(event.postId());
+    }
+
+    /**
+     * 시작 시 인덱스 구축 (비동기 - 완료 전까지는 기존 계산 경로로 응답)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구축 (최신성 점수 반영, RecommendationMaintenanceScheduler가 주기 실행)
+     */
+    public void rebuild() {
+        if (!recommendationProperties.isSimilarIndexEnabled()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        long startTime = System.currentTimeMillis();
+        synchronized (indexLock) {
+            pendingChanges = new HashSet<>();
+        }
+
+        SimilarityIndex rebuilt;
+        try {
+            rebuilt = newIndex();
+            for (SimilarityFeatureProjection row : postRepository.findSimilarityFeaturesByStatus(Post.PostStatus.AVAILABLE)) {
+                rebuilt.add(toFeatures(rebuilt, row));
+            }
+            rebuilt.refreshRecent(recommendationProperties.getSimilarIndexRecentPoolSize());
+            for (PostFeatures post : rebuilt.features.values()) {
+                rebuilt.neighbours.put(post.postId(), computeNeighbours(rebuilt, post));
+            }
+        } catch (Exception e) {
+            log.warn("비슷한 게시글 인덱스 재구축 실패, 기존 인덱스 유지", e);
+            synchronized (indexLock) {
+                pendingChanges = null;
+            }
+            return;
+        }
+
+        Set<Long> changedDuringRebuild;
+        synchronized (indexLock) {
+            index = rebuilt;
+            changedDuringRebuild = pendingChanges;
+            pendingChanges = null;
+        }
+        changedDuringRebuild.forEach(this::reindexPost);
+
+        log.info("비슷한 게시글 인덱스 재구축 완료: posts={}, 텍스트 서명={}, 재반영={}건, {}ms",
+                rebuilt.features.size(), rebuilt.text != null ? rebuilt.text.size() : 0,
+                changedDuringRebuild.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 게시글 1건 재색인 + 특성을 공유하는 게시글들의 이웃 목록 무효화
+     */
+    private void reindexPost(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        try {
+            Optional<SimilarityFeatureProjection> row = postRepository.findSimilarityFeaturesByPostId(postId);
+
+            synchronized (indexLock) {
+                if (pendingChanges != null) {
+                    pendingChanges.add(postId);
+                }
+                SimilarityIndex current = index;
+                if (current == null) {
+                    return;
+                }
+
+                // 텍스트 후보는 서명이 색인에 있을 때만 조회되므로 제거 전에 수집
+                Set<Long> affected = new HashSet<>();
+                PostFeatures previous = current.features.get(postId);
+                if (previous != null) {
+                    affected.addAll(current.postsSharingKeys(previous));
+                }
+                current.remove(postId);
+                if (row.isPresent() && row.get().getStatus() == Post.PostStatus.AVAILABLE) {
+                    PostFeatures updated = toFeatures(current, row.get());
+                    current.add(updated);
+                    affected.addAll(current.postsSharingKeys(updated));
+                }
+                current.refreshRecent(recommendationProperties.getSimilarIndexRecentPoolSize());
+                current.invalidations++;
+                affected.forEach(current.neighbours::remove);
+            }
+        } catch (Exception e) {
+            log.warn("비슷한 게시글 인덱스 갱신 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 이웃 목록 조회 (무효화된 경우 메모리 인덱스로 재계산)
+     * 판매중이 아닌 게시글의 상세 페이지는 캐싱하지 않고 매번 계산
+     */
+    private long[] neighboursOf(SimilarityIndex current, Long postId) {
+        long[] cached = current.neighbours.get(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        PostFeatures base = current.features.get(postId);
+        if (base != null) {
+            long seen = current.invalidations;
+            long[] computed = computeNeighbours(current, base);
+            synchronized (indexLock) {
+                // 계산 도중 재색인이 있었으면 저장하지 않음 (다음 요청에서 다시 계산)
+                if (current.invalidations == seen && current.features.containsKey(postId)) {
+                    current.neighbours.put(postId, computed);
+                }
+            }
+            return computed;
+        }
+
+        return postRepository.findSimilarityFeaturesByPostId(postId)
+                .map(row -> computeNeighbours(current, toFeatures(current, row)))
+                .orElse(new long[0]);
+    }
+
+    /**
+     * 역색인 후보(같은 책/과목, 텍스트 LSH 밴드 충돌) + 최신 게시글 풀을 점수화하여 상위 이웃 선정
+     */
+    private long[] computeNeighbours(SimilarityIndex current, PostFeatures base) {
+        Set<Long> candidateIds = current.postsSharingKeys(base);
+        for (long recentId : current.recent) {
+            candidateIds.add(recentId);
+        }
+        candidateIds.remove(base.postId());
+
+        record Scored(long postId, double score) {
+        }
+
+        List<Scored> scored = new ArrayList<>(candidateIds.size());
+        for (Long candidateId : candidateIds) {
+            PostFeatures candidate = current.features.get(candidateId);
+            if (candidate == null || Objects.equals(candidate.sellerId(), base.sellerId())) {
+                continue;
+            }
+            double score = calculateSimilarityScore(current, base, candidate);
+            if (score > 0.0) {
+                scored.add(new Scored(candidateId, score));
+            }
+        }
+
+        return scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(Comparator.comparingLong(Scored::postId).reversed()))
+                .limit(recommendationProperties.getSimilarIndexMaxNeighbours())
+                .mapToLong(Scored::postId)
+                .toArray();
+    }
+
+    private double calculateSimilarityScore(SimilarityIndex current, PostFeatures base, PostFeatures candidate) {
+        double score = 0.0;
+        if (base.bookId() != null && base.bookId().equals(candidate.bookId())) {
+            score += recommendationProperties.getIsbnWeight();
+        }
+        if (base.subjectId() != null && base.subjectId().equals(candidate.subjectId())) {
+            score += recommendationProperties.getSubjectWeight();
+        }
+        if (base.departmentId() != null && base.departmentId().equals(candidate.departmentId())) {
+            score += recommendationProperties.getDepartmentWeight();
+        }
+        if (current.text != null) {
+            score += current.text.similarity(base.textSignature(), candidate.textSignature())
+                    * recommendationProperties.getSimilarTextWeight();
+        }
+        score += calculateRecencyScore(candidate.createdAt()) * recommendationProperties.getSimilarityRecencyWeight();
+        return Math.min(score, 1.0);
+    }
+
+    private double calculateRecencyScore(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return 0.0;
+        }
+        long daysOld = ChronoUnit.DAYS.between(createdAt, LocalDateTime.now());
+        long recencyDays = recommendationProperties.getRecencyDays();
+        if (daysOld < 0) {
+            return 1.0;
+        }
+        if (daysOld >= recencyDays) {
+            return 0.0;
+        }
+        return 1.0 - ((double) daysOld / recencyDays);
+    }
+
+    /**
+     * 현재 설정으로 빈 인덱스 생성 (밴드/행/shingle 설정 변경은 다음 재구축부터 적용)
+     */
+    private SimilarityIndex newIndex() {
+        MinHashLshIndex text = recommendationProperties.isSimilarTextEnabled()
+                ? new MinHashLshIndex(recommendationProperties.getSimilarTextBands(),
+                        recommendationProperties.getSimilarTextRows(),
+                        recommendationProperties.getSimilarTextShingleSize())
+                : null;
+        return new SimilarityIndex(text, recommendationProperties.getSimilarTextMaxCandidates());
+    }
+
+    private PostFeatures toFeatures(SimilarityIndex current, SimilarityFeatureProjection row) {
+        return new PostFeatures(row.getPostId(), row.getSellerId(), row.getBookId(), row.getSubjectId(),
+                row.getDepartmentId(), row.getCreatedAt(), current.textSignature(row.getTitle(), row.getDescription()));
+    }
+}
@@ -2,6 +2,7 @@ package com.unibook.service;
 
 import com.unibook.common.AppConstants;
 import com.unibook.domain.dto.SubjectBookDto;
+import com.unibook.domain.entity.BaseEntity;
 import com.unibook.domain.entity.Book;
 import com.unibook.domain.entity.Subject;
 import com.unibook.domain.entity.SubjectBook;
@@ -17,10 +18,18 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * 과목-책 연결 관계 관리 서비스
@@ -38,6 +47,25 @@ public class SubjectBookService {
     private final SubjectBookRepository subjectBookRepository;
     private final SubjectRepository subjectRepository;
     private final BookRepository bookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 참조 카운트 원자적 증가 (과목-책 유니크 키 기준, 없으면 생성)
+    private static final String INCREMENT_SQL =
+            "INSERT INTO subject_books (subject_id, book_id, active_post_count, " +
+            "created_at, updated_at, created_by, updated_by) " +
+            "VALUES (?, ?, ?, NOW(), NOW(), ?, ?) " +
+            "ON DUPLICATE KEY UPDATE active_post_count = active_post_count + VALUES(active_post_count), " +
+            "updated_at = NOW(), updated_by = VALUES(updated_by)";
+    
+    // 참조 카운트 감소 (0 미만 방지)
+    private static final String DECREMENT_SQL =
+            "UPDATE subject_books SET active_post_count = GREATEST(active_post_count - ?, 0), " +
+            "updated_at = NOW(), updated_by = ? " +
+            "WHERE subject_id = ? AND book_id = ?";
+    
+    // 참조가 없는 연결만 삭제 (동시 증가가 먼저 반영되었으면 남김)
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM subject_books WHERE subject_id = ? AND book_id = ? AND active_post_count <= 0";
     
     // ===== 조회 메서드들 (메서드 오버로드 지원) =====
     
@@ -233,51 +261,25 @@ public class SubjectBookService {
     // ===== Reference Count 관리 메서드들 =====
     
     /**
-     * 게시글 생성 시 reference count 증가
+     * 게시글 생성 시 reference count 증가 (연결이 없으면 생성)
      * 
      * @param subjectId 과목 ID
      * @param bookId 책 ID
-     * @return 업데이트된 연결 정보
+     * @throws ResourceNotFoundException 과목이나 책을 찾을 수 없는 경우
      */
     @Transactional(readOnly = false)
-    public SubjectBookDto incrementPostCount(Long subjectId, Long bookId) {
+    public void incrementPostCount(Long subjectId, Long bookId) {
         if (subjectId == null || bookId == null) {
             throw new ValidationException("과목 ID와 책 ID는 필수입니다.");
         }
         
-        // 기존 연결이 있으면 count 증가, 없으면 생성
-        SubjectBook subjectBook = subjectBookRepository.findBySubject_SubjectIdAndBook_BookId(subjectId, bookId)
-                .orElseGet(() -> {
-                    // 새 연결 생성
-                    Subject subject = subjectRepository.findById(subjectId)
-                            .orElseThrow(() -> new ResourceNotFoundException("과목을 찾을 수 없습니다: " + subjectId));
-                    Book book = bookRepository.findById(bookId)
-                            .orElseThrow(() -> new ResourceNotFoundException("책을 찾을 수 없습니다: " + bookId));
-                    
-                    SubjectBook newConnection = SubjectBook.builder()
-                            .subject(subject)
-                            .book(book)
-                            .activePostCount(0)
-                            .build();
-                    
-                    try {
-                        return subjectBookRepository.saveAndFlush(newConnection);
-                    } catch (DataIntegrityViolationException e) {
-                        // 동시성 충돌 시 다시 조회
-                        return subjectBookRepository.findBySubject_SubjectIdAndBook_BookId(subjectId, bookId)
-                                .orElseThrow(() -> new ResourceNotFoundException("과목-책 연결을 찾을 수 없습니다."));
-                    }
-                });
-        
-        subjectBook.incrementActivePostCount();
-        SubjectBook saved = subjectBookRepository.save(subjectBook);
-        
-        log.info("SubjectBook 참조 카운트 증가: {} ↔ {} (count: {})", 
-                subjectBook.getSubject().getSubjectName(), 
-                subjectBook.getBook().getTitle(), 
-                saved.getActivePostCount());
-        
-        return SubjectBookDto.from(saved);
+        try {
+            applyPostCountDeltas(List.of(new PostCountDelta(subjectId, bookId, 1)));
+        } catch (DataIntegrityViolationException e) {
+            // 외래키 위반 - 과목 또는 책이 삭제됨
+            throw new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+                    "과목 또는 책을 찾을 수 없습니다: subjectId=" + subjectId + ", bookId=" + bookId);
+        }
     }
     
     /**
@@ -293,30 +295,65 @@ public class SubjectBookService {
             return;
         }
         
-        Optional<SubjectBook> subjectBookOpt = subjectBookRepository.findBySubject_SubjectIdAndBook_BookId(subjectId, bookId);
-        
-        if (subjectBookOpt.isEmpty()) {
-            log.warn("SubjectBook 참조 카운트 감소 실패: 연결을 찾을 수 없음 (subjectId={}, bookId={})", subjectId, bookId);
-            return;
+        applyPostCountDeltas(List.of(new PostCountDelta(subjectId, bookId, -1)));
+    }
+    
+    /**
+     * reference count 증감 일괄 반영
+     * - 같은 과목-책 조합의 증감은 합산해 1건으로 처리 (합이 0이면 생략)
+     * - 증가: INSERT ... ON DUPLICATE KEY UPDATE (엔티티 조회 없이 원자적으로 생성/증가)
+     * - 감소: 0 미만으로 내려가지 않게 UPDATE 후 0인 행만 조건부 DELETE
+     * - (subject_id, book_id) 순으로 정렬해 실행하므로 동시 batch 간 잠금 순서가 같아 교착 상태를 피함
+     * 백그라운드(아웃박스) 처리 기준이므로 감사 컬럼은 시스템 사용자로 기록
+     */
+    @Transactional(readOnly = false)
+    public void applyPostCountDeltas(Collection<PostCountDelta> deltas) {
+        Map<PostCountDelta, Integer> coalesced = new TreeMap<>(PostCountDelta.KEY_ORDER);
+        for (PostCountDelta delta : deltas) {
+            coalesced.merge(delta, delta.delta(), Integer::sum);
         }
         
-        SubjectBook subjectBook = subjectBookOpt.get();
-        subjectBook.decrementActivePostCount();
+        List<Object[]> increments = new ArrayList<>();
+        List<Object[]> decrements = new ArrayList<>();
+        List<Object[]> emptyChecks = new ArrayList<>();
+        coalesced.forEach((key, delta) -> {
+            if (delta > 0) {
+                increments.add(new Object[]{key.subjectId(), key.bookId(), delta,
+                        BaseEntity.SYSTEM_USER_ID, BaseEntity.SYSTEM_USER_ID});
+            } else if (delta < 0) {
+                decrements.add(new Object[]{-delta, BaseEntity.SYSTEM_USER_ID, key.subjectId(), key.bookId()});
+                emptyChecks.add(new Object[]{key.subjectId(), key.bookId()});
+            }
+        });
         
-        if (subjectBook.hasActivePosts()) {
-            // 아직 활성 게시글이 있으면 count만 업데이트
-            subjectBookRepository.save(subjectBook);
-            log.info("SubjectBook 참조 카운트 감소: {} ↔ {} (count: {})", 
-                    subjectBook.getSubject().getSubjectName(), 
-                    subjectBook.getBook().getTitle(), 
-                    subjectBook.getActivePostCount());
-        } else {
-            // 활성 게시글이 없으면 SubjectBook 삭제
-            subjectBookRepository.delete(subjectBook);
-            log.info("SubjectBook 삭제 (참조 카운트 0): {} ↔ {}", 
-                    subjectBook.getSubject().getSubjectName(), 
-                    subjectBook.getBook().getTitle());
+        if (!increments.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, increments);
         }
+        if (!decrements.isEmpty()) {
+            jdbcTemplate.batchUpdate(DECREMENT_SQL, decrements);
+            int[] deleted = jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, emptyChecks);
+            long deletedCount = Arrays.stream(deleted).filter(count -> count > 0).count();
+            if (deletedCount > 0) {
+                log.info("SubjectBook 삭제 (참조 카운트 0): {}건", deletedCount);
+            }
+        }
+        
+        log.debug("SubjectBook 참조 카운트 반영: 입력={}건, 증가={}건, 감소={}건",
+                deltas.size(), increments.size(), decrements.size());
+    }
+    
+    /**
+     * 과목-책 참조 카운트 증감 단위
+     * 
+     * @param subjectId 과목 ID
+     * @param bookId 책 ID
+     * @param delta 증감값 (+1 연결, -1 해제)
+     */
+    public record PostCountDelta(Long subjectId, Long bookId, int delta) {
+        // 합산 키 비교 (delta는 제외)
+        static final Comparator<PostCountDelta> KEY_ORDER = Comparator
+                .comparing(PostCountDelta::subjectId)
+                .thenComparing(PostCountDelta::bookId);
     }
     
     /**
@@ -0,0 +1,226 @@
+package com.unibook.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.unibook.config.RecommendationProperties;
+import com.unibook.domain.dto.UserInteractionHistory;
+import com.unibook.domain.dto.UserInteractionHistory.InteractionRecord;
+import com.unibook.domain.enums.InteractionWeight;
+import com.unibook.domain.event.PostSavedEvent;
+import com.unibook.domain.event.UserInteractionEvent;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.PostViewRepository;
+import com.unibook.repository.RecommendationClickRepository;
+import com.unibook.repository.WishlistRepository;
+import com.unibook.repository.projection.InteractionFeatureProjection;
+import com.unibook.repository.projection.PostFeatureProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 사용자 상호작용 프로필 저장소
+ * - 사용자별 최근 클릭/찜/조회를 종류별 고정 크기 버퍼로 메모리에 보관 (게시글 특성 포함)
+ * - 첫 조회 시 DB에서 1회 로드, 이후 쓰기 이벤트로 갱신
+ * - 보관 사용자 수 상한 + 미사용 만료로 메모리 제한
+ * - 이벤트 반영에 필요한 게시글 특성은 게시글별로 캐싱 (인기 게시글 이벤트마다 DB 조회하지 않도록)
+ * 추천 요청마다 이력/게시글 조회 쿼리를 반복하지 않기 위해 사용
+ */
+@Service
+@Slf4j
+public class UserInteractionProfileService {
+
+    private final RecommendationProperties recommendationProperties;
+    private final PostRepository postRepository;
+    private final PostViewRepository postViewRepository;
+    private final RecommendationClickRepository clickRepository;
+    private final WishlistRepository wishlistRepository;
+    private final Clock clock;
+    private final LoadingCache<Long, UserProfile> profiles;
+    // 게시글 ID -> 특성 (없는 게시글은 캐싱하지 않음, 게시글 수정 시 무효화)
+    private final LoadingCache<Long, PostFeatureProjection> postFeatures;
+
+    public UserInteractionProfileService(RecommendationProperties recommendationProperties,
+                                         PostRepository postRepository,
+                                         PostViewRepository postViewRepository,
+                                         RecommendationClickRepository clickRepository,
+                                         WishlistRepository wishlistRepository,
+                                         Clock clock) {
+        this.recommendationProperties = recommendationProperties;
+        this.postRepository = postRepository;
+        this.postViewRepository = postViewRepository;
+        this.clickRepository = clickRepository;
+        this.wishlistRepository = wishlistRepository;
+        this.clock = clock;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(recommendationProperties.getUserProfileMaxUsers())
+                .expireAfterAccess(Duration.ofMinutes(recommendationProperties.getUserProfileExpireAfterAccessMinutes()))
+                .build(this::loadProfile);
+        this.postFeatures = Caffeine.newBuilder()
+                .maximumSize(recommendationProperties.getUserProfilePostFeatureCacheSize())
+                .expireAfterWrite(Duration.ofMinutes(recommendationProperties.getUserProfileExpireAfterAccessMinutes()))
+                .build(postId -> postRepository.findFeaturesByPostId(postId).orElse(null));
+    }
+
+    /**
+     * 사용자 상호작용 이력 스냅샷 (비로그인 시 빈 이력)
+     */
+    public UserInteractionHistory getHistory(Long userId) {
+        if (userId == null) {
+            return UserInteractionHistory.builder().build();
+        }
+        try {
+            return profiles.get(userId).snapshot();
+        } catch (Exception e) {
+            log.warn("사용자 상호작용 프로필 로드 실패: userId={}", userId, e);
+            return UserInteractionHistory.builder().build();
+        }
+    }
+
+    /**
+     * 쓰기 경로 이벤트 반영 (커밋 후)
+     * 발행 스레드에서 바로 처리하여 같은 사용자의 이벤트 순서를 유지
+     * (클릭은 파이프라인 파티션 스레드, 조회는 비동기 기록 스레드에서 발행됨)
+     * 메모리에 없는 사용자는 다음 조회 때 DB에서 로드되므로 건너뜀
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserInteraction(UserInteractionEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        UserProfile profile = profiles.getIfPresent(event.userId());
+        if (profile == null) {
+            return;
+        }
+
+        if (!event.added()) {
+            profile.remove(event.type(), event.postId());
+            return;
+        }
+
+        try {
+            PostFeatureProjection features = postFeatures.get(event.postId());
+            if (features != null) {
+                profile.add(toRecord(features, event.occurredAt(), event.type()), capacityOf(event.type()));
+            }
+        } catch (Exception e) {
+            // 반영 실패 시 프로필을 버려 다음 조회 때 DB에서 다시 로드
+            log.warn("사용자 상호작용 프로필 갱신 실패: userId={}, postId={}", event.userId(), event.postId(), e);
+            profiles.invalidate(event.userId());
+        }
+    }
+
+    /**
+     * 게시글 수정 시 캐싱된 특성 무효화 (책/과목 연결이 바뀌었을 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        if (event.postId() != null) {
+            postFeatures.invalidate(event.postId());
+        }
+    }
+
+    private UserProfile loadProfile(Long userId) {
+        UserProfile profile = new UserProfile();
+
+        // 조회/클릭은 최근 파티션만 읽도록 기간 제한
+        LocalDateTime since = LocalDateTime.now(clock).minusDays(recommendationProperties.getInteractionLookbackDays());
+
+        // 오래된 것부터 넣어 버퍼 앞쪽이 최신이 되도록 함
+        List<InteractionFeatureProjection> clicks = clickRepository.findRecentClickFeaturesByUserId(
+                userId, since, PageRequest.of(0, capacityOf(InteractionWeight.CLICK)));
+        List<InteractionFeatureProjection> wishlists = wishlistRepository.findRecentWishlistFeaturesByUserId(
+                userId, PageRequest.of(0, capacityOf(InteractionWeight.WISHLIST)));
+        List<InteractionFeatureProjection> views = postViewRepository.findRecentViewFeaturesByUserId(
+                userId, since, PageRequest.of(0, capacityOf(InteractionWeight.VIEW)));
+
+        addAllOldestFirst(profile, clicks, InteractionWeight.CLICK);
+        addAllOldestFirst(profile, wishlists, InteractionWeight.WISHLIST);
+        addAllOldestFirst(profile, views, InteractionWeight.VIEW);
+
+        log.debug("사용자 상호작용 프로필 로드: userId={}, clicks={}, wishlists={}, views={}",
+                userId, clicks.size(), wishlists.size(), views.size());
+        return profile;
+    }
+
+    private void addAllOldestFirst(UserProfile profile, List<InteractionFeatureProjection> rows, InteractionWeight type) {
+        int capacity = capacityOf(type);
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            InteractionFeatureProjection row = rows.get(i);
+            LocalDateTime occurredAt = row.getOccurredAt() != null ? row.getOccurredAt() : LocalDateTime.now();
+            profile.add(toRecord(row, occurredAt, type), capacity);
+        }
+    }
+
+    private InteractionRecord toRecord(PostFeatureProjection features, LocalDateTime occurredAt, InteractionWeight type) {
+        return InteractionRecord.builder()
+                .postId(features.getPostId())
+                .timestamp(occurredAt)
+                .weight(type)
+                .bookId(features.getBookId())
+                .subjectId(features.getSubjectId())
+                .departmentId(features.getDepartmentId())
+                .build();
+    }
+
+    private int capacityOf(InteractionWeight type) {
+        return switch (type) {
+            case CLICK -> recommendationProperties.getMaxClicksToFetch();
+            case WISHLIST -> recommendationProperties.getMaxWishlistsToFetch();
+            case VIEW -> recommendationProperties.getMaxViewsToFetch();
+        };
+    }
+
+    /**
+     * 사용자 1명의 프로필 (종류별 최신순 버퍼)
+     * 클릭은 매 건 기록, 찜/조회는 게시글당 최신 1건만 유지
+     */
+    private static final class UserProfile {
+
+        private final Deque<InteractionRecord> clicks = new ArrayDeque<>();
+        private final Deque<InteractionRecord> wishlists = new ArrayDeque<>();
+        private final Deque<InteractionRecord> views = new ArrayDeque<>();
+
+        synchronized void add(InteractionRecord record, int capacity) {
+            Deque<InteractionRecord> buffer = bufferOf(record.getWeight());
+            if (record.getWeight() != InteractionWeight.CLICK) {
+                buffer.removeIf(existing -> Objects.equals(existing.getPostId(), record.getPostId()));
+            }
+            buffer.addFirst(record);
+            while (buffer.size() > Math.max(0, capacity)) {
+                buffer.removeLast();
+            }
+        }
+
+        synchronized void remove(InteractionWeight type, Long postId) {
+            bufferOf(type).removeIf(existing -> Objects.equals(existing.getPostId(), postId));
+        }
+
+        synchronized UserInteractionHistory snapshot() {
+            return UserInteractionHistory.builder()
+                    .clicks(new ArrayList<>(clicks))
+                    .wishlists(new ArrayList<>(wishlists))
+                    .views(new ArrayList<>(views))
+                    .build();
+        }
+
+        private Deque<InteractionRecord> bufferOf(InteractionWeight type) {
+            return switch (type) {
+                case CLICK -> clicks;
+                case WISHLIST -> wishlists;
+                case VIEW -> views;
+            };
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.unibook.service;
 import com.unibook.domain.entity.Post;
 import com.unibook.domain.entity.User;
 import com.unibook.domain.entity.Wishlist;
+import com.unibook.domain.enums.InteractionWeight;
+import com.unibook.domain.event.UserInteractionEvent;
 import com.unibook.exception.ResourceNotFoundException;
 import com.unibook.repository.PostRepository;
 import com.unibook.repository.UserRepository;
 import com.unibook.repository.WishlistRepository;
+import com.unibook.repository.projection.PostCardProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +30,7 @@ public class WishlistService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 찜하기 추가/제거 토글 (최적화됨 - N+1 문제 해결)
@@ -53,6 +58,7 @@ public class WishlistService {
             // 찜 제거
             wishlistRepository.delete(existingWishlist.get());
             updateWishlistCount(postId, -1);
+            eventPublisher.publishEvent(UserInteractionEvent.removed(userId, postId, InteractionWeight.WISHLIST));
             log.info("찜 제거: userId={}, postId={}", userId, postId);
             return false;
         } else {
@@ -66,6 +72,7 @@ public class WishlistService {
                     .build();
             wishlistRepository.save(wishlist);
             updateWishlistCount(postId, 1);
+            eventPublisher.publishEvent(UserInteractionEvent.of(userId, postId, InteractionWeight.WISHLIST));
             log.info("찜 추가: userId={}, postId={}", userId, postId);
             
             // 게시글 작성자에게 익명 찜 알림 발송 (최적화된 조회)
@@ -93,17 +100,17 @@ public class WishlistService {
     }
     
     /**
-     * 사용자의 찜한 게시글 목록 조회 (Fetch Join으로 N+1 방지)
+     * 사용자의 찜한 게시글 카드 조회 (목록 화면용 프로젝션)
      */
-    public Page<Post> getUserWishlistPosts(Long userId, Pageable pageable) {
-        return postRepository.findWishlistedPostsByUserUnified(userId, null, null, pageable);
+    public Page<PostCardProjection> getUserWishlistPosts(Long userId, Pageable pageable) {
+        return postRepository.findWishlistedPostCards(userId, null, null, pageable);
     }
     
     /**
-     * 사용자의 찜한 게시글 목록 조회 (가격 필터링 포함)
+     * 사용자의 찜한 게시글 카드 조회 (가격 필터링 포함)
      */
-    public Page<Post> getUserWishlistPosts(Long userId, Pageable pageable, Integer minPrice, Integer maxPrice) {
-        return postRepository.findWishlistedPostsByUserUnified(userId, minPrice, maxPrice, pageable);
+    public Page<PostCardProjection> getUserWishlistPosts(Long userId, Pageable pageable, Integer minPrice, Integer maxPrice) {
+        return postRepository.findWishlistedPostCards(userId, minPrice, maxPrice, pageable);
     }
     
     /**
@@ -116,6 +123,7 @@ public class WishlistService {
         
         wishlistRepository.delete(wishlist);
         updateWishlistCount(postId, -1);
+        eventPublisher.publishEvent(UserInteractionEvent.removed(userId, postId, InteractionWeight.WISHLIST));
         
         log.info("찜 제거: userId={}, postId={}", userId, postId);
     }
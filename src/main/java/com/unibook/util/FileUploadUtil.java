@@ -1,24 +1,51 @@
 package com.unibook.util;
 
+import com.unibook.domain.entity.UploadBlob;
 import com.unibook.exception.ValidationException;
+import com.unibook.repository.UploadBlobRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
+/**
+ * 업로드 파일 저장소
+ * - 내용 주소 기반: SHA-256을 계산하며 임시 파일로 받은 뒤 blobs/ab/cd/{hash}.{ext}로 원자적 이동
+ * - 같은 내용은 한 번만 저장하고 upload_blobs.ref_count로 참조 수 관리
+ * - 참조가 0이 되면 커밋 후 파일과 파생 이미지({hash}_{ext}_*)를 정리
+ * 기존 UUID 파일명 업로드는 이전처럼 바로 삭제
+ */
 @Slf4j
 @Component
 public class FileUploadUtil {
     
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String BLOB_URL_PREFIX = "/uploads/" + BLOB_DIRECTORY + "/";
+    
+    private final UploadBlobRepository uploadBlobRepository;
+    private final TransactionTemplate purgeTransaction;
+    
     @Value("${app.file.upload-dir}")
     private String uploadDir;
     
@@ -28,6 +55,13 @@ public class FileUploadUtil {
     @Value("${app.file.allowed-extensions}")
     private String allowedExtensions;
     
+    public FileUploadUtil(UploadBlobRepository uploadBlobRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.uploadBlobRepository = uploadBlobRepository;
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.purgeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
     /**
      * 파일 유효성 검증
      */
@@ -50,35 +84,60 @@ public class FileUploadUtil {
     }
     
     /**
-     * 파일 저장
+     * 파일 저장 (내용 주소 기반, 같은 내용이면 기존 blob 참조만 증가)
+     * 호출 트랜잭션이 롤백되면 참조 증가도 함께 취소됨
      */
-    public String saveFile(MultipartFile file, String subDirectory) throws IOException {
+    public String saveFile(MultipartFile file) throws IOException {
         validateFile(file);
         
-        // 고유한 파일명 생성
         String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String uniqueFilename = UUID.randomUUID().toString() + "." + extension;
-        
-        // 저장 경로 생성 (자동으로 디렉토리 생성)
-        Path uploadPath = Paths.get(uploadDir + subDirectory);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            log.info("Created upload directory: {}", uploadPath.toAbsolutePath());
+        String extension = getFileExtension(originalFilename).toLowerCase();
+        if ("jpeg".equals(extension)) {
+            // 같은 내용이 확장자 표기만 달라 두 blob으로 나뉘지 않도록 통일
+            extension = "jpg";
         }
         
-        // 파일 저장
-        Path filePath = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        // 같은 볼륨의 임시 디렉토리에 받아야 원자적 이동 가능
+        Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path tempDirectory = Files.createDirectories(basePath.resolve(TEMP_DIRECTORY));
+        Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
         
-        log.info("File saved: {} -> {}", originalFilename, filePath.toAbsolutePath());
-        
-        // 상대 경로 반환 (DB 저장용) - /uploads 포함
-        return "/uploads" + subDirectory + uniqueFilename;
+        try {
+            // 임시 파일로 스트리밍하면서 해시 계산 (한 번만 읽음)
+            MessageDigest digest = newSha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relativePath = BLOB_DIRECTORY + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4)
+                    + "/" + hash + "." + extension;
+            String url = "/uploads/" + relativePath;
+            
+            // 참조를 먼저 획득 (행 잠금으로 같은 blob의 정리 작업과 직렬화된 뒤 파일 존재 확인)
+            uploadBlobRepository.acquire(url, hash, size);
+            
+            Path target = basePath.resolve(relativePath);
+            if (Files.exists(target)) {
+                log.info("File deduplicated: {} -> {}", originalFilename, url);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                log.info("File saved: {} -> {}", originalFilename, target);
+                deleteOnRollback(url);
+            }
+            
+            // 상대 경로 반환 (DB 저장용) - /uploads 포함
+            return url;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
     }
     
     /**
      * 파일 삭제
+     * - blob: 참조 수를 줄이고 0이 되면 커밋 후 정리 (파생 이미지 경로는 blob 정리 때 함께 삭제)
+     * - 기존 UUID 파일: 바로 삭제
      */
     public void deleteFile(String filePath) {
         if (filePath == null || filePath.isEmpty()) {
@@ -86,27 +145,14 @@ public class FileUploadUtil {
             return;
         }
         
+        if (filePath.startsWith(BLOB_URL_PREFIX)) {
+            releaseBlob(filePath);
+            return;
+        }
+        
         try {
-            // 보안: 경로 조작 공격 방지
-            if (filePath.contains("..") || filePath.contains("\\")) {
-                log.error("잘못된 파일 경로: {}", filePath);
-                return;
-            }
-            
-            // URL 경로(/uploads/...)를 실제 파일 경로로 변환
-            String actualPath = filePath;
-            if (filePath.startsWith("/uploads/")) {
-                // "/uploads/"를 제거하고 uploadDir와 결합
-                actualPath = filePath.substring(9); // "/uploads/" 길이 = 9
-            }
-            
-            // 절대 경로 생성 및 정규화
-            Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Path targetPath = basePath.resolve(actualPath).normalize();
-            
-            // 보안: 업로드 디렉토리 외부 접근 방지
-            if (!targetPath.startsWith(basePath)) {
-                log.error("업로드 디렉토리 외부 접근 시도: {}", filePath);
+            Path targetPath = resolveStoredPath(filePath);
+            if (targetPath == null) {
                 return;
             }
             
@@ -122,6 +168,155 @@ public class FileUploadUtil {
         }
     }
     
+    /**
+     * blob 참조 해제 후 커밋 시점에 참조가 0이면 정리
+     */
+    private void releaseBlob(String blobUrl) {
+        if (uploadBlobRepository.release(blobUrl) == 0 && !uploadBlobRepository.existsById(blobUrl)) {
+            // 파생 이미지 등 blob에 딸린 파일은 blob과 함께 정리됨
+            log.debug("blob 원본이 아닌 경로, 삭제 건너뜀: {}", blobUrl);
+            return;
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purgeIfUnreferenced(blobUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purgeIfUnreferenced(blobUrl);
+            }
+        });
+    }
+    
+    /**
+     * 이번 호출이 만든 blob 파일은 호출 트랜잭션이 롤백되면 삭제
+     * (참조 획득이 취소되어 upload_blobs 행 없는 파일이 남지 않도록)
+     */
+    private void deleteOnRollback(String blobUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    purgeOrphan(blobUrl);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 롤백된 업로드의 파일 정리 - 행을 잠근 채 확인하므로
+     * 그 사이 같은 내용을 업로드해 참조를 얻은 요청이 있으면 파일을 남김
+     */
+    private void purgeOrphan(String blobUrl) {
+        try {
+            purgeTransaction.executeWithoutResult(status -> {
+                Optional<UploadBlob> blob = uploadBlobRepository.findByPathForUpdate(blobUrl);
+                if (blob.isEmpty()) {
+                    deleteBlobFiles(blobUrl);
+                } else if (blob.get().getRefCount() <= 0) {
+                    deleteBlobFiles(blobUrl);
+                    uploadBlobRepository.delete(blob.get());
+                }
+            });
+        } catch (Exception e) {
+            log.error("롤백된 업로드 blob 정리 실패: {}", blobUrl, e);
+        }
+    }
+    
+    /**
+     * 참조가 0인 blob의 파일(파생 이미지 포함)과 행 삭제
+     * 행을 잠근 채 처리하므로 같은 내용을 동시에 업로드하는 요청은 정리가 끝난 뒤 파일을 다시 만든다
+     */
+    private void purgeIfUnreferenced(String blobUrl) {
+        try {
+            purgeTransaction.executeWithoutResult(status ->
+                    uploadBlobRepository.findByPathForUpdate(blobUrl)
+                            .filter(blob -> blob.getRefCount() <= 0)
+                            .ifPresent(blob -> {
+                                deleteBlobFiles(blobUrl);
+                                uploadBlobRepository.delete(blob);
+                            }));
+        } catch (Exception e) {
+            // 정리 실패는 로그만 남김 (참조 0인 blob은 남아 있다가 같은 내용이 다시 업로드되면 재사용)
+            log.error("blob 정리 실패: {}", blobUrl, e);
+        }
+    }
+    
+    /**
+     * blob 파일과 그 blob의 파생 이미지 삭제
+     * 같은 내용이 확장자만 다른 blob(hash.png / hash.jpg)으로 있을 수 있으므로 해시만이 아닌 파일명 기준으로 찾음
+     */
+    private void deleteBlobFiles(String blobUrl) {
+        Path blobPath = resolveStoredPath(blobUrl);
+        if (blobPath == null) {
+            return;
+        }
+        String prefix = derivativePrefix(blobPath.getFileName().toString());
+        try {
+            Files.deleteIfExists(blobPath);
+            try (DirectoryStream<Path> derived = Files.newDirectoryStream(blobPath.getParent(), prefix + "_*")) {
+                for (Path path : derived) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            log.info("blob 삭제 성공: {}", blobPath);
+        } catch (IOException e) {
+            log.error("blob 파일 삭제 실패: {}", blobUrl, e);
+        }
+    }
+    
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+    
+    /**
+     * 원본 파일명에 대한 파생 이미지 이름 접두사 ("{hash}.{ext}" -> "{hash}_{ext}", 확장자 없으면 이름 그대로)
+     * 파생 이미지는 "{접두사}_{크기}.{형식}"으로 원본 옆에 저장됨
+     */
+    public static String derivativePrefix(String sourceFileName) {
+        int dot = sourceFileName.lastIndexOf('.');
+        return dot > 0 ? sourceFileName.substring(0, dot) + "_" + sourceFileName.substring(dot + 1) : sourceFileName;
+    }
+    
+    /**
+     * DB에 저장된 URL 경로(/uploads/...)를 실제 파일 경로로 변환
+     * 경로 조작이나 업로드 디렉토리 외부 접근이면 null
+     */
+    public Path resolveStoredPath(String filePath) {
+        // 보안: 경로 조작 공격 방지
+        if (filePath.contains("..") || filePath.contains("\\")) {
+            log.error("잘못된 파일 경로: {}", filePath);
+            return null;
+        }
+        
+        // URL 경로(/uploads/...)를 실제 파일 경로로 변환
+        String actualPath = filePath;
+        if (filePath.startsWith("/uploads/")) {
+            // "/uploads/"를 제거하고 uploadDir와 결합
+            actualPath = filePath.substring(9); // "/uploads/" 길이 = 9
+        }
+        
+        // 절대 경로 생성 및 정규화
+        Path basePath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path targetPath = basePath.resolve(actualPath).normalize();
+        
+        // 보안: 업로드 디렉토리 외부 접근 방지
+        if (!targetPath.startsWith(basePath)) {
+            log.error("업로드 디렉토리 외부 접근 시도: {}", filePath);
+            return null;
+        }
+        return targetPath;
+    }
+    
     /**
      * 파일 확장자 확인
      */
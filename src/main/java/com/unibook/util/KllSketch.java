@@ -0,0 +1,145 @@
+package com.unibook.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * KLL 분위수 스케치 (정수 값)
+ * - 레벨 h의 항목은 가중치 2^h, 레벨이 가득 차면 정렬 후 하나 걸러 절반만 윗 레벨로 올림
+ * - 레벨 용량은 위로 갈수록 크고(k) 아래로 갈수록 2/3씩 줄어 전체 크기는 O(k)
+ * - 항목 수가 k 미만이면 정확한 분위수, 그 이상은 근사 (k=200 기준 순위 오차 1~2% 이내)
+ * 추가만 지원 (삭제 불가), 스레드 안전하지 않으므로 호출 측에서 동기화
+ */
+public final class KllSketch {
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    // 같은 입력이면 같은 결과가 나오도록 고정 시드 사용
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final int k;
+    private final List<int[]> levels = new ArrayList<>();
+    private final List<Integer> levelSizes = new ArrayList<>();
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private long count;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public KllSketch(int k) {
+        this.k = Math.max(MIN_LEVEL_CAPACITY, k);
+        addLevel();
+    }
+
+    public void update(int value) {
+        append(0, value);
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        compress();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 분위수 추정 (rank 0.0 = 최솟값, 1.0 = 최댓값, 비어 있으면 null)
+     */
+    public Integer quantile(double rank) {
+        if (count == 0) {
+            return null;
+        }
+        if (rank <= 0.0) {
+            return min;
+        }
+        if (rank >= 1.0) {
+            return max;
+        }
+
+        // (값, 가중치) 쌍을 값 순으로 정렬해 누적 가중치로 탐색
+        int total = retainedItems();
+        long[] weighted = new long[total];
+        long totalWeight = 0;
+        int index = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            int[] items = levels.get(h);
+            for (int i = 0; i < levelSizes.get(h); i++) {
+                // 상위 32비트 = 값(부호 그대로 - long 정렬이 곧 값 정렬), 하위 = 레벨
+                weighted[index++] = (long) items[i] << 32 | h;
+                totalWeight += 1L << h;
+            }
+        }
+        Arrays.sort(weighted);
+
+        double target = rank * totalWeight;
+        long cumulative = 0;
+        for (long entry : weighted) {
+            cumulative += 1L << (int) (entry & 0xFFFFFFFFL);
+            if (cumulative >= target) {
+                return (int) (entry >> 32);
+            }
+        }
+        return max;
+    }
+
+    private int retainedItems() {
+        int total = 0;
+        for (int size : levelSizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            int size = levelSizes.get(h);
+            if (size < capacity(h)) {
+                continue;
+            }
+            if (h + 1 == levels.size()) {
+                addLevel();
+            }
+
+            int[] items = levels.get(h);
+            Arrays.sort(items, 0, size);
+            // 짝수 개만 압축하고 홀수면 가장 큰 항목 하나는 현재 레벨에 남김
+            int compactSize = size & ~1;
+            int offset = random.nextBoolean() ? 1 : 0;
+            for (int i = offset; i < compactSize; i += 2) {
+                append(h + 1, items[i]);
+            }
+            if (compactSize < size) {
+                items[0] = items[size - 1];
+            }
+            levelSizes.set(h, size - compactSize);
+        }
+    }
+
+    private void append(int level, int value) {
+        int[] items = levels.get(level);
+        int size = levelSizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(MIN_LEVEL_CAPACITY, items.length * 2));
+            levels.set(level, items);
+        }
+        items[size] = value;
+        levelSizes.set(level, size + 1);
+    }
+
+    private void addLevel() {
+        levels.add(new int[MIN_LEVEL_CAPACITY]);
+        levelSizes.add(0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.unibook.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MinHash + LSH 텍스트 유사 후보 색인
+ * - 정규화한 텍스트를 문자 n-gram(shingle)으로 나눠 MinHash 서명(bands × rows개 값) 생성
+ * - 서명을 밴드 단위로 해시해 버킷에 등록, 버킷을 하나라도 공유하는 항목이 후보 (전체 스캔 없이 밴드 수만큼 조회)
+ * - 서명 값 일치 비율로 Jaccard 유사도 추정
+ * 추가/삭제는 호출 측에서 직렬화한다고 가정하고, 조회는 동시에 가능
+ */
+public final class MinHashLshIndex {
+
+    // 실행 간 같은 서명이 나오도록 고정 시드 사용
+    private static final long SEED = 0x5DEECE66DL;
+
+    // 긴 설명은 앞부분만 사용 (서명 계산 비용 제한)
+    private static final int MAX_TEXT_LENGTH = 2000;
+
+    private final int bands;
+    private final int rows;
+    private final int shingleSize;
+    private final long[] seeds;
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    public MinHashLshIndex(int bands, int rows, int shingleSize) {
+        this.bands = Math.max(1, bands);
+        this.rows = Math.max(1, rows);
+        this.shingleSize = Math.max(1, shingleSize);
+        this.seeds = new long[this.bands * this.rows];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * 텍스트의 MinHash 서명 (정규화 후 내용이 없으면 null)
+     */
+    public int[] signature(String text) {
+        String normalized = QueryNormalizer.normalize(text).replace(" ", "");
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.length() > MAX_TEXT_LENGTH) {
+            normalized = normalized.substring(0, MAX_TEXT_LENGTH);
+        }
+
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int width = Math.min(shingleSize, normalized.length());
+        for (int start = 0; start + width <= normalized.length(); start++) {
+            long shingle = 0;
+            for (int i = start; i < start + width; i++) {
+                shingle = shingle * 31 + normalized.charAt(i);
+            }
+            for (int j = 0; j < seeds.length; j++) {
+                int value = (int) mix(shingle ^ seeds[j]);
+                if (value < signature[j]) {
+                    signature[j] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명 등록 (기존 등록은 교체, 서명이 null이면 삭제만)
+     */
+    public void put(long id, int[] signature) {
+        remove(id);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bucketKey(signature, band), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfPresent(bucketKey(signature, band), (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * 밴드 버킷을 하나 이상 공유하는 항목 (excludeId 제외, 최대 maxCandidates개)
+     * 공유하는 밴드 수(충돌 수)가 많은 순으로 자름 - 충돌 수가 많을수록 Jaccard 유사도가 높을 가능성이 큼
+     */
+    public Set<Long> candidates(int[] signature, long excludeId, int maxCandidates) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (signature == null || maxCandidates <= 0) {
+            return result;
+        }
+        Map<Long, Integer> collisions = new HashMap<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> ids = buckets.get(bucketKey(signature, band));
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                if (id != excludeId) {
+                    collisions.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        collisions.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(maxCandidates)
+                .forEach(entry -> result.add(entry.getKey()));
+        return result;
+    }
+
+    /**
+     * 두 서명의 Jaccard 유사도 추정 (0.0 ~ 1.0, 서명이 없으면 0.0)
+     */
+    public double similarity(int[] a, int[] b) {
+        if (a == null || b == null || a.length != b.length) {
+            return 0.0;
+        }
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    private long bucketKey(int[] signature, int band) {
+        long hash = band;
+        int offset = band * rows;
+        for (int r = 0; r < rows; r++) {
+            hash = hash * 0x9E3779B97F4A7C15L + signature[offset + r];
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64비트 해시 혼합 (MurmurHash3 finalizer)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53a87ebL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+-- ============================================
+-- 아웃박스 이벤트 ID AUTO_INCREMENT 복원
+-- ============================================
+-- 목적: OutboxService가 JDBC INSERT IGNORE로 기록하도록 바뀌어 ID를 DB가 생성해야 함
+--       (테이블 생성기를 쓰던 동안 ddl-auto로 새로 만든 테이블에는 AUTO_INCREMENT가 없음)
+-- 대상: outbox_events가 AUTO_INCREMENT 없이 만들어진 환경만 (이미 있으면 그대로 두어도 됨)
+-- ============================================
+
+ALTER TABLE outbox_events MODIFY outbox_event_id BIGINT NOT NULL AUTO_INCREMENT;
+
+-- 더 이상 쓰지 않는 생성기 구간 정리
+DELETE FROM id_generators WHERE gen_name = 'outbox_events';
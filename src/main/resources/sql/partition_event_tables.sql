@@ -0,0 +1,119 @@
+-- ============================================
+-- 대용량 이벤트 테이블 월별 파티션 전환
+-- ============================================
+-- 대상: post_views(viewed_at), recommendation_impressions(impressed_at),
+--       recommendation_clicks(clicked_at), notifications(created_at)
+-- 목적: 보관 기간이 지난 데이터를 행 DELETE 대신 파티션 DROP으로 정리
+--       (대량 DELETE의 인덱스 유지 비용과 복제 지연 제거), 시간 조건 쿼리의 파티션 프루닝
+-- 제약: MySQL 파티션 테이블은
+--       1) 모든 유니크 키(PK 포함)에 파티션 컬럼이 있어야 함 -> PK를 (id, 시간 컬럼)으로 변경
+--       2) FK를 가질 수 없음 -> FK 삭제 (엔티티도 NO_CONSTRAINT로 매핑되어 ddl-auto가 다시 만들지 않음)
+-- 순서: FK 삭제 -> PK 변경 -> 파티션 전환 (p_history: 이번 달 이전 전체, p이번달, p_future)
+--       이후 월 파티션 추가/삭제는 EventPartitionManager가 주기적으로 수행
+--       (app.event-retention.interval-ms, 기본 6시간 - 전환 후 app.event-retention.enabled=true)
+-- 주의: 파티션 전환은 테이블을 다시 쓰므로 트래픽이 적은 시간에 테이블별로 실행
+-- 주의: p_history는 전환 이전 데이터 전체를 담고 상한이 전환한 달 1일이므로,
+--       EventPartitionManager는 전환한 달로부터 보관 기간(예: 12개월)이 지나야 통째로 DROP함
+--       그 전까지는 보관 기간을 넘긴 과거 행도 남아 있음 (행 DELETE로 지우지 않음)
+--       더 일찍 정리하려면 전환 직후 p_history를 월 단위로 나눔 (예시는 파일 끝 참고)
+-- ============================================
+
+DELIMITER //
+
+-- 테이블의 FK 전체 삭제 (Hibernate가 만든 FK 이름은 환경마다 다르므로 조회해서 삭제)
+CREATE PROCEDURE drop_foreign_keys(IN target_table VARCHAR(64))
+BEGIN
+    DECLARE done INT DEFAULT FALSE;
+    DECLARE fk_name VARCHAR(64);
+    DECLARE fk_cursor CURSOR FOR
+        SELECT CONSTRAINT_NAME
+        FROM information_schema.TABLE_CONSTRAINTS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = target_table
+          AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN fk_cursor;
+    drop_loop: LOOP
+        FETCH fk_cursor INTO fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' DROP FOREIGN KEY ', fk_name);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fk_cursor;
+END //
+
+-- PK를 (id, 시간 컬럼)으로 바꾸고 월별 RANGE COLUMNS 파티션으로 전환
+CREATE PROCEDURE partition_by_month(IN target_table VARCHAR(64),
+                                    IN id_column VARCHAR(64),
+                                    IN time_column VARCHAR(64))
+BEGIN
+    DECLARE this_month DATE DEFAULT DATE_FORMAT(CURDATE(), '%Y-%m-01');
+
+    SET @ddl = CONCAT('ALTER TABLE ', target_table,
+                      ' DROP PRIMARY KEY, ADD PRIMARY KEY (', id_column, ', ', time_column, ')');
+    PREPARE stmt FROM @ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+
+    -- p_history: 이번 달 이전 전체 (이번 달로부터 보관 기간이 지나야 DROP 대상이 됨)
+    SET @ddl = CONCAT('ALTER TABLE ', target_table,
+                      ' PARTITION BY RANGE COLUMNS (', time_column, ') (',
+                      'PARTITION p_history VALUES LESS THAN (''', this_month, '''), ',
+                      'PARTITION p', DATE_FORMAT(this_month, '%Y%m'),
+                      ' VALUES LESS THAN (''', this_month + INTERVAL 1 MONTH, '''), ',
+                      'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+
+DELIMITER ;
+
+-- 1. post_views
+CALL drop_foreign_keys('post_views');
+CALL partition_by_month('post_views', 'view_id', 'viewed_at');
+
+-- 2. recommendation_impressions
+CALL drop_foreign_keys('recommendation_impressions');
+CALL partition_by_month('recommendation_impressions', 'impression_id', 'impressed_at');
+
+-- 3. recommendation_clicks
+CALL drop_foreign_keys('recommendation_clicks');
+CALL partition_by_month('recommendation_clicks', 'click_id', 'clicked_at');
+
+-- 4. notifications (게시글 삭제 시 알림 정리는 FK CASCADE 대신 PostService가 수행)
+CALL drop_foreign_keys('notifications');
+CALL partition_by_month('notifications', 'notification_id', 'created_at');
+
+DROP PROCEDURE drop_foreign_keys;
+DROP PROCEDURE partition_by_month;
+
+-- ============================================
+-- 확인 쿼리
+-- ============================================
+-- SELECT TABLE_NAME, PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+-- FROM information_schema.PARTITIONS
+-- WHERE TABLE_SCHEMA = DATABASE()
+--   AND TABLE_NAME IN ('post_views', 'recommendation_impressions', 'recommendation_clicks', 'notifications')
+-- ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
+--
+-- 프루닝 확인 (partitions 컬럼에 최근 파티션만 나와야 함)
+-- EXPLAIN SELECT * FROM post_views WHERE user_id = 1 AND viewed_at >= NOW() - INTERVAL 30 DAY;
+
+-- ============================================
+-- (선택) p_history 월 단위 분할
+-- ============================================
+-- 보관 기간이 지난 과거 데이터를 전환 후 1년씩 기다리지 않고 매달 정리하려면 p_history를 나눔
+-- EventPartitionManager는 이름이 아니라 상한으로 삭제 대상을 고르므로 분할된 파티션도 달마다 DROP됨
+-- p_history만 다시 쓰므로 과거 데이터가 많으면 트래픽이 적은 시간에 실행
+-- 예) 2026-10 전환, 보관 12개월, 2025-06 이전 데이터는 다음 정리 때 바로 삭제:
+-- ALTER TABLE post_views REORGANIZE PARTITION p_history INTO (
+--     PARTITION p_history VALUES LESS THAN ('2025-06-01'),
+--     PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+--     ...
+--     PARTITION p202609 VALUES LESS THAN ('2026-10-01'));
@@ -0,0 +1,37 @@
+-- ============================================
+-- 과목-책 연결 유니크 키 추가
+-- ============================================
+-- 목적: 참조 카운트를 INSERT ... ON DUPLICATE KEY UPDATE로 원자적으로 증감하기 위한 기준 키
+--       (동시 등록 시 같은 과목-책 행이 중복 생성되던 문제 정리)
+-- 순서: 중복 행 카운트 병합 -> 중복 삭제 -> 유니크 키 추가
+-- ============================================
+
+-- 1. 중복 행의 카운트를 가장 먼저 생성된 행으로 합산
+UPDATE subject_books keep
+JOIN (
+    SELECT MIN(subject_book_id) AS keep_id, SUM(active_post_count) AS total_count
+    FROM subject_books
+    GROUP BY subject_id, book_id
+    HAVING COUNT(*) > 1
+) dup ON keep.subject_book_id = dup.keep_id
+SET keep.active_post_count = dup.total_count;
+
+-- 2. 병합된 나머지 중복 행 삭제
+DELETE sb FROM subject_books sb
+JOIN (
+    SELECT subject_id, book_id, MIN(subject_book_id) AS keep_id
+    FROM subject_books
+    GROUP BY subject_id, book_id
+    HAVING COUNT(*) > 1
+) dup ON sb.subject_id = dup.subject_id
+     AND sb.book_id = dup.book_id
+     AND sb.subject_book_id <> dup.keep_id;
+
+-- 3. 유니크 키 추가 (ddl-auto: update도 같은 이름으로 추가를 시도하므로 이미 있으면 생략)
+ALTER TABLE subject_books
+    ADD CONSTRAINT uk_subject_books_subject_book UNIQUE (subject_id, book_id);
+
+-- ============================================
+-- 확인 쿼리 (결과가 없어야 함)
+-- ============================================
+-- SELECT subject_id, book_id, COUNT(*) FROM subject_books GROUP BY subject_id, book_id HAVING COUNT(*) > 1;
@@ -0,0 +1,90 @@
+package com.unibook.benchmark.replay;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 랭킹 품질 지표 누적 계산
+ * - hit-rate@k: 정답이 있는 사용자 중 상위 k개에 정답이 1개 이상 포함된 비율
+ * - NDCG@k: 이진 관련도 기준 정규화 DCG 평균
+ * - coverage: 추천된 서로 다른 게시글 수 / 판매중 게시글 수
+ */
+public class RankingQualityEvaluator {
+
+    private final int k;
+    private final Set<Long> recommendedPostIds = new HashSet<>();
+    private int evaluatedUsers;
+    private int usersWithRelevant;
+    private int hits;
+    private double ndcgSum;
+
+    public RankingQualityEvaluator(int k) {
+        this.k = k;
+    }
+
+    /**
+     * 사용자 1명의 추천 결과 반영 (정답이 없는 사용자는 coverage에만 반영)
+     */
+    public void add(List<Long> ranked, Set<Long> relevant) {
+        evaluatedUsers++;
+        List<Long> top = ranked.subList(0, Math.min(k, ranked.size()));
+        recommendedPostIds.addAll(top);
+
+        if (relevant == null || relevant.isEmpty()) {
+            return;
+        }
+        usersWithRelevant++;
+
+        double dcg = 0.0;
+        boolean hit = false;
+        for (int i = 0; i < top.size(); i++) {
+            if (relevant.contains(top.get(i))) {
+                dcg += discount(i);
+                hit = true;
+            }
+        }
+        double idcg = 0.0;
+        for (int i = 0; i < Math.min(k, relevant.size()); i++) {
+            idcg += discount(i);
+        }
+
+        if (hit) {
+            hits++;
+        }
+        ndcgSum += dcg / idcg;
+    }
+
+    public double hitRate() {
+        return usersWithRelevant == 0 ? 0.0 : (double) hits / usersWithRelevant;
+    }
+
+    public double ndcg() {
+        return usersWithRelevant == 0 ? 0.0 : ndcgSum / usersWithRelevant;
+    }
+
+    public double coverage(long catalogSize) {
+        return catalogSize == 0 ? 0.0 : (double) recommendedPostIds.size() / catalogSize;
+    }
+
+    /**
+     * 결과 저장용 요약
+     */
+    public Map<String, Object> summary(long catalogSize) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("k", k);
+        summary.put("evaluatedUsers", evaluatedUsers);
+        summary.put("usersWithRelevant", usersWithRelevant);
+        summary.put("hitRate", hitRate());
+        summary.put("ndcg", ndcg());
+        summary.put("coverage", coverage(catalogSize));
+        summary.put("distinctRecommended", recommendedPostIds.size());
+        return summary;
+    }
+
+    private static double discount(int rank) {
+        return 1.0 / (Math.log(rank + 2) / Math.log(2));
+    }
+}
@@ -0,0 +1,103 @@
+package com.unibook.benchmark.replay;
+
+import com.unibook.UnibookApplication;
+import com.unibook.service.RecommendationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 리플레이 벤치마크 (정확도 + 처리량/할당)
+ *
+ * 1. 임베디드 DB(replay 프로파일)에 스냅샷 또는 합성 데이터를 적재하고 학습/정답 분리
+ * 2. 평가 사용자 전체로 hit-rate@k, NDCG@k, coverage 계산 후 benchmark-results에 저장
+ * 3. 같은 사용자들을 순환하며 맞춤 추천 순위 계산을 JMH로 측정 (GC 프로파일러: 요청당 할당 바이트)
+ *
+ * 사용법:
+ * ./gradlew replayBenchmark
+ * ./gradlew replayBenchmark -Dreplay.snapshot-script=file:benchmark-snapshots/unibook.sql
+ * ./gradlew replayBenchmark -Drecommendation.slot-mix-size=12   (설정 변경 전후 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx4g"})
+public class RecommendationReplayBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private RecommendationService recommendationService;
+    private List<Long> userIds;
+    private int limit;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(UnibookApplication.class)
+                .profiles("replay")
+                .web(WebApplicationType.NONE)
+                .run();
+
+        ReplayDataset dataset = context.getBean(ReplayDatasetLoader.class).load();
+        context.getBean(RecommendationReplayEvaluator.class).evaluate(dataset);
+
+        recommendationService = context.getBean(RecommendationService.class);
+        userIds = dataset.userIds();
+        limit = context.getBean(ReplayProperties.class).getK();
+        if (userIds.isEmpty()) {
+            throw new IllegalStateException("평가 대상 사용자가 없습니다 (정답 기간 로그 확인 필요)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public List<RecommendationService.RankedPost> rankPersonalized() {
+        Long userId = userIds.get(cursor);
+        cursor = (cursor + 1) % userIds.size();
+        return recommendationService.rankPersonalized(userId, limit);
+    }
+
+    /**
+     * JMH 실행 (replay./recommendation. 시스템 프로퍼티는 포크 JVM에 그대로 전달)
+     */
+    public static void main(String[] args) throws RunnerException {
+        String[] overrides = System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("replay.") || name.startsWith("recommendation."))
+                .map(name -> "-D" + name + "=" + System.getProperty(name))
+                .toArray(String[]::new);
+
+        Options options = new OptionsBuilder()
+                .include(RecommendationReplayBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend(overrides)
+                .build();
+        new Runner(options).run();
+    }
+}
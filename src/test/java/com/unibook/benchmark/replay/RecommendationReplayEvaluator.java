@@ -0,0 +1,101 @@
+package com.unibook.benchmark.replay;
+
+import com.unibook.config.RecommendationProperties;
+import com.unibook.service.RecommendationService;
+import com.unibook.utils.PerformanceResultSaver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리플레이 정확도 평가
+ * 평가 대상 사용자마다 맞춤 추천 순위를 1회 계산해 정답과 비교하고,
+ * 같은 패스의 요청별 지연(콜드 포함)과 현재 추천 설정을 함께 저장
+ */
+@Component
+@Profile("replay")
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationReplayEvaluator {
+
+    private final RecommendationService recommendationService;
+    private final RecommendationProperties recommendationProperties;
+    private final ReplayProperties replayProperties;
+    private final PerformanceResultSaver resultSaver;
+
+    public Map<String, Object> evaluate(ReplayDataset dataset) {
+        int k = replayProperties.getK();
+        RankingQualityEvaluator quality = new RankingQualityEvaluator(k);
+        List<Long> userIds = dataset.userIds();
+        long[] latencies = new long[userIds.size()];
+
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            long start = System.nanoTime();
+            List<Long> ranked = recommendationService.rankPersonalized(userId, k).stream()
+                    .map(RecommendationService.RankedPost::postId)
+                    .toList();
+            latencies[i] = System.nanoTime() - start;
+            quality.add(ranked, dataset.relevant().get(userId));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("source", dataset.source());
+        result.put("cutoff", dataset.cutoff());
+        result.put("catalogSize", dataset.catalogSize());
+        result.put("quality", quality.summary(dataset.catalogSize()));
+        result.put("coldLatencyMs", latencySummary(latencies));
+        result.put("recommendationProperties", propertiesSnapshot());
+
+        log.info("추천 리플레이 평가: users={}, hitRate@{}={}, ndcg@{}={}, coverage={}",
+                userIds.size(), k, String.format("%.4f", quality.hitRate()),
+                k, String.format("%.4f", quality.ndcg()),
+                String.format("%.4f", quality.coverage(dataset.catalogSize())));
+
+        resultSaver.saveAdditionalMetrics("recommendation_replay", result);
+        return result;
+    }
+
+    /**
+     * 평가 시점 추천 설정값 (설정 변경 전후 결과 비교용)
+     * 설정 빈은 프록시이므로 선언 클래스 기준으로 읽음
+     */
+    private Map<String, Object> propertiesSnapshot() {
+        BeanWrapper wrapper = new BeanWrapperImpl(recommendationProperties);
+        Map<String, Object> snapshot = new TreeMap<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(RecommendationProperties.class)) {
+            if (descriptor.getReadMethod() != null && !"class".equals(descriptor.getName())) {
+                snapshot.put(descriptor.getName(), wrapper.getPropertyValue(descriptor.getName()));
+            }
+        }
+        return snapshot;
+    }
+
+    private static Map<String, Object> latencySummary(long[] latencies) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        if (latencies.length == 0) {
+            return summary;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        summary.put("p50", toMillis(sorted[(int) ((sorted.length - 1) * 0.50)]));
+        summary.put("p95", toMillis(sorted[(int) ((sorted.length - 1) * 0.95)]));
+        summary.put("max", toMillis(sorted[sorted.length - 1]));
+        return summary;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
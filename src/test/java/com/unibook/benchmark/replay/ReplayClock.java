@@ -0,0 +1,45 @@
+package com.unibook.benchmark.replay;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 리플레이 기준 시각 - 스냅샷을 적재한 뒤 학습/정답 경계(cutoff)로 고정
+ * 오래된 스냅샷에서도 이력 조회 기간과 최신성 점수가 스냅샷 시점 기준으로 계산되도록 함
+ * 고정 전에는 현재 시각
+ */
+@Component
+@Primary
+@Profile("replay")
+public class ReplayClock extends Clock {
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private volatile Instant reference;
+
+    public void setReference(LocalDateTime reference) {
+        this.reference = reference.atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        Instant fixed = reference;
+        return fixed != null ? Clock.fixed(fixed, zone) : Clock.system(zone);
+    }
+
+    @Override
+    public Instant instant() {
+        Instant fixed = reference;
+        return fixed != null ? fixed : Instant.now();
+    }
+}
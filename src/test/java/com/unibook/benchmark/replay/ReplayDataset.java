@@ -0,0 +1,22 @@
+package com.unibook.benchmark.replay;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리플레이 평가 데이터
+ *
+ * @param source 데이터 출처 (스냅샷 스크립트 위치 또는 synthetic)
+ * @param cutoff 학습/정답 분리 시각
+ * @param userIds 평가 대상 사용자 (정답 기간에 노출/클릭/찜이 있는 사용자)
+ * @param relevant 사용자별 정답 게시글 (정답 기간의 클릭/찜)
+ * @param catalogSize 판매중 게시글 수 (coverage 분모)
+ */
+public record ReplayDataset(String source,
+                            LocalDateTime cutoff,
+                            List<Long> userIds,
+                            Map<Long, Set<Long>> relevant,
+                            long catalogSize) {
+}
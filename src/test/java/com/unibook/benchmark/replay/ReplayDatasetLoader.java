@@ -0,0 +1,124 @@
+package com.unibook.benchmark.replay;
+
+import com.unibook.service.InteractionCounterService;
+import com.unibook.service.SimilarPostIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 리플레이 데이터 적재 + 학습/정답 분리
+ * - 스냅샷 SQL 스크립트(또는 합성 데이터)를 임베디드 DB에 적재
+ * - 마지막 클릭 기준 holdoutDays 이전을 학습 이력으로 남기고 이후 클릭/찜을 정답으로 떼어냄
+ * - 정답 기간의 로그는 DB에서 지워 추천이 미래 데이터를 보지 못하게 함
+ * - 추천 기준 시각을 학습/정답 경계로 고정 (오래된 스냅샷도 이력 조회 기간 안에 들어오도록)
+ * 로그를 삭제하므로 임베디드 DB에서만 실행
+ */
+@Component
+@Profile("replay")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplayDatasetLoader {
+
+    private static final String SYNTHETIC = "synthetic";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceLoader resourceLoader;
+    private final ReplayProperties replayProperties;
+    private final SyntheticReplayDataGenerator syntheticGenerator;
+    private final InteractionCounterService interactionCounterService;
+    private final SimilarPostIndexService similarPostIndexService;
+    private final ReplayClock replayClock;
+
+    public ReplayDataset load() {
+        assertEmbeddedDatabase();
+
+        String source = replayProperties.getSnapshotScript();
+        if (StringUtils.hasText(source)) {
+            log.info("리플레이 스냅샷 적재: {}", source);
+            new ResourceDatabasePopulator(resourceLoader.getResource(source)).execute(dataSource);
+        } else {
+            source = SYNTHETIC;
+            syntheticGenerator.generate();
+        }
+
+        Timestamp latest = jdbcTemplate.queryForObject(
+                "SELECT MAX(clicked_at) FROM recommendation_clicks", Timestamp.class);
+        LocalDateTime cutoff = (latest != null ? latest.toLocalDateTime() : LocalDateTime.now())
+                .minusDays(replayProperties.getHoldoutDays());
+        Timestamp cutoffTs = Timestamp.valueOf(cutoff);
+
+        // 정답: 정답 기간의 클릭/찜
+        Map<Long, Set<Long>> relevant = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, post_id FROM recommendation_clicks "
+                        + "WHERE user_id IS NOT NULL AND clicked_at >= ?",
+                rs -> {
+                    relevant.computeIfAbsent(rs.getLong(1), k -> new HashSet<>()).add(rs.getLong(2));
+                }, cutoffTs);
+        jdbcTemplate.query("SELECT user_id, post_id FROM wishlists WHERE created_at >= ?",
+                rs -> {
+                    relevant.computeIfAbsent(rs.getLong(1), k -> new HashSet<>()).add(rs.getLong(2));
+                }, cutoffTs);
+
+        // 평가 대상: 정답 기간에 추천을 노출받았거나 반응한 사용자
+        Set<Long> users = new TreeSet<>(relevant.keySet());
+        users.addAll(jdbcTemplate.queryForList("SELECT DISTINCT user_id FROM recommendation_impressions "
+                + "WHERE user_id IS NOT NULL AND impressed_at >= ?", Long.class, cutoffTs));
+        List<Long> userIds = new ArrayList<>(users).subList(0, Math.min(users.size(), replayProperties.getMaxEvalUsers()));
+
+        // 정답 기간 로그 제거 + 집계 컬럼을 학습 이력 기준으로 재계산
+        jdbcTemplate.update("DELETE FROM recommendation_clicks WHERE clicked_at >= ?", cutoffTs);
+        jdbcTemplate.update("DELETE FROM recommendation_impressions WHERE impressed_at >= ?", cutoffTs);
+        jdbcTemplate.update("DELETE FROM wishlists WHERE created_at >= ?", cutoffTs);
+        jdbcTemplate.update("DELETE FROM post_views WHERE viewed_at >= ?", cutoffTs);
+        jdbcTemplate.update("UPDATE posts SET "
+                + "view_count = (SELECT COUNT(*) FROM post_views v WHERE v.post_id = posts.post_id), "
+                + "wishlist_count = (SELECT COUNT(*) FROM wishlists w WHERE w.post_id = posts.post_id)");
+
+        replayClock.setReference(cutoff);
+
+        // 시작 시 빈 DB 기준으로 만들어진 메모리 상태를 적재된 데이터로 갱신
+        interactionCounterService.reconcile();
+        similarPostIndexService.rebuild();
+
+        Long catalogSize = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE status = 'AVAILABLE'", Long.class);
+
+        log.info("리플레이 데이터 준비: source={}, cutoff={}, users={}, 정답 보유 users={}",
+                source, cutoff, userIds.size(), relevant.size());
+        return new ReplayDataset(source, cutoff, userIds, relevant, catalogSize != null ? catalogSize : 0L);
+    }
+
+    /**
+     * 로그를 삭제하므로 임베디드 DB(H2 메모리)가 아니면 중단
+     */
+    private void assertEmbeddedDatabase() {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            if (url == null || !url.startsWith("jdbc:h2:mem:")) {
+                throw new IllegalStateException("리플레이는 임베디드 DB에서만 실행할 수 있습니다: " + url);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("데이터소스 확인 실패", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.unibook.benchmark.replay;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 리플레이 벤치마크 설정
+ * 스냅샷 스크립트가 없으면 합성 데이터로 실행
+ */
+@Component
+@Profile("replay")
+@ConfigurationProperties(prefix = "replay")
+@Data
+public class ReplayProperties {
+
+    /**
+     * 임베디드 DB에 적재할 스냅샷 SQL 스크립트 위치 (예: file:benchmark-snapshots/unibook.sql)
+     * 비어 있으면 합성 데이터 생성
+     */
+    private String snapshotScript = "";
+
+    /**
+     * 정답으로 떼어낼 최근 기간 (일) - 이 기간의 클릭/찜이 정답, 나머지가 학습 이력
+     */
+    private int holdoutDays = 7;
+
+    /**
+     * 평가 순위 컷오프 (hit-rate@k, NDCG@k)
+     */
+    private int k = 10;
+
+    /**
+     * 평가 대상 사용자 수 상한
+     */
+    private int maxEvalUsers = 500;
+
+    /**
+     * 합성 데이터: 학과 수
+     */
+    private int syntheticDepartments = 20;
+
+    /**
+     * 합성 데이터: 학과당 과목 수
+     */
+    private int syntheticSubjectsPerDepartment = 5;
+
+    /**
+     * 합성 데이터: 사용자 수
+     */
+    private int syntheticUsers = 300;
+
+    /**
+     * 합성 데이터: 게시글 수
+     */
+    private int syntheticPosts = 3000;
+
+    /**
+     * 합성 데이터: 사용자당 학습 기간 조회 수
+     */
+    private int syntheticViewsPerUser = 30;
+
+    /**
+     * 합성 데이터: 자기 학과 게시글과 상호작용할 확률
+     */
+    private double syntheticDepartmentAffinity = 0.8;
+
+    /**
+     * 합성 데이터: 학습 기간 (일, 정답 기간 이전)
+     */
+    private int syntheticHistoryDays = 30;
+
+    /**
+     * 합성 데이터 난수 시드 (실행 간 비교를 위해 고정)
+     */
+    private long seed = 42L;
+}
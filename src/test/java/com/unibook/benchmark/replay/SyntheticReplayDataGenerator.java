@@ -0,0 +1,222 @@
+package com.unibook.benchmark.replay;
+
+import com.unibook.config.IdGeneratorSeeder;
+import com.unibook.domain.entity.Book;
+import com.unibook.domain.entity.Department;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.entity.Professor;
+import com.unibook.domain.entity.RecommendationClick.RecommendationType;
+import com.unibook.domain.entity.School;
+import com.unibook.domain.entity.Subject;
+import com.unibook.domain.entity.User;
+import com.unibook.repository.BookRepository;
+import com.unibook.repository.DepartmentRepository;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.ProfessorRepository;
+import com.unibook.repository.SchoolRepository;
+import com.unibook.repository.SubjectRepository;
+import com.unibook.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 리플레이용 합성 데이터 생성
+ * - 학과 → 교수 → 과목 → 교재 → 게시글 카탈로그
+ * - 사용자는 소속 학과 게시글과 상호작용할 확률이 높음 (syntheticDepartmentAffinity)
+ * - 학습 기간: 조회/클릭/찜, 정답 기간: 맞춤 추천 노출과 클릭
+ * 같은 시드면 같은 데이터가 생성되어 설정 변경 전후 비교 가능
+ */
+@Component
+@Profile("replay")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticReplayDataGenerator {
+
+    private static final String VIEW_SQL =
+            "INSERT INTO post_views (view_id, user_id, post_id, viewed_at) VALUES (?, ?, ?, ?)";
+    private static final String CLICK_SQL =
+            "INSERT INTO recommendation_clicks (user_id, post_id, type, position, clicked_at, source_label) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String WISHLIST_SQL =
+            "INSERT INTO wishlists (wishlist_id, user_id, post_id, created_at, updated_at, created_by, updated_by) "
+                    + "VALUES (?, ?, ?, ?, ?, 0, 0)";
+    private static final String IMPRESSION_SQL =
+            "INSERT INTO recommendation_impressions (user_id, session_id, type, count, impressed_at, page_type, source_label) "
+                    + "VALUES (?, ?, ?, ?, ?, 'main', 'personalized')";
+
+    private final SchoolRepository schoolRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ProfessorRepository professorRepository;
+    private final SubjectRepository subjectRepository;
+    private final BookRepository bookRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGeneratorSeeder idGeneratorSeeder;
+    private final ReplayProperties replayProperties;
+
+    public void generate() {
+        Random random = new Random(replayProperties.getSeed());
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 카탈로그
+        School school = schoolRepository.save(School.builder()
+                .schoolName("리플레이대학교")
+                .primaryDomain("replay.ac.kr")
+                .build());
+
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < replayProperties.getSyntheticDepartments(); i++) {
+            departments.add(Department.builder().school(school).departmentName("리플레이학과" + i).build());
+        }
+        departments = departmentRepository.saveAll(departments);
+
+        List<Professor> professors = new ArrayList<>();
+        for (Department department : departments) {
+            professors.add(Professor.builder()
+                    .professorName("교수" + department.getDepartmentId())
+                    .department(department)
+                    .build());
+        }
+        professors = professorRepository.saveAll(professors);
+
+        List<Subject> subjects = new ArrayList<>();
+        for (Professor professor : professors) {
+            for (int i = 0; i < replayProperties.getSyntheticSubjectsPerDepartment(); i++) {
+                subjects.add(Subject.builder()
+                        .subjectName("과목" + professor.getProfessorId() + "-" + i)
+                        .professor(professor)
+                        .build());
+            }
+        }
+        subjects = subjectRepository.saveAll(subjects);
+
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < subjects.size(); i++) {
+            books.add(Book.builder()
+                    .isbn(String.format("979%010d", i))
+                    .title("리플레이 교재 " + i)
+                    .author("저자 " + i)
+                    .publisher("리플레이출판")
+                    .build());
+        }
+        books = bookRepository.saveAll(books);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < replayProperties.getSyntheticUsers(); i++) {
+            users.add(User.builder()
+                    .email("replay" + i + "@replay.ac.kr")
+                    .password("{noop}replay")
+                    .name("사용자" + i)
+                    .phoneNumber(String.format("010%08d", i))
+                    .department(departments.get(random.nextInt(departments.size())))
+                    .verified(true)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < replayProperties.getSyntheticPosts(); i++) {
+            int subjectIndex = random.nextInt(subjects.size());
+            posts.add(Post.builder()
+                    .user(users.get(random.nextInt(users.size())))
+                    .productType(Post.ProductType.TEXTBOOK)
+                    .book(books.get(subjectIndex))
+                    .subject(subjects.get(subjectIndex))
+                    .title("리플레이 게시글 " + i)
+                    .price(5000 + random.nextInt(20) * 1000)
+                    .transactionMethod(Post.TransactionMethod.DIRECT)
+                    .build());
+        }
+        posts = postRepository.saveAll(posts);
+
+        // 학과별 게시글 (상호작용 대상 선택용)
+        Map<Long, List<Post>> postsByDepartment = new HashMap<>();
+        for (Post post : posts) {
+            Long departmentId = post.getSubject().getProfessor().getDepartment().getDepartmentId();
+            postsByDepartment.computeIfAbsent(departmentId, k -> new ArrayList<>()).add(post);
+        }
+
+        // 2. 상호작용 로그
+        List<Object[]> views = new ArrayList<>();
+        List<Object[]> clicks = new ArrayList<>();
+        List<Object[]> wishlists = new ArrayList<>();
+        List<Object[]> impressions = new ArrayList<>();
+        int holdoutDays = replayProperties.getHoldoutDays();
+        int historyDays = Math.max(1, replayProperties.getSyntheticHistoryDays());
+
+        for (User user : users) {
+            List<Post> home = postsByDepartment.getOrDefault(user.getDepartment().getDepartmentId(), posts);
+            Set<Long> wishlisted = new HashSet<>();
+
+            for (int i = 0; i < replayProperties.getSyntheticViewsPerUser(); i++) {
+                Post post = pick(random, home, posts, user);
+                if (post == null) {
+                    continue;
+                }
+                Timestamp at = Timestamp.valueOf(now.minusDays(holdoutDays + 1)
+                        .minusMinutes(random.nextInt(historyDays * 24 * 60)));
+                views.add(new Object[]{(long) views.size() + 1, user.getUserId(), post.getPostId(), at});
+                if (random.nextDouble() < 0.3) {
+                    clicks.add(new Object[]{user.getUserId(), post.getPostId(), RecommendationType.FOR_YOU.name(),
+                            random.nextInt(10), at, "personalized"});
+                }
+                if (random.nextDouble() < 0.1 && wishlisted.add(post.getPostId())) {
+                    wishlists.add(new Object[]{(long) wishlists.size() + 1, user.getUserId(), post.getPostId(), at, at});
+                }
+            }
+
+            // 정답 기간: 맞춤 추천 노출 후 일부 클릭
+            int sessions = 1 + random.nextInt(3);
+            for (int s = 0; s < sessions; s++) {
+                Timestamp at = Timestamp.valueOf(now.minusMinutes(random.nextInt(Math.max(1, holdoutDays) * 24 * 60)));
+                impressions.add(new Object[]{user.getUserId(), "replay-" + user.getUserId() + "-" + s,
+                        RecommendationType.FOR_YOU.name(), replayProperties.getK(), at});
+                if (random.nextDouble() < 0.6) {
+                    Post post = pick(random, home, posts, user);
+                    if (post != null) {
+                        clicks.add(new Object[]{user.getUserId(), post.getPostId(), RecommendationType.FOR_YOU.name(),
+                                random.nextInt(replayProperties.getK()), at, "personalized"});
+                    }
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(VIEW_SQL, views);
+        jdbcTemplate.batchUpdate(CLICK_SQL, clicks);
+        jdbcTemplate.batchUpdate(WISHLIST_SQL, wishlists);
+        jdbcTemplate.batchUpdate(IMPRESSION_SQL, impressions);
+        // 조회/찜은 테이블 ID 생성기를 쓰므로 ID를 직접 지정해 넣고 생성기 구간을 그 뒤로 맞춤
+        idGeneratorSeeder.reseed();
+
+        log.info("합성 리플레이 데이터 생성: users={}, posts={}, views={}, clicks={}, wishlists={}, impressions={}",
+                users.size(), posts.size(), views.size(), clicks.size(), wishlists.size(), impressions.size());
+    }
+
+    /**
+     * 상호작용 대상 게시글 선택 (본인 게시글 제외, 자기 학과 우선)
+     */
+    private Post pick(Random random, List<Post> home, List<Post> all, User user) {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            List<Post> source = random.nextDouble() < replayProperties.getSyntheticDepartmentAffinity() ? home : all;
+            Post post = source.get(random.nextInt(source.size()));
+            if (!post.getUser().getUserId().equals(user.getUserId())) {
+                return post;
+            }
+        }
+        return null;
+    }
+}
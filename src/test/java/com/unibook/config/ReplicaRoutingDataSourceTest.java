@@ -0,0 +1,118 @@
+package com.unibook.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 읽기/쓰기 라우팅 테스트 (H2 두 개를 primary/replica로 사용)
+ * 한 요청 안에서 readOnly 트랜잭션 다음의 쓰기 트랜잭션이 primary로 가는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTemplate;
+    private TransactionTemplate writeTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        given(lagMonitor.isReplicaUsable()).willReturn(true);
+
+        // 애플리케이션 설정과 같은 구성: LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, 60_000);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        ReplicaRoutingDataSource.clearThreadState();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearThreadState();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("한 요청에서 readOnly 트랜잭션 다음 쓰기 트랜잭션은 primary")
+    void readOnlyThenWrite_SameRequest() {
+        // 조회 (readOnly → replica)
+        String readRoute = readOnlyTemplate.execute(status -> currentNode());
+
+        // 쓰기 (조회 수 증가, 로드 후 수정 등)
+        String writeRoute = writeTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            return currentNode();
+        });
+
+        assertThat(readRoute).isEqualTo("replica");
+        assertThat(writeRoute).isEqualTo("primary");
+        assertThat(writes(primary)).isEqualTo(1);
+        assertThat(writes(replica)).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 후 같은 스레드의 읽기는 sticky로 primary, 요청 종료 후에는 다시 replica")
+    void stickyReadsClearedAtRequestEnd() {
+        writeTemplate.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readOnlyTemplate.execute(status -> currentNode())).isEqualTo("primary");
+
+        // 요청 종료 필터와 같은 처리 - 다음 요청(같은 풀 스레드)은 sticky를 물려받지 않음
+        ReplicaRoutingDataSource.clearThreadState();
+        assertThat(readOnlyTemplate.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("open-in-view가 켜져 있으면 라우팅 DataSource 생성 실패")
+    void openInViewRejected() {
+        ReplicaDataSourceConfig config = new ReplicaDataSourceConfig();
+
+        assertThatThrownBy(() -> config.replicaRoutingDataSource(primary, replica, lagMonitor, 2, 5000, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("open-in-view");
+        assertThat(config.replicaRoutingDataSource(primary, replica, lagMonitor, 2, 5000, false)).isNotNull();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static int writes(HikariDataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT writes FROM node", Integer.class);
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        jdbc.update("INSERT INTO node (name, writes) VALUES (?, 0)", name.substring("routing_".length()));
+        return dataSource;
+    }
+}
@@ -0,0 +1,155 @@
+package com.unibook.config;
+
+import com.unibook.config.UploadResourceServlet.ByteRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UploadResourceServlet 범위 요청 / 조건부 GET 단위 테스트
+ */
+class UploadResourceServletTest {
+
+    private static final long SIZE = 1000;
+    private static final String ETAG = "\"" + "a".repeat(64) + "\"";
+    // 밀리초는 HTTP 날짜에서 버려지므로 초 단위 비교 확인용으로 남겨 둠
+    private static final long LAST_MODIFIED = 1_760_000_000_123L;
+
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US).withZone(ZoneId.of("GMT"));
+
+    private final UploadResourceServlet servlet = new UploadResourceServlet(null, 31536000, 3600, 0, 0, 0);
+
+    // ===== Range =====
+
+    @Test
+    @DisplayName("Range 없음 또는 bytes 단위가 아니면 전체 응답")
+    void parseRange_NoneOrOtherUnit() {
+        assertThat(parseRange(request())).isNull();
+        assertThat(parseRange(request(HttpHeaders.RANGE, "items=0-10"))).isNull();
+    }
+
+    @Test
+    @DisplayName("접미 범위 - 마지막 N바이트, 크기보다 크면 전체")
+    void parseRange_Suffix() {
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=-100"))).isEqualTo(new ByteRange(900, 999));
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=-5000"))).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("끝이 열린 범위와 크기를 넘는 끝은 마지막 바이트까지")
+    void parseRange_OpenEnded() {
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=500-"))).isEqualTo(new ByteRange(500, 999));
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=0-4999"))).isEqualTo(new ByteRange(0, 999));
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=10-19"))).isEqualTo(new ByteRange(10, 19));
+    }
+
+    @Test
+    @DisplayName("시작이 크기 이상이거나 접미 길이 0이면 416")
+    void parseRange_Unsatisfiable() {
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=1000-")))
+                .isSameAs(UploadResourceServlet.UNSATISFIABLE);
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=2000-3000")))
+                .isSameAs(UploadResourceServlet.UNSATISFIABLE);
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=-0")))
+                .isSameAs(UploadResourceServlet.UNSATISFIABLE);
+        assertThat(servlet.parseRange(request(HttpHeaders.RANGE, "bytes=-10"), ETAG, LAST_MODIFIED, 0))
+                .isSameAs(UploadResourceServlet.UNSATISFIABLE);
+    }
+
+    @Test
+    @DisplayName("다중 범위, 역순, 잘못된 형식은 전체 응답으로 대체")
+    void parseRange_IgnoredSpecs() {
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=0-1,5-6"))).isNull();
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=20-10"))).isNull();
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=abc-"))).isNull();
+        assertThat(parseRange(request(HttpHeaders.RANGE, "bytes=-"))).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Range - ETag는 강한 비교, 일치할 때만 부분 응답")
+    void parseRange_IfRangeEtag() {
+        MockHttpServletRequest matching = request(HttpHeaders.RANGE, "bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        assertThat(parseRange(matching)).isEqualTo(new ByteRange(0, 9));
+
+        MockHttpServletRequest stale = request(HttpHeaders.RANGE, "bytes=0-9");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+        assertThat(parseRange(stale)).isNull();
+
+        MockHttpServletRequest weak = request(HttpHeaders.RANGE, "bytes=0-9");
+        weak.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+        assertThat(parseRange(weak)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Range - 날짜는 초 단위로 수정 시각과 같을 때만 부분 응답")
+    void parseRange_IfRangeDate() {
+        MockHttpServletRequest matching = request(HttpHeaders.RANGE, "bytes=0-9");
+        matching.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+        assertThat(parseRange(matching)).isEqualTo(new ByteRange(0, 9));
+
+        MockHttpServletRequest stale = request(HttpHeaders.RANGE, "bytes=0-9");
+        stale.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED - 60_000));
+        assertThat(parseRange(stale)).isNull();
+    }
+
+    // ===== 조건부 GET =====
+
+    @Test
+    @DisplayName("If-None-Match 일치(약한 비교, *) 시 304")
+    void isNotModified_IfNoneMatch() {
+        assertThat(isNotModified(request(HttpHeaders.IF_NONE_MATCH, ETAG))).isTrue();
+        assertThat(isNotModified(request(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG))).isTrue();
+        assertThat(isNotModified(request(HttpHeaders.IF_NONE_MATCH, "*"))).isTrue();
+        assertThat(isNotModified(request(HttpHeaders.IF_NONE_MATCH, "\"other\""))).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 있으면 If-Modified-Since는 무시")
+    void isNotModified_IfNoneMatchTakesPrecedence() {
+        MockHttpServletRequest request = request(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED + 60_000));
+
+        assertThat(isNotModified(request)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since - 초 단위로 수정 시각 이후면 304")
+    void isNotModified_IfModifiedSince() {
+        assertThat(isNotModified(request(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED)))).isTrue();
+        assertThat(isNotModified(request(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED + 60_000))))
+                .isTrue();
+        assertThat(isNotModified(request(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED - 60_000))))
+                .isFalse();
+        assertThat(isNotModified(request())).isFalse();
+    }
+
+    private ByteRange parseRange(MockHttpServletRequest request) {
+        return servlet.parseRange(request, ETAG, LAST_MODIFIED, SIZE);
+    }
+
+    private boolean isNotModified(MockHttpServletRequest request) {
+        return servlet.isNotModified(request, ETAG, LAST_MODIFIED);
+    }
+
+    private static MockHttpServletRequest request(String... headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/test.jpg");
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        return request;
+    }
+
+    private static String httpDate(long epochMillis) {
+        return HTTP_DATE.format(Instant.ofEpochMilli(epochMillis));
+    }
+}
@@ -0,0 +1,201 @@
+package com.unibook.performance;
+
+import com.unibook.domain.entity.Department;
+import com.unibook.domain.entity.Notification;
+import com.unibook.domain.entity.Post;
+import com.unibook.domain.entity.PostView;
+import com.unibook.domain.entity.School;
+import com.unibook.domain.entity.User;
+import com.unibook.repository.DepartmentRepository;
+import com.unibook.repository.NotificationRepository;
+import com.unibook.repository.PostRepository;
+import com.unibook.repository.PostViewRepository;
+import com.unibook.repository.SchoolRepository;
+import com.unibook.repository.UserRepository;
+import com.unibook.utils.PerformanceResultSaver;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 쓰기 경로별 INSERT 처리량 측정 (rows/sec)
+ *
+ * JDBC 배치 크기 1(건별 INSERT, IDENTITY 시절과 같은 왕복 수)과
+ * 설정된 배치 크기를 같은 데이터로 비교 - 알림 fan-out, 조회 기록, 학과 CSV 적재
+ * 측정 후 만든 행은 모두 삭제
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Slf4j
+class BatchInsertPerformanceTest extends PerformanceTestBase {
+
+    private static final int ROWS = 2000;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PostViewRepository postViewRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PerformanceResultSaver resultSaver;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int configuredBatchSize;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private Long postId;
+    private Long schoolId;
+
+    @Override
+    protected void performWarmup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<User> users = userRepository.findAll(PageRequest.of(0, 1)).getContent();
+        List<Post> posts = postRepository.findAll(PageRequest.of(0, 1)).getContent();
+        List<School> schools = schoolRepository.findAll(PageRequest.of(0, 1)).getContent();
+        assumeTrue(!users.isEmpty() && !posts.isEmpty() && !schools.isEmpty(),
+                "벤치마크 DB에 사용자/게시글/학교 데이터가 필요합니다");
+        userId = users.get(0).getUserId();
+        postId = posts.get(0).getPostId();
+        schoolId = schools.get(0).getSchoolId();
+
+        // ID 생성기 구간 예약과 커넥션/구문 캐시 워밍업
+        for (int i = 0; i < benchmarkConfig.getWarmupIterations(); i++) {
+            insertRows(this::newPostView, 100, configuredBatchSize, postViewRepository::saveAll,
+                    postViewRepository::deleteAllByIdInBatch, PostView::getViewId);
+        }
+        performGarbageCollection();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("🔔 알림 fan-out INSERT 처리량")
+    void measureNotificationInsert() {
+        compare("notification_insert", this::newNotification,
+                notificationRepository::saveAll, notificationRepository::deleteAllByIdInBatch,
+                Notification::getNotificationId);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("👀 조회 기록 INSERT 처리량")
+    void measurePostViewInsert() {
+        compare("post_view_insert", this::newPostView,
+                postViewRepository::saveAll, postViewRepository::deleteAllByIdInBatch,
+                PostView::getViewId);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("🏫 학과 CSV 적재 INSERT 처리량")
+    void measureDepartmentImport() {
+        compare("department_import", this::newDepartment,
+                departmentRepository::saveAll, departmentRepository::deleteAllByIdInBatch,
+                Department::getDepartmentId);
+    }
+
+    private <T> void compare(String name, IntFunction<T> factory,
+                             Function<List<T>, List<T>> saveAll,
+                             Consumer<List<Long>> deleteAll,
+                             Function<T, Long> idOf) {
+        double before = insertRows(factory, ROWS, 1, saveAll, deleteAll, idOf);
+        double after = insertRows(factory, ROWS, configuredBatchSize, saveAll, deleteAll, idOf);
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("rows", ROWS);
+        metrics.put("rowsPerSecBatch1", String.format("%.1f", before));
+        metrics.put("batchSize", configuredBatchSize);
+        metrics.put("rowsPerSecBatched", String.format("%.1f", after));
+        metrics.put("speedup", String.format("%.2fx", after / before));
+        resultSaver.saveAdditionalMetrics(name, metrics);
+
+        log.info("✅ {} - 배치 1: {} rows/sec, 배치 {}: {} rows/sec ({}배)", name,
+                String.format("%.1f", before), configuredBatchSize, String.format("%.1f", after),
+                String.format("%.2f", after / before));
+        assertTrue(before > 0 && after > 0, "처리량 측정 실패");
+    }
+
+    /**
+     * 한 트랜잭션에서 rows건 저장 후 처리량(rows/sec) 반환, 저장한 행은 측정 후 삭제
+     */
+    private <T> double insertRows(IntFunction<T> factory, int rows, int batchSize,
+                                  Function<List<T>, List<T>> saveAll,
+                                  Consumer<List<Long>> deleteAll,
+                                  Function<T, Long> idOf) {
+        List<Long> ids = new ArrayList<>(rows);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<T> entities = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                entities.add(factory.apply(i));
+            }
+            for (T saved : saveAll.apply(entities)) {
+                ids.add(idOf.apply(saved));
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+
+        transactionTemplate.executeWithoutResult(status -> deleteAll.accept(ids));
+        return rows / (elapsed / 1_000_000_000.0);
+    }
+
+    private Notification newNotification(int i) {
+        return Notification.builder()
+                .recipient(userRepository.getReferenceById(userId))
+                .relatedPost(postRepository.getReferenceById(postId))
+                .type(Notification.NotificationType.WISHLIST_PRICE_CHANGED)
+                .title("benchmark-" + i)
+                .content("배치 INSERT 측정")
+                .build();
+    }
+
+    private PostView newPostView(int i) {
+        return PostView.builder()
+                .post(postRepository.getReferenceById(postId))
+                .user(userRepository.getReferenceById(userId))
+                .viewedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Department newDepartment(int i) {
+        return Department.builder()
+                .departmentName("benchmark-dept-" + i)
+                .school(schoolRepository.getReferenceById(schoolId))
+                .build();
+    }
+}
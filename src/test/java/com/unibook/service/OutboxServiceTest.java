@@ -0,0 +1,114 @@
+package com.unibook.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibook.domain.entity.OutboxEvent;
+import com.unibook.domain.event.OutboxEnqueuedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OutboxService 중복 기록 테스트 (H2 MySQL 모드)
+ * 같은 idempotencyKey를 기록하는 두 트랜잭션이 모두 커밋되고 이벤트는 1건만 남는지 확인
+ */
+class OutboxServiceTest {
+
+    private static final String KEY = "wishlist-price:1:2026-10-19T10:00:00:15000";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate requiresNewTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox_service_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE outbox_events ("
+                + "outbox_event_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_type VARCHAR(40) NOT NULL, aggregate_id BIGINT NOT NULL, "
+                + "idempotency_key VARCHAR(150) NOT NULL, payload TEXT NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, attempts INT NOT NULL, "
+                + "next_attempt_at TIMESTAMP NOT NULL, last_error VARCHAR(500), "
+                + "created_at TIMESTAMP NOT NULL, processed_at TIMESTAMP, "
+                + "CONSTRAINT uk_outbox_idempotency_key UNIQUE (idempotency_key))");
+        // 게시글 수정 등 호출 측 업무 쓰기 대용
+        jdbcTemplate.execute("CREATE TABLE post_edits (post_id BIGINT NOT NULL, price INT NOT NULL)");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        outboxService = new OutboxService(jdbcTemplate, new ObjectMapper(), eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("같은 키를 기록하는 두 트랜잭션 - 둘 다 커밋되고 이벤트는 1건")
+    void enqueue_DuplicateKey_BothTransactionsCommit() {
+        // given: 두 번째 트랜잭션이 먼저 열려 업무 쓰기를 한 상태에서 첫 번째 트랜잭션이 같은 키로 커밋
+        Boolean[] results = new Boolean[2];
+        transactionTemplate.executeWithoutResult(second -> {
+            jdbcTemplate.update("INSERT INTO post_edits (post_id, price) VALUES (1, 15000)");
+
+            requiresNewTemplate.executeWithoutResult(first -> {
+                jdbcTemplate.update("INSERT INTO post_edits (post_id, price) VALUES (1, 15000)");
+                results[0] = enqueuePriceChange();
+            });
+
+            // when: 같은 키 기록 - 예외 없이 무시
+            results[1] = enqueuePriceChange();
+        });
+
+        // then
+        assertThat(results[0]).isTrue();
+        assertThat(results[1]).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_edits", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE idempotency_key = ?", Integer.class, KEY)).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(OutboxEnqueuedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 키는 각각 PENDING으로 기록")
+    void enqueue_DistinctKeys() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueue(OutboxEvent.EventType.KEYWORD_MATCH, 1L, "keyword-match:1", Map.of("postId", 1));
+            outboxService.enqueue(OutboxEvent.EventType.KEYWORD_MATCH, 2L, "keyword-match:2", Map.of("postId", 2));
+        });
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM outbox_events", String.class))
+                .containsExactly("PENDING", "PENDING");
+        verify(eventPublisher, times(2)).publishEvent(any(OutboxEnqueuedEvent.class));
+    }
+
+    private boolean enqueuePriceChange() {
+        return outboxService.enqueue(OutboxEvent.EventType.WISHLIST_PRICE_CHANGED, 1L, KEY,
+                Map.of("postId", 1, "oldPrice", 20000, "newPrice", 15000));
+    }
+}
@@ -0,0 +1,140 @@
+package com.unibook.service;
+
+import com.unibook.domain.entity.BaseEntity;
+import com.unibook.repository.BookRepository;
+import com.unibook.repository.SubjectBookRepository;
+import com.unibook.repository.SubjectRepository;
+import com.unibook.service.SubjectBookService.PostCountDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * SubjectBookService 참조 카운트 일괄 반영 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SubjectBookServiceTest {
+
+    private static final Long SYSTEM = BaseEntity.SYSTEM_USER_ID;
+
+    @Mock
+    private SubjectBookRepository subjectBookRepository;
+
+    @Mock
+    private SubjectRepository subjectRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SubjectBookService subjectBookService;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    @Test
+    @DisplayName("같은 과목-책 증감은 합산 - 합이 0이면 생략, 키 순서로 정렬")
+    void applyPostCountDeltas_Coalesce() {
+        // given
+        given(jdbcTemplate.batchUpdate(startsWith("DELETE"), anyList())).willReturn(new int[]{0});
+
+        // when
+        subjectBookService.applyPostCountDeltas(List.of(
+                new PostCountDelta(2L, 20L, 1),
+                new PostCountDelta(1L, 10L, 1),
+                new PostCountDelta(3L, 30L, 1),
+                new PostCountDelta(1L, 10L, 1),
+                new PostCountDelta(3L, 30L, -1),
+                new PostCountDelta(1L, 11L, -1),
+                new PostCountDelta(2L, 20L, 1)));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(
+                new Object[]{1L, 10L, 2, SYSTEM, SYSTEM},
+                new Object[]{2L, 20L, 2, SYSTEM, SYSTEM});
+
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(new Object[]{1, SYSTEM, 1L, 11L});
+
+        // (3, 30)은 +1 -1로 상쇄되어 어떤 SQL에도 포함되지 않음
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(new Object[]{1L, 11L});
+    }
+
+    @Test
+    @DisplayName("감소 후 0이 된 연결만 조건부 삭제 - 감소 다음에 삭제")
+    void applyPostCountDeltas_DecrementToZeroThenDelete() {
+        // given
+        given(jdbcTemplate.batchUpdate(startsWith("DELETE"), anyList())).willReturn(new int[]{1});
+
+        // when
+        subjectBookService.applyPostCountDeltas(List.of(
+                new PostCountDelta(1L, 10L, -1),
+                new PostCountDelta(1L, 10L, -1)));
+
+        // then
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).batchUpdate(startsWith("UPDATE"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(new Object[]{2, SYSTEM, 1L, 10L});
+
+        order.verify(jdbcTemplate).batchUpdate(
+                argThat((String sql) -> sql.startsWith("DELETE") && sql.contains("active_post_count <= 0")),
+                argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(new Object[]{1L, 10L});
+
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    @Test
+    @DisplayName("증가만 있으면 감소/삭제 SQL을 실행하지 않음")
+    void applyPostCountDeltas_IncrementOnly() {
+        // when
+        subjectBookService.applyPostCountDeltas(List.of(new PostCountDelta(1L, 10L, 1)));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(new Object[]{1L, 10L, 1, SYSTEM, SYSTEM});
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+    }
+
+    @Test
+    @DisplayName("모든 증감이 상쇄되면 SQL 실행 없음")
+    void applyPostCountDeltas_AllCancelled() {
+        // when
+        subjectBookService.applyPostCountDeltas(List.of(
+                new PostCountDelta(1L, 10L, 1),
+                new PostCountDelta(1L, 10L, -1)));
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(subjectBookRepository, subjectRepository, bookRepository);
+    }
+}
@@ -0,0 +1,114 @@
+package com.unibook.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * KllSketch 단위 테스트
+ * k 미만에서는 정확한 분위수, 그 이상에서는 순위 오차 범위 확인
+ */
+class KllSketchTest {
+
+    private static final double[] RANKS = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    @Test
+    @DisplayName("비어 있으면 null")
+    void quantile_Empty() {
+        KllSketch sketch = new KllSketch(200);
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.quantile(0.5)).isNull();
+    }
+
+    @Test
+    @DisplayName("항목 수가 k 미만이면 정확한 분위수 - 음수/양수 혼합")
+    void quantile_ExactBelowK_MixedSigns() {
+        List<Integer> values = new ArrayList<>();
+        for (int v = -50; v < 50; v++) {
+            values.add(v);
+        }
+        values.add(Integer.MIN_VALUE + 1);
+        values.add(Integer.MAX_VALUE);
+        Collections.shuffle(values, new Random(7));
+
+        KllSketch sketch = new KllSketch(200);
+        values.forEach(sketch::update);
+
+        int[] sorted = values.stream().mapToInt(Integer::intValue).sorted().toArray();
+        assertThat(sketch.getCount()).isEqualTo(sorted.length);
+        assertThat(sketch.quantile(0.0)).isEqualTo(Integer.MIN_VALUE + 1);
+        assertThat(sketch.quantile(1.0)).isEqualTo(Integer.MAX_VALUE);
+        for (double rank : RANKS) {
+            assertThat(sketch.quantile(rank))
+                    .as("rank=%s", rank)
+                    .isEqualTo(exactQuantile(sorted, rank));
+        }
+    }
+
+    @Test
+    @DisplayName("항목 수가 k 미만이면 정확한 분위수 - 중복 값")
+    void quantile_ExactBelowK_Duplicates() {
+        KllSketch sketch = new KllSketch(200);
+        int[] values = {30000, 15000, 15000, 20000, 15000, 30000, 25000, 20000};
+        for (int value : values) {
+            sketch.update(value);
+        }
+
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double rank : RANKS) {
+            assertThat(sketch.quantile(rank))
+                    .as("rank=%s", rank)
+                    .isEqualTo(exactQuantile(sorted, rank));
+        }
+    }
+
+    @Test
+    @DisplayName("k 이상이면 순위 오차 2% 이내 - 음수/양수 혼합")
+    void quantile_RankErrorAboveK() {
+        int n = 100_000;
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = i - n / 2;
+        }
+        Random random = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = data[i];
+            data[i] = data[j];
+            data[j] = tmp;
+        }
+
+        KllSketch sketch = new KllSketch(200);
+        for (int value : data) {
+            sketch.update(value);
+        }
+
+        assertThat(sketch.getCount()).isEqualTo(n);
+        assertThat(sketch.quantile(0.0)).isEqualTo(-n / 2);
+        assertThat(sketch.quantile(1.0)).isEqualTo(n / 2 - 1);
+        for (double rank = 0.05; rank < 1.0; rank += 0.05) {
+            int estimate = sketch.quantile(rank);
+            // 값 v의 실제 순위 = (v + n/2 + 1) / n
+            double trueRank = (estimate + n / 2 + 1) / (double) n;
+            assertThat(trueRank)
+                    .as("rank=%s, estimate=%s", rank, estimate)
+                    .isCloseTo(rank, within(0.02));
+        }
+    }
+
+    // KllSketch.quantile과 같은 정의: 누적 개수가 rank * n 이상이 되는 첫 값
+    private static int exactQuantile(int[] sorted, double rank) {
+        int index = (int) Math.ceil(rank * sorted.length) - 1;
+        return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+    }
+}
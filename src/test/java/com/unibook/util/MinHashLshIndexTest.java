@@ -0,0 +1,63 @@
+package com.unibook.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MinHashLshIndex 후보 조회 단위 테스트
+ * 서명은 직접 만들어 밴드(행 1개) 충돌 수를 고정
+ */
+class MinHashLshIndexTest {
+
+    private static final int[] BASE = {1, 2, 3, 4};
+
+    @Test
+    @DisplayName("후보는 충돌 밴드 수가 많은 순으로 상한까지")
+    void candidates_OrderedByCollisions() {
+        // given
+        MinHashLshIndex index = new MinHashLshIndex(4, 1, 3);
+        index.put(1L, BASE);
+        index.put(11L, new int[]{1, 7, 7, 7});   // 1개 밴드 충돌
+        index.put(12L, new int[]{1, 2, 8, 8});   // 2개
+        index.put(10L, new int[]{1, 2, 3, 9});   // 3개
+        index.put(13L, new int[]{5, 6, 7, 8});   // 충돌 없음
+
+        // when & then
+        assertThat(index.candidates(BASE, 1L, 10)).containsExactly(10L, 12L, 11L);
+        assertThat(index.candidates(BASE, 1L, 2)).containsExactly(10L, 12L);
+    }
+
+    @Test
+    @DisplayName("제외 ID, 서명 없음, 상한 0은 후보에서 빠짐")
+    void candidates_Excluded() {
+        // given
+        MinHashLshIndex index = new MinHashLshIndex(4, 1, 3);
+        index.put(1L, BASE);
+        index.put(2L, BASE);
+
+        // when & then
+        assertThat(index.candidates(BASE, 1L, 10)).containsExactly(2L);
+        assertThat(index.candidates(null, 1L, 10)).isEmpty();
+        assertThat(index.candidates(BASE, 1L, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 항목은 버킷에서도 빠짐")
+    void remove_ClearsBuckets() {
+        // given
+        MinHashLshIndex index = new MinHashLshIndex(4, 1, 3);
+        index.put(1L, BASE);
+        index.put(2L, new int[]{1, 2, 3, 9});
+
+        // when
+        index.remove(2L);
+
+        // then
+        assertThat(index.candidates(BASE, 1L, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.similarity(BASE, new int[]{1, 2, 3, 9})).isCloseTo(0.75, within(1e-9));
+    }
+}